@@ -0,0 +1,53 @@
+package io.bmeurant.bookordermanager.benchmarks;
+
+import io.bmeurant.bookordermanager.domain.util.Assertions;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the validation helpers run by every domain constructor, on valid values.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AssertionsBenchmark {
+
+    private String text;
+    private int quantity;
+    private BigDecimal price;
+    private List<String> items;
+
+    @Setup
+    public void setUp() {
+        text = "978-0321765723";
+        quantity = 2;
+        price = new BigDecimal("25.00");
+        items = List.of(text);
+    }
+
+    @Benchmark
+    public void assertHasText() {
+        Assertions.assertHasText(text, "ISBN", AssertionsBenchmark.class);
+    }
+
+    @Benchmark
+    public void assertIsPositive() {
+        Assertions.assertIsPositive(quantity, "Quantity", AssertionsBenchmark.class);
+    }
+
+    @Benchmark
+    public void assertIsNonNegativeDecimal() {
+        Assertions.assertIsNonNegative(price, "Price", AssertionsBenchmark.class);
+    }
+
+    @Benchmark
+    public void assertNotEmpty() {
+        Assertions.assertNotEmpty(items, "Items", AssertionsBenchmark.class);
+    }
+}
@@ -0,0 +1,63 @@
+package io.bmeurant.bookordermanager.benchmarks;
+
+import io.bmeurant.bookordermanager.BookOrderManagerApplication;
+import io.bmeurant.bookordermanager.application.dto.CreateOrderRequest;
+import io.bmeurant.bookordermanager.application.dto.OrderItemRequest;
+import io.bmeurant.bookordermanager.application.dto.OrderResponse;
+import io.bmeurant.bookordermanager.application.service.OrderService;
+import io.bmeurant.bookordermanager.catalog.domain.model.Book;
+import io.bmeurant.bookordermanager.catalog.domain.repository.BookRepository;
+import io.bmeurant.bookordermanager.inventory.domain.model.InventoryItem;
+import io.bmeurant.bookordermanager.inventory.domain.repository.InventoryItemRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the creation of an order through the application service, in a running application backed by an
+ * in-memory H2 database: catalog lookup, stock reservation, persistence and event publication.
+ * <p>
+ * The application is started once per fork, without web server. The ordered book is given a stock large enough
+ * never to run out during the run.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CreateOrderBenchmark {
+
+    private static final String ISBN = "978-0000000001";
+
+    private ConfigurableApplicationContext context;
+    private OrderService orderService;
+    private CreateOrderRequest request;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = new SpringApplicationBuilder(BookOrderManagerApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("spring.datasource.url=jdbc:h2:mem:benchmarks;DB_CLOSE_DELAY=-1")
+                .run();
+        context.getBean(BookRepository.class).save(new Book(ISBN, "Benchmarking in Practice", "Jane Doe", new BigDecimal("25.00")));
+        context.getBean(InventoryItemRepository.class).save(new InventoryItem(ISBN, Integer.MAX_VALUE));
+        orderService = context.getBean(OrderService.class);
+        request = new CreateOrderRequest("Alice Wonderland", List.of(new OrderItemRequest(ISBN, 1)));
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public OrderResponse createOrder() {
+        return orderService.createOrder(request);
+    }
+}
@@ -0,0 +1,55 @@
+package io.bmeurant.bookordermanager.benchmarks;
+
+import io.bmeurant.bookordermanager.catalog.domain.model.Book;
+import io.bmeurant.bookordermanager.inventory.domain.model.InventoryItem;
+import io.bmeurant.bookordermanager.order.domain.model.Order;
+import io.bmeurant.bookordermanager.order.domain.model.OrderLine;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of constructing domain entities, as done for each order creation.
+ * Run with the gc profiler ({@code -prof gc}) and compare {@code gc.alloc.rate.norm}, the bytes allocated per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DomainConstructionBenchmark {
+
+    private static final BigDecimal PRICE = new BigDecimal("25.00");
+
+    private String isbn1;
+    private String isbn2;
+
+    @Setup
+    public void setUp() {
+        isbn1 = "978-0321765723";
+        isbn2 = "978-0132350884";
+    }
+
+    @Benchmark
+    public Order createOrderWithTwoLines() {
+        return new Order("Alice Wonderland", List.of(new OrderLine(isbn1, 2, PRICE), new OrderLine(isbn2, 1, PRICE)));
+    }
+
+    @Benchmark
+    public OrderLine createOrderLine() {
+        return new OrderLine(isbn1, 2, PRICE);
+    }
+
+    @Benchmark
+    public InventoryItem createInventoryItem() {
+        return new InventoryItem(isbn1, 10);
+    }
+
+    @Benchmark
+    public Book createBook() {
+        return new Book(isbn1, "The Lord of the Rings", "J.R.R. Tolkien", PRICE);
+    }
+}
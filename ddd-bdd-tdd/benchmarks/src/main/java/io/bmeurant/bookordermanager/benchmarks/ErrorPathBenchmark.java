@@ -0,0 +1,92 @@
+package io.bmeurant.bookordermanager.benchmarks;
+
+import io.bmeurant.bookordermanager.BookOrderManagerApplication;
+import io.bmeurant.bookordermanager.catalog.domain.model.Book;
+import io.bmeurant.bookordermanager.catalog.domain.repository.BookRepository;
+import io.bmeurant.bookordermanager.inventory.domain.model.InventoryItem;
+import io.bmeurant.bookordermanager.inventory.domain.repository.InventoryItemRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the error paths of the REST API under many concurrent clients, in a running application backed by an
+ * in-memory H2 database: an unknown book and an unknown order (404 Not Found), and an order exceeding the stock
+ * (409 Conflict). These paths throw domain exceptions, translated and logged by the {@code RestExceptionHandler}.
+ * <p>
+ * The application is started once per fork, its web server listening on a random port. The ordered book has a single
+ * copy in stock, so that every order of two copies is rejected.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(16)
+@State(Scope.Benchmark)
+public class ErrorPathBenchmark {
+
+    private static final String ISBN = "978-0000000001";
+    private static final String CREATE_ORDER_BODY = "{\"customerName\":\"Alice Wonderland\",\"items\":[{\"isbn\":\"" + ISBN + "\",\"quantity\":2}]}";
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private HttpRequest unknownBook;
+    private HttpRequest unknownOrder;
+    private HttpRequest insufficientStock;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = new SpringApplicationBuilder(BookOrderManagerApplication.class)
+                .properties("spring.datasource.url=jdbc:h2:mem:benchmarks;DB_CLOSE_DELAY=-1", "server.port=0")
+                .run();
+        context.getBean(BookRepository.class).save(new Book(ISBN, "Benchmarking in Practice", "Jane Doe", new BigDecimal("25.00")));
+        context.getBean(InventoryItemRepository.class).save(new InventoryItem(ISBN, 1));
+        URI baseUri = URI.create("http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort());
+        unknownBook = HttpRequest.newBuilder(baseUri.resolve("/api/books/978-9999999999")).GET().build();
+        unknownOrder = HttpRequest.newBuilder(baseUri.resolve("/api/orders/0190a000-0000-7000-8000-000000000000")).GET().build();
+        insufficientStock = HttpRequest.newBuilder(baseUri.resolve("/api/orders"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(CREATE_ORDER_BODY))
+                .build();
+        httpClient = HttpClient.newHttpClient();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        httpClient.close();
+        context.close();
+    }
+
+    @Benchmark
+    public int bookNotFound() throws IOException, InterruptedException {
+        return send(unknownBook, 404);
+    }
+
+    @Benchmark
+    public int orderNotFound() throws IOException, InterruptedException {
+        return send(unknownOrder, 404);
+    }
+
+    @Benchmark
+    public int insufficientStock() throws IOException, InterruptedException {
+        return send(insufficientStock, 409);
+    }
+
+    private int send(HttpRequest request, int expectedStatus) throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != expectedStatus) {
+            throw new IllegalStateException("Request " + request.uri() + " answered status " + response.statusCode() + " instead of " + expectedStatus + ": " + response.body());
+        }
+        return response.statusCode();
+    }
+}
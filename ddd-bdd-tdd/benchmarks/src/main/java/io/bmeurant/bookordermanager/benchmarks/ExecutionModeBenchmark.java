@@ -0,0 +1,93 @@
+package io.bmeurant.bookordermanager.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.bmeurant.bookordermanager.BookOrderManagerApplication;
+import io.bmeurant.bookordermanager.catalog.domain.model.Book;
+import io.bmeurant.bookordermanager.catalog.domain.repository.BookRepository;
+import io.bmeurant.bookordermanager.inventory.domain.model.InventoryItem;
+import io.bmeurant.bookordermanager.inventory.domain.repository.InventoryItemRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the platform and virtual thread execution modes on the order flow: an order is created then confirmed
+ * through the REST API of a running application backed by an in-memory H2 database.
+ * <p>
+ * The application is started once per fork in the given mode, the virtual mode being enabled by the
+ * {@code virtual-threads} profile as in production. Its web server listens on a random port, and it is driven
+ * by many concurrent clients. The ordered book is given a stock large enough never to run out during the run.
+ * Run with {@code -p mode=platform} or {@code -p mode=virtual} to measure a single mode.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(64)
+@State(Scope.Benchmark)
+public class ExecutionModeBenchmark {
+
+    private static final String ISBN = "978-0000000001";
+    private static final String CREATE_ORDER_BODY = "{\"customerName\":\"Alice Wonderland\",\"items\":[{\"isbn\":\"" + ISBN + "\",\"quantity\":1}]}";
+
+    @Param({"platform", "virtual"})
+    private String mode;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private ObjectMapper objectMapper;
+    private URI ordersUri;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        SpringApplicationBuilder application = new SpringApplicationBuilder(BookOrderManagerApplication.class)
+                .properties("spring.datasource.url=jdbc:h2:mem:benchmarks;DB_CLOSE_DELAY=-1", "server.port=0");
+        if (mode.equals("virtual")) {
+            application.profiles("virtual-threads");
+        }
+        context = application.run();
+        context.getBean(BookRepository.class).save(new Book(ISBN, "Benchmarking in Practice", "Jane Doe", new BigDecimal("25.00")));
+        context.getBean(InventoryItemRepository.class).save(new InventoryItem(ISBN, Integer.MAX_VALUE));
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        ordersUri = URI.create("http://localhost:" + port + "/api/orders");
+        httpClient = HttpClient.newHttpClient();
+        objectMapper = new ObjectMapper();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        httpClient.close();
+        context.close();
+    }
+
+    @Benchmark
+    public int createAndConfirmOrder() throws IOException, InterruptedException {
+        HttpResponse<String> created = send(HttpRequest.newBuilder(ordersUri)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(CREATE_ORDER_BODY))
+                .build());
+        String orderId = objectMapper.readTree(created.body()).get("orderId").asText();
+        HttpResponse<String> confirmed = send(HttpRequest.newBuilder(ordersUri.resolve("/api/orders/" + orderId + "/confirm"))
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build());
+        return confirmed.statusCode();
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 300) {
+            throw new IllegalStateException("Request " + request.uri() + " failed with status " + response.statusCode() + ": " + response.body());
+        }
+        return response;
+    }
+}
@@ -0,0 +1,40 @@
+package io.bmeurant.bookordermanager.benchmarks;
+
+import io.bmeurant.bookordermanager.inventory.domain.model.InventoryItem;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the stock operations of an inventory item. Each deduction is followed by a release of the same quantity,
+ * so that the stock never runs out whatever the number of invocations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class InventoryItemBenchmark {
+
+    private InventoryItem inventoryItem;
+    private int quantity;
+
+    @Setup
+    public void setUp() {
+        inventoryItem = new InventoryItem("978-0321765723", 100);
+        quantity = 2;
+    }
+
+    @Benchmark
+    public int deductAndReleaseStock() {
+        inventoryItem.deductStock(quantity);
+        inventoryItem.releaseStock(quantity);
+        return inventoryItem.getStock();
+    }
+
+    @Benchmark
+    public void checkAvailability() {
+        inventoryItem.checkAvailability(quantity);
+    }
+}
@@ -0,0 +1,49 @@
+package io.bmeurant.bookordermanager.benchmarks;
+
+import io.bmeurant.bookordermanager.order.domain.model.Order;
+import io.bmeurant.bookordermanager.order.domain.model.OrderLine;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the lifecycle of an order aggregate: its creation, followed by its cancellation, with or without a
+ * confirmation in between.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class OrderBenchmark {
+
+    private static final BigDecimal PRICE = new BigDecimal("25.00");
+
+    private String isbn1;
+    private String isbn2;
+
+    @Setup
+    public void setUp() {
+        isbn1 = "978-0321765723";
+        isbn2 = "978-0132350884";
+    }
+
+    @Benchmark
+    public List<OrderLine> createAndCancelPendingOrder() {
+        return newOrder().cancel();
+    }
+
+    @Benchmark
+    public List<OrderLine> createConfirmAndCancelOrder() {
+        Order order = newOrder();
+        order.confirm();
+        return order.cancel();
+    }
+
+    private Order newOrder() {
+        return new Order("Alice Wonderland", List.of(new OrderLine(isbn1, 2, PRICE), new OrderLine(isbn2, 1, PRICE)));
+    }
+}
@@ -0,0 +1,44 @@
+package io.bmeurant.bookordermanager.benchmarks;
+
+import io.bmeurant.bookordermanager.application.dto.OrderResponse;
+import io.bmeurant.bookordermanager.application.mapper.OrderMapper;
+import io.bmeurant.bookordermanager.order.domain.model.Order;
+import io.bmeurant.bookordermanager.order.domain.model.OrderLine;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the conversion of an order to its REST representation, for a small and a larger order.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class OrderMapperBenchmark {
+
+    @Param({"1", "10"})
+    private int lineCount;
+
+    private final OrderMapper orderMapper = new OrderMapper();
+    private Order order;
+
+    @Setup
+    public void setUp() {
+        List<OrderLine> orderLines = new ArrayList<>(lineCount);
+        for (int i = 0; i < lineCount; i++) {
+            orderLines.add(new OrderLine("978-00000000%02d".formatted(i), i + 1, new BigDecimal("25.00")));
+        }
+        order = new Order("Alice Wonderland", orderLines);
+    }
+
+    @Benchmark
+    public OrderResponse mapOrderToResponse() {
+        return orderMapper.mapOrderToResponse(order);
+    }
+}
@@ -0,0 +1,147 @@
+package io.bmeurant.bookordermanager.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+/**
+ * Minimal client of the REST API of the Book Order Manager, sending the requests of the load test.
+ * It is safe to use from many threads at once.
+ */
+public class BookOrderManagerClient {
+
+    private static final String JSON = "application/json";
+    private static final int BOOKS_PAGE_SIZE = 100;
+
+    private final URI baseUrl;
+    private final Duration requestTimeout;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * Constructs a new {@code BookOrderManagerClient}.
+     *
+     * @param baseUrl        The base URL of the application, without trailing slash.
+     * @param requestTimeout The timeout of a single request.
+     */
+    public BookOrderManagerClient(URI baseUrl, Duration requestTimeout) {
+        this.baseUrl = baseUrl;
+        this.requestTimeout = requestTimeout;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(requestTimeout)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    /**
+     * Reads the ISBNs of the catalog, page by page, up to the given number.
+     *
+     * @param max The maximum number of ISBNs to read.
+     * @return The ISBNs, in ISBN order.
+     * @throws IOException          if a request fails or is not successful.
+     * @throws InterruptedException if interrupted while waiting for a response.
+     */
+    public List<String> findIsbns(int max) throws IOException, InterruptedException {
+        List<String> isbns = new ArrayList<>();
+        String cursor = null;
+        do {
+            String query = "?size=" + Math.min(BOOKS_PAGE_SIZE, max - isbns.size())
+                    + (cursor == null ? "" : "&cursor=" + URLEncoder.encode(cursor, StandardCharsets.UTF_8));
+            HttpResponse<String> response = send(request("/api/books" + query).GET().build());
+            if (response.statusCode() != 200) {
+                throw new IOException("Reading the catalog failed with status " + response.statusCode() + ".");
+            }
+            JsonNode page = objectMapper.readTree(response.body());
+            page.get("items").forEach(book -> isbns.add(book.get("isbn").asText()));
+            cursor = page.get("nextCursor").isNull() ? null : page.get("nextCursor").asText();
+        } while (cursor != null && isbns.size() < max);
+        return isbns;
+    }
+
+    /**
+     * Creates an order of one copy of a book.
+     *
+     * @param customerName The name of the customer.
+     * @param isbn         The ISBN of the book to order.
+     * @return The response, whose body holds the created order if successful.
+     * @throws IOException          if the request cannot be sent.
+     * @throws InterruptedException if interrupted while waiting for the response.
+     */
+    public HttpResponse<String> createOrder(String customerName, String isbn) throws IOException, InterruptedException {
+        byte[] body = objectMapper.writeValueAsBytes(Map.of(
+                "customerName", customerName,
+                "items", List.of(Map.of("isbn", isbn, "quantity", 1))));
+        return send(request("/api/orders")
+                .header("Content-Type", JSON)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                .build());
+    }
+
+    /**
+     * Confirms an order.
+     *
+     * @param orderId The ID of the order to confirm.
+     * @return The status code of the response.
+     * @throws IOException          if the request cannot be sent.
+     * @throws InterruptedException if interrupted while waiting for the response.
+     */
+    public int confirmOrder(String orderId) throws IOException, InterruptedException {
+        return send(request("/api/orders/" + orderId + "/confirm").POST(HttpRequest.BodyPublishers.noBody()).build()).statusCode();
+    }
+
+    /**
+     * Cancels an order.
+     *
+     * @param orderId The ID of the order to cancel.
+     * @return The status code of the response.
+     * @throws IOException          if the request cannot be sent.
+     * @throws InterruptedException if interrupted while waiting for the response.
+     */
+    public int cancelOrder(String orderId) throws IOException, InterruptedException {
+        return send(request("/api/orders/" + orderId + "/cancel").POST(HttpRequest.BodyPublishers.noBody()).build()).statusCode();
+    }
+
+    /**
+     * Reads the stock of a book.
+     *
+     * @param isbn The ISBN of the book.
+     * @return The status code of the response.
+     * @throws IOException          if the request cannot be sent.
+     * @throws InterruptedException if interrupted while waiting for the response.
+     */
+    public int getInventory(String isbn) throws IOException, InterruptedException {
+        return send(request("/api/inventory/" + isbn).GET().build()).statusCode();
+    }
+
+    /**
+     * Extracts the ID of the order returned in a response body.
+     *
+     * @param body The body of a response holding an order.
+     * @return The ID of the order.
+     * @throws IOException if the body cannot be parsed.
+     */
+    public String readOrderId(String body) throws IOException {
+        return objectMapper.readTree(body).get("orderId").asText();
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(requestTimeout).header("Accept", JSON);
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
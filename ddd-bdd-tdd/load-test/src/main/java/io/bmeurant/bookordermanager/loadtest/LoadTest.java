@@ -0,0 +1,183 @@
+package io.bmeurant.bookordermanager.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Load generator driving the REST API of a running Book Order Manager, to measure its throughput and latencies.
+ * <p>
+ * A fixed number of clients, each on its own virtual thread, send requests in a loop until the end of the run,
+ * each request picked at random according to the operation mix. Orders are created for random books of the catalog,
+ * and confirmed or cancelled later on by any client; when no order is available to confirm or cancel, a client
+ * creates one instead. Requests completed during the warmup are not reported.
+ * <p>
+ * As each client waits for a response before sending its next request, latencies are those observed at the given
+ * concurrency, and the throughput is the one the application sustains at that concurrency.
+ * The run fails with exit code 1 if the total throughput is below {@code --min-throughput}.
+ * See {@link LoadTestSettings} for the available arguments.
+ */
+public class LoadTest {
+
+    private static final String CUSTOMER_NAME = "Load Test Customer";
+    private static final int MAX_TRACKED_ORDERS = 100_000;
+
+    private final LoadTestSettings settings;
+    private final BookOrderManagerClient client;
+    private final Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+    private final BlockingQueue<String> pendingOrders = new LinkedBlockingQueue<>(MAX_TRACKED_ORDERS);
+    private final BlockingQueue<String> confirmedOrders = new LinkedBlockingQueue<>(MAX_TRACKED_ORDERS);
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+    private List<String> isbns;
+
+    /**
+     * Constructs a new {@code LoadTest}.
+     *
+     * @param settings The settings of the run.
+     * @param client   The client sending the requests.
+     */
+    public LoadTest(LoadTestSettings settings, BookOrderManagerClient client) {
+        this.settings = settings;
+        this.client = client;
+        this.operations = settings.mix().keySet().toArray(Operation[]::new);
+        this.cumulativeWeights = new int[operations.length];
+        int cumulativeWeight = 0;
+        for (int i = 0; i < operations.length; i++) {
+            cumulativeWeight += settings.mix().get(operations[i]);
+            cumulativeWeights[i] = cumulativeWeight;
+        }
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new OperationStats());
+        }
+    }
+
+    /**
+     * Runs a load test and prints its report.
+     *
+     * @param args The settings of the run, as {@code --name=value} arguments.
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        LoadTestSettings settings = LoadTestSettings.parse(args);
+        LoadTestReport report = new LoadTest(settings, new BookOrderManagerClient(settings.baseUrl(), settings.requestTimeout())).run();
+        report.print(System.out);
+        if (report.throughput() < settings.minThroughput()) {
+            System.err.printf("Throughput of %.1f req/s is below the minimum of %.1f req/s.%n", report.throughput(), settings.minThroughput());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Runs the load test: reads the catalog, then sends requests from all the clients until the end of the run.
+     *
+     * @return The report of the measured requests.
+     * @throws IOException          if the catalog cannot be read, or is empty.
+     * @throws InterruptedException if interrupted while waiting for the clients.
+     */
+    public LoadTestReport run() throws IOException, InterruptedException {
+        isbns = client.findIsbns(settings.maxBooks());
+        if (isbns.isEmpty()) {
+            throw new IOException("The catalog of " + settings.baseUrl() + " is empty.");
+        }
+        System.out.printf("Running %d clients on %d books for %s after a warmup of %s...%n",
+                settings.concurrency(), isbns.size(), settings.duration(), settings.warmup());
+
+        long measureStart = System.nanoTime() + settings.warmup().toNanos();
+        long end = measureStart + settings.duration().toNanos();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < settings.concurrency(); i++) {
+                clients.execute(() -> runClient(measureStart, end));
+            }
+        }
+        Duration measured = Duration.ofNanos(Math.max(System.nanoTime(), end) - measureStart);
+
+        Map<Operation, Histogram> latencies = new EnumMap<>(Operation.class);
+        Map<Operation, Map<Integer, Long>> countsByStatus = new EnumMap<>(Operation.class);
+        stats.forEach((operation, operationStats) -> {
+            Map<Integer, Long> counts = operationStats.countsByStatus();
+            if (!counts.isEmpty()) {
+                latencies.put(operation, operationStats.latencies());
+                countsByStatus.put(operation, counts);
+            }
+        });
+        return new LoadTestReport(settings, measured, latencies, countsByStatus);
+    }
+
+    /**
+     * Sends requests in a loop until the end of the run, recording those sent after the warmup.
+     */
+    private void runClient(long measureStart, long end) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        try {
+            while (System.nanoTime() < end) {
+                Operation operation = pickOperation(random);
+                String orderId = switch (operation) {
+                    case CONFIRM -> pendingOrders.poll();
+                    case CANCEL -> random.nextBoolean() && pendingOrders.peek() != null ? pendingOrders.poll() : confirmedOrders.poll();
+                    default -> null;
+                };
+                if ((operation == Operation.CONFIRM || operation == Operation.CANCEL) && orderId == null) {
+                    operation = Operation.CREATE;
+                }
+
+                long start = System.nanoTime();
+                int status = send(operation, orderId, random);
+                if (start >= measureStart) {
+                    stats.get(operation).record(System.nanoTime() - start, status);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Operation pickOperation(ThreadLocalRandom random) {
+        int draw = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        int i = 0;
+        while (draw >= cumulativeWeights[i]) {
+            i++;
+        }
+        return operations[i];
+    }
+
+    /**
+     * Sends the request of an operation and tracks the orders it creates or confirms.
+     *
+     * @return The status code of the response, or {@link OperationStats#NO_RESPONSE}.
+     */
+    private int send(Operation operation, String orderId, ThreadLocalRandom random) throws InterruptedException {
+        String isbn = isbns.get(random.nextInt(isbns.size()));
+        try {
+            return switch (operation) {
+                case CREATE -> {
+                    HttpResponse<String> response = client.createOrder(CUSTOMER_NAME, isbn);
+                    if (response.statusCode() == 201) {
+                        pendingOrders.offer(client.readOrderId(response.body()));
+                    }
+                    yield response.statusCode();
+                }
+                case CONFIRM -> {
+                    int status = client.confirmOrder(orderId);
+                    if (status == 200) {
+                        confirmedOrders.offer(orderId);
+                    }
+                    yield status;
+                }
+                case CANCEL -> client.cancelOrder(orderId);
+                case INVENTORY -> client.getInventory(isbn);
+            };
+        } catch (IOException e) {
+            return OperationStats.NO_RESPONSE;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package io.bmeurant.bookordermanager.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Represents the outcome of a load test run: throughput, latency percentiles and failures of each operation.
+ *
+ * @param settings       The settings of the run.
+ * @param measured       The actual duration of the measurement.
+ * @param latencies      The latencies of the measured requests of each sent operation, in microseconds.
+ * @param countsByStatus The number of measured requests of each sent operation, by response status.
+ */
+public record LoadTestReport(
+        LoadTestSettings settings,
+        Duration measured,
+        Map<Operation, Histogram> latencies,
+        Map<Operation, Map<Integer, Long>> countsByStatus) {
+
+    private static final String ROW_FORMAT = "%-10s %10s %8s %10s %9s %9s %9s %9s %9s%n";
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    /**
+     * Returns the total number of measured requests per second, all operations included.
+     *
+     * @return The total throughput.
+     */
+    public double throughput() {
+        return latencies.values().stream().mapToLong(Histogram::getTotalCount).sum() / seconds();
+    }
+
+    /**
+     * Prints the report as a table, with one row per operation and a total row.
+     *
+     * @param out The stream to print to.
+     */
+    public void print(PrintStream out) {
+        out.printf("%d clients against %s, measured for %s after a warmup of %s%n%n",
+                settings.concurrency(), settings.baseUrl(), measured, settings.warmup());
+        out.printf(ROW_FORMAT, "operation", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        Histogram total = new Histogram(3);
+        long totalErrors = 0;
+        for (Map.Entry<Operation, Histogram> entry : latencies.entrySet()) {
+            long errors = errors(countsByStatus.get(entry.getKey()));
+            printRow(out, entry.getKey().label(), entry.getValue(), errors);
+            total.add(entry.getValue());
+            totalErrors += errors;
+        }
+        printRow(out, "total", total, totalErrors);
+
+        countsByStatus.forEach((operation, counts) -> {
+            if (errors(counts) > 0) {
+                out.printf("%n%s errors: %s", operation.label(), counts.entrySet().stream()
+                        .filter(count -> !isSuccess(count.getKey()))
+                        .map(count -> (count.getKey() == OperationStats.NO_RESPONSE ? "no response" : count.getKey()) + " x" + count.getValue())
+                        .collect(Collectors.joining(", ")));
+            }
+        });
+        out.println();
+    }
+
+    private void printRow(PrintStream out, String label, Histogram histogram, long errors) {
+        Object[] values = new Object[9];
+        values[0] = label;
+        values[1] = histogram.getTotalCount();
+        values[2] = errors;
+        values[3] = "%.1f".formatted(histogram.getTotalCount() / seconds());
+        for (int i = 0; i < PERCENTILES.length; i++) {
+            values[4 + i] = millis(histogram.getValueAtPercentile(PERCENTILES[i]));
+        }
+        values[8] = millis(histogram.getMaxValue());
+        out.printf(ROW_FORMAT, values);
+    }
+
+    private double seconds() {
+        return measured.toNanos() / 1e9;
+    }
+
+    private static String millis(long micros) {
+        return "%.2f".formatted(micros / 1000.0);
+    }
+
+    private static long errors(Map<Integer, Long> counts) {
+        return counts.entrySet().stream().filter(count -> !isSuccess(count.getKey())).mapToLong(Map.Entry::getValue).sum();
+    }
+
+    private static boolean isSuccess(int status) {
+        return status >= 200 && status < 300;
+    }
+}
@@ -0,0 +1,96 @@
+package io.bmeurant.bookordermanager.loadtest;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Represents the settings of a load test run, read from {@code --name=value} command line arguments.
+ *
+ * @param baseUrl        The base URL of the application ({@code --base-url}, default {@code http://localhost:8080}).
+ * @param concurrency    The number of clients sending requests in a loop ({@code --concurrency}, default 50).
+ * @param duration       The duration of the measurement ({@code --duration}, default {@code PT1M}).
+ * @param warmup         The duration of the warmup preceding the measurement, whose requests are not reported
+ *                       ({@code --warmup}, default {@code PT10S}).
+ * @param mix            The relative weight of each operation ({@code --mix}, default
+ *                       {@code create:40,confirm:20,cancel:10,inventory:30}).
+ * @param maxBooks       The maximum number of books of the catalog the requests are spread over ({@code --max-books},
+ *                       default 1000).
+ * @param requestTimeout The timeout of a single request ({@code --request-timeout}, default {@code PT10S}).
+ * @param minThroughput  The total throughput, in requests per second, below which the run fails
+ *                       ({@code --min-throughput}, default 0 for none).
+ */
+public record LoadTestSettings(
+        URI baseUrl,
+        int concurrency,
+        Duration duration,
+        Duration warmup,
+        Map<Operation, Integer> mix,
+        int maxBooks,
+        Duration requestTimeout,
+        double minThroughput) {
+
+    /**
+     * Parses the settings from the command line arguments, applying the defaults to the missing ones.
+     *
+     * @param args The command line arguments.
+     * @return The settings.
+     * @throws IllegalArgumentException if an argument is unknown or invalid.
+     */
+    public static LoadTestSettings parse(String... args) {
+        URI baseUrl = URI.create("http://localhost:8080");
+        int concurrency = 50;
+        Duration duration = Duration.ofMinutes(1);
+        Duration warmup = Duration.ofSeconds(10);
+        Map<Operation, Integer> mix = parseMix("create:40,confirm:20,cancel:10,inventory:30");
+        int maxBooks = 1000;
+        Duration requestTimeout = Duration.ofSeconds(10);
+        double minThroughput = 0;
+
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Invalid argument '" + arg + "', expected --name=value.");
+            }
+            String value = arg.substring(separator + 1);
+            switch (arg.substring(2, separator)) {
+                case "base-url" -> baseUrl = URI.create(value.endsWith("/") ? value.substring(0, value.length() - 1) : value);
+                case "concurrency" -> concurrency = Integer.parseInt(value);
+                case "duration" -> duration = Duration.parse(value);
+                case "warmup" -> warmup = Duration.parse(value);
+                case "mix" -> mix = parseMix(value);
+                case "max-books" -> maxBooks = Integer.parseInt(value);
+                case "request-timeout" -> requestTimeout = Duration.parse(value);
+                case "min-throughput" -> minThroughput = Double.parseDouble(value);
+                default -> throw new IllegalArgumentException("Unknown argument '" + arg + "'.");
+            }
+        }
+        if (concurrency <= 0 || maxBooks <= 0 || duration.isNegative() || duration.isZero() || warmup.isNegative()) {
+            throw new IllegalArgumentException("Concurrency, max books and duration must be positive, and warmup must not be negative.");
+        }
+        return new LoadTestSettings(baseUrl, concurrency, duration, warmup, mix, maxBooks, requestTimeout, minThroughput);
+    }
+
+    /**
+     * Parses an operation mix, such as {@code create:40,inventory:60}. Operations left out are not sent.
+     */
+    private static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String entry : value.split(",")) {
+            String[] parts = entry.split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid mix entry '" + entry + "', expected operation:weight.");
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Weight of " + parts[0] + " must not be negative.");
+            }
+            mix.put(Operation.of(parts[0]), weight);
+        }
+        if (mix.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("Mix must contain at least one operation with a positive weight.");
+        }
+        return mix;
+    }
+}
@@ -0,0 +1,43 @@
+package io.bmeurant.bookordermanager.loadtest;
+
+/**
+ * Enum representing the requests sent by the load test.
+ */
+public enum Operation {
+    /**
+     * Creates an order of one copy of a random book: {@code POST /api/orders}.
+     */
+    CREATE,
+    /**
+     * Confirms an order previously created by the load test: {@code POST /api/orders/{orderId}/confirm}.
+     */
+    CONFIRM,
+    /**
+     * Cancels an order previously created or confirmed by the load test: {@code POST /api/orders/{orderId}/cancel}.
+     */
+    CANCEL,
+    /**
+     * Reads the stock of a random book: {@code GET /api/inventory/{isbn}}.
+     */
+    INVENTORY;
+
+    /**
+     * Returns the operation of the given name, as used on the command line.
+     *
+     * @param name The case-insensitive name of the operation.
+     * @return The operation.
+     * @throws IllegalArgumentException if no operation has this name.
+     */
+    public static Operation of(String name) {
+        return valueOf(name.trim().toUpperCase());
+    }
+
+    /**
+     * Returns the name of this operation, as used on the command line and in reports.
+     *
+     * @return The lowercase name of the operation.
+     */
+    public String label() {
+        return name().toLowerCase();
+    }
+}
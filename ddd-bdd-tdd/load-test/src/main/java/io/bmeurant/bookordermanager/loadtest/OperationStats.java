@@ -0,0 +1,55 @@
+package io.bmeurant.bookordermanager.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects the latencies and the outcomes of the requests of one operation, recorded concurrently by the clients.
+ */
+public class OperationStats {
+
+    /**
+     * Status recorded for a request which failed without response, such as on a connection error or a timeout.
+     */
+    public static final int NO_RESPONSE = -1;
+
+    private final Recorder latencies = new Recorder(3);
+    private final Map<Integer, LongAdder> countsByStatus = new ConcurrentHashMap<>();
+
+    /**
+     * Records a completed request.
+     *
+     * @param latencyNanos The time between the sending of the request and the reception of its response.
+     * @param status       The status code of the response, or {@link #NO_RESPONSE}.
+     */
+    public void record(long latencyNanos, int status) {
+        latencies.recordValue(TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+        countsByStatus.computeIfAbsent(status, s -> new LongAdder()).increment();
+    }
+
+    /**
+     * Returns the latencies recorded so far, in microseconds.
+     *
+     * @return A histogram of the latencies recorded since the previous call.
+     */
+    public Histogram latencies() {
+        return latencies.getIntervalHistogram();
+    }
+
+    /**
+     * Returns the number of requests recorded so far by response status.
+     *
+     * @return The number of requests by status, in status order.
+     */
+    public Map<Integer, Long> countsByStatus() {
+        Map<Integer, Long> counts = new TreeMap<>();
+        countsByStatus.forEach((status, count) -> counts.put(status, count.sum()));
+        return counts;
+    }
+}
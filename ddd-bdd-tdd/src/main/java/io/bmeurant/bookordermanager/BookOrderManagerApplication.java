@@ -2,14 +2,18 @@ package io.bmeurant.bookordermanager;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Main entry point for the Book Order Manager Spring Boot application.
- * This class enables auto-configuration, component scanning, and asynchronous method execution.
+ * This class enables auto-configuration, component scanning, asynchronous method execution, scheduled tasks and caching.
  */
 @SpringBootApplication
 @EnableAsync
+@EnableScheduling
+@EnableCaching
 public class BookOrderManagerApplication {
 
     /**
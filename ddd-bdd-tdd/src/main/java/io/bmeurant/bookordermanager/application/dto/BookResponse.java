@@ -1,11 +1,33 @@
 package io.bmeurant.bookordermanager.application.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.swagger.v3.oas.annotations.media.Schema;
+
 import java.math.BigDecimal;
 
+/**
+ * Represents the response object for a book.
+ *
+ * @param isbn    The International Standard Book Number of the book.
+ * @param title   The title of the book.
+ * @param author  The author of the book.
+ * @param price   The price of the book.
+ * @param version The version of the book the response has been mapped from, or null if unknown.
+ *                Not serialized: it is exposed as the ETag of the response.
+ */
 public record BookResponse(
     String isbn,
     String title,
     String author,
-    BigDecimal price
+    BigDecimal price,
+    @JsonIgnore @Schema(hidden = true)
+    Long version
 ) {
+
+    /**
+     * Constructs a {@code BookResponse} of unknown version.
+     */
+    public BookResponse(String isbn, String title, String author, BigDecimal price) {
+        this(isbn, title, author, price, null);
+    }
 }
@@ -0,0 +1,18 @@
+package io.bmeurant.bookordermanager.application.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Represents a request to confirm several orders at once.
+ *
+ * @param orderIds The IDs of the orders to confirm.
+ */
+public record ConfirmOrdersRequest(
+        @NotEmpty(message = "Order IDs cannot be empty")
+        @Size(max = 10000, message = "At most 10000 orders can be confirmed at once")
+        List<@NotBlank(message = "Order ID cannot be blank") String> orderIds) {
+}
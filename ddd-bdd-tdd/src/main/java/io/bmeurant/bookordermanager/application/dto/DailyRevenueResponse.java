@@ -0,0 +1,19 @@
+package io.bmeurant.bookordermanager.application.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Represents the revenue of a day.
+ *
+ * @param day      The day of the revenue, in UTC.
+ * @param isbn     The ISBN of the book sold, or null for the revenue of all books.
+ * @param quantity The quantity sold by the orders confirmed that day and not cancelled since.
+ * @param revenue  The revenue of the orders confirmed that day and not cancelled since.
+ */
+public record DailyRevenueResponse(
+        LocalDate day,
+        String isbn,
+        long quantity,
+        BigDecimal revenue) {
+}
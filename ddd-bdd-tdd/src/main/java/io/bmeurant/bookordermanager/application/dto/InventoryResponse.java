@@ -1,18 +1,30 @@
 package io.bmeurant.bookordermanager.application.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 /**
  * DTO for representing inventory item stock information.
  *
- * @param isbn  The International Standard Book Number of the inventory item.
- * @param stock The current stock level of the inventory item.
+ * @param isbn    The International Standard Book Number of the inventory item.
+ * @param stock   The current stock level of the inventory item.
+ * @param version The version of the inventory item the stock has been read from, or null if read from the hot stock
+ *                counter. Not serialized: it is exposed as the ETag of the response.
  */
 @Schema(description = "Response DTO for inventory item stock information")
 public record InventoryResponse(
         @Schema(description = "International Standard Book Number", example = "978-0321765723")
         String isbn,
         @Schema(description = "Current stock level", example = "100")
-        Integer stock
+        Integer stock,
+        @JsonIgnore @Schema(hidden = true)
+        Long version
 ) {
+
+    /**
+     * Constructs an {@code InventoryResponse} of unknown version.
+     */
+    public InventoryResponse(String isbn, Integer stock) {
+        this(isbn, stock, null);
+    }
 }
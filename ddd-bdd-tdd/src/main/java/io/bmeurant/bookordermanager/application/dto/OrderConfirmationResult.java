@@ -0,0 +1,35 @@
+package io.bmeurant.bookordermanager.application.dto;
+
+/**
+ * Represents the outcome of the confirmation of a single order within a batch confirmation.
+ *
+ * @param orderId   The ID of the order.
+ * @param confirmed Whether the order has been confirmed.
+ * @param error     The reason why the order could not be confirmed, or null if it has been confirmed.
+ */
+public record OrderConfirmationResult(
+        String orderId,
+        boolean confirmed,
+        String error) {
+
+    /**
+     * Creates the result of a successfully confirmed order.
+     *
+     * @param orderId The ID of the order.
+     * @return The successful result.
+     */
+    public static OrderConfirmationResult confirmed(String orderId) {
+        return new OrderConfirmationResult(orderId, true, null);
+    }
+
+    /**
+     * Creates the result of an order which could not be confirmed.
+     *
+     * @param orderId The ID of the order.
+     * @param error   The reason of the failure.
+     * @return The failed result.
+     */
+    public static OrderConfirmationResult failed(String orderId, String error) {
+        return new OrderConfirmationResult(orderId, false, error);
+    }
+}
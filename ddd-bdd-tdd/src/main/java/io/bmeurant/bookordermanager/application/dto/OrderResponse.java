@@ -1,5 +1,6 @@
 package io.bmeurant.bookordermanager.application.dto;
 
+import java.math.BigDecimal;
 import java.util.List;
 
 /**
@@ -8,11 +9,22 @@ import java.util.List;
  * @param orderId      The unique identifier of the order.
  * @param customerName The name of the customer who placed the order.
  * @param status       The current status of the order (e.g., PENDING, CONFIRMED, CANCELLED).
+ * @param totalPrice   The total price of the order, the sum of the prices of its lines times their quantities.
  * @param orderLines   A list of line items in the order.
  */
 public record OrderResponse(
         String orderId,
         String customerName,
         String status,
+        BigDecimal totalPrice,
         List<OrderLineResponse> orderLines) {
+
+    /**
+     * Constructs an {@code OrderResponse} whose total price is computed from its lines.
+     */
+    public OrderResponse(String orderId, String customerName, String status, List<OrderLineResponse> orderLines) {
+        this(orderId, customerName, status, orderLines.stream()
+                .map(orderLine -> orderLine.price().multiply(BigDecimal.valueOf(orderLine.quantity())))
+                .reduce(BigDecimal.ZERO, BigDecimal::add), orderLines);
+    }
 }
@@ -0,0 +1,15 @@
+package io.bmeurant.bookordermanager.application.dto;
+
+import java.util.List;
+
+/**
+ * Represents a page of items read with keyset pagination.
+ *
+ * @param items      The items of the page, in key order.
+ * @param nextCursor The cursor to pass to read the next page, or null if this page is the last one.
+ * @param <T>        The type of the items.
+ */
+public record PageResponse<T>(
+        List<T> items,
+        String nextCursor) {
+}
@@ -0,0 +1,18 @@
+package io.bmeurant.bookordermanager.application.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Represents a request to look up the stock of several inventory items at once.
+ *
+ * @param isbns The ISBNs of the inventory items.
+ */
+public record StockBatchRequest(
+        @NotEmpty(message = "ISBNs cannot be empty")
+        @Size(max = 1000, message = "At most 1000 stocks can be looked up at once")
+        List<@NotBlank(message = "ISBN cannot be blank") String> isbns) {
+}
@@ -11,6 +11,6 @@ public class BookMapper {
         if (book == null) {
             return null;
         }
-        return new BookResponse(book.getIsbn(), book.getTitle(), book.getAuthor(), book.getPrice());
+        return new BookResponse(book.getIsbn(), book.getTitle(), book.getAuthor(), book.getPrice(), book.getVersion());
     }
 }
@@ -28,6 +28,7 @@ public class OrderMapper {
                 order.getOrderId(),
                 order.getCustomerName(),
                 order.getStatus().name(), // Convert enum to String
+                order.getTotalPrice(),
                 orderLineResponses
         );
     }
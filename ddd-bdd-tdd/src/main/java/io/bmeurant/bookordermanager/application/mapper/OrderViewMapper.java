@@ -0,0 +1,92 @@
+package io.bmeurant.bookordermanager.application.mapper;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.bmeurant.bookordermanager.application.dto.OrderLineResponse;
+import io.bmeurant.bookordermanager.application.dto.OrderResponse;
+import io.bmeurant.bookordermanager.order.domain.model.Order;
+import io.bmeurant.bookordermanager.order.domain.model.OrderView;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Mapper class responsible for converting orders to their read model, and their read model to DTOs.
+ * The lines of an order are held in its view as the JSON representation of their {@link OrderLineResponse}s.
+ */
+@Component
+public class OrderViewMapper {
+
+    private static final TypeReference<List<OrderLineResponse>> ORDER_LINES_TYPE = new TypeReference<>() {
+    };
+
+    private final OrderMapper orderMapper;
+    private final ObjectReader orderLinesReader;
+    private final ObjectWriter orderLinesWriter;
+
+    /**
+     * Constructs a new {@code OrderViewMapper}.
+     *
+     * @param orderMapper  The mapper used to convert the lines of an order.
+     * @param objectMapper The mapper used to serialize the lines of an order.
+     */
+    public OrderViewMapper(OrderMapper orderMapper, ObjectMapper objectMapper) {
+        this.orderMapper = orderMapper;
+        this.orderLinesReader = objectMapper.readerFor(ORDER_LINES_TYPE);
+        this.orderLinesWriter = objectMapper.writerFor(ORDER_LINES_TYPE);
+    }
+
+    /**
+     * Converts an {@link Order} domain object to its {@link OrderView}.
+     *
+     * @param order The Order domain object to convert.
+     * @return The corresponding OrderView.
+     */
+    public OrderView mapOrderToView(Order order) {
+        List<OrderLineResponse> orderLineResponses = order.getOrderLines().stream()
+                .map(orderMapper::mapOrderLineToResponse)
+                .toList();
+        return new OrderView(order.getOrderId(), order.getCustomerName(), order.getStatus(), order.getTotalPrice(), writeOrderLines(orderLineResponses));
+    }
+
+    /**
+     * Converts an {@link OrderView} to an {@link OrderResponse} DTO.
+     *
+     * @param orderView The OrderView to convert.
+     * @return The corresponding OrderResponse DTO.
+     */
+    public OrderResponse mapViewToResponse(OrderView orderView) {
+        return new OrderResponse(
+                orderView.getOrderId(),
+                orderView.getCustomerName(),
+                orderView.getStatus().name(),
+                orderView.getTotalPrice(),
+                readOrderLines(orderView)
+        );
+    }
+
+    /**
+     * Serializes order lines into the JSON representation held by an {@link OrderView}.
+     *
+     * @param orderLineResponses The lines of the order.
+     * @return The JSON representation of the lines.
+     */
+    public String writeOrderLines(List<OrderLineResponse> orderLineResponses) {
+        try {
+            return orderLinesWriter.writeValueAsString(orderLineResponses);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize order lines", e);
+        }
+    }
+
+    private List<OrderLineResponse> readOrderLines(OrderView orderView) {
+        try {
+            return orderLinesReader.readValue(orderView.getOrderLines());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot deserialize the lines of order " + orderView.getOrderId(), e);
+        }
+    }
+}
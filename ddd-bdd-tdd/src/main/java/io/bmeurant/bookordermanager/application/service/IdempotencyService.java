@@ -0,0 +1,26 @@
+package io.bmeurant.bookordermanager.application.service;
+
+import io.bmeurant.bookordermanager.application.dto.CreateOrderRequest;
+import io.bmeurant.bookordermanager.application.dto.OrderResponse;
+import io.bmeurant.bookordermanager.domain.exception.ValidationException;
+import io.bmeurant.bookordermanager.order.domain.exception.IdempotencyKeyReuseException;
+
+/**
+ * Service interface for order creations made idempotent by a key sent by the client.
+ */
+public interface IdempotencyService {
+
+    /**
+     * Creates a new order, unless an order was already created with the same idempotency key.
+     * In that case, the response to the first creation is returned again, without creating another order.
+     * A failed creation is not recorded: it is run again on retry.
+     *
+     * @param idempotencyKey     The key identifying the creation, chosen by the client.
+     * @param createOrderRequest The request containing customer name and order items.
+     * @return The created OrderResponse object, or the one returned by the first creation with this key.
+     * @throws IdempotencyKeyReuseException if the key was first sent with a different request.
+     * @throws ValidationException          if the key is invalid, or if the order request is invalid.
+     * @see OrderService#createOrder(CreateOrderRequest) for the other exceptions thrown on creation.
+     */
+    OrderResponse createOrder(String idempotencyKey, CreateOrderRequest createOrderRequest);
+}
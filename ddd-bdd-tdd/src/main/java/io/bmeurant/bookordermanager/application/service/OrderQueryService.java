@@ -0,0 +1,75 @@
+package io.bmeurant.bookordermanager.application.service;
+
+import io.bmeurant.bookordermanager.application.dto.DailyRevenueResponse;
+import io.bmeurant.bookordermanager.application.dto.OrderResponse;
+import io.bmeurant.bookordermanager.application.dto.PageResponse;
+import io.bmeurant.bookordermanager.domain.exception.ValidationException;
+import io.bmeurant.bookordermanager.order.domain.exception.OrderNotFoundException;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Service interface for querying orders.
+ * Orders are read from their read model, the {@link io.bmeurant.bookordermanager.order.domain.model.OrderView}s,
+ * so that reading orders never contends with the changes made through the {@link OrderService}.
+ */
+public interface OrderQueryService {
+
+    /**
+     * Finds an order by its unique identifier and returns it as an OrderResponse.
+     *
+     * @param orderId The unique identifier of the order.
+     * @return The OrderResponse if found.
+     * @throws OrderNotFoundException if the order with the given ID is not found.
+     */
+    OrderResponse getOrderById(String orderId);
+
+    /**
+     * Retrieves all orders.
+     *
+     * @return A list of all orders as OrderResponse objects.
+     */
+    List<OrderResponse> findAllOrders();
+
+    /**
+     * Retrieves a page of orders in order ID order, using keyset pagination.
+     *
+     * @param cursor The cursor returned with the previous page, or null to read the first page.
+     * @param size   The maximum number of orders of the page.
+     * @return The page of orders, with the cursor of the next page if any.
+     * @throws ValidationException if the size is out of bounds or the cursor is malformed.
+     */
+    PageResponse<OrderResponse> findOrders(String cursor, int size);
+
+    /**
+     * Retrieves a page of the orders of a customer in order ID order, using keyset pagination.
+     *
+     * @param customerName The name of the customer who placed the orders.
+     * @param cursor       The cursor returned with the previous page, or null to read the first page.
+     * @param size         The maximum number of orders of the page.
+     * @return The page of orders of the customer, with the cursor of the next page if any.
+     * @throws ValidationException if the customer name is blank, the size is out of bounds or the cursor is malformed.
+     */
+    PageResponse<OrderResponse> findOrdersByCustomer(String customerName, String cursor, int size);
+
+    /**
+     * Streams all orders in order ID order to the given consumer, one at a time, without loading them all in memory.
+     *
+     * @param consumer The consumer of each order.
+     */
+    void streamAllOrders(Consumer<OrderResponse> consumer);
+
+    /**
+     * Retrieves the revenues between two days, day by day, from the revenues maintained as orders are confirmed and
+     * cancelled. Days without revenue are omitted.
+     *
+     * @param from The first day, inclusive.
+     * @param to   The last day, inclusive, at most a year after the first one.
+     * @param isbn The ISBN of the book to retrieve the revenues of, or null to retrieve the revenues of all books.
+     * @return The revenues, by day.
+     * @throws ValidationException if a day is missing, or the days are reversed or too far apart.
+     */
+    List<DailyRevenueResponse> getDailyRevenues(LocalDate from, LocalDate to, String isbn);
+}
@@ -1,6 +1,7 @@
 package io.bmeurant.bookordermanager.application.service;
 
 import io.bmeurant.bookordermanager.application.dto.CreateOrderRequest;
+import io.bmeurant.bookordermanager.application.dto.OrderConfirmationResult;
 import io.bmeurant.bookordermanager.application.dto.OrderResponse;
 import io.bmeurant.bookordermanager.catalog.domain.exception.BookNotFoundException;
 import io.bmeurant.bookordermanager.domain.exception.ValidationException;
@@ -12,6 +13,7 @@ import java.util.List;
 
 /**
  * Service interface for managing orders.
+ * Orders are read through the {@link OrderQueryService}.
  */
 public interface OrderService {
 
@@ -27,16 +29,6 @@ public interface OrderService {
      */
     OrderResponse createOrder(CreateOrderRequest createOrderRequest);
 
-    /**
-     * Finds an order by its unique identifier and returns it as an OrderResponse.
-     *
-     * @param orderId The unique identifier of the order.
-     * @return The OrderResponse if found.
-     * @throws OrderNotFoundException if the order with the given ID is not found.
-     */
-    OrderResponse getOrderById(String orderId);
-
-
     /**
      * Confirms an existing order, transitioning its status to CONFIRMED.
      *
@@ -49,6 +41,16 @@ public interface OrderService {
      */
     OrderResponse confirmOrder(String orderId);
 
+    /**
+     * Confirms several orders at once, in chunked transactions.
+     * The stock of each chunk is committed in a single inventory call, deducting each ISBN once for the whole chunk.
+     * An order which cannot be confirmed does not prevent the others from being confirmed.
+     *
+     * @param orderIds The IDs of the orders to confirm. Duplicate IDs are confirmed once.
+     * @return The outcome of the confirmation of each order, in request order.
+     */
+    List<OrderConfirmationResult> confirmOrders(List<String> orderIds);
+
     /**
      * Cancels an existing order, transitioning its status to CANCELLED and releasing stock if necessary.
      *
@@ -59,11 +61,4 @@ public interface OrderService {
      * @throws InventoryItemNotFoundException if an inventory item for an order line is not found during stock release.
      */
     OrderResponse cancelOrder(String orderId);
-
-    /**
-     * Retrieves all orders.
-     *
-     * @return A list of all orders as OrderResponse objects.
-     */
-    List<OrderResponse> findAllOrders();
-}
\ No newline at end of file
+}
@@ -0,0 +1,141 @@
+package io.bmeurant.bookordermanager.application.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.bmeurant.bookordermanager.application.dto.CreateOrderRequest;
+import io.bmeurant.bookordermanager.application.dto.OrderResponse;
+import io.bmeurant.bookordermanager.application.service.IdempotencyService;
+import io.bmeurant.bookordermanager.application.service.OrderService;
+import io.bmeurant.bookordermanager.order.domain.exception.IdempotencyKeyReuseException;
+import io.bmeurant.bookordermanager.order.domain.model.IdempotencyKey;
+import io.bmeurant.bookordermanager.order.domain.repository.IdempotencyKeyRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+
+/**
+ * Implementation of the {@link IdempotencyService} interface.
+ * <p>
+ * The order and its idempotency key are recorded in the same transaction, so that a key is recorded if and only if
+ * its order is created. Replays are answered from a bounded in-memory cache of the recent keys, then from the
+ * recorded keys, without running the creation again. When two requests with the same key run at once, the insertion
+ * of the key fails for the second one, which is rolled back along with its order and answered with the response of
+ * the first one.
+ */
+@Service
+public class IdempotencyServiceImpl implements IdempotencyService {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyServiceImpl.class);
+
+    private final OrderService orderService;
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionOperations transactionOperations;
+    private final Cache<String, RecordedResponse> recentResponses;
+
+    /**
+     * Constructs a new {@code IdempotencyServiceImpl}.
+     *
+     * @param orderService             The service creating the orders.
+     * @param idempotencyKeyRepository The repository of the recorded keys.
+     * @param objectMapper             The mapper used to serialize the recorded responses.
+     * @param transactionOperations    The template running each creation in its own transaction.
+     * @param cacheSize                The maximum number of keys kept in memory.
+     * @param ttl                      The time during which a key is kept in memory.
+     */
+    public IdempotencyServiceImpl(OrderService orderService, IdempotencyKeyRepository idempotencyKeyRepository,
+                                  ObjectMapper objectMapper, TransactionOperations transactionOperations,
+                                  @Value("${order.idempotency.cache-size:10000}") int cacheSize,
+                                  @Value("${order.idempotency.ttl:PT24H}") Duration ttl) {
+        this.orderService = orderService;
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.objectMapper = objectMapper;
+        this.transactionOperations = transactionOperations;
+        this.recentResponses = Caffeine.newBuilder().maximumSize(cacheSize).expireAfterWrite(ttl).build();
+    }
+
+    @Override
+    public OrderResponse createOrder(String idempotencyKey, CreateOrderRequest createOrderRequest) {
+        IdempotencyKey.assertIsValid(idempotencyKey);
+        String requestHash = hash(createOrderRequest);
+
+        RecordedResponse recorded = recentResponses.get(idempotencyKey, this::findRecordedResponse);
+        if (recorded != null) {
+            return replay(idempotencyKey, requestHash, recorded);
+        }
+
+        try {
+            RecordedResponse created = transactionOperations.execute(status -> createAndRecord(idempotencyKey, requestHash, createOrderRequest));
+            recentResponses.put(idempotencyKey, created);
+            return created.response();
+        } catch (DataIntegrityViolationException e) {
+            RecordedResponse concurrent = findRecordedResponse(idempotencyKey);
+            if (concurrent == null) {
+                throw e;
+            }
+            log.debug("Order creation with idempotency key {} lost against a concurrent one.", idempotencyKey);
+            recentResponses.put(idempotencyKey, concurrent);
+            return replay(idempotencyKey, requestHash, concurrent);
+        }
+    }
+
+    private RecordedResponse createAndRecord(String idempotencyKey, String requestHash, CreateOrderRequest createOrderRequest) {
+        OrderResponse response = orderService.createOrder(createOrderRequest);
+        idempotencyKeyRepository.save(new IdempotencyKey(idempotencyKey, requestHash, response.orderId(), serialize(response)));
+        return new RecordedResponse(requestHash, response);
+    }
+
+    private OrderResponse replay(String idempotencyKey, String requestHash, RecordedResponse recorded) {
+        if (!recorded.requestHash().equals(requestHash)) {
+            throw new IdempotencyKeyReuseException(idempotencyKey);
+        }
+        log.debug("Order creation with idempotency key {} replayed.", idempotencyKey);
+        return recorded.response();
+    }
+
+    private RecordedResponse findRecordedResponse(String idempotencyKey) {
+        return idempotencyKeyRepository.findById(idempotencyKey)
+                .map(key -> new RecordedResponse(key.getRequestHash(), deserialize(key.getResponse())))
+                .orElse(null);
+    }
+
+    private String hash(CreateOrderRequest createOrderRequest) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(createOrderRequest)));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Cannot hash order request", e);
+        }
+    }
+
+    private String serialize(OrderResponse response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize response of order " + response.orderId(), e);
+        }
+    }
+
+    private OrderResponse deserialize(String response) {
+        try {
+            return objectMapper.readValue(response, OrderResponse.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot deserialize recorded order response", e);
+        }
+    }
+
+    /**
+     * The response recorded for an idempotency key, along with the hash of the request it answered.
+     */
+    private record RecordedResponse(String requestHash, OrderResponse response) {
+    }
+}
@@ -0,0 +1,160 @@
+package io.bmeurant.bookordermanager.application.service.impl;
+
+import io.bmeurant.bookordermanager.application.dto.DailyRevenueResponse;
+import io.bmeurant.bookordermanager.application.dto.OrderResponse;
+import io.bmeurant.bookordermanager.application.dto.PageResponse;
+import io.bmeurant.bookordermanager.application.mapper.OrderViewMapper;
+import io.bmeurant.bookordermanager.application.service.OrderQueryService;
+import io.bmeurant.bookordermanager.domain.exception.ValidationException;
+import io.bmeurant.bookordermanager.domain.util.KeysetPagination;
+import io.bmeurant.bookordermanager.domain.util.TimeOrderedUuids;
+import io.bmeurant.bookordermanager.order.domain.exception.OrderNotFoundException;
+import io.bmeurant.bookordermanager.order.domain.model.OrderView;
+import io.bmeurant.bookordermanager.order.domain.repository.DailyRevenueRepository;
+import io.bmeurant.bookordermanager.order.domain.repository.OrderViewRepository;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static io.bmeurant.bookordermanager.domain.util.Assertions.assertHasText;
+import static io.bmeurant.bookordermanager.domain.util.Assertions.assertIsTrue;
+import static io.bmeurant.bookordermanager.domain.util.Assertions.assertNotNull;
+
+/**
+ * Implementation of the {@link OrderQueryService} interface.
+ * Reads orders from the order views only, each order being a single row.
+ */
+@Service
+public class OrderQueryServiceImpl implements OrderQueryService {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderQueryServiceImpl.class);
+    private static final int MAX_REVENUE_DAYS = 366;
+
+    private final OrderViewRepository orderViewRepository;
+    private final DailyRevenueRepository dailyRevenueRepository;
+    private final OrderViewMapper orderViewMapper;
+    private final EntityManager entityManager;
+
+    /**
+     * Constructs an {@code OrderQueryServiceImpl} with the necessary dependencies.
+     *
+     * @param orderViewRepository    The repository for retrieving order views.
+     * @param dailyRevenueRepository The repository for retrieving the revenues of the orders.
+     * @param orderViewMapper        The mapper for converting order views to DTOs.
+     * @param entityManager          The entity manager, used to detach streamed order views once mapped.
+     */
+    public OrderQueryServiceImpl(OrderViewRepository orderViewRepository, DailyRevenueRepository dailyRevenueRepository,
+                                 OrderViewMapper orderViewMapper, EntityManager entityManager) {
+        this.orderViewRepository = orderViewRepository;
+        this.dailyRevenueRepository = dailyRevenueRepository;
+        this.orderViewMapper = orderViewMapper;
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public OrderResponse getOrderById(String orderId) {
+        log.debug("Finding order by ID: {}", orderId);
+        // An ID which is not a UUID cannot identify an order, and is not looked up
+        return Optional.of(orderId)
+                .filter(TimeOrderedUuids::isWellFormed)
+                .flatMap(orderViewRepository::findById)
+                .map(orderViewMapper::mapViewToResponse)
+                .orElseThrow(() -> {
+                    log.debug("Order with ID {} not found.", orderId);
+                    return new OrderNotFoundException(orderId);
+                });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<OrderResponse> findAllOrders() {
+        log.debug("Retrieving all orders.");
+        return orderViewRepository.findAll().stream()
+                .map(orderViewMapper::mapViewToResponse)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<OrderResponse> findOrders(String cursor, int size) {
+        KeysetPagination.assertPageSizeIsValid(size);
+        String afterOrderId = decodeOrderIdCursor(cursor);
+        log.debug("Retrieving {} orders after order ID {}.", size, afterOrderId);
+
+        Limit limit = KeysetPagination.pageLimit(size);
+        List<OrderView> orderViews = afterOrderId == null
+                ? orderViewRepository.findAllByOrderByOrderId(limit)
+                : orderViewRepository.findByOrderIdGreaterThanOrderByOrderId(afterOrderId, limit);
+        return KeysetPagination.toPage(orderViews, size, OrderView::getOrderId, orderViewMapper::mapViewToResponse);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<OrderResponse> findOrdersByCustomer(String customerName, String cursor, int size) {
+        assertHasText(customerName, "Customer name", OrderQueryService.class);
+        KeysetPagination.assertPageSizeIsValid(size);
+        String afterOrderId = decodeOrderIdCursor(cursor);
+        log.debug("Retrieving {} orders of customer {} after order ID {}.", size, customerName, afterOrderId);
+
+        Limit limit = KeysetPagination.pageLimit(size);
+        List<OrderView> orderViews = afterOrderId == null
+                ? orderViewRepository.findByCustomerNameOrderByOrderId(customerName, limit)
+                : orderViewRepository.findByCustomerNameAndOrderIdGreaterThanOrderByOrderId(customerName, afterOrderId, limit);
+        return KeysetPagination.toPage(orderViews, size, OrderView::getOrderId, orderViewMapper::mapViewToResponse);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllOrders(Consumer<OrderResponse> consumer) {
+        log.debug("Streaming all orders.");
+        try (Stream<OrderView> orderViews = orderViewRepository.streamAllByOrderByOrderId()) {
+            orderViews.forEach(orderView -> {
+                consumer.accept(orderViewMapper.mapViewToResponse(orderView));
+                // Keep the persistence context, hence the memory, from growing with the number of orders
+                entityManager.detach(orderView);
+            });
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<DailyRevenueResponse> getDailyRevenues(LocalDate from, LocalDate to, String isbn) {
+        log.debug("Retrieving revenues from {} to {} of book {}.", from, to, isbn);
+        assertNotNull(from, "First day", OrderQueryService.class);
+        assertNotNull(to, "Last day", OrderQueryService.class);
+        assertIsTrue(!to.isBefore(from), "Last day must not be before first day", OrderQueryService.class);
+        assertIsTrue(ChronoUnit.DAYS.between(from, to) < MAX_REVENUE_DAYS, "Revenues can be retrieved for at most " + MAX_REVENUE_DAYS + " days", OrderQueryService.class);
+        if (isbn != null) {
+            return dailyRevenueRepository.findByIsbnAndDayBetweenOrderByDay(isbn, from, to).stream()
+                    .map(revenue -> new DailyRevenueResponse(revenue.getDay(), revenue.getIsbn(), revenue.getQuantity(), revenue.getRevenue()))
+                    .toList();
+        }
+        return dailyRevenueRepository.sumByDayBetween(from, to).stream()
+                .map(total -> new DailyRevenueResponse(total.getDay(), null, total.getQuantity(), total.getRevenue()))
+                .toList();
+    }
+
+    /**
+     * Decodes a cursor holding the last order ID of the previous page.
+     *
+     * @param cursor The cursor, or null for the first page.
+     * @return The last order ID of the previous page, or null for the first page.
+     * @throws ValidationException if the cursor is malformed.
+     */
+    private static String decodeOrderIdCursor(String cursor) {
+        String afterOrderId = KeysetPagination.decodeCursor(cursor);
+        assertIsTrue(afterOrderId == null || TimeOrderedUuids.isWellFormed(afterOrderId), "Cursor is malformed", OrderQueryService.class);
+        return afterOrderId;
+    }
+}
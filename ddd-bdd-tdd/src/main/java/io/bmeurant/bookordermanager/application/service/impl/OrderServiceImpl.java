@@ -1,26 +1,41 @@
 package io.bmeurant.bookordermanager.application.service.impl;
 
+import io.bmeurant.bookordermanager.application.dto.BookResponse;
 import io.bmeurant.bookordermanager.application.dto.CreateOrderRequest;
+import io.bmeurant.bookordermanager.application.dto.OrderConfirmationResult;
 import io.bmeurant.bookordermanager.application.dto.OrderItemRequest;
 import io.bmeurant.bookordermanager.application.dto.OrderResponse;
 import io.bmeurant.bookordermanager.application.mapper.OrderMapper;
 import io.bmeurant.bookordermanager.application.service.OrderService;
 import io.bmeurant.bookordermanager.catalog.domain.service.BookService;
+import io.bmeurant.bookordermanager.domain.exception.ValidationException;
+import io.bmeurant.bookordermanager.domain.util.TimeOrderedUuids;
 import io.bmeurant.bookordermanager.inventory.domain.service.InventoryService;
+import io.bmeurant.bookordermanager.order.domain.event.OrderCancelledEvent;
+import io.bmeurant.bookordermanager.order.domain.event.OrderConfirmedEvent;
 import io.bmeurant.bookordermanager.order.domain.event.OrderCreatedEvent;
 import io.bmeurant.bookordermanager.order.domain.exception.OrderNotFoundException;
 import io.bmeurant.bookordermanager.order.domain.model.Order;
 import io.bmeurant.bookordermanager.order.domain.model.OrderLine;
 import io.bmeurant.bookordermanager.order.domain.repository.OrderRepository;
+import jakarta.persistence.EntityManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static io.bmeurant.bookordermanager.domain.util.Assertions.assertIsPositive;
 
 /**
  * Implementation of the {@link OrderService} interface.
@@ -36,6 +51,9 @@ public class OrderServiceImpl implements OrderService {
     private final OrderRepository orderRepository;
     private final ApplicationEventPublisher applicationEventPublisher;
     private final OrderMapper orderMapper;
+    private final EntityManager entityManager;
+    private final TransactionOperations transactionOperations;
+    private final int confirmBatchChunkSize;
 
     /**
      * Constructs an {@code OrderServiceImpl} with the necessary dependencies.
@@ -45,14 +63,23 @@ public class OrderServiceImpl implements OrderService {
      * @param orderRepository           The repository for persisting and retrieving orders.
      * @param applicationEventPublisher The publisher for application events.
      * @param orderMapper               The mapper for converting Order domain objects to DTOs.
+     * @param entityManager             The entity manager, used to clear the orders of confirmed chunks.
+     * @param transactionOperations     The transaction template, used to confirm batches of orders chunk by chunk.
+     * @param confirmBatchChunkSize     The number of orders confirmed per transaction in a batch. Must be positive.
+     * @throws ValidationException if the chunk size is not positive.
      */
     @Autowired
-    public OrderServiceImpl(BookService bookService, InventoryService inventoryService, OrderRepository orderRepository, ApplicationEventPublisher applicationEventPublisher, OrderMapper orderMapper) {
+    public OrderServiceImpl(BookService bookService, InventoryService inventoryService, OrderRepository orderRepository, ApplicationEventPublisher applicationEventPublisher, OrderMapper orderMapper, EntityManager entityManager, TransactionOperations transactionOperations,
+                            @Value("${order.confirm-batch.chunk-size:200}") int confirmBatchChunkSize) {
+        assertIsPositive(confirmBatchChunkSize, "Confirm batch chunk size", OrderServiceImpl.class);
         this.bookService = bookService;
         this.inventoryService = inventoryService;
         this.orderRepository = orderRepository;
         this.applicationEventPublisher = applicationEventPublisher;
         this.orderMapper = orderMapper;
+        this.entityManager = entityManager;
+        this.transactionOperations = transactionOperations;
+        this.confirmBatchChunkSize = confirmBatchChunkSize;
     }
 
     @Override
@@ -60,78 +87,152 @@ public class OrderServiceImpl implements OrderService {
     public OrderResponse createOrder(CreateOrderRequest createOrderRequest) {
         log.debug("Creating order for customer: {} with {} items.", createOrderRequest.customerName(), createOrderRequest.items().size());
 
-        // First, build order lines. This will validate if books exist.
+        // Load all the requested books at once, then build order lines from the in-memory index.
         // BookNotFoundException will be thrown here if a book is not found.
-        List<OrderLine> orderLines = buildOrderLines(createOrderRequest.items());
+        Map<String, BookResponse> booksByIsbn = bookService.getBooksByIsbns(
+                createOrderRequest.items().stream().map(OrderItemRequest::isbn).toList());
+        List<OrderLine> orderLines = buildOrderLines(createOrderRequest.items(), booksByIsbn);
+        Order order = new Order(createOrderRequest.customerName(), orderLines);
 
-        // Then, check stock for each item
-        for (OrderItemRequest itemRequest : createOrderRequest.items()) {
-            inventoryService.checkStock(itemRequest.isbn(), itemRequest.quantity());
-        }
+        // Then, reserve stock for all items until the order is confirmed or cancelled
+        inventoryService.reserveStock(order.getOrderId(), sumQuantitiesByIsbn(orderLines));
 
-        Order order = new Order(createOrderRequest.customerName(), orderLines);
         Order savedOrder = orderRepository.save(order);
-        log.info("Order created and saved: {}", savedOrder);
+        log.info("Order {} created and saved with {} lines.", savedOrder.getOrderId(), orderLines.size());
         applicationEventPublisher.publishEvent(new OrderCreatedEvent(savedOrder));
         return orderMapper.mapOrderToResponse(savedOrder);
     }
 
-    @Override
-    @Transactional(readOnly = true)
-    public OrderResponse getOrderById(String orderId) {
-        log.debug("Finding order by ID: {}", orderId);
-        return orderRepository.findById(orderId)
-                .map(orderMapper::mapOrderToResponse)
-                .orElseThrow(() -> {
-                    log.warn("Order with ID {} not found.", orderId);
-                    return new OrderNotFoundException(orderId);
-                });
-    }
-
     @Override
     @Transactional
     public OrderResponse confirmOrder(String orderId) {
         log.debug("Attempting to confirm order with ID: {}", orderId);
-        Order order = orderRepository.findById(orderId)
-                .orElseThrow(() -> new OrderNotFoundException(orderId));
+        Order order = findOrder(orderId);
 
-        // Perform final stock deduction for each order line
-        for (OrderLine orderLine : order.getOrderLines()) {
-            inventoryService.deductStock(orderLine.getIsbn(), orderLine.getQuantity());
-        }
+        // Consume the stock reserved at creation, deducting whatever is no longer reserved
+        inventoryService.commitReservation(orderId, sumQuantitiesByIsbn(order.getOrderLines()));
 
         order.confirm();
         Order confirmedOrder = orderRepository.save(order);
         log.info("Order {} successfully confirmed.", orderId);
+        applicationEventPublisher.publishEvent(new OrderConfirmedEvent(confirmedOrder));
         return orderMapper.mapOrderToResponse(confirmedOrder);
     }
 
+    @Override
+    public List<OrderConfirmationResult> confirmOrders(List<String> orderIds) {
+        List<String> distinctOrderIds = orderIds.stream().distinct().toList();
+        log.debug("Attempting to confirm {} orders in chunks of {}.", distinctOrderIds.size(), confirmBatchChunkSize);
+
+        List<OrderConfirmationResult> results = new ArrayList<>(distinctOrderIds.size());
+        for (int from = 0; from < distinctOrderIds.size(); from += confirmBatchChunkSize) {
+            List<String> chunk = distinctOrderIds.subList(from, Math.min(from + confirmBatchChunkSize, distinctOrderIds.size()));
+            try {
+                results.addAll(transactionOperations.execute(status -> confirmChunk(chunk)));
+            } catch (RuntimeException e) {
+                // The chunk has been rolled back as a whole: confirm its orders one by one to isolate the failing ones
+                log.warn("Confirmation of a chunk of {} orders failed, confirming them one by one: {}", chunk.size(), e.getMessage());
+                chunk.forEach(orderId -> results.add(confirmSingleOrder(orderId)));
+            } finally {
+                // Keep the persistence context, hence the memory, from growing with the number of chunks
+                entityManager.clear();
+            }
+        }
+
+        long confirmedCount = results.stream().filter(OrderConfirmationResult::confirmed).count();
+        log.info("{} of {} orders successfully confirmed.", confirmedCount, results.size());
+        return results;
+    }
+
+    /**
+     * Confirms a chunk of orders within the current transaction.
+     * Orders which are not found or cannot be confirmed are reported as failed, while the stock of all the others is
+     * committed at once. Any stock failure is propagated so that the whole chunk is rolled back.
+     *
+     * @param orderIds The IDs of the orders of the chunk.
+     * @return The outcome of the confirmation of each order of the chunk, in chunk order.
+     */
+    private List<OrderConfirmationResult> confirmChunk(List<String> orderIds) {
+        Map<String, Order> ordersById = new HashMap<>();
+        List<String> wellFormedOrderIds = orderIds.stream().filter(TimeOrderedUuids::isWellFormed).toList();
+        orderRepository.findByOrderIdInOrderByOrderId(wellFormedOrderIds).forEach(order -> ordersById.put(order.getOrderId(), order));
+
+        Map<String, OrderConfirmationResult> resultsByOrderId = new HashMap<>();
+        Map<String, Map<String, Integer>> quantitiesByIsbnByOrderId = new LinkedHashMap<>();
+        List<Order> confirmedOrders = new ArrayList<>();
+        for (String orderId : orderIds) {
+            Order order = ordersById.get(orderId);
+            if (order == null) {
+                resultsByOrderId.put(orderId, OrderConfirmationResult.failed(orderId, new OrderNotFoundException(orderId).getMessage()));
+                continue;
+            }
+            try {
+                order.confirm();
+                quantitiesByIsbnByOrderId.put(orderId, sumQuantitiesByIsbn(order.getOrderLines()));
+                confirmedOrders.add(order);
+                resultsByOrderId.put(orderId, OrderConfirmationResult.confirmed(orderId));
+            } catch (ValidationException e) {
+                resultsByOrderId.put(orderId, OrderConfirmationResult.failed(orderId, e.getMessage()));
+            }
+        }
+
+        if (!confirmedOrders.isEmpty()) {
+            inventoryService.commitReservations(quantitiesByIsbnByOrderId);
+            orderRepository.saveAll(confirmedOrders);
+            confirmedOrders.forEach(order -> applicationEventPublisher.publishEvent(new OrderConfirmedEvent(order)));
+        }
+        return orderIds.stream().map(resultsByOrderId::get).toList();
+    }
+
+    /**
+     * Confirms a single order of a batch in its own transaction, reporting a failure instead of throwing it.
+     *
+     * @param orderId The ID of the order to confirm.
+     * @return The outcome of the confirmation of the order.
+     */
+    private OrderConfirmationResult confirmSingleOrder(String orderId) {
+        try {
+            transactionOperations.executeWithoutResult(status -> confirmOrder(orderId));
+            return OrderConfirmationResult.confirmed(orderId);
+        } catch (RuntimeException e) {
+            log.warn("Order {} could not be confirmed: {}", orderId, e.getMessage());
+            return OrderConfirmationResult.failed(orderId, e.getMessage());
+        } finally {
+            entityManager.clear();
+        }
+    }
+
     @Override
     @Transactional
     public OrderResponse cancelOrder(String orderId) {
         log.debug("Attempting to cancel order with ID: {}", orderId);
-        Order order = orderRepository.findById(orderId)
-                .orElseThrow(() -> new OrderNotFoundException(orderId));
+        Order order = findOrder(orderId);
 
         releaseStocks(order);
 
         Order cancelledOrder = orderRepository.save(order);
         log.info("Order {} successfully cancelled.", orderId);
-        applicationEventPublisher.publishEvent(new io.bmeurant.bookordermanager.order.domain.event.OrderCancelledEvent(cancelledOrder));
+        applicationEventPublisher.publishEvent(new OrderCancelledEvent(cancelledOrder));
         return orderMapper.mapOrderToResponse(cancelledOrder);
     }
 
-    @Override
-    @Transactional(readOnly = true)
-    public List<OrderResponse> findAllOrders() {
-        log.debug("Retrieving all orders.");
-        return orderRepository.findAll().stream()
-                .map(orderMapper::mapOrderToResponse)
-                .toList();
+    /**
+     * Finds an order by its ID. An ID which is not a UUID cannot identify an order, and is not looked up.
+     *
+     * @param orderId The ID of the order.
+     * @return The order.
+     * @throws OrderNotFoundException if no order has the given ID.
+     */
+    private Order findOrder(String orderId) {
+        return Optional.of(orderId)
+                .filter(TimeOrderedUuids::isWellFormed)
+                .flatMap(orderRepository::findById)
+                .orElseThrow(() -> new OrderNotFoundException(orderId));
     }
 
     /**
      * Releases stock for items in a cancelled order.
+     * A confirmed order gives its deducted stock back, while a pending order releases its stock reservations.
      *
      * @param order The order for which to release stock.
      */
@@ -142,35 +243,39 @@ public class OrderServiceImpl implements OrderService {
             for (OrderLine orderLine : itemsToRelease) {
                 inventoryService.releaseStock(orderLine.getIsbn(), orderLine.getQuantity());
             }
+        } else {
+            inventoryService.releaseReservation(order.getOrderId());
         }
     }
 
     /**
      * Builds a list of {@link OrderLine} objects from a list of {@link OrderItemRequest}s.
      *
-     * @param items The list of order item requests.
+     * @param items       The list of order item requests.
+     * @param booksByIsbn The books referenced by the items, indexed by ISBN.
      * @return A list of OrderLine objects.
      */
-    private List<OrderLine> buildOrderLines(List<OrderItemRequest> items) {
-        List<OrderLine> orderLines = new ArrayList<>();
+    private List<OrderLine> buildOrderLines(List<OrderItemRequest> items, Map<String, BookResponse> booksByIsbn) {
+        List<OrderLine> orderLines = new ArrayList<>(items.size());
         for (OrderItemRequest itemRequest : items) {
-            orderLines.add(createOrderLine(itemRequest));
+            log.debug("Processing item request: {}", itemRequest);
+            BookResponse bookResponse = booksByIsbn.get(itemRequest.isbn());
+            orderLines.add(new OrderLine(itemRequest.isbn(), itemRequest.quantity(), bookResponse.price()));
         }
         return orderLines;
     }
 
     /**
-     * Creates a single {@link OrderLine} from an {@link OrderItemRequest}.
-     * This involves looking up book details.
+     * Sums the ordered quantities per ISBN, so that an ISBN spread over several lines is handled as a whole.
      *
-     * @param itemRequest The order item request.
-     * @return The created OrderLine object.
-     * @throws io.bmeurant.bookordermanager.catalog.domain.exception.BookNotFoundException if the book for the item request is not found.
+     * @param orderLines The order lines to aggregate.
+     * @return The total quantity per ISBN, in order of first appearance.
      */
-    private OrderLine createOrderLine(OrderItemRequest itemRequest) {
-        log.debug("Processing item request: {}", itemRequest);
-        io.bmeurant.bookordermanager.application.dto.BookResponse bookResponse = bookService.getBookByIsbn(itemRequest.isbn());
-
-        return new OrderLine(itemRequest.isbn(), itemRequest.quantity(), bookResponse.price());
+    private Map<String, Integer> sumQuantitiesByIsbn(List<OrderLine> orderLines) {
+        Map<String, Integer> quantitiesByIsbn = new LinkedHashMap<>();
+        for (OrderLine orderLine : orderLines) {
+            quantitiesByIsbn.merge(orderLine.getIsbn(), orderLine.getQuantity(), Integer::sum);
+        }
+        return quantitiesByIsbn;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,69 @@
+package io.bmeurant.bookordermanager.bootstrap;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Configures the executor running domain event handlers, which is also the executor of {@code @Async} methods.
+ * The kind of threads is selected with {@code events.executor.mode}: {@code platform} (default) or {@code virtual}.
+ * <p>
+ * Being an {@link Executor} bean, it would make Spring Boot back off from its {@code applicationTaskExecutor}, leaving
+ * asynchronous MVC requests on a thread per request: {@code spring.task.execution.mode=force} keeps both executors.
+ */
+@Configuration
+public class AsyncConfiguration implements AsyncConfigurer {
+
+    /**
+     * Name of the executor running domain event handlers.
+     */
+    public static final String EVENT_HANDLER_EXECUTOR = "eventHandlerExecutor";
+
+    private static final Logger log = LoggerFactory.getLogger(AsyncConfiguration.class);
+
+    private final ObjectProvider<BoundedEventExecutor> eventHandlerExecutor;
+
+    /**
+     * Constructs a new {@code AsyncConfiguration}.
+     *
+     * @param eventHandlerExecutor The provider of the event handler executor, resolved lazily when {@code @Async} is set up.
+     */
+    public AsyncConfiguration(ObjectProvider<BoundedEventExecutor> eventHandlerExecutor) {
+        this.eventHandlerExecutor = eventHandlerExecutor;
+    }
+
+    /**
+     * Creates the bounded and instrumented executor running domain event handlers.
+     *
+     * @param mode           The kind of threads running the handlers.
+     * @param maxConcurrency The maximum number of handlers running at once.
+     * @param queueCapacity  The maximum number of handlers waiting to run.
+     * @param meterRegistry  The registry to expose the executor metrics in.
+     * @return The event handler executor.
+     */
+    @Bean(name = EVENT_HANDLER_EXECUTOR)
+    public BoundedEventExecutor eventHandlerExecutor(@Value("${events.executor.mode:platform}") String mode,
+                                                     @Value("${events.executor.max-concurrency:8}") int maxConcurrency,
+                                                     @Value("${events.executor.queue-capacity:1000}") int queueCapacity,
+                                                     MeterRegistry meterRegistry) {
+        return new BoundedEventExecutor(BoundedEventExecutor.Mode.valueOf(mode.toUpperCase()), maxConcurrency, queueCapacity, meterRegistry);
+    }
+
+    @Override
+    public Executor getAsyncExecutor() {
+        return eventHandlerExecutor.getObject();
+    }
+
+    @Override
+    public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+        return (e, method, params) -> log.error("Asynchronous event handler {} failed.", method.getName(), e);
+    }
+}
@@ -0,0 +1,155 @@
+package io.bmeurant.bookordermanager.bootstrap;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.TaskExecutor;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.bmeurant.bookordermanager.domain.util.Assertions.assertIsPositive;
+
+/**
+ * Executor of domain event handlers, bounding both the number of handlers running at once and the number of
+ * handlers waiting to run.
+ * <p>
+ * Handlers run either on a fixed pool of platform threads, or on one virtual thread each. In both modes, at most
+ * {@code maxConcurrency} handlers run at once, and at most {@code queueCapacity} more wait for their turn. A handler
+ * submitted beyond that is rejected and run by the submitting thread instead, which slows the publisher down rather
+ * than letting the backlog grow without limit.
+ * <p>
+ * The number of waiting and running handlers, the number of rejections, and the waiting and running durations of
+ * handlers are exposed as {@code events.executor.*} metrics.
+ */
+public class BoundedEventExecutor implements TaskExecutor, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(BoundedEventExecutor.class);
+
+    private final ExecutorService executor;
+    private final int maxConcurrency;
+    private final Semaphore capacity;
+    private final Semaphore running;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final Counter rejections;
+    private final Timer waitTimer;
+    private final Timer durationTimer;
+
+    /**
+     * Constructs a new {@code BoundedEventExecutor} and registers its metrics.
+     *
+     * @param mode           The kind of threads running the handlers.
+     * @param maxConcurrency The maximum number of handlers running at once. Must be positive.
+     * @param queueCapacity  The maximum number of handlers waiting to run. Must be positive.
+     * @param meterRegistry  The registry to expose the metrics in.
+     */
+    public BoundedEventExecutor(Mode mode, int maxConcurrency, int queueCapacity, MeterRegistry meterRegistry) {
+        assertIsPositive(maxConcurrency, "Max concurrency", BoundedEventExecutor.class);
+        assertIsPositive(queueCapacity, "Queue capacity", BoundedEventExecutor.class);
+        this.executor = switch (mode) {
+            case PLATFORM -> new ThreadPoolExecutor(maxConcurrency, maxConcurrency, 0L, TimeUnit.MILLISECONDS,
+                    new LinkedBlockingQueue<>(), Thread.ofPlatform().name("event-handler-", 1).factory());
+            case VIRTUAL -> Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("event-handler-", 1).factory());
+        };
+        this.maxConcurrency = maxConcurrency;
+        this.capacity = new Semaphore(maxConcurrency + queueCapacity);
+        this.running = new Semaphore(maxConcurrency);
+
+        String modeTag = mode.name().toLowerCase();
+        Gauge.builder("events.executor.queued", queued, AtomicInteger::get)
+                .description("Number of event handlers waiting to run").tag("mode", modeTag).register(meterRegistry);
+        Gauge.builder("events.executor.active", this, BoundedEventExecutor::getActiveCount)
+                .description("Number of event handlers running").tag("mode", modeTag).register(meterRegistry);
+        this.rejections = Counter.builder("events.executor.rejected")
+                .description("Number of event handlers run by the publisher because the executor was full").tag("mode", modeTag).register(meterRegistry);
+        this.waitTimer = Timer.builder("events.executor.wait")
+                .description("Time spent by event handlers waiting to run").tag("mode", modeTag).register(meterRegistry);
+        this.durationTimer = Timer.builder("events.executor.duration")
+                .description("Time spent running event handlers").tag("mode", modeTag).register(meterRegistry);
+        log.info("Event handler executor started in {} mode, running up to {} handlers with up to {} waiting.", modeTag, maxConcurrency, queueCapacity);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (!capacity.tryAcquire()) {
+            rejections.increment();
+            log.debug("Event handler executor is full, running handler in the publishing thread.");
+            durationTimer.record(task);
+            return;
+        }
+        queued.incrementAndGet();
+        long submittedAt = System.nanoTime();
+        try {
+            executor.execute(() -> run(task, submittedAt));
+        } catch (RejectedExecutionException e) {
+            queued.decrementAndGet();
+            capacity.release();
+            rejections.increment();
+            throw e;
+        }
+    }
+
+    private void run(Runnable task, long submittedAt) {
+        try {
+            running.acquireUninterruptibly();
+            try {
+                queued.decrementAndGet();
+                waitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                durationTimer.record(task);
+            } finally {
+                running.release();
+            }
+        } finally {
+            capacity.release();
+        }
+    }
+
+    /**
+     * Returns the number of handlers waiting to run.
+     *
+     * @return The number of waiting handlers.
+     */
+    public int getQueuedCount() {
+        return queued.get();
+    }
+
+    /**
+     * Returns the number of handlers running.
+     *
+     * @return The number of running handlers.
+     */
+    public int getActiveCount() {
+        return maxConcurrency - running.availablePermits();
+    }
+
+    /**
+     * Stops accepting handlers, and waits a bounded time for the submitted ones to complete.
+     *
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("Event handler executor stopped with {} handlers still waiting.", queued.get());
+        }
+    }
+
+    /**
+     * Enum representing the kinds of threads event handlers can run on.
+     */
+    public enum Mode {
+        PLATFORM,
+        VIRTUAL
+    }
+}
@@ -0,0 +1,36 @@
+package io.bmeurant.bookordermanager.bootstrap;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Configures the sizing of the connection pool. The number of connections is derived from the cores of the database
+ * server ({@code datasource.pool.database-cores}, the cores of the application by default, as for the embedded H2
+ * database) and the connections it accepts ({@code datasource.pool.max-connections}), unless it is set with
+ * {@code spring.datasource.hikari.maximum-pool-size}.
+ */
+@Configuration
+public class ConnectionPoolConfiguration {
+
+    private static final String MAXIMUM_POOL_SIZE = "spring.datasource.hikari.maximum-pool-size";
+    private static final String DATABASE_CORES = "datasource.pool.database-cores";
+    private static final String MAX_CONNECTIONS = "datasource.pool.max-connections";
+
+    /**
+     * Creates the sizer of the connection pool. The method is static, since the sizer post-processes beans.
+     *
+     * @param environment The environment holding the database and pool settings.
+     * @return The connection pool sizer.
+     */
+    @Bean
+    public static ConnectionPoolSizer connectionPoolSizer(Environment environment) {
+        Integer configuredPoolSize = environment.getProperty(MAXIMUM_POOL_SIZE, Integer.class);
+        if (configuredPoolSize != null) {
+            return new ConnectionPoolSizer(configuredPoolSize);
+        }
+        return new ConnectionPoolSizer(ConnectionPoolSizer.poolSize(
+                environment.getProperty(DATABASE_CORES, Integer.class, Runtime.getRuntime().availableProcessors()),
+                environment.getProperty(MAX_CONNECTIONS, Integer.class, 97)));
+    }
+}
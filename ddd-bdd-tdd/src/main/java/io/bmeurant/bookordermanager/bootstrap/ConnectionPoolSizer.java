@@ -0,0 +1,71 @@
+package io.bmeurant.bookordermanager.bootstrap;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import static io.bmeurant.bookordermanager.domain.util.Assertions.assertIsPositive;
+
+/**
+ * Sizes the HikariCP connection pool before it opens its first connection.
+ * <p>
+ * The database serves at most about two queries per core of its server at once, plus one waiting for the disk, so a
+ * larger pool only moves the wait from the pool to the database. The pool is therefore sized from the cores of the
+ * database server, whatever the thread mode: with virtual threads, it is the only bound on concurrent database
+ * accesses, and with platform threads, the request threads largely outnumber it. It is further bounded by the
+ * connections the database accepts from the application instance, so that a large database server does not open
+ * more connections than it allows.
+ * <p>
+ * The waiting time for a connection and the time a connection is held are exposed as the
+ * {@code hikaricp.connections.acquire} and {@code hikaricp.connections.usage} metrics, which tell whether the pool is
+ * too small (requests wait for connections) or too large (connections are held while queries wait in the database).
+ */
+public class ConnectionPoolSizer implements BeanPostProcessor {
+
+    private static final Logger log = LoggerFactory.getLogger(ConnectionPoolSizer.class);
+
+    private final int poolSize;
+
+    /**
+     * Constructs a new {@code ConnectionPoolSizer}.
+     *
+     * @param poolSize The number of connections of the pool. Must be positive.
+     */
+    public ConnectionPoolSizer(int poolSize) {
+        assertIsPositive(poolSize, "Pool size", ConnectionPoolSizer.class);
+        this.poolSize = poolSize;
+    }
+
+    /**
+     * Derives the number of connections of the pool from the database server.
+     *
+     * @param databaseCores  The number of cores of the database server. Must be positive.
+     * @param maxConnections The maximum number of connections the database accepts from the application instance.
+     *                       Must be positive.
+     * @return The number of connections of the pool.
+     */
+    public static int poolSize(int databaseCores, int maxConnections) {
+        assertIsPositive(databaseCores, "Database cores", ConnectionPoolSizer.class);
+        assertIsPositive(maxConnections, "Max connections", ConnectionPoolSizer.class);
+        return Math.min(databaseCores * 2 + 1, maxConnections);
+    }
+
+    /**
+     * Returns the number of connections of the pool.
+     *
+     * @return The number of connections.
+     */
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource dataSource) {
+            dataSource.setMaximumPoolSize(poolSize);
+            log.info("Connection pool of {} sized to {} connections.", beanName, poolSize);
+        }
+        return bean;
+    }
+}
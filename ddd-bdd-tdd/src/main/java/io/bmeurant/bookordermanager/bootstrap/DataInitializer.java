@@ -17,7 +17,7 @@ import java.math.BigDecimal;
 import java.util.List;
 
 @Component
-@Profile("!test")
+@Profile("!test & !dataset")
 public class DataInitializer implements CommandLineRunner {
 
     private static final Logger log = LoggerFactory.getLogger(DataInitializer.class);
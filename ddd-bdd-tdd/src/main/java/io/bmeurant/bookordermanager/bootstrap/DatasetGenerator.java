@@ -0,0 +1,207 @@
+package io.bmeurant.bookordermanager.bootstrap;
+
+import io.bmeurant.bookordermanager.application.dto.OrderLineResponse;
+import io.bmeurant.bookordermanager.application.mapper.OrderViewMapper;
+import io.bmeurant.bookordermanager.domain.util.TimeOrderedUuids;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static io.bmeurant.bookordermanager.domain.util.Assertions.assertIsNonNegative;
+import static io.bmeurant.bookordermanager.domain.util.Assertions.assertIsPositive;
+
+/**
+ * Generates a large synthetic dataset on startup when the {@code dataset} profile is active, in place of the sample
+ * dataset of the {@link DataInitializer}.
+ * <p>
+ * Books, their inventory items, and past orders (confirmed or cancelled) along with their views are bulk inserted with
+ * JDBC batches, bypassing the domain model. Orders are created one after the other over the year before the generation,
+ * with time-ordered IDs of their creation time bound as {@link UUID}s, so that they are appended at the end of the
+ * indexes as in production; confirmed orders are confirmed when created, and their daily revenues are computed from
+ * them at the end. The books ordered are drawn from a {@link ZipfDistribution}, so that a few popular books appear in
+ * most orders, as in a real catalog. The popularity of a book follows its ISBN order: the most popular books are read
+ * first when paging through the catalog. The generation is reproducible: the same settings produce the same dataset.
+ */
+@Component
+@Profile("dataset")
+public class DatasetGenerator implements CommandLineRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(DatasetGenerator.class);
+
+    private static final String INSERT_BOOK = "insert into book (isbn, title, author, price, version) values (?, ?, ?, ?, 0)";
+    private static final String INSERT_INVENTORY_ITEM = "insert into inventory_item (isbn, stock, version) values (?, ?, 0)";
+    private static final String INSERT_ORDER = "insert into orders (order_id, customer_name, status, total_price, confirmed_at, version) values (?, ?, ?, ?, ?, 0)";
+    private static final String INSERT_ORDER_LINE = "insert into order_lines (order_id, isbn, quantity, price) values (?, ?, ?, ?)";
+    private static final String INSERT_ORDER_VIEW = "insert into order_views (order_id, customer_name, status, total_price, order_lines, version) values (?, ?, ?, ?, ?, 0)";
+    private static final String INSERT_DAILY_REVENUES = """
+            insert into daily_revenue (revenue_day, isbn, quantity, revenue)
+            select cast(o.confirmed_at as date), l.isbn, sum(l.quantity), sum(l.quantity * l.price)
+            from orders o join order_lines l on l.order_id = o.order_id
+            where o.status = 'CONFIRMED'
+            group by cast(o.confirmed_at as date), l.isbn""";
+    private static final int AUTHORS = 10_000;
+    private static final int CANCELLED_ORDERS_PERCENT = 20;
+    private static final long ORDER_PERIOD_MILLIS = 365L * 24 * 60 * 60 * 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final OrderViewMapper orderViewMapper;
+    private final int books;
+    private final int orders;
+    private final int customers;
+    private final int maxLinesPerOrder;
+    private final int stock;
+    private final double popularitySkew;
+    private final int batchSize;
+    private final long seed;
+
+    /**
+     * Constructs a new {@code DatasetGenerator}.
+     *
+     * @param jdbcTemplate     The template used to insert the rows.
+     * @param orderViewMapper  The mapper used to build the order lines of the order views.
+     * @param books            The number of books, each with its inventory item. Must be positive.
+     * @param orders           The number of orders. Must not be negative.
+     * @param customers        The number of distinct customers placing the orders. Must be positive.
+     * @param maxLinesPerOrder The maximum number of lines of an order. Must be positive.
+     * @param stock            The stock of each book. Must not be negative.
+     * @param popularitySkew   The exponent of the Zipf distribution of the ordered books, 0 for a uniform distribution.
+     * @param batchSize        The number of rows inserted per JDBC batch. Must be positive.
+     * @param seed             The seed of the random generation.
+     */
+    public DatasetGenerator(JdbcTemplate jdbcTemplate, OrderViewMapper orderViewMapper,
+                            @Value("${dataset.books:100000}") int books,
+                            @Value("${dataset.orders:1000000}") int orders,
+                            @Value("${dataset.customers:100000}") int customers,
+                            @Value("${dataset.max-lines-per-order:3}") int maxLinesPerOrder,
+                            @Value("${dataset.stock:1000}") int stock,
+                            @Value("${dataset.popularity-skew:1.0}") double popularitySkew,
+                            @Value("${dataset.batch-size:1000}") int batchSize,
+                            @Value("${dataset.seed:42}") long seed) {
+        assertIsPositive(books, "Number of books", DatasetGenerator.class);
+        assertIsNonNegative(orders, "Number of orders", DatasetGenerator.class);
+        assertIsPositive(customers, "Number of customers", DatasetGenerator.class);
+        assertIsPositive(maxLinesPerOrder, "Max lines per order", DatasetGenerator.class);
+        assertIsNonNegative(stock, "Stock", DatasetGenerator.class);
+        assertIsPositive(batchSize, "Batch size", DatasetGenerator.class);
+        this.jdbcTemplate = jdbcTemplate;
+        this.orderViewMapper = orderViewMapper;
+        this.books = books;
+        this.orders = orders;
+        this.customers = customers;
+        this.maxLinesPerOrder = maxLinesPerOrder;
+        this.stock = stock;
+        this.popularitySkew = popularitySkew;
+        this.batchSize = batchSize;
+        this.seed = seed;
+    }
+
+    @Override
+    public void run(String... args) {
+        Long existingBooks = jdbcTemplate.queryForObject("select count(*) from book", Long.class);
+        if (existingBooks != null && existingBooks > 0) {
+            log.info("Database already contains data. Skipping dataset generation.");
+            return;
+        }
+        log.info("Generating dataset of {} books and {} orders...", books, orders);
+        long start = System.nanoTime();
+
+        insertBooksAndInventoryItems();
+        insertOrders();
+
+        log.info("Dataset generated in {} ms.", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    private void insertBooksAndInventoryItems() {
+        List<Integer> ranks = new ArrayList<>(batchSize);
+        for (int from = 0; from < books; from += batchSize) {
+            ranks.clear();
+            for (int rank = from; rank < Math.min(from + batchSize, books); rank++) {
+                ranks.add(rank);
+            }
+            jdbcTemplate.batchUpdate(INSERT_BOOK, ranks, batchSize, (ps, rank) -> {
+                ps.setString(1, isbn(rank));
+                ps.setString(2, "Generated Book " + rank);
+                ps.setString(3, "Author " + rank % AUTHORS);
+                ps.setBigDecimal(4, price(rank));
+            });
+            jdbcTemplate.batchUpdate(INSERT_INVENTORY_ITEM, ranks, batchSize, (ps, rank) -> {
+                ps.setString(1, isbn(rank));
+                ps.setInt(2, stock);
+            });
+        }
+        log.info("Inserted {} books and inventory items.", books);
+    }
+
+    private void insertOrders() {
+        SplittableRandom random = new SplittableRandom(seed);
+        long firstOrderMillis = LocalDate.now(ZoneOffset.UTC).atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli() - ORDER_PERIOD_MILLIS;
+        ZipfDistribution popularity = new ZipfDistribution(books, popularitySkew);
+        List<Object[]> orderRows = new ArrayList<>(batchSize);
+        List<Object[]> lineRows = new ArrayList<>(batchSize * maxLinesPerOrder);
+        List<Object[]> viewRows = new ArrayList<>(batchSize);
+        for (int from = 0; from < orders; from += batchSize) {
+            orderRows.clear();
+            lineRows.clear();
+            viewRows.clear();
+            for (int i = from; i < Math.min(from + batchSize, orders); i++) {
+                long createdAtMillis = firstOrderMillis + (long) ((double) i * ORDER_PERIOD_MILLIS / orders);
+                UUID orderId = TimeOrderedUuids.of(createdAtMillis, random);
+                String status = random.nextInt(100) < CANCELLED_ORDERS_PERCENT ? "CANCELLED" : "CONFIRMED";
+                String customerName = "Customer " + random.nextInt(customers);
+                OffsetDateTime confirmedAt = "CONFIRMED".equals(status)
+                        ? Instant.ofEpochMilli(createdAtMillis).atOffset(ZoneOffset.UTC)
+                        : null;
+                int lines = 1 + random.nextInt(maxLinesPerOrder);
+                List<OrderLineResponse> orderLines = new ArrayList<>(lines);
+                BigDecimal totalPrice = BigDecimal.ZERO;
+                for (int line = 0; line < lines; line++) {
+                    int rank = popularity.sample(random);
+                    OrderLineResponse orderLine = new OrderLineResponse(isbn(rank), 1 + random.nextInt(3), price(rank));
+                    orderLines.add(orderLine);
+                    lineRows.add(new Object[]{orderId, orderLine.isbn(), orderLine.quantity(), orderLine.price()});
+                    totalPrice = totalPrice.add(orderLine.price().multiply(BigDecimal.valueOf(orderLine.quantity())));
+                }
+                orderRows.add(new Object[]{orderId, customerName, status, totalPrice, confirmedAt});
+                viewRows.add(new Object[]{orderId, customerName, status, totalPrice, orderViewMapper.writeOrderLines(orderLines)});
+            }
+            jdbcTemplate.batchUpdate(INSERT_ORDER, orderRows);
+            jdbcTemplate.batchUpdate(INSERT_ORDER_LINE, lineRows);
+            jdbcTemplate.batchUpdate(INSERT_ORDER_VIEW, viewRows);
+            if ((from / batchSize) % 100 == 99) {
+                log.info("Inserted {} of {} orders.", from + orderRows.size(), orders);
+            }
+        }
+        log.info("Inserted {} orders.", orders);
+        int dailyRevenues = jdbcTemplate.update(INSERT_DAILY_REVENUES);
+        log.info("Inserted {} daily revenues.", dailyRevenues);
+    }
+
+    /**
+     * Returns the ISBN of the book of the given popularity rank, increasing with the rank.
+     *
+     * @param rank The popularity rank of the book, 0 for the most popular.
+     * @return The ISBN of the book.
+     */
+    public static String isbn(int rank) {
+        return "979-%010d".formatted(rank);
+    }
+
+    private static BigDecimal price(int rank) {
+        return BigDecimal.valueOf(500 + rank * 37L % 5500, 2);
+    }
+}
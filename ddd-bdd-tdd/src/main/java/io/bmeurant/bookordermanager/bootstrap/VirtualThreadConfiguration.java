@@ -0,0 +1,35 @@
+package io.bmeurant.bookordermanager.bootstrap;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configures the virtual thread execution mode, enabled with {@code spring.threads.virtual.enabled}, or as a whole
+ * with the {@code virtual-threads} profile which also runs the domain event handlers on virtual threads.
+ * <p>
+ * In this mode, requests are handled by Tomcat on one virtual thread each, so that a request waiting for the database
+ * releases its carrier thread. Concurrent database accesses remain bounded by the connection pool.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfiguration {
+
+    /**
+     * Creates the monitor reporting the pinning of virtual threads.
+     *
+     * @param threshold     The minimum duration of the pinnings to report.
+     * @param meterRegistry The registry to expose the metrics in.
+     * @return The pinning monitor.
+     */
+    @Bean
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(@Value("${virtual-threads.pinning-threshold:PT0.02S}") Duration threshold,
+                                                                   MeterRegistry meterRegistry) {
+        return new VirtualThreadPinningMonitor(threshold, meterRegistry);
+    }
+}
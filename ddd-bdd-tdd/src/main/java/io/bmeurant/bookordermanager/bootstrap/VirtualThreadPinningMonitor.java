@@ -0,0 +1,81 @@
+package io.bmeurant.bookordermanager.bootstrap;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.time.Duration;
+
+/**
+ * Reports the pinning of virtual threads, that is the virtual threads which blocked while they could not unmount
+ * from their carrier thread, typically inside a {@code synchronized} block or a native call. A pinned virtual thread
+ * holds its carrier while it waits, so frequent pinning on JDBC or Hibernate paths defeats the virtual thread mode.
+ * <p>
+ * The {@code jdk.VirtualThreadPinned} events recorded by the JDK Flight Recorder are streamed in process. Each pinning
+ * lasting at least the threshold is recorded in the {@code jvm.threads.virtual.pinned} timer, tagged with the class of
+ * the first frame outside the JDK, and logged with its stack trace at debug level.
+ */
+public class VirtualThreadPinningMonitor implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String UNKNOWN_SOURCE = "unknown";
+
+    private final MeterRegistry meterRegistry;
+    private final RecordingStream recordingStream;
+
+    /**
+     * Constructs a new {@code VirtualThreadPinningMonitor} and starts streaming the pinning events.
+     *
+     * @param threshold     The minimum duration of the pinnings to report.
+     * @param meterRegistry The registry to expose the metrics in.
+     */
+    public VirtualThreadPinningMonitor(Duration threshold, MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::recordPinning);
+        recordingStream.startAsync();
+        log.info("Virtual thread pinning monitor started, reporting pinnings of at least {}.", threshold);
+    }
+
+    private void recordPinning(RecordedEvent event) {
+        String source = sourceOf(event);
+        Timer.builder("jvm.threads.virtual.pinned")
+                .description("Time spent by virtual threads blocked while pinned to their carrier thread")
+                .tag("source", source)
+                .register(meterRegistry)
+                .record(event.getDuration());
+        if (log.isDebugEnabled()) {
+            log.debug("Virtual thread pinned for {} in {}: {}", event.getDuration(), source, event.getStackTrace());
+        }
+    }
+
+    /**
+     * Returns the class of the first frame outside the JDK, which is the code responsible for the pinning.
+     */
+    private static String sourceOf(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return UNKNOWN_SOURCE;
+        }
+        return event.getStackTrace().getFrames().stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .map(frame -> frame.getMethod().getType().getName())
+                .filter(className -> !className.startsWith("java.") && !className.startsWith("jdk.") && !className.startsWith("sun."))
+                .findFirst()
+                .orElse(UNKNOWN_SOURCE);
+    }
+
+    /**
+     * Stops streaming the pinning events.
+     */
+    @Override
+    public void destroy() {
+        recordingStream.close();
+    }
+}
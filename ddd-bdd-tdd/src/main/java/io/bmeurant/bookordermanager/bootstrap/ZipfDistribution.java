@@ -0,0 +1,51 @@
+package io.bmeurant.bookordermanager.bootstrap;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+import static io.bmeurant.bookordermanager.domain.util.Assertions.assertIsPositive;
+import static io.bmeurant.bookordermanager.domain.util.Assertions.assertIsTrue;
+
+/**
+ * Zipf distribution over the ranks {@code 0} to {@code n - 1}: rank {@code k} is drawn with a probability proportional
+ * to {@code 1 / (k + 1)^exponent}. The higher the exponent, the more the first ranks are drawn; with an exponent of
+ * zero, all ranks are equally likely.
+ * <p>
+ * The cumulative probabilities are computed once, so that each draw is a binary search.
+ */
+public class ZipfDistribution {
+
+    private final double[] cumulativeProbabilities;
+
+    /**
+     * Constructs a new {@code ZipfDistribution}.
+     *
+     * @param n        The number of ranks. Must be positive.
+     * @param exponent The exponent of the distribution. Must not be negative.
+     */
+    public ZipfDistribution(int n, double exponent) {
+        assertIsPositive(n, "Number of ranks", ZipfDistribution.class);
+        assertIsTrue(exponent >= 0, "Exponent must not be negative.", ZipfDistribution.class);
+        cumulativeProbabilities = new double[n];
+        double sum = 0;
+        for (int k = 0; k < n; k++) {
+            sum += 1 / Math.pow(k + 1, exponent);
+            cumulativeProbabilities[k] = sum;
+        }
+        for (int k = 0; k < n; k++) {
+            cumulativeProbabilities[k] /= sum;
+        }
+    }
+
+    /**
+     * Draws a rank.
+     *
+     * @param random The source of randomness.
+     * @return A rank between {@code 0} and {@code n - 1}.
+     */
+    public int sample(RandomGenerator random) {
+        int index = Arrays.binarySearch(cumulativeProbabilities, random.nextDouble());
+        int rank = index >= 0 ? index : -index - 1;
+        return Math.min(rank, cumulativeProbabilities.length - 1);
+    }
+}
@@ -12,6 +12,6 @@ public class BookNotFoundException extends DomainException {
      * @param isbn The ISBN of the book that was not found.
      */
     public BookNotFoundException(String isbn) {
-        super("Book with ISBN " + isbn + " not found in catalog.");
+        super("Book with ISBN " + isbn + " not found in catalog.", false);
     }
 }
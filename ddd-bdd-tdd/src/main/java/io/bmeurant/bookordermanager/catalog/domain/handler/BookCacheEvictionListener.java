@@ -0,0 +1,73 @@
+package io.bmeurant.bookordermanager.catalog.domain.handler;
+
+import io.bmeurant.bookordermanager.catalog.domain.model.Book;
+import io.bmeurant.bookordermanager.catalog.domain.service.BookService;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Handles the persistence events of the {@link Book} entity, to evict changed books from the books cache.
+ * Whichever way a book is changed (e.g. {@link Book#updateTitle(String)} or a save), its cached response is evicted
+ * once the change is written. Within a transaction, the eviction is done after commit, so that a read running after
+ * the eviction loads the committed state.
+ * <p>
+ * A read which loaded the book before the commit may still put the previous state in the cache after the eviction,
+ * where it then stays until it expires ({@code spring.cache.caffeine.spec}). Books change rarely, and this window is
+ * accepted rather than evicting twice.
+ */
+public class BookCacheEvictionListener {
+
+    private static final Logger log = LoggerFactory.getLogger(BookCacheEvictionListener.class);
+
+    private final ObjectProvider<CacheManager> cacheManagerProvider;
+
+    /**
+     * Constructs a new {@code BookCacheEvictionListener}. Instantiated by Hibernate through the Spring bean container.
+     *
+     * @param cacheManagerProvider The provider of the cache manager holding the books cache, if any.
+     */
+    public BookCacheEvictionListener(ObjectProvider<CacheManager> cacheManagerProvider) {
+        this.cacheManagerProvider = cacheManagerProvider;
+    }
+
+    /**
+     * Evicts the given book from the books cache.
+     *
+     * @param book The persisted, updated or removed book.
+     */
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void evictBook(Book book) {
+        CacheManager cacheManager = cacheManagerProvider.getIfAvailable();
+        Cache booksCache = cacheManager != null ? cacheManager.getCache(BookService.BOOKS_CACHE) : null;
+        if (booksCache == null) {
+            return;
+        }
+
+        String isbn = book.getIsbn();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(booksCache, isbn);
+                }
+            });
+        } else {
+            evict(booksCache, isbn);
+        }
+    }
+
+    private static void evict(Cache booksCache, String isbn) {
+        booksCache.evict(isbn);
+        log.debug("Book {} evicted from cache.", isbn);
+    }
+}
@@ -1,7 +1,9 @@
 package io.bmeurant.bookordermanager.catalog.domain.model;
 
+import io.bmeurant.bookordermanager.catalog.domain.handler.BookCacheEvictionListener;
 import io.bmeurant.bookordermanager.domain.exception.ValidationException;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.Id;
 import jakarta.persistence.Version;
 import lombok.*;
@@ -17,6 +19,7 @@ import static io.bmeurant.bookordermanager.domain.util.Assertions.*;
  * This is a value object in the DDD context, but acts as an aggregate root for its own properties.
  */
 @Entity
+@EntityListeners(BookCacheEvictionListener.class)
 @Getter
 @EqualsAndHashCode(of = "isbn")
 @ToString
@@ -43,14 +46,13 @@ public class Book {
      * @throws ValidationException if any validation fails.
      */
     public Book(String isbn, String title, String author, BigDecimal price) {
-        log.debug("Creating Book with ISBN: {}, Title: {}, Author: {}, Price: {}", isbn, title, author, price);
         assertBookIsValid(isbn, title, author, price);
 
         this.isbn = isbn;
         this.title = title;
         this.author = author;
         this.price = price;
-        log.info("Book created: {}", this);
+        log.debug("Book created: {}", this);
     }
 
     private static void assertBookIsValid(String isbn, String title, String author, BigDecimal price) {
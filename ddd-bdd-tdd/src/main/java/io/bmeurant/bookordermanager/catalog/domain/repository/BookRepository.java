@@ -1,12 +1,64 @@
 package io.bmeurant.bookordermanager.catalog.domain.repository;
 
 import io.bmeurant.bookordermanager.catalog.domain.model.Book;
+import io.bmeurant.bookordermanager.domain.util.KeysetPagination;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
 /**
  * Repository interface for managing Book entities.
  */
 @Repository
 public interface BookRepository extends JpaRepository<Book, String> {
+
+    /**
+     * Reads the version of a book, without loading the book, to answer conditional requests.
+     *
+     * @param isbn The ISBN of the book.
+     * @return The version of the book, or an empty Optional if the book does not exist.
+     */
+    @Query("select b.version from Book b where b.isbn = :isbn")
+    Optional<Long> findVersionByIsbn(@Param("isbn") String isbn);
+
+    /**
+     * Finds the first books in ISBN order, to read the first page of the catalog.
+     *
+     * @param limit The maximum number of books to return.
+     * @return The first books.
+     */
+    List<Book> findAllByOrderByIsbn(Limit limit);
+
+    /**
+     * Finds the books following the given ISBN in ISBN order, to read the next page of the catalog.
+     *
+     * @param isbn  The last ISBN of the previous page.
+     * @param limit The maximum number of books to return.
+     * @return The books following the given ISBN.
+     */
+    List<Book> findByIsbnGreaterThanOrderByIsbn(String isbn, Limit limit);
+
+    /**
+     * Streams all books in ISBN order, fetching them from the database by batches instead of loading them all.
+     * Must be consumed within a transaction and closed afterward.
+     *
+     * @return A stream of all books.
+     */
+    @Query("select b from Book b order by b.isbn")
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = KeysetPagination.STREAM_FETCH_SIZE),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    Stream<Book> streamAllByOrderByIsbn();
 }
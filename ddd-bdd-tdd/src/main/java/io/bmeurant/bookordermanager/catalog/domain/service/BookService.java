@@ -1,16 +1,28 @@
 package io.bmeurant.bookordermanager.catalog.domain.service;
 
 import io.bmeurant.bookordermanager.application.dto.BookResponse;
+import io.bmeurant.bookordermanager.application.dto.PageResponse;
 import io.bmeurant.bookordermanager.catalog.domain.exception.BookNotFoundException;
+import io.bmeurant.bookordermanager.domain.exception.ValidationException;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * Service interface for managing books in the catalog.
  */
 public interface BookService {
+
+    /**
+     * Name of the cache holding the BookResponse objects by ISBN.
+     */
+    String BOOKS_CACHE = "books";
+
     /**
      * Finds a book by its International Standard Book Number (ISBN).
+     * The book is read through the books cache, so the catalog is only queried on a cache miss.
      *
      * @param isbn The ISBN of the book to find.
      * @return The BookResponse object if found.
@@ -18,10 +30,47 @@ public interface BookService {
      */
     BookResponse getBookByIsbn(String isbn);
 
+    /**
+     * Reads the version of a book, from the books cache if it holds the book, otherwise without loading the book.
+     * Used to answer conditional requests before reading the book itself.
+     *
+     * @param isbn The ISBN of the book.
+     * @return The version of the book.
+     * @throws BookNotFoundException if the book with the given ISBN is not found.
+     */
+    Long getBookVersion(String isbn);
+
+    /**
+     * Finds several books by their ISBNs in a single lookup.
+     * Books found in the books cache are not queried, the others are loaded at once and cached.
+     *
+     * @param isbns The ISBNs of the books to find. Duplicates are ignored.
+     * @return The BookResponse objects indexed by ISBN, in the iteration order of the given ISBNs.
+     * @throws BookNotFoundException if any of the given ISBNs is not found in the catalog.
+     */
+    Map<String, BookResponse> getBooksByIsbns(Collection<String> isbns);
+
     /**
      * Finds all books in the catalog.
      *
      * @return A list of all BookResponse objects.
      */
     List<BookResponse> findAllBooks();
+
+    /**
+     * Finds a page of books in ISBN order, using keyset pagination.
+     *
+     * @param cursor The cursor returned with the previous page, or null to read the first page.
+     * @param size   The maximum number of books of the page.
+     * @return The page of books, with the cursor of the next page if any.
+     * @throws ValidationException if the size is out of bounds or the cursor is malformed.
+     */
+    PageResponse<BookResponse> findBooks(String cursor, int size);
+
+    /**
+     * Streams all books in ISBN order to the given consumer, one at a time, without loading them all in memory.
+     *
+     * @param consumer The consumer of each book.
+     */
+    void streamAllBooks(Consumer<BookResponse> consumer);
 }
@@ -1,14 +1,32 @@
 package io.bmeurant.bookordermanager.catalog.domain.service.impl;
 
 import io.bmeurant.bookordermanager.application.dto.BookResponse;
+import io.bmeurant.bookordermanager.application.dto.PageResponse;
 import io.bmeurant.bookordermanager.application.mapper.BookMapper;
 import io.bmeurant.bookordermanager.catalog.domain.exception.BookNotFoundException;
+import io.bmeurant.bookordermanager.catalog.domain.model.Book;
 import io.bmeurant.bookordermanager.catalog.domain.repository.BookRepository;
 import io.bmeurant.bookordermanager.catalog.domain.service.BookService;
+import io.bmeurant.bookordermanager.domain.util.KeysetPagination;
+import jakarta.persistence.EntityManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Implementation of the {@link BookService} interface.
@@ -21,35 +39,124 @@ public class BookServiceImpl implements BookService {
 
     private final BookRepository bookRepository;
     private final BookMapper bookMapper;
+    private final Cache booksCache;
+    private final EntityManager entityManager;
 
     /**
      * Constructs a new {@code BookServiceImpl} with the given {@link BookRepository}.
      *
      * @param bookRepository The repository for accessing book data.
      * @param bookMapper     The mapper for converting Book domain objects to DTOs.
+     * @param cacheManager   The cache manager providing the books cache.
+     * @param entityManager  The entity manager, used to detach streamed books once mapped.
      */
     @Autowired
-    public BookServiceImpl(BookRepository bookRepository, BookMapper bookMapper) {
+    public BookServiceImpl(BookRepository bookRepository, BookMapper bookMapper, CacheManager cacheManager, EntityManager entityManager) {
         this.bookRepository = bookRepository;
         this.bookMapper = bookMapper;
+        this.booksCache = Objects.requireNonNull(cacheManager.getCache(BOOKS_CACHE), "Cache '" + BOOKS_CACHE + "' is not configured.");
+        this.entityManager = entityManager;
     }
 
     @Override
     public BookResponse getBookByIsbn(String isbn) {
         log.debug("Attempting to find book with ISBN: {}.", isbn);
-        return bookRepository.findById(isbn)
+        BookResponse cachedBook = booksCache.get(isbn, BookResponse.class);
+        if (cachedBook != null) {
+            return cachedBook;
+        }
+
+        BookResponse bookResponse = bookRepository.findById(isbn)
                 .map(bookMapper::mapBookToResponse)
                 .orElseThrow(() -> {
-                    log.warn("Book with ISBN {} not found in catalog.", isbn);
+                    log.debug("Book with ISBN {} not found in catalog.", isbn);
                     return new BookNotFoundException(isbn);
                 });
+        booksCache.put(isbn, bookResponse);
+        return bookResponse;
     }
 
     @Override
-    public java.util.List<BookResponse> findAllBooks() {
+    public Long getBookVersion(String isbn) {
+        BookResponse cachedBook = booksCache.get(isbn, BookResponse.class);
+        if (cachedBook != null) {
+            return cachedBook.version();
+        }
+        return bookRepository.findVersionByIsbn(isbn)
+                .orElseThrow(() -> {
+                    log.debug("Book with ISBN {} not found in catalog.", isbn);
+                    return new BookNotFoundException(isbn);
+                });
+    }
+
+    @Override
+    public Map<String, BookResponse> getBooksByIsbns(Collection<String> isbns) {
+        Set<String> uniqueIsbns = new LinkedHashSet<>(isbns);
+        log.debug("Attempting to find {} books by ISBN.", uniqueIsbns.size());
+
+        Map<String, BookResponse> booksByIsbn = new LinkedHashMap<>();
+        Set<String> missingIsbns = new LinkedHashSet<>();
+        for (String isbn : uniqueIsbns) {
+            BookResponse cachedBook = booksCache.get(isbn, BookResponse.class);
+            if (cachedBook != null) {
+                booksByIsbn.put(isbn, cachedBook);
+            } else {
+                missingIsbns.add(isbn);
+            }
+        }
+
+        if (!missingIsbns.isEmpty()) {
+            bookRepository.findAllById(missingIsbns).forEach(book -> {
+                BookResponse bookResponse = bookMapper.mapBookToResponse(book);
+                booksCache.put(book.getIsbn(), bookResponse);
+                booksByIsbn.put(book.getIsbn(), bookResponse);
+            });
+        }
+
+        Map<String, BookResponse> orderedBooks = new LinkedHashMap<>();
+        for (String isbn : uniqueIsbns) {
+            BookResponse bookResponse = booksByIsbn.get(isbn);
+            if (bookResponse == null) {
+                log.debug("Book with ISBN {} not found in catalog.", isbn);
+                throw new BookNotFoundException(isbn);
+            }
+            orderedBooks.put(isbn, bookResponse);
+        }
+        return orderedBooks;
+    }
+
+    @Override
+    public List<BookResponse> findAllBooks() {
         log.debug("Retrieving all books from the catalog.");
         return bookRepository.findAll().stream()
                 .map(bookMapper::mapBookToResponse)
                 .toList();
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<BookResponse> findBooks(String cursor, int size) {
+        KeysetPagination.assertPageSizeIsValid(size);
+        String afterIsbn = KeysetPagination.decodeCursor(cursor);
+        log.debug("Retrieving {} books after ISBN {}.", size, afterIsbn);
+
+        Limit limit = KeysetPagination.pageLimit(size);
+        List<Book> books = afterIsbn == null
+                ? bookRepository.findAllByOrderByIsbn(limit)
+                : bookRepository.findByIsbnGreaterThanOrderByIsbn(afterIsbn, limit);
+        return KeysetPagination.toPage(books, size, Book::getIsbn, bookMapper::mapBookToResponse);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllBooks(Consumer<BookResponse> consumer) {
+        log.debug("Streaming all books from the catalog.");
+        try (Stream<Book> books = bookRepository.streamAllByOrderByIsbn()) {
+            books.forEach(book -> {
+                consumer.accept(bookMapper.mapBookToResponse(book));
+                // Keep the persistence context, hence the memory, from growing with the size of the catalog
+                entityManager.detach(book);
+            });
+        }
+    }
 }
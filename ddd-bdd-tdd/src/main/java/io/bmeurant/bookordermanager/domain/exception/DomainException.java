@@ -4,6 +4,11 @@ package io.bmeurant.bookordermanager.domain.exception;
  * Abstract base class for all domain-specific exceptions in the application.
  * This class extends {@code RuntimeException} to indicate that these are unchecked exceptions,
  * typically representing business rule violations or invalid states within the domain.
+ * <p>
+ * Exceptions which are expected outcomes of requests (an unknown book, a stock too low...) are translated into client
+ * errors, and never diagnosed through their stack trace. They may therefore be created without stack trace nor
+ * suppressed exceptions, which makes throwing them far cheaper. The others, such as validation errors which may reveal
+ * a defect of the caller, keep their stack trace.
  */
 public abstract class DomainException extends RuntimeException {
     /**
@@ -15,6 +20,17 @@ public abstract class DomainException extends RuntimeException {
         super(message);
     }
 
+    /**
+     * Constructs a new {@code DomainException} with the specified detail message, with or without stack trace.
+     *
+     * @param message            The detail message (which is saved for later retrieval by the {@link #getMessage()} method).
+     * @param writableStackTrace Whether the stack trace and the suppressed exceptions are recorded, {@code false} for
+     *                           the expected outcomes of requests.
+     */
+    protected DomainException(String message, boolean writableStackTrace) {
+        super(message, null, writableStackTrace, writableStackTrace);
+    }
+
     /**
      * Constructs a new {@code DomainException} with the specified detail message and
      * cause.
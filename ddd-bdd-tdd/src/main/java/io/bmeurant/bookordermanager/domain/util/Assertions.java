@@ -41,7 +41,22 @@ public final class Assertions {
         if (value == null) {
             throw new ValidationException(fieldName + " cannot be null", domainClass);
         }
-        if (value.compareTo(BigDecimal.ZERO) < 0) {
+        if (value.signum() < 0) {
+            throw new ValidationException(fieldName + " cannot be negative", domainClass);
+        }
+    }
+
+    /**
+     * Asserts that the given integer value is non-negative (>= 0).
+     * Prefer this overload to boxing an integer into a {@link BigDecimal}, which allocates on every check.
+     *
+     * @param value The integer value to check.
+     * @param fieldName The name of the field being validated, used in the exception message.
+     * @param domainClass The domain class where the validation is performed.
+     * @throws ValidationException if the value is negative.
+     */
+    public static void assertIsNonNegative(int value, String fieldName, Class<?> domainClass) {
+        if (value < 0) {
             throw new ValidationException(fieldName + " cannot be negative", domainClass);
         }
     }
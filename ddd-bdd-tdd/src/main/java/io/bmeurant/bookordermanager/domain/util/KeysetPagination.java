@@ -0,0 +1,109 @@
+package io.bmeurant.bookordermanager.domain.util;
+
+import io.bmeurant.bookordermanager.application.dto.PageResponse;
+import io.bmeurant.bookordermanager.domain.exception.ValidationException;
+import org.springframework.data.domain.Limit;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+import static io.bmeurant.bookordermanager.domain.util.Assertions.assertIsTrue;
+
+/**
+ * Utility class for keyset (cursor) pagination.
+ * A page is read from the key following the last key of the previous page, so that reading a page never depends on
+ * the number of rows before it. The key is handed to clients as an opaque cursor, so that it can evolve freely.
+ */
+public final class KeysetPagination {
+
+    /**
+     * Maximum number of items of a page.
+     */
+    public static final int MAX_PAGE_SIZE = 100;
+
+    /**
+     * Number of items of a page when the client does not choose it.
+     */
+    public static final String DEFAULT_PAGE_SIZE = "20";
+
+    /**
+     * Number of rows fetched per database round trip when streaming a whole table.
+     */
+    public static final String STREAM_FETCH_SIZE = "500";
+
+    private KeysetPagination() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Asserts that the given page size is between 1 and {@link #MAX_PAGE_SIZE}.
+     *
+     * @param size The requested page size.
+     * @throws ValidationException if the size is out of bounds.
+     */
+    public static void assertPageSizeIsValid(int size) {
+        assertIsTrue(size > 0 && size <= MAX_PAGE_SIZE, "Page size must be between 1 and " + MAX_PAGE_SIZE, KeysetPagination.class);
+    }
+
+    /**
+     * Returns the limit of the rows to read for a page: one more row than the page size, to know whether a next page
+     * exists.
+     *
+     * @param size The page size.
+     * @return The limit of the rows to read.
+     */
+    public static Limit pageLimit(int size) {
+        return Limit.of(size + 1);
+    }
+
+    /**
+     * Builds a page from the rows read with {@link #pageLimit(int)}, which hold one more row than the page when a
+     * next page exists.
+     *
+     * @param rows   The rows read, at most one more than the page size, in key order.
+     * @param size   The page size.
+     * @param key    The function giving the key of a row, encoded into the cursor of the next page.
+     * @param mapper The function mapping a row to an item of the page.
+     * @param <T>    The type of the rows.
+     * @param <R>    The type of the items.
+     * @return The page of items, with the cursor of the next page if any.
+     */
+    public static <T, R> PageResponse<R> toPage(List<T> rows, int size, Function<? super T, String> key, Function<? super T, ? extends R> mapper) {
+        List<T> pageRows = rows.subList(0, Math.min(size, rows.size()));
+        String nextCursor = rows.size() > size ? encodeCursor(key.apply(pageRows.getLast())) : null;
+        List<R> items = pageRows.stream()
+                .<R>map(mapper)
+                .toList();
+        return new PageResponse<>(items, nextCursor);
+    }
+
+    /**
+     * Encodes the last key of a page into the opaque cursor of the next page.
+     *
+     * @param key The last key of the page.
+     * @return The cursor of the next page.
+     */
+    public static String encodeCursor(String key) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor back into the key the next page starts after.
+     *
+     * @param cursor The cursor returned with the previous page, or null/blank for the first page.
+     * @return The key the page starts after, or null for the first page.
+     * @throws ValidationException if the cursor is malformed.
+     */
+    public static String decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Cursor is malformed", KeysetPagination.class);
+        }
+    }
+}
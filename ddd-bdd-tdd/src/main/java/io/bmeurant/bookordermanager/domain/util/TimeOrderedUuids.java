@@ -0,0 +1,75 @@
+package io.bmeurant.bookordermanager.domain.util;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.random.RandomGenerator;
+import java.util.regex.Pattern;
+
+/**
+ * Utility class generating time-ordered identifiers, as version 7 UUIDs (RFC 9562).
+ * <p>
+ * The 48 most significant bits hold the creation time in milliseconds, followed by a 12-bit counter ordering the
+ * identifiers generated within the same millisecond, then by 62 random bits. Identifiers generated by this class are
+ * therefore strictly increasing, both as UUIDs and as strings, so that they are appended at the end of the indexes
+ * instead of being inserted at random positions. Should more than 4096 identifiers be generated within a millisecond,
+ * the counter carries over into the time, which runs slightly ahead until the clock catches up.
+ */
+public final class TimeOrderedUuids {
+
+    private static final Pattern CANONICAL_FORM = Pattern.compile("[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}");
+    private static final int COUNTER_BITS = 12;
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT_RFC_9562 = 0x8000000000000000L;
+    private static final long RANDOM_BITS_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final AtomicLong LAST_TIMESTAMP_AND_COUNTER = new AtomicLong();
+
+    private TimeOrderedUuids() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Generates a new time-ordered identifier, greater than all the identifiers previously generated by this class.
+     *
+     * @return The identifier, in the canonical UUID string form.
+     */
+    public static String next() {
+        long timestampAndCounter = LAST_TIMESTAMP_AND_COUNTER.updateAndGet(last ->
+                Math.max(System.currentTimeMillis() << COUNTER_BITS, last + 1));
+        return uuid(timestampAndCounter, RANDOM.nextLong()).toString();
+    }
+
+    /**
+     * Builds a time-ordered identifier of the given creation time, e.g. to generate the identifiers of past entities.
+     * The counter and random bits are drawn from the given generator, so that a seeded generator gives the same
+     * identifiers. Identifiers of the same millisecond are therefore not ordered among themselves.
+     *
+     * @param epochMillis The creation time, in milliseconds since the epoch.
+     * @param random      The generator of the counter and random bits.
+     * @return The identifier.
+     */
+    public static UUID of(long epochMillis, RandomGenerator random) {
+        return uuid(epochMillis << COUNTER_BITS | random.nextInt(1 << COUNTER_BITS), random.nextLong());
+    }
+
+    private static UUID uuid(long timestampAndCounter, long randomBits) {
+        long mostSignificantBits = (timestampAndCounter >>> COUNTER_BITS) << 16
+                | VERSION_7
+                | (timestampAndCounter & ((1L << COUNTER_BITS) - 1));
+        long leastSignificantBits = VARIANT_RFC_9562 | (randomBits & RANDOM_BITS_MASK);
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    /**
+     * Indicates whether a string is in the canonical UUID form, and can therefore be an identifier. Identifiers
+     * generated as random UUIDs before time-ordered ones are in that form too.
+     *
+     * @param id The string to check.
+     * @return {@code true} if the string is in the canonical UUID form.
+     */
+    public static boolean isWellFormed(String id) {
+        return id != null && CANONICAL_FORM.matcher(id).matches();
+    }
+}
@@ -0,0 +1,35 @@
+package io.bmeurant.bookordermanager.domain.util;
+
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.StringJavaType;
+
+import java.util.UUID;
+
+/**
+ * Hibernate type of the identifiers handled as canonical UUID strings but stored in a native UUID column, that is in
+ * 16 bytes instead of 36 characters in every table and index they appear in. Unlike an attribute converter, it also
+ * applies to primary keys and to the foreign keys referencing them.
+ * <p>
+ * Binary UUIDs are ordered as their canonical strings, so that keyset pagination on such identifiers is unchanged.
+ * Only well-formed identifiers can be bound, see {@link TimeOrderedUuids#isWellFormed(String)}.
+ * Used with {@code @JavaType(UuidStringJavaType.class) @JdbcTypeCode(SqlTypes.UUID)}.
+ */
+public class UuidStringJavaType extends StringJavaType {
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <X> X unwrap(String value, Class<X> type, WrapperOptions options) {
+        if (value != null && UUID.class.isAssignableFrom(type)) {
+            return (X) UUID.fromString(value);
+        }
+        return super.unwrap(value, type, options);
+    }
+
+    @Override
+    public <X> String wrap(X value, WrapperOptions options) {
+        if (value instanceof UUID uuid) {
+            return uuid.toString();
+        }
+        return super.wrap(value, options);
+    }
+}
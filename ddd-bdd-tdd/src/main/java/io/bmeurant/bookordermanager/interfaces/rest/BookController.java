@@ -1,6 +1,7 @@
 package io.bmeurant.bookordermanager.interfaces.rest;
 
 import io.bmeurant.bookordermanager.application.dto.BookResponse;
+import io.bmeurant.bookordermanager.application.dto.PageResponse;
 import io.bmeurant.bookordermanager.catalog.domain.service.BookService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -8,11 +9,21 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.Duration;
 
 /**
  * REST controller for managing books in the catalog.
@@ -23,28 +34,49 @@ import org.springframework.web.bind.annotation.RestController;
 public class BookController {
 
     private final BookService bookService;
+    private final NdjsonWriter ndjsonWriter;
+    private final CacheControl bookCacheControl;
 
-    public BookController(BookService bookService) {
+    public BookController(BookService bookService, NdjsonWriter ndjsonWriter,
+                          @Value("${http.cache.books.max-age:PT5M}") Duration bookMaxAge) {
         this.bookService = bookService;
+        this.ndjsonWriter = ndjsonWriter;
+        this.bookCacheControl = EntityTags.cacheControl(bookMaxAge);
     }
 
     /**
      * Retrieves the details of a specific book by its unique ISBN.
+     * The response is tagged with the version of the book, and is not written again if the client already holds it:
+     * the version is then checked first, and the book is only read if it has changed.
      *
-     * @param isbn The unique ISBN of the book to retrieve.
+     * @param isbn        The unique ISBN of the book to retrieve.
+     * @param ifNoneMatch The ETags of the representations held by the client, if any.
      * @return A {@link ResponseEntity} with the {@link BookResponse} if found (HTTP status 200 OK),
+     * HTTP status 304 Not Modified if the client holds the current representation,
      * or HTTP status 404 Not Found if the book does not exist.
      */
     @GetMapping("/{isbn}")
-    @Operation(summary = "Get book by ISBN", description = "Retrieves the details of a specific book by its unique ISBN.")
+    @Operation(summary = "Get book by ISBN", description = "Retrieves the details of a specific book by its unique ISBN. Supports conditional requests with If-None-Match.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Book found and returned",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = BookResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Book not modified since the given ETag", content = @Content),
             @ApiResponse(responseCode = "404", description = "Book not found", content = @Content)
     })
-    public ResponseEntity<BookResponse> getBookByIsbn(@PathVariable String isbn) {
+    public ResponseEntity<BookResponse> getBookByIsbn(@PathVariable String isbn,
+                                                      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            String currentETag = EntityTags.of(bookService.getBookVersion(isbn));
+            if (EntityTags.isNotModified(ifNoneMatch, currentETag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(currentETag).cacheControl(bookCacheControl).build();
+            }
+        }
         BookResponse bookResponse = bookService.getBookByIsbn(isbn);
-        return ResponseEntity.ok(bookResponse);
+        String eTag = EntityTags.of(bookResponse.version());
+        if (EntityTags.isNotModified(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(bookCacheControl).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).cacheControl(bookCacheControl).body(bookResponse);
     }
 
     /**
@@ -62,4 +94,40 @@ public class BookController {
         java.util.List<BookResponse> books = bookService.findAllBooks();
         return ResponseEntity.ok(books);
     }
+
+    /**
+     * Retrieves a page of books of the catalog, using keyset pagination.
+     *
+     * @param size   The maximum number of books of the page, between 1 and 100.
+     * @param cursor The cursor returned with the previous page, or none to read the first page.
+     * @return A {@link ResponseEntity} with the {@link PageResponse} of books (HTTP status 200 OK),
+     * or HTTP status 400 Bad Request if the size is out of bounds or the cursor is malformed.
+     */
+    @GetMapping(params = "size")
+    @Operation(summary = "Get a page of books", description = "Retrieves a page of books in ISBN order. The next page is read by passing the returned cursor.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Page of books retrieved successfully",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = PageResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid page size or cursor", content = @Content)
+    })
+    public ResponseEntity<PageResponse<BookResponse>> getBooksPage(@RequestParam int size, @RequestParam(required = false) String cursor) {
+        PageResponse<BookResponse> page = bookService.findBooks(cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * Streams all books of the catalog as newline-delimited JSON, without loading them all in memory.
+     *
+     * @return A {@link ResponseEntity} streaming one {@link BookResponse} per line (HTTP status 200 OK).
+     */
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream all books", description = "Streams all books of the catalog as newline-delimited JSON, in ISBN order.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Books streamed successfully",
+                    content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = BookResponse.class)))
+    })
+    public ResponseEntity<StreamingResponseBody> streamAllBooks() {
+        StreamingResponseBody body = ndjsonWriter.stream(bookService::streamAllBooks);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
 }
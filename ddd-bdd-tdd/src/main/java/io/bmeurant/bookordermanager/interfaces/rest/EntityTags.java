@@ -0,0 +1,68 @@
+package io.bmeurant.bookordermanager.interfaces.rest;
+
+import org.springframework.http.CacheControl;
+
+import java.time.Duration;
+
+/**
+ * Utility class for the conditional requests of single resources.
+ * <p>
+ * Resources are tagged with a strong ETag derived from the version of the entity they are read from, so that a client
+ * or a cache holding the current representation is answered 304 Not Modified, without the body being written again.
+ */
+public final class EntityTags {
+
+    private static final String ANY = "*";
+    private static final String WEAK_PREFIX = "W/";
+
+    private EntityTags() {
+        // Utility class
+    }
+
+    /**
+     * Creates the strong ETag of a resource.
+     *
+     * @param validator The value identifying the representation of the resource, typically the version of its entity.
+     * @return The quoted ETag.
+     */
+    public static String of(Object validator) {
+        return "\"" + validator + "\"";
+    }
+
+    /**
+     * Indicates whether the representation held by the client is the current one, that is whether one of the ETags of
+     * the {@code If-None-Match} header matches the current ETag. As required for {@code If-None-Match}, ETags are
+     * compared weakly.
+     *
+     * @param ifNoneMatch The value of the {@code If-None-Match} header, or null if absent.
+     * @param eTag        The current ETag of the resource.
+     * @return {@code true} if the resource has not been modified since the client read it.
+     */
+    public static boolean isNotModified(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.equals(ANY) || stripWeakPrefix(trimmed).equals(stripWeakPrefix(eTag))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Creates the caching policy of a resource.
+     *
+     * @param maxAge The duration for which the resource may be reused without revalidation. With zero, the resource may
+     *               be stored but must be revalidated before each reuse.
+     * @return The caching policy.
+     */
+    public static CacheControl cacheControl(Duration maxAge) {
+        return maxAge.isZero() ? CacheControl.noCache().cachePublic() : CacheControl.maxAge(maxAge).cachePublic();
+    }
+
+    private static String stripWeakPrefix(String eTag) {
+        return eTag.startsWith(WEAK_PREFIX) ? eTag.substring(WEAK_PREFIX.length()) : eTag;
+    }
+}
@@ -1,19 +1,35 @@
 package io.bmeurant.bookordermanager.interfaces.rest;
 
 import io.bmeurant.bookordermanager.application.dto.InventoryResponse;
+import io.bmeurant.bookordermanager.application.dto.PageResponse;
+import io.bmeurant.bookordermanager.application.dto.StockBatchRequest;
+import io.bmeurant.bookordermanager.domain.util.KeysetPagination;
 import io.bmeurant.bookordermanager.inventory.domain.service.InventoryService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.Duration;
+import java.util.List;
+
 /**
  * REST controller for managing inventory items.
  * Provides API endpoints for retrieving inventory stock levels.
@@ -24,27 +40,93 @@ import org.springframework.web.bind.annotation.RestController;
 public class InventoryController {
 
     private final InventoryService inventoryService;
+    private final CacheControl stockCacheControl;
 
-    public InventoryController(InventoryService inventoryService) {
+    public InventoryController(InventoryService inventoryService,
+                               @Value("${http.cache.inventory.max-age:PT0S}") Duration stockMaxAge) {
         this.inventoryService = inventoryService;
+        this.stockCacheControl = EntityTags.cacheControl(stockMaxAge);
     }
 
     /**
      * Retrieves the stock level for a specific inventory item by its ISBN.
+     * The response is tagged with the version of the inventory item, and is not written again if the client already
+     * holds it: the version is then checked first, and the stock is only read if it has changed.
      *
-     * @param isbn The ISBN of the inventory item to retrieve stock for.
+     * @param isbn        The ISBN of the inventory item to retrieve stock for.
+     * @param ifNoneMatch The ETags of the representations held by the client, if any.
      * @return A {@link ResponseEntity} with the {@link InventoryResponse} containing the stock level if found (HTTP status 200 OK),
+     *         HTTP status 304 Not Modified if the client holds the current representation,
      *         or HTTP status 404 Not Found if the inventory item does not exist.
      */
     @GetMapping("/{isbn}")
-    @Operation(summary = "Get inventory stock by ISBN", description = "Retrieves the stock level for a specific inventory item by its ISBN.")
+    @Operation(summary = "Get inventory stock by ISBN", description = "Retrieves the stock level for a specific inventory item by its ISBN. Supports conditional requests with If-None-Match.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Stock level found and returned",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = InventoryResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Stock level not modified since the given ETag", content = @Content),
             @ApiResponse(responseCode = "404", description = "Inventory item not found", content = @Content)
     })
-    public ResponseEntity<InventoryResponse> getStockByIsbn(@PathVariable String isbn) {
+    public ResponseEntity<InventoryResponse> getStockByIsbn(@PathVariable String isbn,
+                                                            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            // Hot items have no version identifying their stock, which is checked once read from memory below
+            Long version = inventoryService.getStockVersion(isbn);
+            String currentETag = version != null ? EntityTags.of(version) : null;
+            if (currentETag != null && EntityTags.isNotModified(ifNoneMatch, currentETag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(currentETag).cacheControl(stockCacheControl).build();
+            }
+        }
         InventoryResponse inventoryResponse = inventoryService.getStockByIsbn(isbn);
-        return ResponseEntity.ok(inventoryResponse);
+        // The stock of a hot item is held in memory, ahead of its version: the stock itself then identifies the response
+        String eTag = inventoryResponse.version() != null
+                ? EntityTags.of(inventoryResponse.version())
+                : EntityTags.of("stock-" + inventoryResponse.stock());
+        if (EntityTags.isNotModified(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(stockCacheControl).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).cacheControl(stockCacheControl).body(inventoryResponse);
+    }
+
+    /**
+     * Retrieves the stock levels of several inventory items in a single call.
+     *
+     * @param stockBatchRequest The request body containing the ISBNs of the inventory items.
+     * @return A {@link ResponseEntity} with the list of {@link InventoryResponse} of the existing items, in request order,
+     * and HTTP status 200 OK, or HTTP status 400 Bad Request if the request is invalid.
+     */
+    @PostMapping("/stock:batch")
+    @Operation(summary = "Get the inventory stock of many ISBNs", description = "Retrieves the stock levels of up to 1000 inventory items at once. Unknown ISBNs are left out of the response.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Stock levels of the existing items",
+                    content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = InventoryResponse.class)))),
+            @ApiResponse(responseCode = "400", description = "Invalid input data provided", content = @Content)
+    })
+    public ResponseEntity<List<InventoryResponse>> getStocksByIsbns(@Valid @RequestBody StockBatchRequest stockBatchRequest) {
+        List<InventoryResponse> inventoryResponses = inventoryService.getStocksByIsbns(stockBatchRequest.isbns());
+        return ResponseEntity.ok(inventoryResponses);
+    }
+
+    /**
+     * Retrieves a page of the inventory items running low, lowest stock first, using keyset pagination.
+     *
+     * @param threshold The stock at or below which an item is running low, the low stock threshold by default.
+     * @param size      The maximum number of items of the page, between 1 and 100, 20 by default.
+     * @param cursor    The cursor returned with the previous page, or none to read the first page.
+     * @return A {@link ResponseEntity} containing the {@link PageResponse} of items running low and HTTP status 200 OK,
+     * or HTTP status 400 Bad Request if the threshold is negative, the size is out of bounds or the cursor is malformed.
+     */
+    @GetMapping("/low-stock")
+    @Operation(summary = "Get a page of the low stock report", description = "Retrieves a page of the inventory items whose stock is at or below the threshold, lowest stock first. The next page is read by passing the returned cursor.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved page of items running low",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = PageResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid threshold, page size or cursor", content = @Content)
+    })
+    public ResponseEntity<PageResponse<InventoryResponse>> getLowStocksPage(@RequestParam(required = false) Integer threshold,
+                                                                             @RequestParam(defaultValue = KeysetPagination.DEFAULT_PAGE_SIZE) int size,
+                                                                             @RequestParam(required = false) String cursor) {
+        PageResponse<InventoryResponse> page = inventoryService.findLowStocks(threshold, cursor, size);
+        return ResponseEntity.ok(page);
     }
 }
@@ -0,0 +1,47 @@
+package io.bmeurant.bookordermanager.interfaces.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * Writes items as newline-delimited JSON (NDJSON), one JSON document per line, as they are produced.
+ * The response is written while the items are read, so its memory footprint does not depend on the number of items.
+ */
+@Component
+public class NdjsonWriter {
+
+    private static final byte NEW_LINE = '\n';
+
+    private final ObjectWriter objectWriter;
+
+    public NdjsonWriter(ObjectMapper objectMapper) {
+        this.objectWriter = objectMapper.writer();
+    }
+
+    /**
+     * Creates a response body writing each item passed by the producer to the consumer it is given.
+     *
+     * @param producer The producer of the items, typically a service method streaming them to a consumer.
+     * @param <T>      The type of the items.
+     * @return The streaming response body.
+     */
+    public <T> StreamingResponseBody stream(Consumer<Consumer<T>> producer) {
+        return outputStream -> producer.accept(item -> writeLine(outputStream, item));
+    }
+
+    private void writeLine(OutputStream outputStream, Object item) {
+        try {
+            outputStream.write(objectWriter.writeValueAsBytes(item));
+            outputStream.write(NEW_LINE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -1,42 +1,70 @@
 package io.bmeurant.bookordermanager.interfaces.rest;
 
+import io.bmeurant.bookordermanager.application.dto.ConfirmOrdersRequest;
 import io.bmeurant.bookordermanager.application.dto.CreateOrderRequest;
+import io.bmeurant.bookordermanager.application.dto.DailyRevenueResponse;
+import io.bmeurant.bookordermanager.application.dto.OrderConfirmationResult;
 import io.bmeurant.bookordermanager.application.dto.OrderResponse;
+import io.bmeurant.bookordermanager.application.dto.PageResponse;
+import io.bmeurant.bookordermanager.application.service.IdempotencyService;
+import io.bmeurant.bookordermanager.application.service.OrderQueryService;
 import io.bmeurant.bookordermanager.application.service.OrderService;
+import io.bmeurant.bookordermanager.domain.util.KeysetPagination;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
+import java.time.LocalDate;
 import java.util.List;
 
 /**
  * REST controller for managing book orders.
  * Provides API endpoints for creating and retrieving orders.
+ * Orders are changed through the {@link OrderService}, and read through the {@link OrderQueryService}.
  */
 @RestController
 @RequestMapping("/api/orders")
 @Tag(name = "Orders", description = "Operations pertaining to orders in Book Order Manager")
 public class OrderController {
 
+    /**
+     * Name of the request header carrying the idempotency key of an order creation.
+     */
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     private final OrderService orderService;
+    private final OrderQueryService orderQueryService;
+    private final IdempotencyService idempotencyService;
+    private final NdjsonWriter ndjsonWriter;
 
-    public OrderController(OrderService orderService) {
+    public OrderController(OrderService orderService, OrderQueryService orderQueryService, IdempotencyService idempotencyService, NdjsonWriter ndjsonWriter) {
         this.orderService = orderService;
+        this.orderQueryService = orderQueryService;
+        this.idempotencyService = idempotencyService;
+        this.ndjsonWriter = ndjsonWriter;
     }
 
     /**
      * Creates a new order based on the provided request.
      * This endpoint handles the creation of a customer order, including validation
      * and interaction with the order service.
+     * When an idempotency key is provided, a retry with the same key returns the order created first instead of
+     * creating another one.
      *
+     * @param idempotencyKey     The optional key identifying the creation, chosen by the client.
      * @param createOrderRequest The request body containing details for the new order.
      * @return A {@link ResponseEntity} with the created {@link OrderResponse} and HTTP status 201 Created.
      */
@@ -47,10 +75,16 @@ public class OrderController {
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = OrderResponse.class))),
             @ApiResponse(responseCode = "400", description = "Invalid input data provided", content = @Content),
             @ApiResponse(responseCode = "404", description = "One or more books not found", content = @Content),
-            @ApiResponse(responseCode = "409", description = "Insufficient stock for one or more books", content = @Content)
+            @ApiResponse(responseCode = "409", description = "Insufficient stock for one or more books", content = @Content),
+            @ApiResponse(responseCode = "422", description = "Idempotency key already used for a different request", content = @Content)
     })
-    public ResponseEntity<OrderResponse> createOrder(@Valid @RequestBody CreateOrderRequest createOrderRequest) {
-        OrderResponse orderResponse = orderService.createOrder(createOrderRequest);
+    public ResponseEntity<OrderResponse> createOrder(
+            @Parameter(description = "Key making retries of the creation return the order created first")
+            @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @Valid @RequestBody CreateOrderRequest createOrderRequest) {
+        OrderResponse orderResponse = idempotencyKey == null
+                ? orderService.createOrder(createOrderRequest)
+                : idempotencyService.createOrder(idempotencyKey, createOrderRequest);
         URI location = ServletUriComponentsBuilder
                 .fromCurrentRequest()
                 .path("/{id}")
@@ -74,7 +108,7 @@ public class OrderController {
             @ApiResponse(responseCode = "404", description = "Order not found", content = @Content)
     })
     public ResponseEntity<OrderResponse> getOrderById(@PathVariable String orderId) {
-        OrderResponse orderResponse = orderService.getOrderById(orderId);
+        OrderResponse orderResponse = orderQueryService.getOrderById(orderId);
         return ResponseEntity.ok(orderResponse);
     }
 
@@ -118,6 +152,26 @@ public class OrderController {
         return ResponseEntity.ok(orderResponse);
     }
 
+    /**
+     * Confirms several orders at once, reporting the outcome of each of them.
+     * An order which cannot be confirmed does not prevent the others from being confirmed.
+     *
+     * @param confirmOrdersRequest The request body containing the IDs of the orders to confirm.
+     * @return A {@link ResponseEntity} with the list of {@link OrderConfirmationResult}, in request order,
+     * and HTTP status 200 OK, or HTTP status 400 Bad Request if the request is invalid.
+     */
+    @PostMapping("/confirm-batch")
+    @Operation(summary = "Confirm a batch of orders", description = "Confirms many orders in chunked transactions and returns the per-order success or failure.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Batch processed, see each result for the outcome of each order",
+                    content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = OrderConfirmationResult.class)))),
+            @ApiResponse(responseCode = "400", description = "Invalid input data provided", content = @Content)
+    })
+    public ResponseEntity<List<OrderConfirmationResult>> confirmOrders(@Valid @RequestBody ConfirmOrdersRequest confirmOrdersRequest) {
+        List<OrderConfirmationResult> results = orderService.confirmOrders(confirmOrdersRequest.orderIds());
+        return ResponseEntity.ok(results);
+    }
+
     /**
      * Retrieves a list of all orders.
      *
@@ -128,7 +182,87 @@ public class OrderController {
     @ApiResponse(responseCode = "200", description = "Successfully retrieved list of orders",
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = OrderResponse.class)))
     public ResponseEntity<List<OrderResponse>> getAllOrders() {
-        List<OrderResponse> orders = orderService.findAllOrders();
+        List<OrderResponse> orders = orderQueryService.findAllOrders();
         return ResponseEntity.ok(orders);
     }
-}
\ No newline at end of file
+
+    /**
+     * Retrieves a page of orders, using keyset pagination.
+     *
+     * @param size   The maximum number of orders of the page, between 1 and 100.
+     * @param cursor The cursor returned with the previous page, or none to read the first page.
+     * @return A {@link ResponseEntity} containing the {@link PageResponse} of orders and HTTP status 200 OK,
+     * or HTTP status 400 Bad Request if the size is out of bounds or the cursor is malformed.
+     */
+    @GetMapping(params = {"size", "!customer"})
+    @Operation(summary = "Get a page of orders", description = "Retrieves a page of orders in order ID order. The next page is read by passing the returned cursor.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved page of orders",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = PageResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid page size or cursor", content = @Content)
+    })
+    public ResponseEntity<PageResponse<OrderResponse>> getOrdersPage(@RequestParam int size, @RequestParam(required = false) String cursor) {
+        PageResponse<OrderResponse> page = orderQueryService.findOrders(cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * Retrieves a page of the orders of a customer, using keyset pagination.
+     *
+     * @param customer The name of the customer who placed the orders.
+     * @param size     The maximum number of orders of the page, between 1 and 100, 20 by default.
+     * @param cursor   The cursor returned with the previous page, or none to read the first page.
+     * @return A {@link ResponseEntity} containing the {@link PageResponse} of orders of the customer and HTTP status 200 OK,
+     * or HTTP status 400 Bad Request if the customer is blank, the size is out of bounds or the cursor is malformed.
+     */
+    @GetMapping(params = "customer")
+    @Operation(summary = "Get a page of the orders of a customer", description = "Retrieves a page of the orders placed by a customer, in order ID order. The next page is read by passing the returned cursor.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved page of orders of the customer",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = PageResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid customer, page size or cursor", content = @Content)
+    })
+    public ResponseEntity<PageResponse<OrderResponse>> getCustomerOrdersPage(@RequestParam String customer,
+                                                                             @RequestParam(defaultValue = KeysetPagination.DEFAULT_PAGE_SIZE) int size,
+                                                                             @RequestParam(required = false) String cursor) {
+        PageResponse<OrderResponse> page = orderQueryService.findOrdersByCustomer(customer, cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * Streams all orders as newline-delimited JSON, without loading them all in memory.
+     *
+     * @return A {@link ResponseEntity} streaming one {@link OrderResponse} per line, with HTTP status 200 OK.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream all orders", description = "Streams all existing orders as newline-delimited JSON, in order ID order.")
+    @ApiResponse(responseCode = "200", description = "Successfully streamed orders",
+            content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = OrderResponse.class)))
+    public ResponseEntity<StreamingResponseBody> streamAllOrders() {
+        StreamingResponseBody body = ndjsonWriter.stream(orderQueryService::streamAllOrders);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    /**
+     * Retrieves the revenues between two days, day by day, of all books or of one book.
+     *
+     * @param from The first day, inclusive, as an ISO date.
+     * @param to   The last day, inclusive, as an ISO date, at most a year after the first one.
+     * @param isbn The ISBN of the book, or none to retrieve the revenues of all books.
+     * @return A {@link ResponseEntity} containing the list of {@link DailyRevenueResponse}s and HTTP status 200 OK,
+     * or HTTP status 400 Bad Request if the days are reversed or too far apart.
+     */
+    @GetMapping("/revenue")
+    @Operation(summary = "Get daily revenues", description = "Retrieves the revenues of the orders confirmed each day and not cancelled since, of all books or of one book. Days without revenue are omitted.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved revenues",
+                    content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = DailyRevenueResponse.class)))),
+            @ApiResponse(responseCode = "400", description = "Invalid days", content = @Content)
+    })
+    public ResponseEntity<List<DailyRevenueResponse>> getDailyRevenues(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                                       @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                                       @RequestParam(required = false) String isbn) {
+        List<DailyRevenueResponse> revenues = orderQueryService.getDailyRevenues(from, to, isbn);
+        return ResponseEntity.ok(revenues);
+    }
+}
@@ -0,0 +1,80 @@
+package io.bmeurant.bookordermanager.interfaces.rest.advice;
+
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Limits the number of messages logged per key (typically a kind of error) within a time window, so that a flood of
+ * similar errors does not spend most of the CPU formatting and writing logs.
+ * <p>
+ * The first messages of each window are logged; the others are only counted, and their number is reported with the
+ * next logged message of the same key. The limiter is lock-free: at the turn of a window, a few concurrent messages
+ * may be counted in either window, which makes the limit approximate.
+ */
+public class LogRateLimiter {
+
+    private final int maxMessagesPerWindow;
+    private final long windowNanos;
+    private final LongSupplier nanoClock;
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a new {@code LogRateLimiter}.
+     *
+     * @param maxMessagesPerWindow The maximum number of messages logged per key within a window. Must be positive.
+     * @param window               The duration of a window. Must be positive.
+     * @param nanoClock            The source of the current time, in nanoseconds, such as {@link System#nanoTime()}.
+     */
+    public LogRateLimiter(int maxMessagesPerWindow, Duration window, LongSupplier nanoClock) {
+        Assert.isTrue(maxMessagesPerWindow > 0, "Maximum number of messages per window must be positive");
+        Assert.isTrue(window.isPositive(), "Window must be positive");
+        this.maxMessagesPerWindow = maxMessagesPerWindow;
+        this.windowNanos = window.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Tells whether a message of the given key may be logged now.
+     *
+     * @param key The key of the message, such as the kind of error.
+     * @return The number of messages of the key suppressed since the last logged one (usually 0) if the message may
+     * be logged, or -1 if it must be suppressed.
+     */
+    public long tryAcquire(String key) {
+        return windows.computeIfAbsent(key, k -> new Window(nanoClock.getAsLong())).tryAcquire();
+    }
+
+    /**
+     * Messages of a key logged within the current window, and suppressed since the last logged one.
+     */
+    private final class Window {
+
+        private final AtomicLong start;
+        private final AtomicInteger logged = new AtomicInteger();
+        private final LongAdder suppressed = new LongAdder();
+
+        private Window(long start) {
+            this.start = new AtomicLong(start);
+        }
+
+        private long tryAcquire() {
+            long now = nanoClock.getAsLong();
+            long windowStart = start.get();
+            if (now - windowStart >= windowNanos && start.compareAndSet(windowStart, now)) {
+                logged.set(0);
+            }
+            if (logged.incrementAndGet() <= maxMessagesPerWindow) {
+                return suppressed.sumThenReset();
+            }
+            suppressed.increment();
+            return -1;
+        }
+    }
+}
@@ -5,16 +5,22 @@ import io.bmeurant.bookordermanager.catalog.domain.exception.BookNotFoundExcepti
 import io.bmeurant.bookordermanager.domain.exception.ValidationException;
 import io.bmeurant.bookordermanager.inventory.domain.exception.InsufficientStockException;
 import io.bmeurant.bookordermanager.inventory.domain.exception.InventoryItemNotFoundException;
+import io.bmeurant.bookordermanager.order.domain.exception.IdempotencyKeyReuseException;
 import io.bmeurant.bookordermanager.order.domain.exception.OrderNotFoundException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.stream.Collectors;
 
@@ -23,6 +29,9 @@ import java.util.stream.Collectors;
  * <p>
  * This class captures unhandled exceptions and translates them into a standardized
  * {@link ErrorResponse} format.
+ * <p>
+ * Client errors are expected under normal traffic and may come in floods, so their warnings are rate-limited per kind
+ * of error ({@code http.error-log.max-messages-per-second}); server errors are always logged.
  */
 @ControllerAdvice
 public class RestExceptionHandler {
@@ -30,6 +39,27 @@ public class RestExceptionHandler {
     private static final Logger logger = LoggerFactory.getLogger(RestExceptionHandler.class);
     public static final String NOT_FOUND = "Not Found";
 
+    private final LogRateLimiter logRateLimiter;
+
+    /**
+     * Constructs a new {@code RestExceptionHandler}.
+     *
+     * @param maxMessagesPerSecond The maximum number of warnings logged per second for each kind of client error.
+     */
+    @Autowired
+    public RestExceptionHandler(@Value("${http.error-log.max-messages-per-second:20}") int maxMessagesPerSecond) {
+        this(new LogRateLimiter(maxMessagesPerSecond, Duration.ofSeconds(1), System::nanoTime));
+    }
+
+    /**
+     * Constructs a new {@code RestExceptionHandler} logging client errors through the given limiter.
+     *
+     * @param logRateLimiter The limiter of the warnings logged for client errors.
+     */
+    public RestExceptionHandler(LogRateLimiter logRateLimiter) {
+        this.logRateLimiter = logRateLimiter;
+    }
+
     /**
      * Handles {@link ValidationException} and returns a 400 Bad Request status.
      * This exception is typically thrown for business rule violations.
@@ -40,7 +70,7 @@ public class RestExceptionHandler {
      */
     @ExceptionHandler(ValidationException.class)
     public ResponseEntity<ErrorResponse> handleValidationException(ValidationException ex, WebRequest request) {
-        logger.warn("Validation failed: {}", ex.getMessage());
+        logClientError("Validation failed", ex);
 
         final ErrorResponse errorResponse = new ErrorResponse(
                 LocalDateTime.now(),
@@ -62,7 +92,7 @@ public class RestExceptionHandler {
      */
     @ExceptionHandler(BookNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleBookNotFoundException(BookNotFoundException ex, WebRequest request) {
-        logger.warn("Book not found: {}", ex.getMessage());
+        logClientError("Book not found", ex);
 
         final ErrorResponse errorResponse = new ErrorResponse(
                 LocalDateTime.now(),
@@ -84,7 +114,7 @@ public class RestExceptionHandler {
      */
     @ExceptionHandler(OrderNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleOrderNotFoundException(OrderNotFoundException ex, WebRequest request) {
-        logger.warn("Order not found: {}", ex.getMessage());
+        logClientError("Order not found", ex);
 
         final ErrorResponse errorResponse = new ErrorResponse(
                 LocalDateTime.now(),
@@ -107,7 +137,7 @@ public class RestExceptionHandler {
      */
     @ExceptionHandler(InsufficientStockException.class)
     public ResponseEntity<ErrorResponse> handleInsufficientStockException(InsufficientStockException ex, WebRequest request) {
-        logger.warn("Insufficient stock: {}", ex.getMessage());
+        logClientError("Insufficient stock", ex);
 
         final ErrorResponse errorResponse = new ErrorResponse(
                 LocalDateTime.now(),
@@ -119,6 +149,28 @@ public class RestExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
     }
 
+    /**
+     * Handles {@link IdempotencyKeyReuseException} and returns a 422 Unprocessable Entity status.
+     * This indicates that an idempotency key was sent again with a different request.
+     *
+     * @param ex      The IdempotencyKeyReuseException that was thrown.
+     * @param request The current web request.
+     * @return A {@link ResponseEntity} containing a standardized error response with HTTP status 422 Unprocessable Entity.
+     */
+    @ExceptionHandler(IdempotencyKeyReuseException.class)
+    public ResponseEntity<ErrorResponse> handleIdempotencyKeyReuseException(IdempotencyKeyReuseException ex, WebRequest request) {
+        logClientError("Idempotency key reused", ex);
+
+        final ErrorResponse errorResponse = new ErrorResponse(
+                LocalDateTime.now(),
+                HttpStatus.UNPROCESSABLE_ENTITY.value(),
+                "Unprocessable Entity",
+                ex.getMessage(),
+                request.getDescription(false)
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+
     /**
      * Handles {@link InventoryItemNotFoundException} and returns a 404 Not Found status.
      * This indicates that the requested inventory item resource could not be found.
@@ -129,7 +181,7 @@ public class RestExceptionHandler {
      */
     @ExceptionHandler(InventoryItemNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleInventoryItemNotFoundException(InventoryItemNotFoundException ex, WebRequest request) {
-        logger.warn("Inventory item not found: {}", ex.getMessage());
+        logClientError("Inventory item not found", ex);
 
         final ErrorResponse errorResponse = new ErrorResponse(
                 LocalDateTime.now(),
@@ -151,7 +203,7 @@ public class RestExceptionHandler {
      */
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleMethodArgumentNotValidException(MethodArgumentNotValidException ex, WebRequest request) {
-        logger.warn("Method argument validation failed: {}", ex.getMessage());
+        logClientError("Method argument validation failed", ex);
 
         String errorMessage = ex.getBindingResult().getFieldErrors().stream()
                 .map(error -> error.getField() + ": " + error.getDefaultMessage())
@@ -167,6 +219,49 @@ public class RestExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
     }
 
+    /**
+     * Handles request parameters which are missing or cannot be converted to their type, such as malformed days, and
+     * returns a 400 Bad Request status.
+     *
+     * @param ex      The exception that was thrown.
+     * @param request The current web request.
+     * @return A {@link ResponseEntity} containing a standardized error response with HTTP status 400 Bad Request.
+     */
+    @ExceptionHandler({MissingServletRequestParameterException.class, MethodArgumentTypeMismatchException.class})
+    public ResponseEntity<ErrorResponse> handleInvalidRequestParameterException(Exception ex, WebRequest request) {
+        logClientError("Request parameter is invalid", ex);
+
+        final ErrorResponse errorResponse = new ErrorResponse(
+                LocalDateTime.now(),
+                HttpStatus.BAD_REQUEST.value(),
+                "Validation Error",
+                ex instanceof MethodArgumentTypeMismatchException mismatch
+                        ? "Invalid value for parameter " + mismatch.getName() + ": " + mismatch.getValue()
+                        : ex.getMessage(),
+                request.getDescription(false)
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Logs a client error as a warning, unless too many errors of the same kind were logged within the last second.
+     * The number of errors suppressed since the last warning of their kind is reported with the next one.
+     *
+     * @param description The description of the error.
+     * @param ex          The exception that was thrown.
+     */
+    private void logClientError(String description, Exception ex) {
+        if (!logger.isWarnEnabled()) {
+            return;
+        }
+        long suppressed = logRateLimiter.tryAcquire(ex.getClass().getName());
+        if (suppressed > 0) {
+            logger.warn("{}: {} ({} similar warnings suppressed)", description, ex.getMessage(), suppressed);
+        } else if (suppressed == 0) {
+            logger.warn("{}: {}", description, ex.getMessage());
+        }
+    }
+
     /**
      * Handles any unhandled exception as a last resort, mapping it to a 500 Internal Server Error.
      * <p>
@@ -15,6 +15,6 @@ public class InsufficientStockException extends DomainException {
      * @param currentStock The current available stock.
      */
     public InsufficientStockException(String isbn, int requestedQuantity, int currentStock) {
-        super(String.format("Not enough stock for ISBN %s. Requested: %d, Available: %d.", isbn, requestedQuantity, currentStock));
+        super("Not enough stock for ISBN " + isbn + ". Requested: " + requestedQuantity + ", Available: " + currentStock + ".", false);
     }
 }
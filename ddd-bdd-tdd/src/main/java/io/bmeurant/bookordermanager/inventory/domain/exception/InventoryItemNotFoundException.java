@@ -12,6 +12,6 @@ public class InventoryItemNotFoundException extends DomainException {
      * @param isbn The ISBN of the inventory item that was not found.
      */
     public InventoryItemNotFoundException(String isbn) {
-        super("Inventory item with ISBN " + isbn + " not found.");
+        super("Inventory item with ISBN " + isbn + " not found.", false);
     }
 }
@@ -4,20 +4,23 @@ import io.bmeurant.bookordermanager.domain.exception.ValidationException;
 import io.bmeurant.bookordermanager.inventory.domain.exception.InsufficientStockException;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
 import jakarta.persistence.Version;
 import lombok.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.math.BigDecimal;
 
 import static io.bmeurant.bookordermanager.domain.util.Assertions.*;
 
 /**
  * Represents an inventory item in the inventory domain. An inventory item is identified by its ISBN.
  * It holds the current stock level for a given book.
+ * Inventory items are indexed by stock, so that the items running low are found without scanning the whole inventory.
  */
 @Entity
+@Table(name = "inventory_item", indexes = @Index(name = "idx_inventory_item_stock", columnList = "stock, isbn"))
 @Getter
 @EqualsAndHashCode(of = "isbn")
 @ToString
@@ -40,17 +43,16 @@ public class InventoryItem {
      * @throws ValidationException if any validation fails.
      */
     public InventoryItem(String isbn, int stock) {
-        log.debug("Creating InventoryItem with ISBN: {}, Stock: {}", isbn, stock);
         assertInventoryItemIsValid(isbn, stock);
 
         this.isbn = isbn;
         this.stock = stock;
-        log.info("InventoryItem created: {}", this);
+        log.debug("InventoryItem created: {}", this);
     }
 
     private static void assertInventoryItemIsValid(String isbn, int stock) {
         assertHasText(isbn, "ISBN", InventoryItem.class);
-        assertIsNonNegative(BigDecimal.valueOf(stock), "Stock", InventoryItem.class);
+        assertIsNonNegative(stock, "Stock", InventoryItem.class);
     }
 
     /**
@@ -61,7 +63,9 @@ public class InventoryItem {
      * @throws ValidationException        if quantity is not positive.
      */
     public void deductStock(int quantity) {
-        log.debug("Deducting {} from stock for InventoryItem {}. Current stock: {}", quantity, this.isbn, this.stock);
+        if (log.isDebugEnabled()) {
+            log.debug("Deducting {} from stock for InventoryItem {}. Current stock: {}", quantity, this.isbn, this.stock);
+        }
         checkAvailability(quantity); // Reuse validation logic
         this.stock -= quantity;
         log.info("Stock for InventoryItem {} deducted of {} to: {}", this.isbn, quantity, this.stock);
@@ -74,7 +78,9 @@ public class InventoryItem {
      * @throws ValidationException if quantity is not positive.
      */
     public void addStock(int quantity) {
-        log.debug("Adding {} to stock for InventoryItem {}. Current stock: {}", quantity, this.isbn, this.stock);
+        if (log.isDebugEnabled()) {
+            log.debug("Adding {} to stock for InventoryItem {}. Current stock: {}", quantity, this.isbn, this.stock);
+        }
         increaseStock(quantity);
         log.info("Stock for InventoryItem {} increased of {} to: {}", this.isbn, quantity, this.stock);
     }
@@ -88,12 +94,24 @@ public class InventoryItem {
      * @throws ValidationException        if the quantity is not positive.
      */
     public void checkAvailability(int quantity) {
-        log.debug("Checking availability of {} for InventoryItem {}. Current stock: {}", quantity, this.isbn, this.stock);
-        assertIsPositive(quantity, "Quantity to check", InventoryItem.class);
+        assertQuantityToCheckIsValid(quantity);
         if (this.stock < quantity) {
             throw new InsufficientStockException(this.isbn, quantity, this.stock);
         }
-        log.info("{} of ISBN {} is available. Current stock: {}", quantity, this.isbn, this.stock);
+        if (log.isDebugEnabled()) {
+            log.debug("{} of ISBN {} is available. Current stock: {}", quantity, this.isbn, this.stock);
+        }
+    }
+
+    /**
+     * Validates a quantity to be checked against or deducted from the stock.
+     * Exposed so that stock operations applied directly in the database enforce the same rule as {@link #deductStock(int)}.
+     *
+     * @param quantity The quantity to validate. Must be positive.
+     * @throws ValidationException if the quantity is not positive.
+     */
+    public static void assertQuantityToCheckIsValid(int quantity) {
+        assertIsPositive(quantity, "Quantity to check", InventoryItem.class);
     }
 
     /**
@@ -104,7 +122,9 @@ public class InventoryItem {
      * @throws ValidationException if quantity is not positive.
      */
     public void releaseStock(int quantity) {
-        log.debug("Releasing {} to stock for InventoryItem {}. Current stock: {}", quantity, this.isbn, this.stock);
+        if (log.isDebugEnabled()) {
+            log.debug("Releasing {} to stock for InventoryItem {}. Current stock: {}", quantity, this.isbn, this.stock);
+        }
         increaseStock(quantity);
         log.info("Stock for InventoryItem {} released of {} to: {}", this.isbn, quantity, this.stock);
     }
@@ -0,0 +1,149 @@
+package io.bmeurant.bookordermanager.inventory.domain.model;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import static io.bmeurant.bookordermanager.domain.util.Assertions.assertIsNonNegative;
+import static io.bmeurant.bookordermanager.domain.util.Assertions.assertIsPositive;
+
+/**
+ * In-memory stock of a single inventory item, split into shards so that concurrent deductions rarely contend.
+ * <p>
+ * Each thread deducts from its own shard with a compare-and-set, and only falls back to a lock when no single shard
+ * can cover the requested quantity: the shards are then consolidated. Every unit leaves a shard through an atomic
+ * operation, so the stock is never oversold; a deduction may however be reported as insufficient when stock is
+ * released concurrently with a consolidation. The net quantity deducted since the last drain is tracked apart, to be
+ * written back to the database.
+ */
+public class ShardedStock {
+
+    /**
+     * Number of int slots between two shards, so that each shard lives on its own 64 bytes cache line.
+     */
+    private static final int SHARD_STRIDE = 16;
+
+    private final int shardCount;
+    private final AtomicIntegerArray shards;
+    private final LongAdder pendingDeduction = new LongAdder();
+
+    /**
+     * Constructs a new ShardedStock, spreading the initial stock evenly over the shards.
+     *
+     * @param stock      The initial stock. Must not be negative.
+     * @param shardCount The number of shards. Must be positive.
+     */
+    public ShardedStock(int stock, int shardCount) {
+        assertIsNonNegative(stock, "Stock", ShardedStock.class);
+        assertIsPositive(shardCount, "Shard count", ShardedStock.class);
+        this.shardCount = shardCount;
+        this.shards = new AtomicIntegerArray(shardCount * SHARD_STRIDE);
+        spread(stock);
+    }
+
+    /**
+     * Deducts the given quantity if the stock covers it.
+     *
+     * @param quantity The quantity to deduct. Expected to be positive.
+     * @return {@code true} if the quantity was deducted, {@code false} if the stock is insufficient.
+     */
+    public boolean tryDeduct(int quantity) {
+        int home = homeShard();
+        for (int i = 0; i < shardCount; i++) {
+            if (tryDeductFromShard((home + i) % shardCount, quantity)) {
+                pendingDeduction.add(quantity);
+                return true;
+            }
+        }
+        return consolidateAndDeduct(quantity);
+    }
+
+    /**
+     * Gives the given quantity back to the stock.
+     *
+     * @param quantity The quantity to give back. Expected to be positive.
+     */
+    public void release(int quantity) {
+        shards.addAndGet(homeShard() * SHARD_STRIDE, quantity);
+        pendingDeduction.add(-quantity);
+    }
+
+    /**
+     * Returns the current stock. The value is exact when no deduction is in progress, a close estimate otherwise.
+     *
+     * @return The sum of all shards.
+     */
+    public int getStock() {
+        int stock = 0;
+        for (int i = 0; i < shardCount; i++) {
+            stock += shards.get(i * SHARD_STRIDE);
+        }
+        return stock;
+    }
+
+    /**
+     * Takes the net quantity deducted since the last drain, to be written back to the database.
+     * Deductions and releases made concurrently are kept for the next drain.
+     *
+     * @return The net deducted quantity, negative if more stock was released than deducted.
+     */
+    public long drainPendingDeduction() {
+        long pending = pendingDeduction.sum();
+        pendingDeduction.add(-pending);
+        return pending;
+    }
+
+    /**
+     * Puts back a drained quantity which could not be written to the database, so that it is retried on the next drain.
+     *
+     * @param pending The quantity returned by {@link #drainPendingDeduction()}.
+     */
+    public void restorePendingDeduction(long pending) {
+        pendingDeduction.add(pending);
+    }
+
+    private boolean tryDeductFromShard(int shard, int quantity) {
+        int index = shard * SHARD_STRIDE;
+        int current = shards.get(index);
+        while (current >= quantity) {
+            if (shards.compareAndSet(index, current, current - quantity)) {
+                return true;
+            }
+            current = shards.get(index);
+        }
+        return false;
+    }
+
+    /**
+     * Collects the stock of all shards to deduct a quantity no single shard covers, then spreads the rest again.
+     * <p>
+     * The lock only serializes consolidations: compare-and-set deductions and releases keep running on the shards
+     * while they are drained, so the collected total is not an exact view of the stock. Units are taken from each shard
+     * atomically, hence never deducted twice, but a release landing on an already drained shard is not counted, and
+     * the deduction may then be reported as insufficient although the stock covers it.
+     */
+    private synchronized boolean consolidateAndDeduct(int quantity) {
+        int total = 0;
+        for (int i = 0; i < shardCount; i++) {
+            total += shards.getAndSet(i * SHARD_STRIDE, 0);
+        }
+        boolean deducted = total >= quantity;
+        if (deducted) {
+            total -= quantity;
+            pendingDeduction.add(quantity);
+        }
+        spread(total);
+        return deducted;
+    }
+
+    private void spread(int stock) {
+        int share = stock / shardCount;
+        int remainder = stock % shardCount;
+        for (int i = 0; i < shardCount; i++) {
+            shards.addAndGet(i * SHARD_STRIDE, i < remainder ? share + 1 : share);
+        }
+    }
+
+    private int homeShard() {
+        return (int) (Thread.currentThread().threadId() % shardCount);
+    }
+}
@@ -0,0 +1,126 @@
+package io.bmeurant.bookordermanager.inventory.domain.model;
+
+import io.bmeurant.bookordermanager.domain.exception.ValidationException;
+import io.bmeurant.bookordermanager.domain.util.UuidStringJavaType;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JavaType;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Instant;
+
+import static io.bmeurant.bookordermanager.domain.util.Assertions.*;
+
+/**
+ * Represents a quantity of an inventory item held for a pending order.
+ * The reserved quantity is taken from the item's stock when the reservation is made, and is either kept for good
+ * when the order is confirmed, or given back when the order is cancelled or the reservation expires.
+ */
+@Entity
+@Table(name = "stock_reservations", indexes = {
+        @Index(name = "idx_stock_reservations_order_id", columnList = "orderId"),
+        @Index(name = "idx_stock_reservations_status_expires_at", columnList = "status, expiresAt")
+})
+@Getter
+@EqualsAndHashCode(of = {"orderId", "isbn"})
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StockReservation {
+    private static final Logger log = LoggerFactory.getLogger(StockReservation.class);
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
+    private Long id;
+
+    @JavaType(UuidStringJavaType.class)
+    @JdbcTypeCode(SqlTypes.UUID)
+    private String orderId;
+    private String isbn;
+    private int quantity;
+    @Enumerated(EnumType.STRING)
+    private ReservationStatus status;
+    private Instant expiresAt;
+
+    @Version
+    private Long version;
+
+    /**
+     * Constructs a new active StockReservation.
+     * All parameters are validated to ensure the reservation is created in a valid state.
+     *
+     * @param orderId   The ID of the order the stock is reserved for. Must not be null or blank.
+     * @param isbn      The ISBN of the reserved inventory item. Must not be null or blank.
+     * @param quantity  The reserved quantity. Must be positive.
+     * @param expiresAt The instant after which the reservation can be released automatically. Must not be null.
+     * @throws ValidationException if any validation fails.
+     */
+    public StockReservation(String orderId, String isbn, int quantity, Instant expiresAt) {
+        assertStockReservationIsValid(orderId, isbn, quantity, expiresAt);
+
+        this.orderId = orderId;
+        this.isbn = isbn;
+        this.quantity = quantity;
+        this.status = ReservationStatus.ACTIVE;
+        this.expiresAt = expiresAt;
+        log.debug("StockReservation created: {}", this);
+    }
+
+    private static void assertStockReservationIsValid(String orderId, String isbn, int quantity, Instant expiresAt) {
+        assertHasText(orderId, "Order ID", StockReservation.class);
+        assertHasText(isbn, "ISBN", StockReservation.class);
+        assertIsPositive(quantity, "Quantity", StockReservation.class);
+        assertNotNull(expiresAt, "Expiration", StockReservation.class);
+    }
+
+    /**
+     * Commits the reservation, meaning the reserved quantity is definitively consumed by the order.
+     *
+     * @throws ValidationException if the reservation is not ACTIVE.
+     */
+    public void commit() {
+        assertIsActive("committed");
+        this.status = ReservationStatus.COMMITTED;
+        log.info("StockReservation {} of order {} committed.", this.isbn, this.orderId);
+    }
+
+    /**
+     * Releases the reservation, meaning the reserved quantity must be given back to the stock.
+     *
+     * @throws ValidationException if the reservation is not ACTIVE.
+     */
+    public void release() {
+        assertIsActive("released");
+        this.status = ReservationStatus.RELEASED;
+        log.info("StockReservation {} of order {} released.", this.isbn, this.orderId);
+    }
+
+    /**
+     * Expires the reservation, meaning the reserved quantity must be given back to the stock.
+     *
+     * @param now The current instant.
+     * @throws ValidationException if the reservation is not ACTIVE or has not reached its expiration yet.
+     */
+    public void expire(Instant now) {
+        assertIsActive("expired");
+        assertIsTrue(!now.isBefore(this.expiresAt), "Reservation can only be expired after its expiration instant.", StockReservation.class);
+        this.status = ReservationStatus.EXPIRED;
+        log.info("StockReservation {} of order {} expired.", this.isbn, this.orderId);
+    }
+
+    private void assertIsActive(String transition) {
+        assertIsTrue(this.status == ReservationStatus.ACTIVE, "Reservation can only be " + transition + " if its status is ACTIVE.", StockReservation.class);
+    }
+
+    /**
+     * Enum representing the possible statuses of a stock reservation.
+     */
+    public enum ReservationStatus {
+        ACTIVE,
+        COMMITTED,
+        RELEASED,
+        EXPIRED
+    }
+}
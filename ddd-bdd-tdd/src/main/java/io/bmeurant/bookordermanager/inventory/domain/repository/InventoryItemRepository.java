@@ -1,12 +1,110 @@
 package io.bmeurant.bookordermanager.inventory.domain.repository;
 
 import io.bmeurant.bookordermanager.inventory.domain.model.InventoryItem;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 /**
  * Repository interface for managing InventoryItem entities.
  */
 @Repository
 public interface InventoryItemRepository extends JpaRepository<InventoryItem, String> {
+
+    /**
+     * Atomically deducts the given quantity from the stock of an inventory item, in a single conditional statement.
+     * The update only applies if the current stock covers the quantity, so the stock can never become negative,
+     * and the version is incremented so that concurrent optimistic writers still detect the change.
+     * <p>
+     * The update bypasses the persistence context, so stocks are read with scalar queries before it, such as
+     * {@link #findStocksByIsbnIn(Collection)}, rather than as managed entities which would then hold a stale stock
+     * and version.
+     *
+     * @param isbn     The ISBN of the inventory item.
+     * @param quantity The quantity to deduct. Expected to be positive.
+     * @return The number of updated rows: 1 if the stock was deducted, 0 if the item does not exist or its stock is insufficient.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("update InventoryItem i set i.stock = i.stock - :quantity, i.version = i.version + 1 where i.isbn = :isbn and i.stock >= :quantity")
+    int deductStockIfAvailable(@Param("isbn") String isbn, @Param("quantity") int quantity);
+
+    /**
+     * Atomically adds the given quantity to the stock of an inventory item, in a single statement.
+     *
+     * @param isbn     The ISBN of the inventory item.
+     * @param quantity The quantity to add. A negative quantity writes back a deduction already checked in memory.
+     * @return The number of updated rows: 1 if the stock was increased, 0 if the item does not exist.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("update InventoryItem i set i.stock = i.stock + :quantity, i.version = i.version + 1 where i.isbn = :isbn")
+    int increaseStock(@Param("isbn") String isbn, @Param("quantity") int quantity);
+
+    /**
+     * Reads the current stock of an inventory item straight from the database, bypassing any managed entity.
+     *
+     * @param isbn The ISBN of the inventory item.
+     * @return The current stock, or an empty Optional if the item does not exist.
+     */
+    @Query("select i.stock from InventoryItem i where i.isbn = :isbn")
+    Optional<Integer> findStockByIsbn(@Param("isbn") String isbn);
+
+    /**
+     * Reads the version of an inventory item, without loading the item, to answer conditional requests.
+     *
+     * @param isbn The ISBN of the inventory item.
+     * @return The version of the inventory item, or an empty Optional if the item does not exist.
+     */
+    @Query("select i.version from InventoryItem i where i.isbn = :isbn")
+    Optional<Long> findVersionByIsbn(@Param("isbn") String isbn);
+
+    /**
+     * Reads the current stocks of inventory items straight from the database in a single query, bypassing any
+     * managed entity.
+     *
+     * @param isbns The ISBNs of the inventory items.
+     * @return The stocks of the existing inventory items, in no particular order.
+     */
+    @Query("select i.isbn as isbn, i.stock as stock from InventoryItem i where i.isbn in :isbns")
+    List<IsbnStock> findStocksByIsbnIn(@Param("isbns") Collection<String> isbns);
+
+    /**
+     * Finds the first inventory items whose stock is at or below the given threshold, lowest stock first, to read the
+     * first page of the low stock report. Items are read along the stock index, in stock then ISBN order.
+     *
+     * @param threshold The stock at or below which an item is running low.
+     * @param limit     The maximum number of inventory items to return.
+     * @return The first inventory items running low.
+     */
+    @Query("select i from InventoryItem i where i.stock <= :threshold order by i.stock, i.isbn")
+    List<InventoryItem> findLowStocks(@Param("threshold") int threshold, Limit limit);
+
+    /**
+     * Finds the inventory items whose stock is at or below the given threshold following the given item in stock then
+     * ISBN order, to read the next page of the low stock report.
+     *
+     * @param threshold The stock at or below which an item is running low.
+     * @param stock     The stock of the last item of the previous page.
+     * @param isbn      The ISBN of the last item of the previous page.
+     * @param limit     The maximum number of inventory items to return.
+     * @return The inventory items running low following the given item.
+     */
+    @Query("select i from InventoryItem i where i.stock <= :threshold and (i.stock > :stock or (i.stock = :stock and i.isbn > :isbn)) order by i.stock, i.isbn")
+    List<InventoryItem> findLowStocksAfter(@Param("threshold") int threshold, @Param("stock") int stock, @Param("isbn") String isbn, Limit limit);
+
+    /**
+     * Stock of an inventory item.
+     */
+    interface IsbnStock {
+
+        String getIsbn();
+
+        int getStock();
+    }
 }
@@ -0,0 +1,46 @@
+package io.bmeurant.bookordermanager.inventory.domain.repository;
+
+import io.bmeurant.bookordermanager.inventory.domain.model.StockReservation;
+import io.bmeurant.bookordermanager.inventory.domain.model.StockReservation.ReservationStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for managing StockReservation entities.
+ */
+@Repository
+public interface StockReservationRepository extends JpaRepository<StockReservation, Long> {
+
+    /**
+     * Finds the reservations of an order having the given status.
+     *
+     * @param orderId The ID of the order.
+     * @param status  The status of the reservations to find.
+     * @return The matching reservations.
+     */
+    List<StockReservation> findByOrderIdAndStatus(String orderId, ReservationStatus status);
+
+    /**
+     * Finds the reservations of several orders having the given status.
+     *
+     * @param orderIds The IDs of the orders.
+     * @param status   The status of the reservations to find.
+     * @return The matching reservations.
+     */
+    List<StockReservation> findByOrderIdInAndStatus(Collection<String> orderIds, ReservationStatus status);
+
+    /**
+     * Finds reservations having the given status whose expiration is before the given instant, oldest first.
+     *
+     * @param status The status of the reservations to find.
+     * @param now    The instant to compare expirations with.
+     * @param limit  The maximum number of reservations to return.
+     * @return The matching reservations.
+     */
+    List<StockReservation> findByStatusAndExpiresAtBeforeOrderByExpiresAt(ReservationStatus status, Instant now, Limit limit);
+}
@@ -0,0 +1,41 @@
+package io.bmeurant.bookordermanager.inventory.domain.scheduler;
+
+import io.bmeurant.bookordermanager.inventory.domain.service.HotStockCounter;
+import jakarta.annotation.PreDestroy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically writes the in-memory stock of hot inventory items back to the database (write-behind).
+ * A last flush is done on shutdown, so that a graceful restart loses no stock change.
+ */
+@Component
+public class HotStockFlushScheduler {
+
+    private final HotStockCounter hotStockCounter;
+
+    /**
+     * Constructs a new {@code HotStockFlushScheduler}.
+     *
+     * @param hotStockCounter The counter holding the stock of hot inventory items.
+     */
+    public HotStockFlushScheduler(HotStockCounter hotStockCounter) {
+        this.hotStockCounter = hotStockCounter;
+    }
+
+    /**
+     * Flushes the stock changes of hot inventory items.
+     */
+    @Scheduled(fixedDelayString = "${inventory.hot-stock.flush-interval:PT1S}")
+    public void flushHotStocks() {
+        hotStockCounter.flush();
+    }
+
+    /**
+     * Flushes the pending stock changes before the application stops.
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        hotStockCounter.flush();
+    }
+}
@@ -0,0 +1,47 @@
+package io.bmeurant.bookordermanager.inventory.domain.scheduler;
+
+import io.bmeurant.bookordermanager.inventory.domain.service.InventoryService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * Periodically releases the stock held by reservations of pending orders which were neither confirmed
+ * nor cancelled before their expiration.
+ */
+@Component
+public class StockReservationSweeper {
+
+    private static final Logger log = LoggerFactory.getLogger(StockReservationSweeper.class);
+
+    private final InventoryService inventoryService;
+
+    /**
+     * Constructs a new {@code StockReservationSweeper}.
+     *
+     * @param inventoryService The service managing the stock reservation ledger.
+     */
+    public StockReservationSweeper(InventoryService inventoryService) {
+        this.inventoryService = inventoryService;
+    }
+
+    /**
+     * Expires stale reservations batch by batch, until no expired reservation is left or a batch fails.
+     * A failed batch (e.g. on a concurrent confirmation of the same order) is rolled back and retried on the next run.
+     */
+    @Scheduled(fixedDelayString = "${inventory.reservation.sweep-interval:PT1M}")
+    public void expireStaleReservations() {
+        Instant now = Instant.now();
+        try {
+            int expired;
+            do {
+                expired = inventoryService.expireReservations(now);
+            } while (expired > 0);
+        } catch (RuntimeException e) {
+            log.warn("Stock reservation expiry interrupted, will retry on next run: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package io.bmeurant.bookordermanager.inventory.domain.service;
+
+import io.bmeurant.bookordermanager.inventory.domain.exception.InsufficientStockException;
+
+/**
+ * Domain service holding the stock of designated hot inventory items in memory, so that their deductions do not
+ * serialize on a single database row.
+ * The database stock of a hot item lags behind by the changes which have not been flushed yet.
+ */
+public interface HotStockCounter {
+
+    /**
+     * Indicates whether the stock of an inventory item is held by this counter.
+     * @param isbn The ISBN of the inventory item.
+     * @return {@code true} if the item is hot and its stock has been loaded.
+     */
+    boolean isHot(String isbn);
+
+    /**
+     * Deducts a specified quantity from the in-memory stock of a hot item.
+     * If a transaction is active, the quantity is given back should it roll back.
+     * @param isbn The ISBN of the hot inventory item.
+     * @param quantity The quantity to deduct. Expected to be positive.
+     * @return The remaining stock after the deduction.
+     * @throws InsufficientStockException if stock is insufficient.
+     */
+    int deductStock(String isbn, int quantity);
+
+    /**
+     * Gives a specified quantity back to the in-memory stock of a hot item.
+     * @param isbn The ISBN of the hot inventory item.
+     * @param quantity The quantity to give back. Expected to be positive.
+     */
+    void releaseStock(String isbn, int quantity);
+
+    /**
+     * Retrieves the in-memory stock of a hot item.
+     * @param isbn The ISBN of the hot inventory item.
+     * @return The current stock.
+     */
+    int getStock(String isbn);
+
+    /**
+     * Loads the stock of the configured hot items from the database.
+     * Called on startup, this recovers the counters from the last flushed state.
+     */
+    void loadHotStocks();
+
+    /**
+     * Writes the stock changes made since the last flush back to the database.
+     * Changes which cannot be written are kept for the next flush.
+     */
+    void flush();
+}
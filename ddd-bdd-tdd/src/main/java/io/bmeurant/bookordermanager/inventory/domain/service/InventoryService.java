@@ -1,11 +1,16 @@
 package io.bmeurant.bookordermanager.inventory.domain.service;
 
 import io.bmeurant.bookordermanager.application.dto.InventoryResponse;
+import io.bmeurant.bookordermanager.application.dto.PageResponse;
 import io.bmeurant.bookordermanager.inventory.domain.exception.InsufficientStockException;
 import io.bmeurant.bookordermanager.inventory.domain.exception.InventoryItemNotFoundException;
-import io.bmeurant.bookordermanager.inventory.domain.model.InventoryItem;
 import io.bmeurant.bookordermanager.domain.exception.ValidationException;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Domain service for managing inventory-related operations.
  */
@@ -13,14 +18,15 @@ public interface InventoryService {
 
     /**
      * Deducts a specified quantity from the stock of an inventory item.
+     * The deduction is applied atomically, so concurrent deductions on the same item never fail on optimistic locking.
      * @param isbn The ISBN of the inventory item.
      * @param quantity The quantity to deduct.
-     * @return The updated InventoryItem.
+     * @return The remaining stock after the deduction.
      * @throws InventoryItemNotFoundException if the item is not found.
      * @throws InsufficientStockException if stock is insufficient.
      * @throws ValidationException if quantity is not positive.
      */
-    InventoryItem deductStock(String isbn, int quantity);
+    int deductStock(String isbn, int quantity);
 
     /**
      * Checks if a specified quantity of an inventory item is available in stock.
@@ -33,6 +39,16 @@ public interface InventoryService {
      */
     void checkStock(String isbn, int quantity);
 
+    /**
+     * Checks the availability of several inventory items at once, loading all of them in a single lookup.
+     * This method does not modify any stock level.
+     * @param quantitiesByIsbn The total quantity to check, indexed by ISBN.
+     * @throws InventoryItemNotFoundException if one of the items is not found.
+     * @throws InsufficientStockException if stock is insufficient for one of the requested quantities.
+     * @throws ValidationException if a quantity is not positive.
+     */
+    void checkStocks(Map<String, Integer> quantitiesByIsbn);
+
     /**
      * Releases a specified quantity back into the stock of an inventory item.
      * This is typically used when an order is cancelled.
@@ -43,6 +59,54 @@ public interface InventoryService {
      */
     void releaseStock(String isbn, int quantity);
 
+    /**
+     * Reserves stock for a pending order: the quantities are deducted from the stock right away and recorded
+     * in a reservation ledger, until the order is confirmed, cancelled, or the reservation expires.
+     * @param orderId The ID of the order the stock is reserved for.
+     * @param quantitiesByIsbn The total quantity to reserve, indexed by ISBN.
+     * @throws InventoryItemNotFoundException if one of the items is not found.
+     * @throws InsufficientStockException if stock is insufficient for one of the requested quantities.
+     * @throws ValidationException if a quantity is not positive.
+     */
+    void reserveStock(String orderId, Map<String, Integer> quantitiesByIsbn);
+
+    /**
+     * Commits the active reservations of an order, so that the reserved stock is definitively consumed.
+     * Quantities which are not covered by an active reservation (e.g. expired ones) are deducted from the stock instead.
+     * @param orderId The ID of the order to commit reservations for.
+     * @param quantitiesByIsbn The total quantity required by the order, indexed by ISBN.
+     * @throws InventoryItemNotFoundException if an item to deduct stock from is not found.
+     * @throws InsufficientStockException if stock is insufficient for a quantity not covered by a reservation.
+     * @throws ValidationException if a quantity is not positive.
+     */
+    void commitReservation(String orderId, Map<String, Integer> quantitiesByIsbn);
+
+    /**
+     * Commits the active reservations of several orders at once, loading all of them in a single lookup.
+     * Quantities which are not covered by an active reservation are summed per ISBN across all the orders,
+     * so that each ISBN is deducted from the stock only once.
+     * @param quantitiesByIsbnByOrderId The total quantity required by each order, indexed by ISBN then by order ID.
+     * @throws InventoryItemNotFoundException if an item to deduct stock from is not found.
+     * @throws InsufficientStockException if stock is insufficient for a quantity not covered by a reservation.
+     * @throws ValidationException if a quantity is not positive.
+     */
+    void commitReservations(Map<String, Map<String, Integer>> quantitiesByIsbnByOrderId);
+
+    /**
+     * Releases the active reservations of an order, giving the reserved quantities back to the stock.
+     * Does nothing if the order has no active reservation.
+     * @param orderId The ID of the order to release reservations for.
+     */
+    void releaseReservation(String orderId);
+
+    /**
+     * Expires a batch of active reservations whose expiration is before the given instant,
+     * giving the reserved quantities back to the stock.
+     * @param now The current instant.
+     * @return The number of expired reservations.
+     */
+    int expireReservations(Instant now);
+
     /**
      * Retrieves the stock level for a specific inventory item by its ISBN.
      *
@@ -51,4 +115,36 @@ public interface InventoryService {
      * @throws InventoryItemNotFoundException if the item is not found.
      */
     InventoryResponse getStockByIsbn(String isbn);
+
+    /**
+     * Reads the version of an inventory item, without loading the item, to answer conditional requests before reading
+     * its stock. The stock of a hot item is held in memory, ahead of its version, which then does not identify it.
+     *
+     * @param isbn The ISBN of the inventory item.
+     * @return The version of the inventory item, or null if the item is hot.
+     * @throws InventoryItemNotFoundException if the item is not found.
+     */
+    Long getStockVersion(String isbn);
+
+    /**
+     * Retrieves the stock levels of several inventory items at once, loading all of them in a single lookup.
+     *
+     * @param isbns The ISBNs of the inventory items. Duplicate ISBNs are returned once.
+     * @return The InventoryResponses of the existing items, in request order. Unknown ISBNs are left out.
+     */
+    List<InventoryResponse> getStocksByIsbns(Collection<String> isbns);
+
+    /**
+     * Retrieves a page of the inventory items running low, lowest stock first, using keyset pagination.
+     * Unlike {@link #getStocksByIsbns(Collection)}, the stocks are the stored ones, also for hot items: the report is
+     * selected and ordered by an index on the stored stock, which lags behind the in-memory counter of a hot item by up
+     * to one flush interval.
+     *
+     * @param threshold The stock at or below which an item is running low, or null for the low stock threshold.
+     * @param cursor    The cursor returned with the previous page, or null to read the first page.
+     * @param size      The maximum number of items of the page.
+     * @return The page of items running low, with the cursor of the next page if any.
+     * @throws ValidationException if the threshold is negative, the size is out of bounds or the cursor is malformed.
+     */
+    PageResponse<InventoryResponse> findLowStocks(Integer threshold, String cursor, int size);
 }
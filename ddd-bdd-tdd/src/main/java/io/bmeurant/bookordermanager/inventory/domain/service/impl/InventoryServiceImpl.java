@@ -1,19 +1,43 @@
 package io.bmeurant.bookordermanager.inventory.domain.service.impl;
 
 import io.bmeurant.bookordermanager.application.dto.InventoryResponse;
+import io.bmeurant.bookordermanager.application.dto.PageResponse;
+import io.bmeurant.bookordermanager.domain.exception.ValidationException;
+import io.bmeurant.bookordermanager.domain.util.KeysetPagination;
 import io.bmeurant.bookordermanager.inventory.domain.event.ProductStockLowEvent;
+import io.bmeurant.bookordermanager.inventory.domain.exception.InsufficientStockException;
 import io.bmeurant.bookordermanager.inventory.domain.exception.InventoryItemNotFoundException;
 import io.bmeurant.bookordermanager.inventory.domain.model.InventoryItem;
+import io.bmeurant.bookordermanager.inventory.domain.model.StockReservation;
+import io.bmeurant.bookordermanager.inventory.domain.model.StockReservation.ReservationStatus;
 import io.bmeurant.bookordermanager.inventory.domain.repository.InventoryItemRepository;
+import io.bmeurant.bookordermanager.inventory.domain.repository.StockReservationRepository;
+import io.bmeurant.bookordermanager.inventory.domain.service.HotStockCounter;
 import io.bmeurant.bookordermanager.inventory.domain.service.InventoryService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static io.bmeurant.bookordermanager.domain.util.Assertions.assertIsNonNegative;
+
 /**
  * Implementation of the InventoryService interface.
  */
@@ -22,81 +46,308 @@ public class InventoryServiceImpl implements InventoryService {
 
     private static final Logger log = LoggerFactory.getLogger(InventoryServiceImpl.class);
 
+    /**
+     * Separates the stock from the ISBN in the key of the low stock report cursors.
+     */
+    private static final String LOW_STOCK_CURSOR_SEPARATOR = ":";
+
     private final InventoryItemRepository inventoryItemRepository;
+    private final StockReservationRepository stockReservationRepository;
+    private final HotStockCounter hotStockCounter;
     private final ApplicationEventPublisher applicationEventPublisher;
 
     @Value("${inventory.low-stock-threshold:5}")
     private int lowStockThreshold;
 
+    @Value("${inventory.reservation.ttl:PT15M}")
+    private Duration reservationTtl;
+
+    @Value("${inventory.reservation.expiry-batch-size:500}")
+    private int expiryBatchSize;
+
     /**
      * Constructs a new {@code InventoryServiceImpl} with the given {@link InventoryItemRepository}.
      *
-     * @param inventoryItemRepository The repository for accessing inventory item data.
+     * @param inventoryItemRepository    The repository for accessing inventory item data.
+     * @param stockReservationRepository The repository for accessing the stock reservation ledger.
+     * @param hotStockCounter            The in-memory counter holding the stock of hot inventory items.
+     * @param applicationEventPublisher  The publisher for application events.
      */
     @Autowired
-    public InventoryServiceImpl(InventoryItemRepository inventoryItemRepository, ApplicationEventPublisher applicationEventPublisher) {
+    public InventoryServiceImpl(InventoryItemRepository inventoryItemRepository, StockReservationRepository stockReservationRepository,
+                                HotStockCounter hotStockCounter, ApplicationEventPublisher applicationEventPublisher) {
         this.inventoryItemRepository = inventoryItemRepository;
+        this.stockReservationRepository = stockReservationRepository;
+        this.hotStockCounter = hotStockCounter;
         this.applicationEventPublisher = applicationEventPublisher;
     }
 
     @Override
     @Transactional
-    public InventoryItem deductStock(String isbn, int quantity) {
+    public int deductStock(String isbn, int quantity) {
         log.debug("Attempting to deduct {} from stock for ISBN {}.", quantity, isbn);
-        InventoryItem inventoryItem = inventoryItemRepository.findById(isbn)
-                .orElseThrow(() -> {
-                    log.warn("Inventory item with ISBN {} not found for deduction.", isbn);
-                    return new InventoryItemNotFoundException(isbn);
-                });
+        InventoryItem.assertQuantityToCheckIsValid(quantity);
 
-        inventoryItem.deductStock(quantity);
-        InventoryItem updatedItem = inventoryItemRepository.save(inventoryItem);
-        log.info("Stock for ISBN {} updated to: {}.", isbn, updatedItem.getStock());
+        int remainingStock = hotStockCounter.isHot(isbn)
+                ? hotStockCounter.deductStock(isbn, quantity)
+                : deductStockFromDatabase(isbn, quantity);
+        log.info("Stock for ISBN {} updated to: {}.", isbn, remainingStock);
 
         // Publish ProductStockLowEvent if stock falls below threshold
-        if (updatedItem.getStock() <= lowStockThreshold) {
-            applicationEventPublisher.publishEvent(new ProductStockLowEvent(this, updatedItem.getIsbn(), updatedItem.getStock()));
+        if (remainingStock <= lowStockThreshold) {
+            applicationEventPublisher.publishEvent(new ProductStockLowEvent(this, isbn, remainingStock));
         }
 
-        return updatedItem;
+        return remainingStock;
+    }
+
+    private int deductStockFromDatabase(String isbn, int quantity) {
+        if (inventoryItemRepository.deductStockIfAvailable(isbn, quantity) == 0) {
+            int currentStock = inventoryItemRepository.findStockByIsbn(isbn)
+                    .orElseThrow(() -> {
+                        log.debug("Inventory item with ISBN {} not found for deduction.", isbn);
+                        return new InventoryItemNotFoundException(isbn);
+                    });
+            throw new InsufficientStockException(isbn, quantity, currentStock);
+        }
+
+        return inventoryItemRepository.findStockByIsbn(isbn)
+                .orElseThrow(() -> new InventoryItemNotFoundException(isbn));
     }
 
     @Override
     public void checkStock(String isbn, int quantity) {
         log.debug("Attempting to check if {} of ISBN {} is available.", quantity, isbn);
-        InventoryItem inventoryItem = inventoryItemRepository.findById(isbn)
+        if (hotStockCounter.isHot(isbn)) {
+            checkAvailableStock(isbn, hotStockCounter.getStock(isbn), quantity);
+            return;
+        }
+        int currentStock = inventoryItemRepository.findStockByIsbn(isbn)
                 .orElseThrow(() -> {
-                    log.warn("Inventory item with ISBN {} not found during stock check.", isbn);
+                    log.debug("Inventory item with ISBN {} not found during stock check.", isbn);
                     return new InventoryItemNotFoundException(isbn);
                 });
 
-        inventoryItem.checkAvailability(quantity);
+        checkAvailableStock(isbn, currentStock, quantity);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void checkStocks(Map<String, Integer> quantitiesByIsbn) {
+        log.debug("Attempting to check availability of {} inventory items.", quantitiesByIsbn.size());
+        // Stocks are read as scalars: managed items would go stale once the stock is deducted by atomic updates
+        Map<String, Integer> stocksByIsbn = new HashMap<>();
+        List<String> coldIsbns = quantitiesByIsbn.keySet().stream().filter(isbn -> !hotStockCounter.isHot(isbn)).toList();
+        if (!coldIsbns.isEmpty()) {
+            inventoryItemRepository.findStocksByIsbnIn(coldIsbns)
+                    .forEach(stock -> stocksByIsbn.put(stock.getIsbn(), stock.getStock()));
+        }
+
+        quantitiesByIsbn.forEach((isbn, quantity) -> {
+            if (hotStockCounter.isHot(isbn)) {
+                checkAvailableStock(isbn, hotStockCounter.getStock(isbn), quantity);
+                return;
+            }
+            Integer currentStock = stocksByIsbn.get(isbn);
+            if (currentStock == null) {
+                log.debug("Inventory item with ISBN {} not found during stock check.", isbn);
+                throw new InventoryItemNotFoundException(isbn);
+            }
+            checkAvailableStock(isbn, currentStock, quantity);
+        });
+    }
+
+    private static void checkAvailableStock(String isbn, int currentStock, int quantity) {
+        InventoryItem.assertQuantityToCheckIsValid(quantity);
+        if (currentStock < quantity) {
+            throw new InsufficientStockException(isbn, quantity, currentStock);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void reserveStock(String orderId, Map<String, Integer> quantitiesByIsbn) {
+        log.debug("Attempting to reserve stock of {} inventory items for order {}.", quantitiesByIsbn.size(), orderId);
+        // Fail fast on a single read before taking any row lock
+        checkStocks(quantitiesByIsbn);
+
+        Instant expiresAt = Instant.now().plus(reservationTtl);
+        List<StockReservation> reservations = new ArrayList<>(quantitiesByIsbn.size());
+        // Deduct in ISBN order, so that concurrent orders lock the inventory items in the same order and cannot deadlock
+        new TreeMap<>(quantitiesByIsbn).forEach((isbn, quantity) -> {
+            deductStock(isbn, quantity);
+            reservations.add(new StockReservation(orderId, isbn, quantity, expiresAt));
+        });
+        stockReservationRepository.saveAll(reservations);
+        log.info("Stock reserved for order {} until {}.", orderId, expiresAt);
+    }
+
+    @Override
+    @Transactional
+    public void commitReservation(String orderId, Map<String, Integer> quantitiesByIsbn) {
+        log.debug("Attempting to commit stock reservations of order {}.", orderId);
+        Map<String, Integer> quantitiesToDeduct = new LinkedHashMap<>(quantitiesByIsbn);
+        for (StockReservation reservation : stockReservationRepository.findByOrderIdAndStatus(orderId, ReservationStatus.ACTIVE)) {
+            reservation.commit();
+            quantitiesToDeduct.remove(reservation.getIsbn());
+        }
+
+        // Orders without a (still) active reservation have their stock deducted now, in ISBN order to avoid deadlocks
+        new TreeMap<>(quantitiesToDeduct).forEach(this::deductStock);
+        log.info("Stock reservations of order {} committed. Deducted without reservation: {}.", orderId, quantitiesToDeduct.size());
+    }
+
+    @Override
+    @Transactional
+    public void commitReservations(Map<String, Map<String, Integer>> quantitiesByIsbnByOrderId) {
+        log.debug("Attempting to commit stock reservations of {} orders.", quantitiesByIsbnByOrderId.size());
+        Map<String, Map<String, Integer>> quantitiesToDeductByOrderId = new LinkedHashMap<>();
+        quantitiesByIsbnByOrderId.forEach((orderId, quantitiesByIsbn) -> quantitiesToDeductByOrderId.put(orderId, new LinkedHashMap<>(quantitiesByIsbn)));
+        for (StockReservation reservation : stockReservationRepository.findByOrderIdInAndStatus(quantitiesByIsbnByOrderId.keySet(), ReservationStatus.ACTIVE)) {
+            reservation.commit();
+            quantitiesToDeductByOrderId.get(reservation.getOrderId()).remove(reservation.getIsbn());
+        }
+
+        // Deduct what is not covered by a reservation once per ISBN, whatever the number of orders requiring it,
+        // in ISBN order so that concurrent batches lock the inventory items in the same order and cannot deadlock
+        Map<String, Integer> quantitiesToDeduct = new TreeMap<>();
+        quantitiesToDeductByOrderId.values().forEach(quantitiesByIsbn -> quantitiesByIsbn.forEach((isbn, quantity) -> quantitiesToDeduct.merge(isbn, quantity, Integer::sum)));
+        quantitiesToDeduct.forEach(this::deductStock);
+        log.info("Stock reservations of {} orders committed. Deducted without reservation: {}.", quantitiesByIsbnByOrderId.size(), quantitiesToDeduct.size());
+    }
+
+    @Override
+    @Transactional
+    public void releaseReservation(String orderId) {
+        log.debug("Attempting to release stock reservations of order {}.", orderId);
+        for (StockReservation reservation : stockReservationRepository.findByOrderIdAndStatus(orderId, ReservationStatus.ACTIVE)) {
+            reservation.release();
+            giveBackReservedStock(reservation);
+        }
+    }
+
+    @Override
+    @Transactional
+    public int expireReservations(Instant now) {
+        List<StockReservation> expiredReservations = stockReservationRepository.findByStatusAndExpiresAtBeforeOrderByExpiresAt(
+                ReservationStatus.ACTIVE, now, Limit.of(expiryBatchSize));
+        for (StockReservation reservation : expiredReservations) {
+            reservation.expire(now);
+            giveBackReservedStock(reservation);
+        }
+        if (!expiredReservations.isEmpty()) {
+            log.info("{} stock reservations expired.", expiredReservations.size());
+        }
+        return expiredReservations.size();
+    }
+
+    private void giveBackReservedStock(StockReservation reservation) {
+        if (hotStockCounter.isHot(reservation.getIsbn())) {
+            hotStockCounter.releaseStock(reservation.getIsbn(), reservation.getQuantity());
+        } else if (inventoryItemRepository.increaseStock(reservation.getIsbn(), reservation.getQuantity()) == 0) {
+            log.warn("Inventory item with ISBN {} not found while giving back reserved stock of order {}.", reservation.getIsbn(), reservation.getOrderId());
+        }
     }
 
     @Override
     @Transactional
     public void releaseStock(String isbn, int quantity) {
         log.debug("Attempting to release {} to stock for ISBN {}.", quantity, isbn);
+        InventoryItem.assertQuantityToCheckIsValid(quantity);
+        if (hotStockCounter.isHot(isbn)) {
+            hotStockCounter.releaseStock(isbn, quantity);
+            log.info("Hot stock for ISBN {} released to: {}.", isbn, hotStockCounter.getStock(isbn));
+            return;
+        }
+        // A single atomic statement, as for deductions: concurrent releases of the same item never conflict
+        if (inventoryItemRepository.increaseStock(isbn, quantity) == 0) {
+            log.debug("Inventory item with ISBN {} not found for stock release.", isbn);
+            throw new InventoryItemNotFoundException(isbn);
+        }
+        log.info("Stock for ISBN {} released of {}.", isbn, quantity);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public InventoryResponse getStockByIsbn(String isbn) {
+        log.debug("Attempting to retrieve stock for ISBN {}.", isbn);
+        if (hotStockCounter.isHot(isbn)) {
+            return new InventoryResponse(isbn, hotStockCounter.getStock(isbn));
+        }
         InventoryItem inventoryItem = inventoryItemRepository.findById(isbn)
                 .orElseThrow(() -> {
-                    log.warn("Inventory item with ISBN {} not found for stock release.", isbn);
+                    log.debug("Inventory item with ISBN {} not found.", isbn);
                     return new InventoryItemNotFoundException(isbn);
                 });
-
-        inventoryItem.releaseStock(quantity);
-        inventoryItemRepository.save(inventoryItem);
-        log.info("Stock for ISBN {} released to: {}.", isbn, inventoryItem.getStock());
+        return new InventoryResponse(inventoryItem.getIsbn(), inventoryItem.getStock(), inventoryItem.getVersion());
     }
 
     @Override
     @Transactional(readOnly = true)
-    public InventoryResponse getStockByIsbn(String isbn) {
-        log.debug("Attempting to retrieve stock for ISBN {}.", isbn);
-        InventoryItem inventoryItem = inventoryItemRepository.findById(isbn)
+    public Long getStockVersion(String isbn) {
+        if (hotStockCounter.isHot(isbn)) {
+            return null;
+        }
+        return inventoryItemRepository.findVersionByIsbn(isbn)
                 .orElseThrow(() -> {
-                    log.warn("Inventory item with ISBN {} not found.", isbn);
+                    log.debug("Inventory item with ISBN {} not found.", isbn);
                     return new InventoryItemNotFoundException(isbn);
                 });
-        return new InventoryResponse(inventoryItem.getIsbn(), inventoryItem.getStock());
     }
-}
\ No newline at end of file
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<InventoryResponse> getStocksByIsbns(Collection<String> isbns) {
+        Set<String> distinctIsbns = new LinkedHashSet<>(isbns);
+        log.debug("Attempting to retrieve stock for {} ISBNs.", distinctIsbns.size());
+
+        // Hot items are served from the counter, all the others are loaded in a single query
+        Map<String, InventoryResponse> stocksByIsbn = new HashMap<>();
+        List<String> coldIsbns = new ArrayList<>();
+        for (String isbn : distinctIsbns) {
+            if (hotStockCounter.isHot(isbn)) {
+                stocksByIsbn.put(isbn, new InventoryResponse(isbn, hotStockCounter.getStock(isbn)));
+            } else {
+                coldIsbns.add(isbn);
+            }
+        }
+        if (!coldIsbns.isEmpty()) {
+            inventoryItemRepository.findAllById(coldIsbns).forEach(inventoryItem -> stocksByIsbn.put(inventoryItem.getIsbn(),
+                    new InventoryResponse(inventoryItem.getIsbn(), inventoryItem.getStock(), inventoryItem.getVersion())));
+        }
+
+        return distinctIsbns.stream()
+                .map(stocksByIsbn::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<InventoryResponse> findLowStocks(Integer threshold, String cursor, int size) {
+        int stockThreshold = Objects.requireNonNullElse(threshold, lowStockThreshold);
+        assertIsNonNegative(stockThreshold, "Threshold", InventoryService.class);
+        KeysetPagination.assertPageSizeIsValid(size);
+        String afterKey = KeysetPagination.decodeCursor(cursor);
+        log.debug("Retrieving {} inventory items with stock at or below {} after {}.", size, stockThreshold, afterKey);
+
+        Limit limit = KeysetPagination.pageLimit(size);
+        List<InventoryItem> inventoryItems;
+        if (afterKey == null) {
+            inventoryItems = inventoryItemRepository.findLowStocks(stockThreshold, limit);
+        } else {
+            int separator = afterKey.indexOf(LOW_STOCK_CURSOR_SEPARATOR);
+            int afterStock;
+            try {
+                afterStock = Integer.parseInt(afterKey.substring(0, Math.max(separator, 0)));
+            } catch (NumberFormatException e) {
+                throw new ValidationException("Cursor is malformed", e, InventoryService.class);
+            }
+            inventoryItems = inventoryItemRepository.findLowStocksAfter(stockThreshold, afterStock, afterKey.substring(separator + 1), limit);
+        }
+
+        return KeysetPagination.toPage(inventoryItems, size,
+                inventoryItem -> inventoryItem.getStock() + LOW_STOCK_CURSOR_SEPARATOR + inventoryItem.getIsbn(),
+                inventoryItem -> new InventoryResponse(inventoryItem.getIsbn(), inventoryItem.getStock(), inventoryItem.getVersion()));
+    }
+}
@@ -0,0 +1,124 @@
+package io.bmeurant.bookordermanager.inventory.domain.service.impl;
+
+import io.bmeurant.bookordermanager.inventory.domain.exception.InsufficientStockException;
+import io.bmeurant.bookordermanager.inventory.domain.model.InventoryItem;
+import io.bmeurant.bookordermanager.inventory.domain.model.ShardedStock;
+import io.bmeurant.bookordermanager.inventory.domain.repository.InventoryItemRepository;
+import io.bmeurant.bookordermanager.inventory.domain.service.HotStockCounter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Implementation of the HotStockCounter interface, backed by a {@link ShardedStock} per hot inventory item.
+ * <p>
+ * The counter is local to this application instance: each instance loads the whole database stock of the hot items
+ * on startup and deducts from its own copy, only writing its deductions behind. Running several instances with the
+ * same hot ISBNs therefore oversells them, up to once per instance; hot items are meant for a single instance.
+ */
+@Service
+public class ShardedHotStockCounter implements HotStockCounter {
+
+    private static final Logger log = LoggerFactory.getLogger(ShardedHotStockCounter.class);
+
+    private final InventoryItemRepository inventoryItemRepository;
+    private final TransactionOperations transactionOperations;
+    private final Map<String, ShardedStock> stocksByIsbn = new ConcurrentHashMap<>();
+
+    @Value("${inventory.hot-stock.isbns:}")
+    private Set<String> hotIsbns;
+
+    @Value("${inventory.hot-stock.shards:8}")
+    private int shardCount;
+
+    /**
+     * Constructs a new {@code ShardedHotStockCounter}.
+     *
+     * @param inventoryItemRepository The repository the stock is loaded from and flushed to.
+     * @param transactionOperations   The transaction template each flush statement runs in.
+     */
+    @Autowired
+    public ShardedHotStockCounter(InventoryItemRepository inventoryItemRepository, TransactionOperations transactionOperations) {
+        this.inventoryItemRepository = inventoryItemRepository;
+        this.transactionOperations = transactionOperations;
+    }
+
+    @Override
+    public boolean isHot(String isbn) {
+        return stocksByIsbn.containsKey(isbn);
+    }
+
+    @Override
+    public int deductStock(String isbn, int quantity) {
+        ShardedStock stock = stocksByIsbn.get(isbn);
+        if (!stock.tryDeduct(quantity)) {
+            throw new InsufficientStockException(isbn, quantity, stock.getStock());
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        log.debug("Transaction rolled back, giving {} back to hot stock of ISBN {}.", quantity, isbn);
+                        stock.release(quantity);
+                    }
+                }
+            });
+        }
+        return stock.getStock();
+    }
+
+    @Override
+    public void releaseStock(String isbn, int quantity) {
+        stocksByIsbn.get(isbn).release(quantity);
+    }
+
+    @Override
+    public int getStock(String isbn) {
+        return stocksByIsbn.get(isbn).getStock();
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadHotStocks() {
+        if (hotIsbns.isEmpty()) {
+            return;
+        }
+        for (InventoryItem item : inventoryItemRepository.findAllById(hotIsbns)) {
+            stocksByIsbn.put(item.getIsbn(), new ShardedStock(item.getStock(), shardCount));
+            log.info("Hot stock of ISBN {} loaded with {} units over {} shards.", item.getIsbn(), item.getStock(), shardCount);
+        }
+        hotIsbns.stream()
+                .filter(isbn -> !stocksByIsbn.containsKey(isbn))
+                .forEach(isbn -> log.warn("Hot inventory item with ISBN {} not found, its stock stays in the database.", isbn));
+    }
+
+    @Override
+    public void flush() {
+        stocksByIsbn.forEach((isbn, stock) -> {
+            long pending = stock.drainPendingDeduction();
+            if (pending == 0) {
+                return;
+            }
+            try {
+                transactionOperations.executeWithoutResult(status -> inventoryItemRepository.increaseStock(isbn, (int) -pending));
+                log.debug("Hot stock of ISBN {} flushed: {} deducted.", isbn, pending);
+            } catch (RuntimeException e) {
+                stock.restorePendingDeduction(pending);
+                log.warn("Failed to flush hot stock of ISBN {}, will retry on next flush: {}", isbn, e.getMessage());
+            }
+        });
+    }
+}
@@ -0,0 +1,24 @@
+package io.bmeurant.bookordermanager.order.domain.event;
+
+import io.bmeurant.bookordermanager.order.domain.model.Order;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Event published when an order is successfully confirmed.
+ * This event carries the details of the confirmed order.
+ */
+@Getter
+public class OrderConfirmedEvent extends ApplicationEvent {
+    private final transient Order order;
+
+    /**
+     * Constructs a new {@code OrderConfirmedEvent}.
+     *
+     * @param order The {@link Order} object that was confirmed. This object is also used as the source of the event.
+     */
+    public OrderConfirmedEvent(Order order) {
+        super(order);
+        this.order = order;
+    }
+}
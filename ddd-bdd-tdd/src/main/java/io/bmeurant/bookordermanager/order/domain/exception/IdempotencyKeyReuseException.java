@@ -0,0 +1,17 @@
+package io.bmeurant.bookordermanager.order.domain.exception;
+
+import io.bmeurant.bookordermanager.domain.exception.DomainException;
+
+/**
+ * Exception thrown when an idempotency key is sent again with a request different from the one it was first sent with.
+ */
+public class IdempotencyKeyReuseException extends DomainException {
+    /**
+     * Constructs a new {@code IdempotencyKeyReuseException} with a detail message including the key.
+     *
+     * @param idempotencyKey The reused idempotency key.
+     */
+    public IdempotencyKeyReuseException(String idempotencyKey) {
+        super("Idempotency key " + idempotencyKey + " was already used for a different order request.", false);
+    }
+}
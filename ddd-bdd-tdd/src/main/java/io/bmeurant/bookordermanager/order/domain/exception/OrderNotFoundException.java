@@ -12,6 +12,6 @@ public class OrderNotFoundException extends DomainException {
      * @param orderId The ID of the order that was not found.
      */
     public OrderNotFoundException(String orderId) {
-        super("Order with ID " + orderId + " not found.");
+        super("Order with ID " + orderId + " not found.", false);
     }
 }
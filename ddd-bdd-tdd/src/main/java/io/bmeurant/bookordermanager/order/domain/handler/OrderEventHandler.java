@@ -1,14 +1,14 @@
 package io.bmeurant.bookordermanager.order.domain.handler;
 
-import io.bmeurant.bookordermanager.order.domain.event.OrderCreatedEvent;
+import io.bmeurant.bookordermanager.order.domain.model.OutboxEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.event.TransactionalEventListener;
 
 /**
  * Handles events related to the Order domain.
+ * Events are read from the outbox and dispatched by the {@link io.bmeurant.bookordermanager.order.domain.scheduler.OutboxRelay},
+ * at least once, and in order for a given order.
  */
 @Component
 public class OrderEventHandler {
@@ -16,16 +16,15 @@ public class OrderEventHandler {
     private static final Logger log = LoggerFactory.getLogger(OrderEventHandler.class);
 
     /**
-     * Handles the {@link OrderCreatedEvent}.
-     * This method is executed asynchronously in a new transaction after the original transaction commits.
+     * Handles an order event recorded in the outbox.
      * Note: The order confirmation logic has been moved to an explicit `confirmOrder` method in `OrderService`.
      *
-     * @param event the {@link OrderCreatedEvent}
+     * @param event the {@link OutboxEvent} to handle
      */
-    @Async
-    @TransactionalEventListener
-    public void handleOrderCreatedEvent(OrderCreatedEvent event) {
-        log.info("Handling order created event: {}", event);
-        // No longer confirms the order here. Confirmation is now an explicit step.
+    public void handle(OutboxEvent event) {
+        switch (event.getEventType()) {
+            case ORDER_CREATED -> log.info("Handling order created event: {}", event);
+            case ORDER_CANCELLED -> log.info("Handling order cancelled event: {}", event);
+        }
     }
 }
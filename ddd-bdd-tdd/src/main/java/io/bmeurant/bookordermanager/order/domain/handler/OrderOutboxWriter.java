@@ -0,0 +1,76 @@
+package io.bmeurant.bookordermanager.order.domain.handler;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.bmeurant.bookordermanager.application.mapper.OrderMapper;
+import io.bmeurant.bookordermanager.order.domain.event.OrderCancelledEvent;
+import io.bmeurant.bookordermanager.order.domain.event.OrderCreatedEvent;
+import io.bmeurant.bookordermanager.order.domain.model.Order;
+import io.bmeurant.bookordermanager.order.domain.model.OutboxEvent;
+import io.bmeurant.bookordermanager.order.domain.model.OutboxEvent.EventType;
+import io.bmeurant.bookordermanager.order.domain.repository.OutboxEventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Records order events in the outbox, within the transaction which changed the order.
+ * The recorded events are then dispatched by the {@link io.bmeurant.bookordermanager.order.domain.scheduler.OutboxRelay}.
+ */
+@Component
+public class OrderOutboxWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderOutboxWriter.class);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OrderMapper orderMapper;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Constructs a new {@code OrderOutboxWriter}.
+     *
+     * @param outboxEventRepository The repository of the outbox.
+     * @param orderMapper           The mapper used to build the payload of the events.
+     * @param objectMapper          The mapper used to serialize the payload of the events.
+     */
+    public OrderOutboxWriter(OutboxEventRepository outboxEventRepository, OrderMapper orderMapper, ObjectMapper objectMapper) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.orderMapper = orderMapper;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Records an {@link OrderCreatedEvent} in the outbox.
+     *
+     * @param event the {@link OrderCreatedEvent}
+     */
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onOrderCreated(OrderCreatedEvent event) {
+        record(event.getOrder(), EventType.ORDER_CREATED);
+    }
+
+    /**
+     * Records an {@link OrderCancelledEvent} in the outbox.
+     *
+     * @param event the {@link OrderCancelledEvent}
+     */
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onOrderCancelled(OrderCancelledEvent event) {
+        record(event.getOrder(), EventType.ORDER_CANCELLED);
+    }
+
+    private void record(Order order, EventType eventType) {
+        try {
+            String payload = objectMapper.writeValueAsString(orderMapper.mapOrderToResponse(order));
+            outboxEventRepository.save(new OutboxEvent(order.getOrderId(), eventType, payload));
+            log.debug("{} event of order {} recorded in the outbox.", eventType, order.getOrderId());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize " + eventType + " event of order " + order.getOrderId(), e);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package io.bmeurant.bookordermanager.order.domain.handler;
+
+import io.bmeurant.bookordermanager.application.mapper.OrderViewMapper;
+import io.bmeurant.bookordermanager.order.domain.event.OrderCancelledEvent;
+import io.bmeurant.bookordermanager.order.domain.event.OrderConfirmedEvent;
+import io.bmeurant.bookordermanager.order.domain.event.OrderCreatedEvent;
+import io.bmeurant.bookordermanager.order.domain.model.Order;
+import io.bmeurant.bookordermanager.order.domain.repository.OrderViewRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Projects order events onto the {@link io.bmeurant.bookordermanager.order.domain.model.OrderView}s read by the
+ * order queries, within the transaction which changed the order, so that a view is always up to date with its order.
+ */
+@Component
+public class OrderViewProjector {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderViewProjector.class);
+
+    private final OrderViewRepository orderViewRepository;
+    private final OrderViewMapper orderViewMapper;
+
+    /**
+     * Constructs a new {@code OrderViewProjector}.
+     *
+     * @param orderViewRepository The repository of the order views.
+     * @param orderViewMapper     The mapper used to build the order views.
+     */
+    public OrderViewProjector(OrderViewRepository orderViewRepository, OrderViewMapper orderViewMapper) {
+        this.orderViewRepository = orderViewRepository;
+        this.orderViewMapper = orderViewMapper;
+    }
+
+    /**
+     * Creates the view of a new order.
+     *
+     * @param event the {@link OrderCreatedEvent}
+     */
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onOrderCreated(OrderCreatedEvent event) {
+        orderViewRepository.save(orderViewMapper.mapOrderToView(event.getOrder()));
+        log.debug("View of order {} created.", event.getOrder().getOrderId());
+    }
+
+    /**
+     * Updates the status of the view of a confirmed order.
+     *
+     * @param event the {@link OrderConfirmedEvent}
+     */
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onOrderConfirmed(OrderConfirmedEvent event) {
+        updateStatus(event.getOrder());
+    }
+
+    /**
+     * Updates the status of the view of a cancelled order.
+     *
+     * @param event the {@link OrderCancelledEvent}
+     */
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onOrderCancelled(OrderCancelledEvent event) {
+        updateStatus(event.getOrder());
+    }
+
+    /**
+     * Updates the status of the view of an order, creating the view if the order has none yet.
+     */
+    private void updateStatus(Order order) {
+        orderViewRepository.findById(order.getOrderId()).ifPresentOrElse(
+                orderView -> orderView.updateStatus(order.getStatus()),
+                () -> orderViewRepository.save(orderViewMapper.mapOrderToView(order)));
+        log.debug("View of order {} updated to status {}.", order.getOrderId(), order.getStatus());
+    }
+}
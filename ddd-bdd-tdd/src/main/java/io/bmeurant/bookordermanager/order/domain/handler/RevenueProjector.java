@@ -0,0 +1,127 @@
+package io.bmeurant.bookordermanager.order.domain.handler;
+
+import io.bmeurant.bookordermanager.order.domain.event.OrderCancelledEvent;
+import io.bmeurant.bookordermanager.order.domain.event.OrderConfirmedEvent;
+import io.bmeurant.bookordermanager.order.domain.model.DailyRevenue;
+import io.bmeurant.bookordermanager.order.domain.model.Order;
+import io.bmeurant.bookordermanager.order.domain.model.OrderLine;
+import io.bmeurant.bookordermanager.order.domain.repository.DailyRevenueRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Projects order events onto the {@link DailyRevenue}s of the books, within the transaction which changed the order,
+ * so that revenues are always consistent with the orders.
+ * <p>
+ * A confirmed order adds the quantities and prices of its lines to the revenues of the day of its confirmation, and a
+ * cancelled order which had been confirmed subtracts them from the same revenues. A cancelled order which had not been
+ * confirmed has no revenue to subtract.
+ */
+@Component
+public class RevenueProjector {
+
+    private static final Logger log = LoggerFactory.getLogger(RevenueProjector.class);
+    private static final String INSERT_DAILY_REVENUE = "insert into daily_revenue (revenue_day, isbn, quantity, revenue) values (?, ?, ?, ?)";
+    private static final String UNIQUE_VIOLATION = "23505";
+
+    private final DailyRevenueRepository dailyRevenueRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Constructs a new {@code RevenueProjector}.
+     *
+     * @param dailyRevenueRepository The repository of the revenues.
+     * @param jdbcTemplate           The template used to insert the first revenue of a book on a day.
+     */
+    public RevenueProjector(DailyRevenueRepository dailyRevenueRepository, JdbcTemplate jdbcTemplate) {
+        this.dailyRevenueRepository = dailyRevenueRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Adds the revenue of a confirmed order.
+     *
+     * @param event the {@link OrderConfirmedEvent}
+     */
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onOrderConfirmed(OrderConfirmedEvent event) {
+        addRevenue(event.getOrder(), 1);
+    }
+
+    /**
+     * Subtracts the revenue of a cancelled order, if it had been confirmed.
+     *
+     * @param event the {@link OrderCancelledEvent}
+     */
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onOrderCancelled(OrderCancelledEvent event) {
+        if (event.getOrder().getConfirmedAt() != null) {
+            addRevenue(event.getOrder(), -1);
+        }
+    }
+
+    /**
+     * Adds the revenue of an order, book by book. The books are sorted by ISBN, so that concurrent transactions lock
+     * the revenues in the same order and cannot deadlock.
+     */
+    private void addRevenue(Order order, int sign) {
+        LocalDate day = DailyRevenue.dayOf(order.getConfirmedAt());
+        Map<String, Long> quantities = new TreeMap<>();
+        Map<String, BigDecimal> revenues = new TreeMap<>();
+        for (OrderLine line : order.getOrderLines()) {
+            quantities.merge(line.getIsbn(), (long) sign * line.getQuantity(), Long::sum);
+            revenues.merge(line.getIsbn(), line.getTotalPrice().multiply(BigDecimal.valueOf(sign)), BigDecimal::add);
+        }
+        quantities.forEach((isbn, quantity) -> {
+            BigDecimal revenue = revenues.get(isbn);
+            if (dailyRevenueRepository.addRevenue(day, isbn, quantity, revenue) == 0 && !insertRevenue(day, isbn, quantity, revenue)) {
+                dailyRevenueRepository.addRevenue(day, isbn, quantity, revenue);
+            }
+        });
+        log.debug("Revenue of order {} {} on {}.", order.getOrderId(), sign < 0 ? "subtracted" : "added", day);
+    }
+
+    /**
+     * Inserts the first revenue of a book on a day. The insert runs within a savepoint, so that when a concurrent
+     * transaction inserted the same revenue first, only the insert is rolled back and the caller adds to the existing
+     * revenue instead.
+     *
+     * @return {@code true} if the revenue was inserted, {@code false} if it already existed.
+     */
+    private boolean insertRevenue(LocalDate day, String isbn, long quantity, BigDecimal revenue) {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            Savepoint savepoint = connection.setSavepoint();
+            try (PreparedStatement insert = connection.prepareStatement(INSERT_DAILY_REVENUE)) {
+                insert.setObject(1, day);
+                insert.setString(2, isbn);
+                insert.setLong(3, quantity);
+                insert.setBigDecimal(4, revenue);
+                insert.executeUpdate();
+                connection.releaseSavepoint(savepoint);
+                return true;
+            } catch (SQLException e) {
+                connection.rollback(savepoint);
+                if (UNIQUE_VIOLATION.equals(e.getSQLState())) {
+                    return false;
+                }
+                throw e;
+            }
+        }));
+    }
+}
@@ -0,0 +1,87 @@
+package io.bmeurant.bookordermanager.order.domain.model;
+
+import io.bmeurant.bookordermanager.domain.exception.ValidationException;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+import static io.bmeurant.bookordermanager.domain.util.Assertions.*;
+
+/**
+ * Represents the revenue of a book on a day: the quantity sold and the revenue of the orders confirmed that day, net
+ * of those cancelled since. Days are UTC days.
+ * <p>
+ * Revenues are maintained incrementally from the order events, within the transaction which confirmed or cancelled
+ * the order, so that revenue reports read one row per book and day instead of scanning the orders. Rows are only
+ * changed by atomic increments, which is why they carry no version.
+ */
+@Entity
+@Table(name = "daily_revenue", indexes = @Index(name = "idx_daily_revenue_isbn", columnList = "isbn, revenue_day"))
+@IdClass(DailyRevenue.Key.class)
+@Getter
+@EqualsAndHashCode(of = {"day", "isbn"})
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DailyRevenue {
+
+    /**
+     * Time zone of the days of the revenues.
+     */
+    public static final ZoneOffset ZONE = ZoneOffset.UTC;
+
+    @Id
+    @Column(name = "revenue_day")
+    private LocalDate day;
+    @Id
+    private String isbn;
+
+    private long quantity;
+    private BigDecimal revenue;
+
+    /**
+     * Constructs a new DailyRevenue.
+     *
+     * @param day      The day of the revenue. Must not be null.
+     * @param isbn     The ISBN of the book sold. Must not be null or blank.
+     * @param quantity The quantity of the book sold that day.
+     * @param revenue  The revenue of the book that day. Must not be null.
+     * @throws ValidationException if any validation fails.
+     */
+    public DailyRevenue(LocalDate day, String isbn, long quantity, BigDecimal revenue) {
+        assertNotNull(day, "Day", DailyRevenue.class);
+        assertHasText(isbn, "ISBN", DailyRevenue.class);
+        assertNotNull(revenue, "Revenue", DailyRevenue.class);
+
+        this.day = day;
+        this.isbn = isbn;
+        this.quantity = quantity;
+        this.revenue = revenue;
+    }
+
+    /**
+     * Returns the day of the revenue of an order confirmed at the given instant.
+     *
+     * @param confirmedAt The instant the order was confirmed.
+     * @return The day of the revenue.
+     */
+    public static LocalDate dayOf(Instant confirmedAt) {
+        return LocalDate.ofInstant(confirmedAt, ZONE);
+    }
+
+    /**
+     * Identifier of a {@link DailyRevenue}: its day and the ISBN of its book.
+     */
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private LocalDate day;
+        private String isbn;
+    }
+}
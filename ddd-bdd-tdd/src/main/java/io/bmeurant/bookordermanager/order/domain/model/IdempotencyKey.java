@@ -0,0 +1,79 @@
+package io.bmeurant.bookordermanager.order.domain.model;
+
+import io.bmeurant.bookordermanager.domain.exception.ValidationException;
+import io.bmeurant.bookordermanager.domain.util.UuidStringJavaType;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JavaType;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.Instant;
+
+import static io.bmeurant.bookordermanager.domain.util.Assertions.*;
+
+/**
+ * Represents an idempotency key sent by a client with an order creation, along with the outcome of this creation.
+ * A retry of the creation with the same key is answered with the recorded response, instead of creating another order.
+ */
+@Entity
+@Table(name = "idempotency_keys", indexes = @Index(name = "idx_idempotency_keys_created_at", columnList = "createdAt"))
+@Getter
+@EqualsAndHashCode(of = "idempotencyKey")
+@ToString(exclude = "response")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class IdempotencyKey {
+
+    /**
+     * The maximum length of an idempotency key.
+     */
+    public static final int MAX_LENGTH = 255;
+
+    @Id
+    private String idempotencyKey;
+
+    private String requestHash;
+    @JavaType(UuidStringJavaType.class)
+    @JdbcTypeCode(SqlTypes.UUID)
+    private String orderId;
+    @Column(length = 65535)
+    private String response;
+    private Instant createdAt;
+
+    // Concurrency control: a new key is always inserted, so that a concurrent use of the same key fails
+    @Version
+    private Long version;
+
+    /**
+     * Constructs a new IdempotencyKey recording the order created for a request.
+     *
+     * @param idempotencyKey The key sent by the client. Must not be null or blank, nor longer than {@link #MAX_LENGTH}.
+     * @param requestHash    The hash of the request the key was sent with. Must not be null or blank.
+     * @param orderId        The ID of the created order. Must not be null or blank.
+     * @param response       The JSON representation of the response to the request. Must not be null or blank.
+     * @throws ValidationException if any validation fails.
+     */
+    public IdempotencyKey(String idempotencyKey, String requestHash, String orderId, String response) {
+        assertIsValid(idempotencyKey);
+        assertHasText(requestHash, "Request hash", IdempotencyKey.class);
+        assertHasText(orderId, "Order ID", IdempotencyKey.class);
+        assertHasText(response, "Response", IdempotencyKey.class);
+
+        this.idempotencyKey = idempotencyKey;
+        this.requestHash = requestHash;
+        this.orderId = orderId;
+        this.response = response;
+        this.createdAt = Instant.now();
+    }
+
+    /**
+     * Checks that an idempotency key sent by a client is valid.
+     *
+     * @param idempotencyKey The key to check.
+     * @throws ValidationException if the key is blank or longer than {@link #MAX_LENGTH}.
+     */
+    public static void assertIsValid(String idempotencyKey) {
+        assertHasText(idempotencyKey, "Idempotency key", IdempotencyKey.class);
+        assertIsTrue(idempotencyKey.length() <= MAX_LENGTH, "Idempotency key must not be longer than " + MAX_LENGTH + " characters.", IdempotencyKey.class);
+    }
+}
@@ -1,14 +1,20 @@
 package io.bmeurant.bookordermanager.order.domain.model;
 
 import io.bmeurant.bookordermanager.domain.exception.ValidationException;
+import io.bmeurant.bookordermanager.domain.util.TimeOrderedUuids;
+import io.bmeurant.bookordermanager.domain.util.UuidStringJavaType;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.JavaType;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
 
 import static io.bmeurant.bookordermanager.domain.util.Assertions.*;
 
@@ -27,16 +33,24 @@ public class Order {
 
     // Identity
     @Id
+    @JavaType(UuidStringJavaType.class)
+    @JdbcTypeCode(SqlTypes.UUID)
     private String orderId;
 
     // Attributes
     private String customerName;
     @Enumerated(EnumType.STRING)
     private OrderStatus status;
+    // Sum of the total prices of the lines, computed once since lines never change after creation
+    private BigDecimal totalPrice;
+    // Set on confirmation, and kept on cancellation: its day is the day the revenue of the order was booked
+    private Instant confirmedAt;
 
     // Associations
     @ElementCollection
-    @CollectionTable(name = "order_lines", joinColumns = @JoinColumn(name = "order_id"))
+    @CollectionTable(name = "order_lines", joinColumns = @JoinColumn(name = "order_id"),
+            foreignKey = @ForeignKey(name = "fk_order_lines_order_id"),
+            indexes = @Index(name = "idx_order_lines_order_id", columnList = "order_id"))
     private List<OrderLine> orderLines;
 
     // Concurrency control
@@ -52,14 +66,14 @@ public class Order {
      * @throws ValidationException if any validation fails.
      */
     public Order(String customerName, List<OrderLine> orderLines) {
-        log.debug("Creating Order for customer: {}", customerName);
         assertOrderIsValid(customerName, orderLines);
 
-        this.orderId = UUID.randomUUID().toString(); // Generate a unique ID for the order
+        this.orderId = TimeOrderedUuids.next(); // Generate a unique, time-ordered ID for the order
         this.customerName = customerName;
         this.status = OrderStatus.PENDING; // Initial status
         this.orderLines = new ArrayList<>(orderLines);
-        log.info("Order created: {}", this);
+        this.totalPrice = orderLines.stream().map(OrderLine::getTotalPrice).reduce(BigDecimal.ZERO, BigDecimal::add);
+        log.debug("Order created: {}", this);
     }
 
     private static void assertOrderIsValid(String customerName, List<OrderLine> orderLines) {
@@ -68,13 +82,14 @@ public class Order {
     }
 
     /**
-     * Confirms the order, changing its status from PENDING to CONFIRMED.
+     * Confirms the order, changing its status from PENDING to CONFIRMED, and records the time of the confirmation.
      *
      * @throws ValidationException if the order is not in PENDING status.
      */
     public void confirm() {
         assertIsTrue(this.status == OrderStatus.PENDING, "Order can only be confirmed if its status is PENDING.", Order.class);
         this.status = OrderStatus.CONFIRMED;
+        this.confirmedAt = Instant.now();
         log.info("Order {} confirmed.", this.orderId);
     }
 
@@ -43,13 +43,21 @@ public class OrderLine {
      * @throws ValidationException if any validation fails.
      */
     public OrderLine(String isbn, int quantity, BigDecimal price) {
-        log.debug("Creating OrderLine for ISBN: {}, Quantity: {}, Price: {}", isbn, quantity, price);
         assertOrderLineIsValid(isbn, quantity, price);
 
         this.isbn = isbn;
         this.quantity = quantity;
         this.price = price;
-        log.info("OrderLine created: {}", this);
+        log.debug("OrderLine created: {}", this);
+    }
+
+    /**
+     * Returns the total price of the line: the price of the book times the quantity ordered.
+     *
+     * @return The total price of the line.
+     */
+    public BigDecimal getTotalPrice() {
+        return price.multiply(BigDecimal.valueOf(quantity));
     }
 
     private static void assertOrderLineIsValid(String isbn, int quantity, BigDecimal price) {
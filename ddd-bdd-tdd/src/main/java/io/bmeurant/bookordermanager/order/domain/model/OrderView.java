@@ -0,0 +1,80 @@
+package io.bmeurant.bookordermanager.order.domain.model;
+
+import io.bmeurant.bookordermanager.domain.exception.ValidationException;
+import io.bmeurant.bookordermanager.domain.util.UuidStringJavaType;
+import io.bmeurant.bookordermanager.order.domain.model.Order.OrderStatus;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JavaType;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.math.BigDecimal;
+
+import static io.bmeurant.bookordermanager.domain.util.Assertions.*;
+
+/**
+ * Represents an order as read by the order queries: the read model of the {@link Order} aggregate.
+ * Each order is a single row, its lines being held as a JSON document, so that reading an order never joins the
+ * tables of the aggregate. Views are projected from the order events, within the transaction which changed the order.
+ * Views are indexed by customer, then by order ID, so that the orders of a customer are paginated along the index.
+ */
+@Entity
+@Table(name = "order_views", indexes = @Index(name = "idx_order_views_customer_name", columnList = "customerName, orderId"))
+@Getter
+@EqualsAndHashCode(of = "orderId")
+@ToString(exclude = "orderLines")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderView {
+
+    @Id
+    @JavaType(UuidStringJavaType.class)
+    @JdbcTypeCode(SqlTypes.UUID)
+    private String orderId;
+
+    private String customerName;
+    @Enumerated(EnumType.STRING)
+    private OrderStatus status;
+    private BigDecimal totalPrice;
+    @Column(length = 65535)
+    private String orderLines;
+
+    // Concurrency control: also makes a new view always inserted, without reading it first
+    @Version
+    private Long version;
+
+    /**
+     * Constructs a new OrderView.
+     *
+     * @param orderId      The ID of the order. Must not be null or blank.
+     * @param customerName The name of the customer who placed the order. Must not be null or blank.
+     * @param status       The status of the order. Must not be null.
+     * @param totalPrice   The total price of the order. Must not be null.
+     * @param orderLines   The JSON representation of the lines of the order. Must not be null or blank.
+     * @throws ValidationException if any validation fails.
+     */
+    public OrderView(String orderId, String customerName, OrderStatus status, BigDecimal totalPrice, String orderLines) {
+        assertHasText(orderId, "Order ID", OrderView.class);
+        assertHasText(customerName, "Customer name", OrderView.class);
+        assertNotNull(status, "Status", OrderView.class);
+        assertNotNull(totalPrice, "Total price", OrderView.class);
+        assertHasText(orderLines, "Order lines", OrderView.class);
+
+        this.orderId = orderId;
+        this.customerName = customerName;
+        this.status = status;
+        this.totalPrice = totalPrice;
+        this.orderLines = orderLines;
+    }
+
+    /**
+     * Updates the status of the order, the only part of an order which changes after its creation.
+     *
+     * @param status The new status of the order. Must not be null.
+     * @throws ValidationException if the status is null.
+     */
+    public void updateStatus(OrderStatus status) {
+        assertNotNull(status, "Status", OrderView.class);
+        this.status = status;
+    }
+}
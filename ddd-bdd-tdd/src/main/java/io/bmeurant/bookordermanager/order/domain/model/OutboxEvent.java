@@ -0,0 +1,69 @@
+package io.bmeurant.bookordermanager.order.domain.model;
+
+import io.bmeurant.bookordermanager.domain.exception.ValidationException;
+import jakarta.persistence.*;
+import lombok.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Instant;
+
+import static io.bmeurant.bookordermanager.domain.util.Assertions.*;
+
+/**
+ * Represents an order event waiting to be dispatched.
+ * Outbox events are written in the same transaction as the order they relate to, so that an event is recorded
+ * if and only if the order change is committed, and survives a crash until it has been dispatched.
+ * The events to dispatch are read through an index on the number of attempts, which leaves out the dead letters that
+ * reached the maximum number of attempts.
+ */
+@Entity
+@Table(name = "outbox_events", indexes = @Index(name = "idx_outbox_events_attempts_id", columnList = "attempts, id"))
+@Getter
+@EqualsAndHashCode(of = "id")
+@ToString(exclude = "payload")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEvent {
+    private static final Logger log = LoggerFactory.getLogger(OutboxEvent.class);
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
+    private Long id;
+
+    private String aggregateId;
+    @Enumerated(EnumType.STRING)
+    private EventType eventType;
+    @Column(length = 65535)
+    private String payload;
+    private Instant createdAt;
+    private int attempts;
+
+    /**
+     * Constructs a new OutboxEvent, not yet dispatched.
+     *
+     * @param aggregateId The ID of the order the event relates to. Must not be null or blank.
+     * @param eventType   The type of the event. Must not be null.
+     * @param payload     The JSON representation of the order at the time of the event. Must not be null or blank.
+     * @throws ValidationException if any validation fails.
+     */
+    public OutboxEvent(String aggregateId, EventType eventType, String payload) {
+        log.debug("Creating OutboxEvent {} for order: {}", eventType, aggregateId);
+        assertHasText(aggregateId, "Aggregate ID", OutboxEvent.class);
+        assertNotNull(eventType, "Event type", OutboxEvent.class);
+        assertHasText(payload, "Payload", OutboxEvent.class);
+
+        this.aggregateId = aggregateId;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.createdAt = Instant.now();
+        this.attempts = 0;
+    }
+
+    /**
+     * Enum representing the types of events recorded in the outbox.
+     */
+    public enum EventType {
+        ORDER_CREATED,
+        ORDER_CANCELLED
+    }
+}
@@ -0,0 +1,66 @@
+package io.bmeurant.bookordermanager.order.domain.repository;
+
+import io.bmeurant.bookordermanager.order.domain.model.DailyRevenue;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repository interface for managing DailyRevenue entities.
+ */
+@Repository
+public interface DailyRevenueRepository extends JpaRepository<DailyRevenue, DailyRevenue.Key> {
+
+    /**
+     * Atomically adds a quantity and a revenue to the revenue of a book on a day, if it exists.
+     * The row stays locked until the end of the transaction.
+     *
+     * @param day      The day of the revenue.
+     * @param isbn     The ISBN of the book.
+     * @param quantity The quantity to add, negative to subtract.
+     * @param revenue  The revenue to add, negative to subtract.
+     * @return The number of updated revenues: 0 if the book has no revenue on that day yet, 1 otherwise.
+     */
+    @Modifying
+    @Query("update DailyRevenue r set r.quantity = r.quantity + :quantity, r.revenue = r.revenue + :revenue where r.day = :day and r.isbn = :isbn")
+    int addRevenue(@Param("day") LocalDate day, @Param("isbn") String isbn, @Param("quantity") long quantity, @Param("revenue") BigDecimal revenue);
+
+    /**
+     * Finds the revenues of a book between two days, through the index on the ISBN.
+     *
+     * @param isbn The ISBN of the book.
+     * @param from The first day, inclusive.
+     * @param to   The last day, inclusive.
+     * @return The revenues of the book, by day.
+     */
+    List<DailyRevenue> findByIsbnAndDayBetweenOrderByDay(String isbn, LocalDate from, LocalDate to);
+
+    /**
+     * Sums the revenues of all books between two days, day by day, along the primary key.
+     *
+     * @param from The first day, inclusive.
+     * @param to   The last day, inclusive.
+     * @return The revenues of all books, by day.
+     */
+    @Query("select r.day as day, sum(r.quantity) as quantity, sum(r.revenue) as revenue from DailyRevenue r "
+            + "where r.day between :from and :to group by r.day order by r.day")
+    List<DailyTotal> sumByDayBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * Revenue of all books on a day.
+     */
+    interface DailyTotal {
+
+        LocalDate getDay();
+
+        long getQuantity();
+
+        BigDecimal getRevenue();
+    }
+}
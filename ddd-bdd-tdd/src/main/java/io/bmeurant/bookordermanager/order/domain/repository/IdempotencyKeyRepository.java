@@ -0,0 +1,29 @@
+package io.bmeurant.bookordermanager.order.domain.repository;
+
+import io.bmeurant.bookordermanager.order.domain.model.IdempotencyKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+/**
+ * Repository interface for managing IdempotencyKey entities.
+ */
+@Repository
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKey, String> {
+
+    /**
+     * Deletes the keys recorded before the given instant, in a single statement.
+     *
+     * @param threshold The instant before which keys are deleted.
+     * @return The number of deleted keys.
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from IdempotencyKey k where k.createdAt < :threshold")
+    int deleteCreatedBefore(@Param("threshold") Instant threshold);
+}
@@ -1,12 +1,47 @@
 package io.bmeurant.bookordermanager.order.domain.repository;
 
 import io.bmeurant.bookordermanager.order.domain.model.Order;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 /**
  * Repository interface for managing Order entities.
+ * Orders are always read along with their order lines, in the same statement, so that reading N orders never
+ * issues one more query per order.
  */
 @Repository
 public interface OrderRepository extends JpaRepository<Order, String> {
+
+    /**
+     * Finds an order along with its order lines.
+     *
+     * @param orderId The ID of the order.
+     * @return The order, or an empty Optional if it does not exist.
+     */
+    @Override
+    @EntityGraph(attributePaths = "orderLines")
+    Optional<Order> findById(String orderId);
+
+    /**
+     * Finds all orders along with their order lines.
+     *
+     * @return All orders.
+     */
+    @Override
+    @EntityGraph(attributePaths = "orderLines")
+    List<Order> findAll();
+
+    /**
+     * Finds the given orders along with their order lines, in order ID order.
+     *
+     * @param orderIds The IDs of the orders.
+     * @return The existing orders among the given IDs.
+     */
+    @EntityGraph(attributePaths = "orderLines")
+    List<Order> findByOrderIdInOrderByOrderId(Collection<String> orderIds);
 }
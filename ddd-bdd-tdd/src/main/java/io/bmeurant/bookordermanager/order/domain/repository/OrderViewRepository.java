@@ -0,0 +1,72 @@
+package io.bmeurant.bookordermanager.order.domain.repository;
+
+import io.bmeurant.bookordermanager.domain.util.KeysetPagination;
+import io.bmeurant.bookordermanager.order.domain.model.OrderView;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
+/**
+ * Repository interface for managing OrderView entities, the read model of orders.
+ * An order view is a single row, so that order views can be paginated directly, with a row limit.
+ */
+@Repository
+public interface OrderViewRepository extends JpaRepository<OrderView, String> {
+
+    /**
+     * Finds the first order views in order ID order, to read the first page of orders.
+     *
+     * @param limit The maximum number of order views to return.
+     * @return The first order views.
+     */
+    List<OrderView> findAllByOrderByOrderId(Limit limit);
+
+    /**
+     * Finds the order views following the given order ID in order ID order, to read the next page of orders.
+     *
+     * @param orderId The last order ID of the previous page.
+     * @param limit   The maximum number of order views to return.
+     * @return The order views following the given order ID.
+     */
+    List<OrderView> findByOrderIdGreaterThanOrderByOrderId(String orderId, Limit limit);
+
+    /**
+     * Finds the first order views of a customer in order ID order, to read the first page of the orders of a customer.
+     *
+     * @param customerName The name of the customer.
+     * @param limit        The maximum number of order views to return.
+     * @return The first order views of the customer.
+     */
+    List<OrderView> findByCustomerNameOrderByOrderId(String customerName, Limit limit);
+
+    /**
+     * Finds the order views of a customer following the given order ID in order ID order, to read the next page of the
+     * orders of a customer.
+     *
+     * @param customerName The name of the customer.
+     * @param orderId      The last order ID of the previous page.
+     * @param limit        The maximum number of order views to return.
+     * @return The order views of the customer following the given order ID.
+     */
+    List<OrderView> findByCustomerNameAndOrderIdGreaterThanOrderByOrderId(String customerName, String orderId, Limit limit);
+
+    /**
+     * Streams all order views in order ID order, fetching them from the database by batches instead of loading them
+     * all. Must be consumed within a transaction and closed afterward.
+     *
+     * @return A stream of all order views.
+     */
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = KeysetPagination.STREAM_FETCH_SIZE),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    Stream<OrderView> streamAllByOrderByOrderId();
+}
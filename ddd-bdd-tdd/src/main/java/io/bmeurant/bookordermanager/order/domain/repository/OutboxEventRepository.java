@@ -0,0 +1,41 @@
+package io.bmeurant.bookordermanager.order.domain.repository;
+
+import io.bmeurant.bookordermanager.order.domain.model.OutboxEvent;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for managing OutboxEvent entities.
+ * Dispatched events are deleted, so that the outbox only holds the events still to be dispatched.
+ */
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Finds the oldest events to dispatch, skipping those which already failed too many times.
+     *
+     * @param maxAttempts The number of failed attempts from which an event is no longer dispatched.
+     * @param limit       The maximum number of events to return.
+     * @return The matching events, in creation order.
+     */
+    List<OutboxEvent> findByAttemptsLessThanOrderById(int maxAttempts, Limit limit);
+
+    /**
+     * Records a failed dispatch attempt of the given events.
+     *
+     * @param ids The IDs of the events whose dispatch failed.
+     * @return The number of updated events.
+     */
+    @Transactional
+    @Modifying
+    @Query("update OutboxEvent e set e.attempts = e.attempts + 1 where e.id in :ids")
+    int incrementAttempts(@Param("ids") Collection<Long> ids);
+}
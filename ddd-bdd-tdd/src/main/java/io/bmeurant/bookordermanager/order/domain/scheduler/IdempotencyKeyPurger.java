@@ -0,0 +1,49 @@
+package io.bmeurant.bookordermanager.order.domain.scheduler;
+
+import io.bmeurant.bookordermanager.order.domain.repository.IdempotencyKeyRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Periodically deletes the idempotency keys older than their time to live. Until then, a retry with a recorded key
+ * is answered with the recorded response.
+ */
+@Component
+public class IdempotencyKeyPurger {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyKeyPurger.class);
+
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final Duration ttl;
+
+    /**
+     * Constructs a new {@code IdempotencyKeyPurger}.
+     *
+     * @param idempotencyKeyRepository The repository of the recorded keys.
+     * @param ttl                      The minimum time during which a key is kept.
+     */
+    public IdempotencyKeyPurger(IdempotencyKeyRepository idempotencyKeyRepository,
+                                @Value("${order.idempotency.ttl:PT24H}") Duration ttl) {
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.ttl = ttl;
+    }
+
+    /**
+     * Deletes the keys recorded more than the time to live ago.
+     */
+    @Scheduled(fixedDelayString = "${order.idempotency.purge-interval:PT1H}")
+    public void purgeExpiredKeys() {
+        try {
+            int purged = idempotencyKeyRepository.deleteCreatedBefore(Instant.now().minus(ttl));
+            log.debug("{} expired idempotency keys purged.", purged);
+        } catch (RuntimeException e) {
+            log.warn("Idempotency key purge failed, will retry on next run: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package io.bmeurant.bookordermanager.order.domain.scheduler;
+
+import io.bmeurant.bookordermanager.bootstrap.AsyncConfiguration;
+import io.bmeurant.bookordermanager.order.domain.handler.OrderEventHandler;
+import io.bmeurant.bookordermanager.order.domain.model.OutboxEvent;
+import io.bmeurant.bookordermanager.order.domain.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+
+/**
+ * Periodically dispatches the events recorded in the outbox to the {@link OrderEventHandler}, batch by batch.
+ * <p>
+ * The events of a batch are spread over a bounded number of lanes, dispatched in parallel on the event handler
+ * executor. All the events of an order go to the same lane, so that they are dispatched in the order they were
+ * recorded. Dispatched events are deleted, while failed ones are kept and retried on the next run, until they reach
+ * the maximum number of attempts: a run stops at the first batch which is not entirely dispatched, so that an event
+ * is attempted at most once per run. Events reaching the maximum number of attempts are dead letters: they are logged
+ * and counted in the {@code outbox.events.dead} metric, and kept in the outbox, out of the polled events, for an
+ * operator to replay or delete them.
+ * Delivery is at least once: an event may be dispatched again if the application stops before its deletion.
+ */
+@Component
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OrderEventHandler orderEventHandler;
+    private final int batchSize;
+    private final int parallelism;
+    private final int maxAttempts;
+    private final Executor executor;
+    private final Counter deadEvents;
+
+    /**
+     * Constructs a new {@code OutboxRelay}.
+     *
+     * @param outboxEventRepository The repository of the outbox.
+     * @param orderEventHandler     The handler to dispatch the events to.
+     * @param executor              The executor running the event handlers.
+     * @param batchSize             The maximum number of events read from the outbox at once.
+     * @param parallelism           The number of events dispatched in parallel.
+     * @param maxAttempts           The number of failed attempts after which an event is no longer dispatched.
+     * @param meterRegistry         The registry to expose the metrics in.
+     */
+    public OutboxRelay(OutboxEventRepository outboxEventRepository, OrderEventHandler orderEventHandler,
+                       @Qualifier(AsyncConfiguration.EVENT_HANDLER_EXECUTOR) Executor executor,
+                       @Value("${order.outbox.batch-size:100}") int batchSize,
+                       @Value("${order.outbox.parallelism:4}") int parallelism,
+                       @Value("${order.outbox.max-attempts:10}") int maxAttempts,
+                       MeterRegistry meterRegistry) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.orderEventHandler = orderEventHandler;
+        this.batchSize = batchSize;
+        this.parallelism = parallelism;
+        this.maxAttempts = maxAttempts;
+        this.executor = executor;
+        this.deadEvents = Counter.builder("outbox.events.dead")
+                .description("Number of outbox events no longer dispatched after failing the maximum number of attempts").register(meterRegistry);
+    }
+
+    /**
+     * Dispatches the pending events batch by batch, until the outbox is drained or an event of a batch is not
+     * dispatched. Failed events are therefore not read again before the next run.
+     */
+    @Scheduled(fixedDelayString = "${order.outbox.poll-interval:PT1S}")
+    public void relayEvents() {
+        try {
+            List<OutboxEvent> events;
+            boolean allDispatched;
+            do {
+                events = outboxEventRepository.findByAttemptsLessThanOrderById(maxAttempts, Limit.of(batchSize));
+                allDispatched = dispatchBatch(events);
+            } while (events.size() == batchSize && allDispatched);
+        } catch (RuntimeException e) {
+            log.warn("Outbox relay interrupted, will retry on next run: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Dispatches a batch of events over the lanes, then removes the dispatched events from the outbox.
+     *
+     * @param events The events to dispatch, in creation order.
+     * @return Whether all the events have been dispatched.
+     */
+    private boolean dispatchBatch(List<OutboxEvent> events) {
+        if (events.isEmpty()) {
+            return true;
+        }
+        List<List<OutboxEvent>> lanes = new ArrayList<>(parallelism);
+        for (int i = 0; i < parallelism; i++) {
+            lanes.add(new ArrayList<>());
+        }
+        events.forEach(event -> lanes.get(Math.floorMod(event.getAggregateId().hashCode(), parallelism)).add(event));
+
+        Queue<Long> dispatchedIds = new ConcurrentLinkedQueue<>();
+        Queue<OutboxEvent> failedEvents = new ConcurrentLinkedQueue<>();
+        CompletableFuture.allOf(lanes.stream()
+                        .filter(lane -> !lane.isEmpty())
+                        .map(lane -> CompletableFuture.runAsync(() -> dispatchLane(lane, dispatchedIds, failedEvents), executor))
+                        .toArray(CompletableFuture[]::new))
+                .join();
+
+        if (!dispatchedIds.isEmpty()) {
+            outboxEventRepository.deleteAllByIdInBatch(dispatchedIds);
+        }
+        if (!failedEvents.isEmpty()) {
+            outboxEventRepository.incrementAttempts(failedEvents.stream().map(OutboxEvent::getId).toList());
+            failedEvents.stream()
+                    .filter(event -> event.getAttempts() + 1 >= maxAttempts)
+                    .forEach(event -> {
+                        log.error("Outbox event {} {} of order {} failed {} times and will no longer be dispatched.",
+                                event.getId(), event.getEventType(), event.getAggregateId(), maxAttempts);
+                        deadEvents.increment();
+                    });
+        }
+        log.debug("{} outbox events dispatched, {} failed.", dispatchedIds.size(), failedEvents.size());
+        return dispatchedIds.size() == events.size();
+    }
+
+    /**
+     * Dispatches the events of a lane one after the other.
+     * Once an event of an order fails, the following events of the same order are left for the next run.
+     */
+    private void dispatchLane(List<OutboxEvent> lane, Queue<Long> dispatchedIds, Queue<OutboxEvent> failedEvents) {
+        Set<String> failedAggregateIds = new HashSet<>();
+        for (OutboxEvent event : lane) {
+            if (failedAggregateIds.contains(event.getAggregateId())) {
+                continue;
+            }
+            try {
+                orderEventHandler.handle(event);
+                dispatchedIds.add(event.getId());
+            } catch (RuntimeException e) {
+                log.warn("Dispatch of outbox event {} failed (attempt {}): {}", event.getId(), event.getAttempts() + 1, e.getMessage());
+                failedAggregateIds.add(event.getAggregateId());
+                failedEvents.add(event);
+            }
+        }
+    }
+}
@@ -0,0 +1,55 @@
+-- Converts the order ID columns of a PostgreSQL database created when order IDs were stored as strings, into native
+-- UUID columns. spring.jpa.hibernate.ddl-auto=update never changes the type of an existing column, so this script
+-- must be run once, with the application stopped, before starting the version storing order IDs as UUIDs:
+--   psql -v ON_ERROR_STOP=1 -f migrate-order-ids-to-uuid.sql "$DB_URL"
+-- IDs previously generated as random UUIDs are in the canonical UUID form, so they are converted as they are.
+-- The outbox keeps its string aggregate_id column. Indexes on the converted columns are rebuilt along with them.
+-- Orders created before the order_views read model are projected into it, so that the order queries find them.
+
+BEGIN;
+
+-- The foreign key of order_lines would prevent converting orders.order_id: it is dropped, whatever its generated name
+DO $$
+DECLARE
+    constraint_name name;
+BEGIN
+    FOR constraint_name IN
+        SELECT conname FROM pg_constraint
+        WHERE contype = 'f' AND conrelid = 'order_lines'::regclass AND confrelid = 'orders'::regclass
+    LOOP
+        EXECUTE format('ALTER TABLE order_lines DROP CONSTRAINT %I', constraint_name);
+    END LOOP;
+END
+$$;
+
+-- Databases created before the order_views read model do not have its table yet
+CREATE TABLE IF NOT EXISTS order_views (
+    total_price numeric(38,2),
+    version bigint,
+    order_id uuid NOT NULL,
+    order_lines varchar(65535),
+    customer_name varchar(255),
+    status varchar(255) CHECK (status IN ('PENDING','CONFIRMED','CANCELLED','DELIVERED')),
+    PRIMARY KEY (order_id)
+);
+
+ALTER TABLE orders ALTER COLUMN order_id SET DATA TYPE uuid USING order_id::uuid;
+ALTER TABLE order_lines ALTER COLUMN order_id SET DATA TYPE uuid USING order_id::uuid;
+ALTER TABLE order_views ALTER COLUMN order_id SET DATA TYPE uuid USING order_id::uuid;
+ALTER TABLE stock_reservations ALTER COLUMN order_id SET DATA TYPE uuid USING order_id::uuid;
+ALTER TABLE idempotency_keys ALTER COLUMN order_id SET DATA TYPE uuid USING order_id::uuid;
+
+ALTER TABLE order_lines ADD CONSTRAINT fk_order_lines_order_id FOREIGN KEY (order_id) REFERENCES orders (order_id);
+CREATE INDEX IF NOT EXISTS idx_order_lines_order_id ON order_lines (order_id);
+
+-- Projects the orders which have no view yet, their lines in the JSON representation read by OrderViewMapper
+INSERT INTO order_views (order_id, customer_name, status, total_price, order_lines, version)
+SELECT o.order_id, o.customer_name, o.status, o.total_price,
+       COALESCE((SELECT json_agg(json_build_object('isbn', l.isbn, 'quantity', l.quantity, 'price', l.price))
+                 FROM order_lines l
+                 WHERE l.order_id = o.order_id)::text, '[]'),
+       0
+FROM orders o
+WHERE NOT EXISTS (SELECT 1 FROM order_views v WHERE v.order_id = o.order_id);
+
+COMMIT;
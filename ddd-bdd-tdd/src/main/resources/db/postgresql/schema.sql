@@ -0,0 +1,107 @@
+-- Schema of the PostgreSQL database, created on startup by the postgresql profile when missing, then validated against
+-- the entities by Hibernate (spring.jpa.hibernate.ddl-auto=validate). Every statement is skipped when its object
+-- already exists, so the script can run on every startup. A change of the entities must be reported here, along with
+-- a migration script for the existing databases, such as migrate-order-ids-to-uuid.sql.
+
+create sequence if not exists outbox_events_seq start with 1 increment by 50;
+
+create sequence if not exists stock_reservations_seq start with 1 increment by 50;
+
+create table if not exists book (
+    price numeric(38,2),
+    version bigint,
+    author varchar(255),
+    isbn varchar(255) not null,
+    title varchar(255),
+    primary key (isbn)
+);
+
+create table if not exists daily_revenue (
+    revenue numeric(38,2),
+    revenue_day date not null,
+    quantity bigint not null,
+    isbn varchar(255) not null,
+    primary key (revenue_day, isbn)
+);
+
+create table if not exists idempotency_keys (
+    created_at timestamp(6) with time zone,
+    version bigint,
+    order_id uuid,
+    response varchar(65535),
+    idempotency_key varchar(255) not null,
+    request_hash varchar(255),
+    primary key (idempotency_key)
+);
+
+create table if not exists inventory_item (
+    stock integer not null,
+    version bigint,
+    isbn varchar(255) not null,
+    primary key (isbn)
+);
+
+create table if not exists orders (
+    total_price numeric(38,2),
+    confirmed_at timestamp(6) with time zone,
+    version bigint,
+    order_id uuid not null,
+    customer_name varchar(255),
+    status varchar(255) check (status in ('PENDING','CONFIRMED','CANCELLED','DELIVERED')),
+    primary key (order_id)
+);
+
+create table if not exists order_lines (
+    price numeric(38,2),
+    quantity integer,
+    order_id uuid not null,
+    isbn varchar(255),
+    constraint fk_order_lines_order_id foreign key (order_id) references orders (order_id)
+);
+
+create table if not exists order_views (
+    total_price numeric(38,2),
+    version bigint,
+    order_id uuid not null,
+    order_lines varchar(65535),
+    customer_name varchar(255),
+    status varchar(255) check (status in ('PENDING','CONFIRMED','CANCELLED','DELIVERED')),
+    primary key (order_id)
+);
+
+create table if not exists outbox_events (
+    attempts integer not null,
+    created_at timestamp(6) with time zone,
+    id bigint not null,
+    payload varchar(65535),
+    aggregate_id varchar(255),
+    event_type varchar(255) check (event_type in ('ORDER_CREATED','ORDER_CANCELLED')),
+    primary key (id)
+);
+
+create table if not exists stock_reservations (
+    quantity integer not null,
+    expires_at timestamp(6) with time zone,
+    id bigint not null,
+    version bigint,
+    order_id uuid,
+    isbn varchar(255),
+    status varchar(255) check (status in ('ACTIVE','COMMITTED','RELEASED','EXPIRED')),
+    primary key (id)
+);
+
+create index if not exists idx_daily_revenue_isbn on daily_revenue (isbn, revenue_day);
+
+create index if not exists idx_idempotency_keys_created_at on idempotency_keys (created_at);
+
+create index if not exists idx_inventory_item_stock on inventory_item (stock, isbn);
+
+create index if not exists idx_order_lines_order_id on order_lines (order_id);
+
+create index if not exists idx_order_views_customer_name on order_views (customer_name, order_id);
+
+create index if not exists idx_outbox_events_attempts_id on outbox_events (attempts, id);
+
+create index if not exists idx_stock_reservations_order_id on stock_reservations (order_id);
+
+create index if not exists idx_stock_reservations_status_expires_at on stock_reservations (status, expires_at);
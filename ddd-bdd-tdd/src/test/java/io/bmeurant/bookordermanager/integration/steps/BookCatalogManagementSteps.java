@@ -9,6 +9,9 @@ import io.cucumber.java.en.Then;
 import io.cucumber.java.en.When;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
@@ -53,6 +56,32 @@ public class BookCatalogManagementSteps {
         }
     }
 
+    @When("I retrieve the book with ISBN {string} again with its ETag")
+    public void i_retrieve_the_book_with_isbn_again_with_its_etag(String isbn) throws Exception {
+        String eTag = lastResponse.getHeaders().getETag();
+        assertNotNull(eTag, "The previous response should carry an ETag.");
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(eTag);
+        lastResponse = testRestTemplate.exchange("/api/books/" + isbn, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+        retrievedBook = null;
+        if (lastResponse.getStatusCode() == HttpStatus.OK) {
+            retrievedBook = objectMapper.readValue(lastResponse.getBody(), BookResponse.class);
+        }
+    }
+
+    @When("the title of the book with ISBN {string} is changed to {string}")
+    public void the_title_of_the_book_with_isbn_is_changed_to(String isbn, String title) {
+        Book book = bookRepository.findById(isbn).orElseThrow(() -> new AssertionError("Book not found"));
+        book.updateTitle(title);
+        bookRepository.save(book);
+    }
+
+    @Then("the book should not have been modified")
+    public void the_book_should_not_have_been_modified() {
+        assertEquals(HttpStatus.NOT_MODIFIED, lastResponse.getStatusCode(), "The book should be answered as not modified.");
+        assertNull(lastResponse.getBody(), "A not modified response should have no body.");
+    }
+
     @Then("the retrieved book should have ISBN {string}, title {string}, author {string}, and price {bigdecimal}")
     public void the_retrieved_book_should_have_details(String isbn, String title, String author, BigDecimal price) {
         assertNotNull(retrievedBook, "Retrieved book should not be null.");
@@ -1,6 +1,10 @@
 package io.bmeurant.bookordermanager.integration.steps;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.bmeurant.bookordermanager.application.dto.InventoryResponse;
+import io.bmeurant.bookordermanager.application.dto.PageResponse;
+import io.bmeurant.bookordermanager.application.dto.StockBatchRequest;
 import io.bmeurant.bookordermanager.inventory.domain.model.InventoryItem;
 import io.bmeurant.bookordermanager.inventory.domain.repository.InventoryItemRepository;
 import io.cucumber.java.Before;
@@ -13,6 +17,9 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.awaitility.Awaitility.await;
@@ -30,11 +37,13 @@ public class InventoryManagementSteps {
 
     private ResponseEntity<String> lastResponse;
     private Integer retrievedStock;
+    private List<InventoryResponse> retrievedStocks;
 
     @Before
     public void setup() {
         lastResponse = null;
         retrievedStock = null;
+        retrievedStocks = null;
     }
 
     @Given("an inventory item {string} with initial stock of {int}")
@@ -84,4 +93,57 @@ public class InventoryManagementSteps {
         assertTrue(responseBody.contains(expectedMessage),
                 "Error response body should contain the expected message. Actual: " + responseBody);
     }
+
+    @When("I request the stock for ISBNs {string}")
+    public void i_request_the_stock_for_isbns(String isbns) throws IOException {
+        StockBatchRequest request = new StockBatchRequest(Arrays.stream(isbns.split(",")).map(String::trim).toList());
+        lastResponse = testRestTemplate.postForEntity("/api/inventory/stock:batch", request, String.class);
+        assertEquals(HttpStatus.OK, lastResponse.getStatusCode(), "Retrieving the stock of several items should succeed.");
+        retrievedStocks = objectMapper.readValue(lastResponse.getBody(), new TypeReference<List<InventoryResponse>>() {
+        });
+    }
+
+    @Then("the retrieved stocks should be {string}")
+    public void the_retrieved_stocks_should_be(String expectedStocks) {
+        List<InventoryResponse> expected = Arrays.stream(expectedStocks.split(","))
+                .map(String::trim)
+                .map(entry -> entry.split("="))
+                .map(parts -> new InventoryResponse(parts[0], Integer.parseInt(parts[1])))
+                .toList();
+        assertEquals(expected, retrievedStocks, "Retrieved stocks should match the existing items, in request order.");
+    }
+
+    @When("I request the low stock report with threshold {int} by pages of {int}")
+    public void i_request_the_low_stock_report_with_threshold_by_pages_of(int threshold, int size) throws IOException {
+        retrievedStocks = new ArrayList<>();
+        String cursor = null;
+        do {
+            lastResponse = cursor == null
+                    ? testRestTemplate.getForEntity("/api/inventory/low-stock?threshold={threshold}&size={size}", String.class, threshold, size)
+                    : testRestTemplate.getForEntity("/api/inventory/low-stock?threshold={threshold}&size={size}&cursor={cursor}", String.class, threshold, size, cursor);
+            assertEquals(HttpStatus.OK, lastResponse.getStatusCode(), "Reading a page of the low stock report should succeed.");
+            PageResponse<InventoryResponse> page = objectMapper.readValue(lastResponse.getBody(), new TypeReference<PageResponse<InventoryResponse>>() {
+            });
+            assertTrue(page.items().size() <= size, "A page should not hold more items than requested.");
+            retrievedStocks.addAll(page.items());
+            cursor = page.nextCursor();
+        } while (cursor != null);
+    }
+
+    @Then("the low stock report should list {string} before {string}")
+    public void the_low_stock_report_should_list_before(String firstIsbn, String secondIsbn) {
+        List<String> isbns = retrievedStocks.stream().map(InventoryResponse::isbn).toList();
+        assertTrue(isbns.contains(firstIsbn) && isbns.contains(secondIsbn), "Both items should be listed. Actual: " + isbns);
+        assertTrue(isbns.indexOf(firstIsbn) < isbns.indexOf(secondIsbn), "Lower stocks should be listed first. Actual: " + isbns);
+    }
+
+    @Then("the low stock report should not list {string}")
+    public void the_low_stock_report_should_not_list(String isbn) {
+        assertTrue(retrievedStocks.stream().noneMatch(stock -> stock.isbn().equals(isbn)), "Item " + isbn + " should not be listed.");
+    }
+
+    @Then("all stocks of the low stock report should be at most {int}")
+    public void all_stocks_of_the_low_stock_report_should_be_at_most(int threshold) {
+        assertTrue(retrievedStocks.stream().allMatch(stock -> stock.stock() <= threshold), "All listed stocks should be at most " + threshold + ".");
+    }
 }
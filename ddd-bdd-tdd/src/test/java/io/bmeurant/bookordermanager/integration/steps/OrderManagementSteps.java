@@ -2,9 +2,14 @@ package io.bmeurant.bookordermanager.integration.steps;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.bmeurant.bookordermanager.application.dto.ConfirmOrdersRequest;
 import io.bmeurant.bookordermanager.application.dto.CreateOrderRequest;
+import io.bmeurant.bookordermanager.application.dto.OrderConfirmationResult;
 import io.bmeurant.bookordermanager.application.dto.OrderItemRequest;
 import io.bmeurant.bookordermanager.application.dto.OrderResponse;
+import io.bmeurant.bookordermanager.application.dto.PageResponse;
+import io.bmeurant.bookordermanager.application.mapper.OrderViewMapper;
+import io.bmeurant.bookordermanager.application.service.OrderQueryService;
 import io.bmeurant.bookordermanager.application.service.OrderService;
 import io.bmeurant.bookordermanager.catalog.domain.model.Book;
 import io.bmeurant.bookordermanager.catalog.domain.repository.BookRepository;
@@ -18,6 +23,7 @@ import io.bmeurant.bookordermanager.order.domain.event.OrderCreatedEvent;
 import io.bmeurant.bookordermanager.order.domain.model.Order;
 import io.bmeurant.bookordermanager.order.domain.model.OrderLine;
 import io.bmeurant.bookordermanager.order.domain.repository.OrderRepository;
+import io.bmeurant.bookordermanager.order.domain.repository.OrderViewRepository;
 import io.cucumber.datatable.DataTable;
 import io.cucumber.java.Before;
 import io.cucumber.java.en.Given;
@@ -25,6 +31,8 @@ import io.cucumber.java.en.Then;
 import io.cucumber.java.en.When;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
@@ -48,8 +56,14 @@ public class OrderManagementSteps {
     @Autowired
     private OrderService orderService;
     @Autowired
+    private OrderQueryService orderQueryService;
+    @Autowired
     private OrderRepository orderRepository;
     @Autowired
+    private OrderViewRepository orderViewRepository;
+    @Autowired
+    private OrderViewMapper orderViewMapper;
+    @Autowired
     private InventoryService mockedInventoryService;
     @Autowired
     private TestEventListener testEventListener;
@@ -59,7 +73,11 @@ public class OrderManagementSteps {
     private ObjectMapper objectMapper;
 
     private Order currentOrder; // Keep for steps not related to API
+    private List<Order> existingOrders;
+    private List<OrderConfirmationResult> confirmationResults;
     private ResponseEntity<String> lastResponse;
+    private HttpEntity<CreateOrderRequest> idempotentCreation;
+    private List<OrderResponse> idempotentCreationResponses;
     private OrderResponse lastSuccessfulOrder;
     private OrderResponse retrievedOrder;
     private List<OrderResponse> retrievedOrderList;
@@ -69,6 +87,8 @@ public class OrderManagementSteps {
     @Before
     public void setup() {
         currentOrder = null;
+        existingOrders = new ArrayList<>();
+        confirmationResults = null;
         lastResponse = null;
         lastSuccessfulOrder = null;
         retrievedOrder = null;
@@ -94,6 +114,38 @@ public class OrderManagementSteps {
         }
     }
 
+    @When("I create an order for {string} with idempotency key {string} and the following items:")
+    public void i_create_an_order_for_with_idempotency_key_and_the_following_items(String customerName, String idempotencyKey, DataTable dataTable) throws IOException {
+        List<OrderItemRequest> itemRequests = dataTable.asMaps(String.class, String.class).stream()
+                .map(row -> new OrderItemRequest(row.get("productId"), Integer.parseInt(row.get("quantity"))))
+                .toList();
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Idempotency-Key", idempotencyKey);
+        idempotentCreation = new HttpEntity<>(new CreateOrderRequest(customerName, itemRequests), headers);
+        idempotentCreationResponses = new ArrayList<>();
+        sendIdempotentCreation();
+    }
+
+    @When("I retry the order creation with the same idempotency key")
+    public void i_retry_the_order_creation_with_the_same_idempotency_key() throws IOException {
+        sendIdempotentCreation();
+    }
+
+    private void sendIdempotentCreation() throws IOException {
+        lastResponse = testRestTemplate.postForEntity("/api/orders", idempotentCreation, String.class);
+        assertEquals(HttpStatus.CREATED, lastResponse.getStatusCode(), "HTTP status should be 201 Created. Body: " + lastResponse.getBody());
+        idempotentCreationResponses.add(objectMapper.readValue(lastResponse.getBody(), OrderResponse.class));
+    }
+
+    @Then("both creations should return the same order")
+    public void both_creations_should_return_the_same_order() {
+        assertEquals(2, idempotentCreationResponses.size(), "Both creations should have been answered.");
+        assertEquals(idempotentCreationResponses.get(0), idempotentCreationResponses.get(1), "The retry should return the order created first.");
+        String customerName = idempotentCreation.getBody().customerName();
+        assertEquals(1, orderRepository.findAll().stream().filter(order -> order.getCustomerName().equals(customerName)).count(),
+                "A single order should have been created.");
+    }
+
     @Then("the order creation should fail with message {string}")
     public void the_order_creation_should_fail_with_message(String expectedMessage) {
         assertNotNull(lastResponse, "No response was received from the API.");
@@ -169,6 +221,7 @@ public class OrderManagementSteps {
                 .map(req -> new OrderLine(req.isbn(), req.quantity(), BigDecimal.TEN))
                 .collect(java.util.ArrayList::new, java.util.ArrayList::add, java.util.ArrayList::addAll));
         orderRepository.save(currentOrder);
+        existingOrders.add(currentOrder);
 
         // Set initial status if not PENDING
         if (!"PENDING".equals(status)) {
@@ -182,6 +235,8 @@ public class OrderManagementSteps {
             // Add other status transitions here if needed
             orderRepository.save(currentOrder);
         }
+        // Orders created directly publish no event: project their view as well, for them to be read
+        orderViewRepository.save(orderViewMapper.mapOrderToView(currentOrder));
     }
 
     @Given("an order for {string} with the following items:")
@@ -253,7 +308,7 @@ public class OrderManagementSteps {
     public void the_order_should_transition_to_status(String expectedStatus) {
         assertNotNull(currentOrder, "Current order should not be null for status transition verification.");
         await().atMost(5, SECONDS).untilAsserted(() -> {
-            OrderResponse updatedOrderResponse = orderService.getOrderById(currentOrder.getOrderId());
+            OrderResponse updatedOrderResponse = orderQueryService.getOrderById(currentOrder.getOrderId());
             assertEquals(Order.OrderStatus.valueOf(expectedStatus), Order.OrderStatus.valueOf(updatedOrderResponse.status()), "Order status should be updated as expected.");
         });
     }
@@ -278,6 +333,37 @@ public class OrderManagementSteps {
         }
     }
 
+    @When("I confirm the existing orders in a single batch along with order {string}")
+    public void i_confirm_the_existing_orders_in_a_single_batch_along_with_order(String otherOrderId) throws IOException {
+        List<String> orderIds = new ArrayList<>(existingOrders.stream().map(Order::getOrderId).toList());
+        orderIds.add(otherOrderId);
+        lastResponse = testRestTemplate.postForEntity("/api/orders/confirm-batch", new ConfirmOrdersRequest(orderIds), String.class);
+        assertEquals(HttpStatus.OK, lastResponse.getStatusCode(), "Batch confirmation should succeed.");
+        confirmationResults = objectMapper.readValue(lastResponse.getBody(), new TypeReference<List<OrderConfirmationResult>>() {
+        });
+    }
+
+    @Then("the batch confirmation should report the order of {string} as {word}")
+    public void the_batch_confirmation_should_report_the_order_of_as(String customerName, String outcome) {
+        Order order = existingOrders.stream()
+                .filter(existingOrder -> existingOrder.getCustomerName().equals(customerName))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No existing order for " + customerName));
+        the_batch_confirmation_should_report_order_as(order.getOrderId(), outcome);
+        String expectedStatus = "confirmed".equals(outcome) ? "CONFIRMED" : "PENDING";
+        assertEquals(expectedStatus, orderQueryService.getOrderById(order.getOrderId()).status(), "Order status should match the reported outcome.");
+    }
+
+    @Then("the batch confirmation should report order {string} as {word}")
+    public void the_batch_confirmation_should_report_order_as(String orderId, String outcome) {
+        assertNotNull(confirmationResults, "No batch confirmation results were received.");
+        OrderConfirmationResult result = confirmationResults.stream()
+                .filter(confirmationResult -> confirmationResult.orderId().equals(orderId))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No confirmation result for order " + orderId));
+        assertEquals("confirmed".equals(outcome), result.confirmed(), "Order " + orderId + " should be reported as " + outcome + ". Error: " + result.error());
+    }
+
     @Then("the confirmation should fail with message {string}")
     public void the_confirmation_should_fail_with_message(String expectedMessage) {
         assertNotNull(errorMessage, "No error message was captured.");
@@ -294,11 +380,19 @@ public class OrderManagementSteps {
         }
     }
 
+    @When("I cancel the last created order")
+    public void i_cancel_the_last_created_order() throws IOException {
+        assertNotNull(lastSuccessfulOrder, "No order was successfully created to cancel.");
+        lastResponse = testRestTemplate.postForEntity("/api/orders/" + lastSuccessfulOrder.orderId() + "/cancel", null, String.class);
+        assertEquals(HttpStatus.OK, lastResponse.getStatusCode(), "Order cancellation should succeed.");
+        retrievedOrder = objectMapper.readValue(lastResponse.getBody(), OrderResponse.class);
+    }
+
     @Then("the order should have status {string}")
     public void the_order_should_have_status(String expectedStatus) {
         assertNotNull(currentOrder, "Current order should not be null for status verification.");
         await().atMost(5, SECONDS).untilAsserted(() -> {
-            OrderResponse updatedOrder = orderService.getOrderById(currentOrder.getOrderId());
+            OrderResponse updatedOrder = orderQueryService.getOrderById(currentOrder.getOrderId());
             assertEquals(Order.OrderStatus.valueOf(expectedStatus), Order.OrderStatus.valueOf(updatedOrder.status()), "Order status should be updated as expected.");
         });
     }
@@ -358,4 +452,28 @@ public class OrderManagementSteps {
         assertTrue(retrievedOrderList.stream().anyMatch(o -> o.customerName().equals(customerName)),
                 "An order for customer " + customerName + " should exist in the list.");
     }
+
+    @When("I request the orders of {string} by pages of {int}")
+    public void i_request_the_orders_of_by_pages_of(String customerName, int size) throws IOException {
+        retrievedOrderList = new ArrayList<>();
+        String cursor = null;
+        do {
+            lastResponse = cursor == null
+                    ? testRestTemplate.getForEntity("/api/orders?customer={customer}&size={size}", String.class, customerName, size)
+                    : testRestTemplate.getForEntity("/api/orders?customer={customer}&size={size}&cursor={cursor}", String.class, customerName, size, cursor);
+            assertEquals(HttpStatus.OK, lastResponse.getStatusCode(), "Reading a page of the orders of the customer should succeed.");
+            PageResponse<OrderResponse> page = objectMapper.readValue(lastResponse.getBody(), new TypeReference<PageResponse<OrderResponse>>() {
+            });
+            assertTrue(page.items().size() <= size, "A page should not hold more orders than requested.");
+            retrievedOrderList.addAll(page.items());
+            cursor = page.nextCursor();
+        } while (cursor != null);
+    }
+
+    @Then("all orders should be for {string}")
+    public void all_orders_should_be_for(String customerName) {
+        assertNotNull(retrievedOrderList, "The retrieved order list should not be null.");
+        assertTrue(retrievedOrderList.stream().allMatch(o -> o.customerName().equals(customerName)),
+                "All orders in the list should be for customer " + customerName + ".");
+    }
 }
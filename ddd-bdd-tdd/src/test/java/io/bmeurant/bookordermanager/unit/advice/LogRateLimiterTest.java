@@ -0,0 +1,57 @@
+package io.bmeurant.bookordermanager.unit.advice;
+
+import io.bmeurant.bookordermanager.interfaces.rest.advice.LogRateLimiter;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LogRateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final LogRateLimiter logRateLimiter = new LogRateLimiter(2, Duration.ofSeconds(1), now::get);
+
+    @Test
+    void tryAcquire_shouldSuppressMessagesBeyondLimitWithinWindow() {
+        // When & Then
+        assertEquals(0, logRateLimiter.tryAcquire("not-found"), "First message should be logged.");
+        assertEquals(0, logRateLimiter.tryAcquire("not-found"), "Second message should be logged.");
+        assertEquals(-1, logRateLimiter.tryAcquire("not-found"), "Third message should be suppressed.");
+        assertEquals(-1, logRateLimiter.tryAcquire("not-found"), "Fourth message should be suppressed.");
+    }
+
+    @Test
+    void tryAcquire_shouldReportSuppressedMessagesWithFirstMessageOfNextWindow() {
+        // Given
+        for (int i = 0; i < 5; i++) {
+            logRateLimiter.tryAcquire("not-found");
+        }
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+
+        // When
+        long suppressed = logRateLimiter.tryAcquire("not-found");
+
+        // Then
+        assertEquals(3, suppressed, "Messages suppressed in the previous window should be reported.");
+        assertEquals(0, logRateLimiter.tryAcquire("not-found"), "Suppressed messages should be reported once.");
+    }
+
+    @Test
+    void tryAcquire_shouldLimitEachKeySeparately() {
+        // Given
+        logRateLimiter.tryAcquire("not-found");
+        logRateLimiter.tryAcquire("not-found");
+
+        // When & Then
+        assertEquals(-1, logRateLimiter.tryAcquire("not-found"), "Messages of an exhausted key should be suppressed.");
+        assertEquals(0, logRateLimiter.tryAcquire("conflict"), "Messages of another key should be logged.");
+    }
+
+    @Test
+    void constructor_shouldRejectNonPositiveLimit() {
+        assertThrows(IllegalArgumentException.class, () -> new LogRateLimiter(0, Duration.ofSeconds(1), System::nanoTime), "Limit should be positive.");
+    }
+}
@@ -8,7 +8,6 @@ import io.bmeurant.bookordermanager.inventory.domain.exception.InsufficientStock
 import io.bmeurant.bookordermanager.order.domain.model.Order;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.core.MethodParameter;
@@ -29,7 +28,6 @@ import static org.mockito.Mockito.when;
 
 class RestExceptionHandlerTest {
 
-    @InjectMocks
     private RestExceptionHandler restExceptionHandler;
 
     @Mock
@@ -38,6 +36,7 @@ class RestExceptionHandlerTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        restExceptionHandler = new RestExceptionHandler(20);
     }
 
     @Test
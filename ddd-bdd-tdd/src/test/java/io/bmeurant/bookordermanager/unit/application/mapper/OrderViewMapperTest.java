@@ -0,0 +1,53 @@
+package io.bmeurant.bookordermanager.unit.application.mapper;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.bmeurant.bookordermanager.application.dto.OrderLineResponse;
+import io.bmeurant.bookordermanager.application.dto.OrderResponse;
+import io.bmeurant.bookordermanager.application.mapper.OrderMapper;
+import io.bmeurant.bookordermanager.application.mapper.OrderViewMapper;
+import io.bmeurant.bookordermanager.order.domain.model.Order;
+import io.bmeurant.bookordermanager.order.domain.model.OrderLine;
+import io.bmeurant.bookordermanager.order.domain.model.OrderView;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class OrderViewMapperTest {
+
+    private final OrderViewMapper orderViewMapper = new OrderViewMapper(new OrderMapper(), new ObjectMapper());
+
+    @Test
+    void mapOrderToView_shouldHoldOrderWithLinesAsJson() {
+        // Given
+        Order order = new Order("Alice Wonderland", List.of(new OrderLine("978-0321765723", 2, new BigDecimal("25.00"))));
+
+        // When
+        OrderView orderView = orderViewMapper.mapOrderToView(order);
+
+        // Then
+        assertEquals(order.getOrderId(), orderView.getOrderId(), "Order ID should match.");
+        assertEquals("Alice Wonderland", orderView.getCustomerName(), "Customer name should match.");
+        assertEquals(Order.OrderStatus.PENDING, orderView.getStatus(), "Order status should match.");
+        assertEquals("[{\"isbn\":\"978-0321765723\",\"quantity\":2,\"price\":25.00}]", orderView.getOrderLines(), "Order lines should be held as JSON.");
+    }
+
+    @Test
+    void mapViewToResponse_shouldReadBackMappedOrder() {
+        // Given
+        Order order = new Order("Alice Wonderland", List.of(
+                new OrderLine("978-0321765723", 2, new BigDecimal("25.00")),
+                new OrderLine("978-0132350884", 1, new BigDecimal("35.00"))));
+        order.confirm();
+
+        // When
+        OrderResponse orderResponse = orderViewMapper.mapViewToResponse(orderViewMapper.mapOrderToView(order));
+
+        // Then
+        assertEquals(new OrderResponse(order.getOrderId(), "Alice Wonderland", "CONFIRMED", List.of(
+                new OrderLineResponse("978-0321765723", 2, new BigDecimal("25.00")),
+                new OrderLineResponse("978-0132350884", 1, new BigDecimal("35.00")))), orderResponse, "View should be read back as the mapped order.");
+    }
+}
@@ -0,0 +1,163 @@
+package io.bmeurant.bookordermanager.unit.application.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.bmeurant.bookordermanager.application.dto.CreateOrderRequest;
+import io.bmeurant.bookordermanager.application.dto.OrderItemRequest;
+import io.bmeurant.bookordermanager.application.dto.OrderLineResponse;
+import io.bmeurant.bookordermanager.application.dto.OrderResponse;
+import io.bmeurant.bookordermanager.application.service.OrderService;
+import io.bmeurant.bookordermanager.application.service.impl.IdempotencyServiceImpl;
+import io.bmeurant.bookordermanager.domain.exception.ValidationException;
+import io.bmeurant.bookordermanager.inventory.domain.exception.InsufficientStockException;
+import io.bmeurant.bookordermanager.order.domain.exception.IdempotencyKeyReuseException;
+import io.bmeurant.bookordermanager.order.domain.model.IdempotencyKey;
+import io.bmeurant.bookordermanager.order.domain.repository.IdempotencyKeyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyServiceTest {
+
+    private static final String KEY = "3f1c9b1e-key";
+
+    @Mock
+    private OrderService orderService;
+
+    @Mock
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final CreateOrderRequest request = new CreateOrderRequest("Alice", List.of(new OrderItemRequest("978-0321765723", 2)));
+    private final OrderResponse response = new OrderResponse("order-1", "Alice", "PENDING",
+            List.of(new OrderLineResponse("978-0321765723", 2, new BigDecimal("25.00"))));
+    private IdempotencyServiceImpl idempotencyService;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyService = new IdempotencyServiceImpl(orderService, idempotencyKeyRepository, objectMapper,
+                TransactionOperations.withoutTransaction(), 100, Duration.ofHours(1));
+    }
+
+    @Test
+    void createOrder_shouldCreateOrderAndRecordKey() {
+        // Given
+        when(idempotencyKeyRepository.findById(KEY)).thenReturn(Optional.empty());
+        when(orderService.createOrder(request)).thenReturn(response);
+        ArgumentCaptor<IdempotencyKey> recorded = ArgumentCaptor.forClass(IdempotencyKey.class);
+
+        // When
+        OrderResponse result = idempotencyService.createOrder(KEY, request);
+
+        // Then
+        assertEquals(response, result, "Created order should be returned.");
+        verify(idempotencyKeyRepository).save(recorded.capture());
+        assertEquals(KEY, recorded.getValue().getIdempotencyKey(), "Key should be recorded.");
+        assertEquals("order-1", recorded.getValue().getOrderId(), "Created order should be recorded with the key.");
+    }
+
+    @Test
+    void createOrder_shouldReplayRecentResponseWithoutCreatingOrderAgain() {
+        // Given
+        when(idempotencyKeyRepository.findById(KEY)).thenReturn(Optional.empty());
+        when(orderService.createOrder(request)).thenReturn(response);
+        idempotencyService.createOrder(KEY, request);
+
+        // When
+        OrderResponse replayed = idempotencyService.createOrder(KEY, request);
+
+        // Then
+        assertEquals(response, replayed, "Response of the first creation should be replayed.");
+        verify(orderService, times(1)).createOrder(any(CreateOrderRequest.class));
+        verify(idempotencyKeyRepository, times(1)).findById(KEY);
+    }
+
+    @Test
+    void createOrder_shouldReplayRecordedResponseWhenNotInMemory() {
+        // Given
+        IdempotencyKey recordedKey = recordKey(request, response);
+        when(idempotencyKeyRepository.findById(KEY)).thenReturn(Optional.of(recordedKey));
+        IdempotencyServiceImpl restartedService = new IdempotencyServiceImpl(orderService, idempotencyKeyRepository, objectMapper,
+                TransactionOperations.withoutTransaction(), 100, Duration.ofHours(1));
+
+        // When
+        OrderResponse replayed = restartedService.createOrder(KEY, request);
+
+        // Then
+        assertEquals(response, replayed, "Recorded response should be replayed.");
+        verify(orderService, times(1)).createOrder(any(CreateOrderRequest.class));
+    }
+
+    @Test
+    void createOrder_shouldRejectKeyReusedForDifferentRequest() {
+        // Given
+        when(idempotencyKeyRepository.findById(KEY)).thenReturn(Optional.empty());
+        when(orderService.createOrder(request)).thenReturn(response);
+        idempotencyService.createOrder(KEY, request);
+        CreateOrderRequest otherRequest = new CreateOrderRequest("Alice", List.of(new OrderItemRequest("978-0321765723", 3)));
+
+        // When & Then
+        assertThrows(IdempotencyKeyReuseException.class, () -> idempotencyService.createOrder(KEY, otherRequest), "Should reject a key reused for a different request.");
+        verify(orderService, times(1)).createOrder(any(CreateOrderRequest.class));
+    }
+
+    @Test
+    void createOrder_shouldReplayConcurrentCreationWhenItRecordedKeyFirst() {
+        // Given
+        IdempotencyKey concurrentKey = recordKey(request, new OrderResponse("order-0", "Alice", "PENDING", response.orderLines()));
+        IdempotencyServiceImpl otherService = new IdempotencyServiceImpl(orderService, idempotencyKeyRepository, objectMapper,
+                TransactionOperations.withoutTransaction(), 100, Duration.ofHours(1));
+        when(idempotencyKeyRepository.findById(KEY)).thenReturn(Optional.empty()).thenReturn(Optional.of(concurrentKey));
+        when(orderService.createOrder(request)).thenReturn(response);
+        when(idempotencyKeyRepository.save(any(IdempotencyKey.class))).thenThrow(new DataIntegrityViolationException("duplicate key"));
+
+        // When
+        OrderResponse result = otherService.createOrder(KEY, request);
+
+        // Then
+        assertEquals("order-0", result.orderId(), "Order of the concurrent creation should be returned.");
+    }
+
+    @Test
+    void createOrder_shouldNotRecordKeyWhenCreationFails() {
+        // Given
+        when(idempotencyKeyRepository.findById(KEY)).thenReturn(Optional.empty());
+        when(orderService.createOrder(request)).thenThrow(new InsufficientStockException("978-0321765723", 2, 0));
+
+        // When & Then
+        assertThrows(InsufficientStockException.class, () -> idempotencyService.createOrder(KEY, request), "Creation failure should propagate.");
+        verify(idempotencyKeyRepository, never()).save(any(IdempotencyKey.class));
+    }
+
+    @Test
+    void createOrder_shouldRejectBlankKey() {
+        assertThrows(ValidationException.class, () -> idempotencyService.createOrder(" ", request), "Should throw ValidationException when key is blank.");
+        verifyNoInteractions(orderService);
+    }
+
+    /**
+     * Creates an order with the tested service, and returns the key it records.
+     */
+    private IdempotencyKey recordKey(CreateOrderRequest createOrderRequest, OrderResponse orderResponse) {
+        when(idempotencyKeyRepository.findById(KEY)).thenReturn(Optional.empty());
+        when(orderService.createOrder(createOrderRequest)).thenReturn(orderResponse);
+        idempotencyService.createOrder(KEY, createOrderRequest);
+        ArgumentCaptor<IdempotencyKey> recorded = ArgumentCaptor.forClass(IdempotencyKey.class);
+        verify(idempotencyKeyRepository).save(recorded.capture());
+        return recorded.getValue();
+    }
+}
@@ -0,0 +1,255 @@
+package io.bmeurant.bookordermanager.unit.application.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.bmeurant.bookordermanager.application.dto.DailyRevenueResponse;
+import io.bmeurant.bookordermanager.application.dto.OrderResponse;
+import io.bmeurant.bookordermanager.application.dto.PageResponse;
+import io.bmeurant.bookordermanager.application.mapper.OrderMapper;
+import io.bmeurant.bookordermanager.application.mapper.OrderViewMapper;
+import io.bmeurant.bookordermanager.application.service.impl.OrderQueryServiceImpl;
+import io.bmeurant.bookordermanager.domain.exception.ValidationException;
+import io.bmeurant.bookordermanager.domain.util.KeysetPagination;
+import io.bmeurant.bookordermanager.domain.util.TimeOrderedUuids;
+import io.bmeurant.bookordermanager.order.domain.exception.OrderNotFoundException;
+import io.bmeurant.bookordermanager.order.domain.model.DailyRevenue;
+import io.bmeurant.bookordermanager.order.domain.model.Order;
+import io.bmeurant.bookordermanager.order.domain.model.OrderLine;
+import io.bmeurant.bookordermanager.order.domain.model.OrderView;
+import io.bmeurant.bookordermanager.order.domain.repository.DailyRevenueRepository;
+import io.bmeurant.bookordermanager.order.domain.repository.OrderViewRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderQueryServiceTest {
+
+    @Mock
+    private OrderViewRepository orderViewRepository;
+    @Mock
+    private DailyRevenueRepository dailyRevenueRepository;
+    @Mock
+    private EntityManager entityManager;
+
+    private final OrderViewMapper orderViewMapper = new OrderViewMapper(new OrderMapper(), new ObjectMapper());
+    private OrderQueryServiceImpl orderQueryService;
+
+    @BeforeEach
+    void setUp() {
+        orderQueryService = new OrderQueryServiceImpl(orderViewRepository, dailyRevenueRepository, orderViewMapper, entityManager);
+    }
+
+    @Test
+    void getOrderById_shouldReturnOrderWhenFound() {
+        // Given
+        OrderView orderView = orderView("Test Customer");
+        when(orderViewRepository.findById(orderView.getOrderId())).thenReturn(Optional.of(orderView));
+
+        // When
+        OrderResponse foundOrderResponse = orderQueryService.getOrderById(orderView.getOrderId());
+
+        // Then
+        assertEquals(orderView.getOrderId(), foundOrderResponse.orderId(), "Order ID should match.");
+        assertEquals("Test Customer", foundOrderResponse.customerName(), "Customer name should match.");
+        assertEquals("PENDING", foundOrderResponse.status(), "Order status should match.");
+        assertEquals(1, foundOrderResponse.orderLines().size(), "Order line count should match.");
+    }
+
+    @Test
+    void getOrderById_shouldThrowOrderNotFoundExceptionWhenNotFound() {
+        // Given
+        String orderId = TimeOrderedUuids.next();
+        when(orderViewRepository.findById(orderId)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(OrderNotFoundException.class, () -> orderQueryService.getOrderById(orderId), "Should throw OrderNotFoundException when order is not found.");
+    }
+
+    @Test
+    void getOrderById_shouldThrowOrderNotFoundExceptionWithoutQueryingWhenIdIsMalformed() {
+        assertThrows(OrderNotFoundException.class, () -> orderQueryService.getOrderById("unknown-order"), "Should throw OrderNotFoundException when order ID is not a UUID.");
+        verifyNoInteractions(orderViewRepository);
+    }
+
+    @Test
+    void findAllOrders_shouldReturnAllOrders() {
+        // Given
+        when(orderViewRepository.findAll()).thenReturn(List.of(orderView("Customer A"), orderView("Customer B")));
+
+        // When
+        List<OrderResponse> orderResponses = orderQueryService.findAllOrders();
+
+        // Then
+        assertEquals(List.of("Customer A", "Customer B"), orderResponses.stream().map(OrderResponse::customerName).toList(), "All orders should be returned.");
+    }
+
+    @Test
+    void findOrders_shouldReturnFirstPageWithNextCursor() {
+        // Given
+        OrderView orderView1 = orderView("Customer A");
+        OrderView orderView2 = orderView("Customer B");
+        when(orderViewRepository.findAllByOrderByOrderId(Limit.of(3))).thenReturn(List.of(orderView1, orderView2, orderView("Customer C")));
+
+        // When
+        PageResponse<OrderResponse> page = orderQueryService.findOrders(null, 2);
+
+        // Then
+        assertEquals(List.of("Customer A", "Customer B"), page.items().stream().map(OrderResponse::customerName).toList(), "Page should hold the requested number of orders.");
+        assertEquals(orderView2.getOrderId(), KeysetPagination.decodeCursor(page.nextCursor()), "Next cursor should point after the last order of the page.");
+    }
+
+    @Test
+    void findOrders_shouldReturnLastPageAfterCursor() {
+        // Given
+        when(orderViewRepository.findByOrderIdGreaterThanOrderByOrderId("0190a000-0000-7000-8000-000000000002", Limit.of(3))).thenReturn(List.of(orderView("Customer C")));
+
+        // When
+        PageResponse<OrderResponse> page = orderQueryService.findOrders(KeysetPagination.encodeCursor("0190a000-0000-7000-8000-000000000002"), 2);
+
+        // Then
+        assertEquals(1, page.items().size(), "Last page should hold the remaining orders.");
+        assertNull(page.nextCursor(), "Last page should have no next cursor.");
+        verify(orderViewRepository, never()).findAllByOrderByOrderId(any(Limit.class));
+    }
+
+    @Test
+    void findOrders_shouldThrowValidationExceptionWhenSizeIsOutOfBounds() {
+        assertThrows(ValidationException.class, () -> orderQueryService.findOrders(null, 0), "Should throw ValidationException when size is zero.");
+        assertThrows(ValidationException.class, () -> orderQueryService.findOrders(null, KeysetPagination.MAX_PAGE_SIZE + 1), "Should throw ValidationException when size exceeds the maximum.");
+        verifyNoInteractions(orderViewRepository);
+    }
+
+    @Test
+    void findOrders_shouldThrowValidationExceptionWhenCursorIsNotAnOrderId() {
+        assertThrows(ValidationException.class, () -> orderQueryService.findOrders(KeysetPagination.encodeCursor("order-2"), 2), "Should throw ValidationException when cursor does not hold an order ID.");
+        verifyNoInteractions(orderViewRepository);
+    }
+
+    @Test
+    void findOrdersByCustomer_shouldReturnFirstPageOfCustomerOrders() {
+        // Given
+        OrderView orderView1 = orderView("Customer A");
+        when(orderViewRepository.findByCustomerNameOrderByOrderId("Customer A", Limit.of(2))).thenReturn(List.of(orderView1, orderView("Customer A")));
+
+        // When
+        PageResponse<OrderResponse> page = orderQueryService.findOrdersByCustomer("Customer A", null, 1);
+
+        // Then
+        assertEquals(List.of(orderView1.getOrderId()), page.items().stream().map(OrderResponse::orderId).toList(), "Page should hold the requested number of orders.");
+        assertEquals(orderView1.getOrderId(), KeysetPagination.decodeCursor(page.nextCursor()), "Next cursor should point after the last order of the page.");
+    }
+
+    @Test
+    void findOrdersByCustomer_shouldReturnLastPageAfterCursor() {
+        // Given
+        when(orderViewRepository.findByCustomerNameAndOrderIdGreaterThanOrderByOrderId("Customer A", "0190a000-0000-7000-8000-000000000001", Limit.of(2))).thenReturn(List.of(orderView("Customer A")));
+
+        // When
+        PageResponse<OrderResponse> page = orderQueryService.findOrdersByCustomer("Customer A", KeysetPagination.encodeCursor("0190a000-0000-7000-8000-000000000001"), 1);
+
+        // Then
+        assertEquals(1, page.items().size(), "Last page should hold the remaining orders.");
+        assertNull(page.nextCursor(), "Last page should have no next cursor.");
+        verify(orderViewRepository, never()).findByCustomerNameOrderByOrderId(any(), any(Limit.class));
+    }
+
+    @Test
+    void findOrdersByCustomer_shouldThrowValidationExceptionWhenCustomerIsBlank() {
+        assertThrows(ValidationException.class, () -> orderQueryService.findOrdersByCustomer(" ", null, 20), "Should throw ValidationException when customer is blank.");
+        verifyNoInteractions(orderViewRepository);
+    }
+
+    @Test
+    void streamAllOrders_shouldPassEachOrderAndDetachIt() {
+        // Given
+        OrderView orderView1 = orderView("Customer A");
+        OrderView orderView2 = orderView("Customer B");
+        when(orderViewRepository.streamAllByOrderByOrderId()).thenReturn(Stream.of(orderView1, orderView2));
+        List<OrderResponse> streamedOrders = new ArrayList<>();
+
+        // When
+        orderQueryService.streamAllOrders(streamedOrders::add);
+
+        // Then
+        assertEquals(List.of("Customer A", "Customer B"), streamedOrders.stream().map(OrderResponse::customerName).toList(), "All orders should be streamed in order.");
+        verify(entityManager, times(1)).detach(orderView1);
+        verify(entityManager, times(1)).detach(orderView2);
+    }
+
+    @Test
+    void getDailyRevenues_shouldReturnRevenuesOfAllBooksByDay() {
+        // Given
+        LocalDate day = LocalDate.of(2026, 10, 1);
+        when(dailyRevenueRepository.sumByDayBetween(day, day.plusDays(6))).thenReturn(List.of(dailyTotal(day, 3, "75.00")));
+
+        // When
+        List<DailyRevenueResponse> revenues = orderQueryService.getDailyRevenues(day, day.plusDays(6), null);
+
+        // Then
+        assertEquals(List.of(new DailyRevenueResponse(day, null, 3, new BigDecimal("75.00"))), revenues, "Revenues of all books should be returned by day.");
+        verify(dailyRevenueRepository, never()).findByIsbnAndDayBetweenOrderByDay(any(), any(), any());
+    }
+
+    @Test
+    void getDailyRevenues_shouldReturnRevenuesOfBookByDay() {
+        // Given
+        LocalDate day = LocalDate.of(2026, 10, 1);
+        when(dailyRevenueRepository.findByIsbnAndDayBetweenOrderByDay("978-0321765723", day, day))
+                .thenReturn(List.of(new DailyRevenue(day, "978-0321765723", 2, new BigDecimal("50.00"))));
+
+        // When
+        List<DailyRevenueResponse> revenues = orderQueryService.getDailyRevenues(day, day, "978-0321765723");
+
+        // Then
+        assertEquals(List.of(new DailyRevenueResponse(day, "978-0321765723", 2, new BigDecimal("50.00"))), revenues, "Revenues of the book should be returned by day.");
+        verify(dailyRevenueRepository, never()).sumByDayBetween(any(), any());
+    }
+
+    @Test
+    void getDailyRevenues_shouldThrowValidationExceptionWhenDaysAreInvalid() {
+        LocalDate day = LocalDate.of(2026, 10, 1);
+
+        assertThrows(ValidationException.class, () -> orderQueryService.getDailyRevenues(null, day, null), "Should throw ValidationException when first day is missing.");
+        assertThrows(ValidationException.class, () -> orderQueryService.getDailyRevenues(day, day.minusDays(1), null), "Should throw ValidationException when days are reversed.");
+        assertThrows(ValidationException.class, () -> orderQueryService.getDailyRevenues(day, day.plusYears(2), null), "Should throw ValidationException when days are more than a year apart.");
+        verifyNoInteractions(dailyRevenueRepository);
+    }
+
+    private static DailyRevenueRepository.DailyTotal dailyTotal(LocalDate day, long quantity, String revenue) {
+        return new DailyRevenueRepository.DailyTotal() {
+            @Override
+            public LocalDate getDay() {
+                return day;
+            }
+
+            @Override
+            public long getQuantity() {
+                return quantity;
+            }
+
+            @Override
+            public BigDecimal getRevenue() {
+                return new BigDecimal(revenue);
+            }
+        };
+    }
+
+    private OrderView orderView(String customerName) {
+        return orderViewMapper.mapOrderToView(new Order(customerName, List.of(new OrderLine("978-0321765723", 1, new BigDecimal("25.00")))));
+    }
+}
@@ -2,6 +2,7 @@ package io.bmeurant.bookordermanager.unit.application.service.impl;
 
 import io.bmeurant.bookordermanager.application.dto.BookResponse;
 import io.bmeurant.bookordermanager.application.dto.CreateOrderRequest;
+import io.bmeurant.bookordermanager.application.dto.OrderConfirmationResult;
 import io.bmeurant.bookordermanager.application.dto.OrderItemRequest;
 import io.bmeurant.bookordermanager.application.dto.OrderResponse;
 import io.bmeurant.bookordermanager.application.mapper.OrderMapper;
@@ -10,20 +11,22 @@ import io.bmeurant.bookordermanager.catalog.domain.exception.BookNotFoundExcepti
 import io.bmeurant.bookordermanager.catalog.domain.service.BookService;
 import io.bmeurant.bookordermanager.domain.exception.ValidationException;
 import io.bmeurant.bookordermanager.inventory.domain.exception.InsufficientStockException;
-import io.bmeurant.bookordermanager.inventory.domain.model.InventoryItem;
 import io.bmeurant.bookordermanager.inventory.domain.service.InventoryService;
 import io.bmeurant.bookordermanager.order.domain.event.OrderCancelledEvent;
+import io.bmeurant.bookordermanager.order.domain.event.OrderConfirmedEvent;
 import io.bmeurant.bookordermanager.order.domain.event.OrderCreatedEvent;
 import io.bmeurant.bookordermanager.order.domain.exception.OrderNotFoundException;
 import io.bmeurant.bookordermanager.order.domain.model.Order;
 import io.bmeurant.bookordermanager.order.domain.model.OrderLine;
 import io.bmeurant.bookordermanager.order.domain.repository.OrderRepository;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.math.BigDecimal;
 import java.util.*;
@@ -43,13 +46,17 @@ class OrderServiceTest {
     private ApplicationEventPublisher applicationEventPublisher;
     @Mock
     private OrderMapper orderMapper;
+    @Mock
+    private EntityManager entityManager;
+    @Spy
+    private TransactionOperations transactionOperations = TransactionOperations.withoutTransaction();
 
-    @InjectMocks
     private OrderServiceImpl orderService;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        orderService = new OrderServiceImpl(bookService, inventoryService, orderRepository, applicationEventPublisher, orderMapper, entityManager, transactionOperations, 2);
         // Mock the behavior of orderMapper
         when(orderMapper.mapOrderToResponse(any(Order.class))).thenAnswer(invocation -> {
             Order order = invocation.getArgument(0);
@@ -61,7 +68,7 @@ class OrderServiceTest {
     }
 
     @Test
-    void createOrder_shouldCreateOrderAndCheckStockSuccessfully() {
+    void createOrder_shouldCreateOrderAndReserveStockSuccessfully() {
         // Given
         String customerName = "Test Customer";
         String isbn1 = "978-0321765723";
@@ -81,14 +88,9 @@ class OrderServiceTest {
 
         Order order = new Order(customerName, List.of(new OrderLine(isbn1, quantity1, price1), new OrderLine(isbn2, quantity2, price2)));
 
-        when(bookService.getBookByIsbn(isbn1)).thenReturn(bookResponse1);
-        when(bookService.getBookByIsbn(isbn2)).thenReturn(bookResponse2);
+        when(bookService.getBooksByIsbns(List.of(isbn1, isbn2))).thenReturn(Map.of(isbn1, bookResponse1, isbn2, bookResponse2));
         when(orderRepository.save(any(Order.class))).thenReturn(order);
 
-        // Mock checkStock calls
-        doNothing().when(inventoryService).checkStock(isbn1, quantity1);
-        doNothing().when(inventoryService).checkStock(isbn2, quantity2);
-
         // When
         OrderResponse createdOrderResponse = orderService.createOrder(createOrderRequest);
 
@@ -100,74 +102,78 @@ class OrderServiceTest {
         assertEquals(2, createdOrderResponse.orderLines().size(), "Should have two order lines.");
 
         // Verify service interactions
-        verify(bookService, times(1)).getBookByIsbn(isbn1);
-        verify(bookService, times(1)).getBookByIsbn(isbn2);
+        verify(bookService, times(1)).getBooksByIsbns(List.of(isbn1, isbn2));
+        verify(bookService, never()).getBookByIsbn(anyString());
         verify(orderRepository, times(1)).save(any(Order.class));
         verify(applicationEventPublisher, times(1)).publishEvent(any(OrderCreatedEvent.class));
-        verify(inventoryService, times(1)).checkStock(isbn1, quantity1);
-        verify(inventoryService, times(1)).checkStock(isbn2, quantity2);
+        verify(inventoryService, times(1)).reserveStock(anyString(), eq(Map.of(isbn1, quantity1, isbn2, quantity2)));
+        verify(inventoryService, never()).checkStock(anyString(), anyInt());
         verify(inventoryService, never()).deductStock(anyString(), anyInt());
     }
 
     @Test
-    void createOrder_shouldThrowExceptionWhenBookNotFound() {
+    void createOrder_shouldReserveStockOnTotalQuantityWhenIsbnIsRepeated() {
         // Given
-        String customerName = "Test Customer";
         String isbn1 = "978-0321765723";
-        int quantity1 = 2;
+        BigDecimal price1 = new BigDecimal("25.00");
+        CreateOrderRequest createOrderRequest = new CreateOrderRequest("Test Customer",
+                List.of(new OrderItemRequest(isbn1, 2), new OrderItemRequest(isbn1, 3)));
 
-        OrderItemRequest itemRequest1 = new OrderItemRequest(isbn1, quantity1);
-        List<OrderItemRequest> itemRequests = List.of(itemRequest1);
-        CreateOrderRequest createOrderRequest = new CreateOrderRequest(customerName, itemRequests);
+        when(bookService.getBooksByIsbns(List.of(isbn1, isbn1))).thenReturn(Map.of(isbn1, new BookResponse(isbn1, "Book One", "Author One", price1)));
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
-        when(bookService.getBookByIsbn(isbn1)).thenThrow(new BookNotFoundException(isbn1));
+        // When
+        OrderResponse createdOrderResponse = orderService.createOrder(createOrderRequest);
 
-        // When & Then
-        assertThrows(BookNotFoundException.class, () -> orderService.createOrder(createOrderRequest), "Should throw BookNotFoundException when book is not found.");
+        // Then
+        assertEquals(2, createdOrderResponse.orderLines().size(), "Each requested item should keep its own order line.");
+        verify(inventoryService, times(1)).reserveStock(createdOrderResponse.orderId(), Map.of(isbn1, 5));
     }
 
     @Test
-    void createOrder_shouldThrowValidationExceptionForEmptyItems() {
+    void createOrder_shouldNotSaveOrderWhenStockIsInsufficient() {
         // Given
-        CreateOrderRequest request = new CreateOrderRequest("Customer", Collections.emptyList());
+        String isbn1 = "978-0321765723";
+        BigDecimal price1 = new BigDecimal("25.00");
+        CreateOrderRequest createOrderRequest = new CreateOrderRequest("Test Customer", List.of(new OrderItemRequest(isbn1, 3)));
+
+        when(bookService.getBooksByIsbns(List.of(isbn1))).thenReturn(Map.of(isbn1, new BookResponse(isbn1, "Book One", "Author One", price1)));
+        doThrow(new InsufficientStockException(isbn1, 3, 2)).when(inventoryService).reserveStock(anyString(), eq(Map.of(isbn1, 3)));
 
         // When & Then
-        assertThrows(ValidationException.class, () -> orderService.createOrder(request));
+        assertThrows(InsufficientStockException.class, () -> orderService.createOrder(createOrderRequest), "Should throw InsufficientStockException when stock is insufficient.");
+        verify(orderRepository, never()).save(any(Order.class));
+        verify(applicationEventPublisher, never()).publishEvent(any());
     }
 
     @Test
-    void getOrderById_shouldReturnOrderWhenFound() {
+    void createOrder_shouldThrowExceptionWhenBookNotFound() {
         // Given
-        String orderId = UUID.randomUUID().toString();
-        Order order = new Order("Test Customer", List.of(new OrderLine("123", 1, BigDecimal.ONE)));
-        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+        String customerName = "Test Customer";
+        String isbn1 = "978-0321765723";
+        int quantity1 = 2;
 
-        // When
-        OrderResponse foundOrderResponse = orderService.getOrderById(orderId);
+        OrderItemRequest itemRequest1 = new OrderItemRequest(isbn1, quantity1);
+        List<OrderItemRequest> itemRequests = List.of(itemRequest1);
+        CreateOrderRequest createOrderRequest = new CreateOrderRequest(customerName, itemRequests);
 
-        // Then
-        assertNotNull(foundOrderResponse, "Order response should not be null.");
-        assertEquals(order.getOrderId(), foundOrderResponse.orderId(), "Order ID should match.");
-        assertEquals(order.getCustomerName(), foundOrderResponse.customerName(), "Customer name should match.");
-        assertEquals(order.getStatus().name(), foundOrderResponse.status(), "Order status should match.");
-        assertNotNull(foundOrderResponse.orderLines(), "Order lines should not be null.");
-        assertEquals(order.getOrderLines().size(), foundOrderResponse.orderLines().size(), "Order line count should match.");
-        verify(orderRepository, times(1)).findById(orderId);
+        when(bookService.getBooksByIsbns(List.of(isbn1))).thenThrow(new BookNotFoundException(isbn1));
+
+        // When & Then
+        assertThrows(BookNotFoundException.class, () -> orderService.createOrder(createOrderRequest), "Should throw BookNotFoundException when book is not found.");
     }
 
     @Test
-    void getOrderById_shouldThrowOrderNotFoundExceptionWhenNotFound() {
+    void createOrder_shouldThrowValidationExceptionForEmptyItems() {
         // Given
-        String orderId = UUID.randomUUID().toString();
-        when(orderRepository.findById(orderId)).thenReturn(Optional.empty());
+        CreateOrderRequest request = new CreateOrderRequest("Customer", Collections.emptyList());
 
         // When & Then
-        assertThrows(OrderNotFoundException.class, () -> orderService.getOrderById(orderId));
-        verify(orderRepository, times(1)).findById(orderId);
+        assertThrows(ValidationException.class, () -> orderService.createOrder(request));
     }
 
     @Test
-    void confirmOrder_shouldConfirmOrderAndDeductStockSuccessfully() {
+    void confirmOrder_shouldConfirmOrderAndCommitStockReservationSuccessfully() {
         // Given
         String orderId = UUID.randomUUID().toString();
         String isbn1 = "978-0321765723";
@@ -178,7 +184,6 @@ class OrderServiceTest {
         Order order = new Order("Test Customer", List.of(orderLine));
         when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
         when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
-        when(inventoryService.deductStock(isbn1, quantity1)).thenReturn(new InventoryItem(isbn1, 10 - quantity1));
 
         // When
         OrderResponse confirmedOrderResponse = orderService.confirmOrder(orderId);
@@ -186,8 +191,10 @@ class OrderServiceTest {
         // Then
         assertNotNull(confirmedOrderResponse, "Confirmed order response should not be null.");
         assertEquals(Order.OrderStatus.CONFIRMED.name(), confirmedOrderResponse.status(), "Order status should be CONFIRMED.");
-        verify(inventoryService, times(1)).deductStock(isbn1, quantity1);
+        verify(inventoryService, times(1)).commitReservation(orderId, Map.of(isbn1, quantity1));
+        verify(inventoryService, never()).deductStock(anyString(), anyInt());
         verify(orderRepository, times(1)).save(order);
+        verify(applicationEventPublisher, times(1)).publishEvent(any(OrderConfirmedEvent.class));
     }
 
     @Test
@@ -198,10 +205,16 @@ class OrderServiceTest {
 
         // When & Then
         assertThrows(OrderNotFoundException.class, () -> orderService.confirmOrder(orderId), "Should throw OrderNotFoundException when order is not found.");
-        verify(inventoryService, never()).deductStock(anyString(), anyInt());
+        verify(inventoryService, never()).commitReservation(anyString(), anyMap());
         verify(orderRepository, never()).save(any(Order.class));
     }
 
+    @Test
+    void confirmOrder_shouldThrowExceptionWithoutQueryingWhenOrderIdIsMalformed() {
+        assertThrows(OrderNotFoundException.class, () -> orderService.confirmOrder("unknown-order"), "Should throw OrderNotFoundException when order ID is not a UUID.");
+        verify(orderRepository, never()).findById(anyString());
+    }
+
     @Test
     void confirmOrder_shouldThrowExceptionWhenStockInsufficient() {
         // Given
@@ -213,13 +226,90 @@ class OrderServiceTest {
         OrderLine orderLine = new OrderLine(isbn1, quantity1, price1);
         Order order = new Order("Test Customer", List.of(orderLine));
         when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
-        when(inventoryService.deductStock(isbn1, quantity1)).thenThrow(new InsufficientStockException(isbn1, quantity1, 10));
+        doThrow(new InsufficientStockException(isbn1, quantity1, 10)).when(inventoryService).commitReservation(orderId, Map.of(isbn1, quantity1));
 
         // When & Then
         assertThrows(InsufficientStockException.class, () -> orderService.confirmOrder(orderId), "Should throw InsufficientStockException when stock is insufficient.");
+        assertEquals(Order.OrderStatus.PENDING, order.getStatus(), "Order should remain PENDING when stock is insufficient.");
         verify(orderRepository, never()).save(any(Order.class));
     }
 
+    @Test
+    void confirmOrders_shouldConfirmOrdersChunkByChunkAndCommitStockOncePerChunk() {
+        // Given
+        Order order1 = new Order("Customer A", List.of(new OrderLine("978-0321765723", 2, new BigDecimal("25.00"))));
+        Order order2 = new Order("Customer B", List.of(new OrderLine("978-0321765723", 1, new BigDecimal("25.00")), new OrderLine("978-0132350884", 3, new BigDecimal("35.00"))));
+        Order order3 = new Order("Customer C", List.of(new OrderLine("978-0132350884", 1, new BigDecimal("35.00"))));
+        String unknownOrderId = "unknown-order";
+        when(orderRepository.findByOrderIdInOrderByOrderId(List.of(order1.getOrderId(), order2.getOrderId()))).thenReturn(List.of(order1, order2));
+        when(orderRepository.findByOrderIdInOrderByOrderId(List.of(order3.getOrderId()))).thenReturn(List.of(order3));
+
+        // When
+        List<OrderConfirmationResult> results = orderService.confirmOrders(List.of(order1.getOrderId(), order2.getOrderId(), order1.getOrderId(), order3.getOrderId(), unknownOrderId));
+
+        // Then
+        assertEquals(List.of(
+                OrderConfirmationResult.confirmed(order1.getOrderId()),
+                OrderConfirmationResult.confirmed(order2.getOrderId()),
+                OrderConfirmationResult.confirmed(order3.getOrderId()),
+                OrderConfirmationResult.failed(unknownOrderId, "Order with ID unknown-order not found.")), results, "Each distinct order should have a result, in request order.");
+        assertEquals(Order.OrderStatus.CONFIRMED, order2.getStatus(), "Order should be CONFIRMED.");
+        verify(inventoryService, times(1)).commitReservations(Map.of(
+                order1.getOrderId(), Map.of("978-0321765723", 2),
+                order2.getOrderId(), Map.of("978-0321765723", 1, "978-0132350884", 3)));
+        verify(inventoryService, times(1)).commitReservations(Map.of(order3.getOrderId(), Map.of("978-0132350884", 1)));
+        verify(inventoryService, never()).commitReservation(anyString(), anyMap());
+        verify(transactionOperations, times(2)).execute(any());
+    }
+
+    @Test
+    void confirmOrders_shouldReportOrdersWhichCannotBeConfirmedWithoutFailingOthers() {
+        // Given
+        Order pendingOrder = new Order("Customer A", List.of(new OrderLine("978-0321765723", 2, new BigDecimal("25.00"))));
+        Order confirmedOrder = new Order("Customer B", List.of(new OrderLine("978-0321765723", 1, new BigDecimal("25.00"))));
+        confirmedOrder.confirm();
+        when(orderRepository.findByOrderIdInOrderByOrderId(anyList())).thenReturn(List.of(pendingOrder, confirmedOrder));
+
+        // When
+        List<OrderConfirmationResult> results = orderService.confirmOrders(List.of(pendingOrder.getOrderId(), confirmedOrder.getOrderId()));
+
+        // Then
+        assertTrue(results.get(0).confirmed(), "Pending order should be confirmed.");
+        assertFalse(results.get(1).confirmed(), "Already confirmed order should be reported as failed.");
+        assertEquals("Order can only be confirmed if its status is PENDING.", results.get(1).error(), "Failure should carry the reason.");
+        verify(inventoryService, times(1)).commitReservations(Map.of(pendingOrder.getOrderId(), Map.of("978-0321765723", 2)));
+        verify(orderRepository, times(1)).saveAll(List.of(pendingOrder));
+        verify(applicationEventPublisher, times(1)).publishEvent(any(OrderConfirmedEvent.class));
+    }
+
+    @Test
+    void confirmOrders_shouldConfirmOrdersOneByOneWhenStockOfChunkIsInsufficient() {
+        // Given
+        Order order1 = new Order("Customer A", List.of(new OrderLine("978-0321765723", 2, new BigDecimal("25.00"))));
+        Order order2 = new Order("Customer B", List.of(new OrderLine("978-0132350884", 15, new BigDecimal("35.00"))));
+        when(orderRepository.findByOrderIdInOrderByOrderId(anyList())).thenReturn(List.of(order1, order2));
+        doThrow(new InsufficientStockException("978-0132350884", 15, 10)).when(inventoryService).commitReservations(anyMap());
+        // Orders are read again as PENDING once the chunk has been rolled back
+        Order reloadedOrder1 = new Order("Customer A", List.of(new OrderLine("978-0321765723", 2, new BigDecimal("25.00"))));
+        Order reloadedOrder2 = new Order("Customer B", List.of(new OrderLine("978-0132350884", 15, new BigDecimal("35.00"))));
+        when(orderRepository.findById(order1.getOrderId())).thenReturn(Optional.of(reloadedOrder1));
+        when(orderRepository.findById(order2.getOrderId())).thenReturn(Optional.of(reloadedOrder2));
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        doThrow(new InsufficientStockException("978-0132350884", 15, 10)).when(inventoryService).commitReservation(order2.getOrderId(), Map.of("978-0132350884", 15));
+
+        // When
+        List<OrderConfirmationResult> results = orderService.confirmOrders(List.of(order1.getOrderId(), order2.getOrderId()));
+
+        // Then
+        assertTrue(results.get(0).confirmed(), "Order with enough stock should be confirmed on its own.");
+        assertFalse(results.get(1).confirmed(), "Order without enough stock should be reported as failed.");
+        assertNotNull(results.get(1).error(), "Failure should carry the reason.");
+        assertEquals(Order.OrderStatus.CONFIRMED, reloadedOrder1.getStatus(), "Order with enough stock should be CONFIRMED.");
+        assertEquals(Order.OrderStatus.PENDING, reloadedOrder2.getStatus(), "Order without enough stock should remain PENDING.");
+        verify(orderRepository, never()).saveAll(anyList());
+        verify(orderRepository, times(1)).save(reloadedOrder1);
+    }
+
     @Test
     void cancelOrder_shouldCancelConfirmedOrderAndReleaseStock() {
         // Given
@@ -242,12 +332,13 @@ class OrderServiceTest {
         assertNotNull(cancelledOrderResponse, "Cancelled order response should not be null.");
         assertEquals(Order.OrderStatus.CANCELLED.name(), cancelledOrderResponse.status(), "Order status should be CANCELLED.");
         verify(inventoryService, times(1)).releaseStock(isbn1, quantity1);
+        verify(inventoryService, never()).releaseReservation(anyString());
         verify(orderRepository, times(1)).save(order);
         verify(applicationEventPublisher, times(1)).publishEvent(any(OrderCancelledEvent.class));
     }
 
     @Test
-    void cancelOrder_shouldCancelPendingOrderWithoutReleasingStock() {
+    void cancelOrder_shouldCancelPendingOrderAndReleaseStockReservation() {
         // Given
         String orderId = UUID.randomUUID().toString();
         String isbn1 = "978-0321765723";
@@ -267,7 +358,8 @@ class OrderServiceTest {
         // Then
         assertNotNull(cancelledOrderResponse, "Cancelled order should not be null.");
         assertEquals(Order.OrderStatus.CANCELLED.name(), cancelledOrderResponse.status(), "Order status should be CANCELLED.");
-        verify(inventoryService, never()).releaseStock(anyString(), anyInt()); // No stock release for PENDING order
+        verify(inventoryService, never()).releaseStock(anyString(), anyInt()); // No deducted stock to give back for PENDING order
+        verify(inventoryService, times(1)).releaseReservation(order.getOrderId());
         verify(orderRepository, times(1)).save(order);
         verify(applicationEventPublisher, times(1)).publishEvent(any(OrderCancelledEvent.class));
     }
@@ -330,21 +422,9 @@ class OrderServiceTest {
     }
 
     @Test
-    void findAllOrders_shouldReturnAllOrders() {
-        // Given
-        Order order1 = new Order("Customer A", List.of(new OrderLine("123", 1, BigDecimal.TEN)));
-        Order order2 = new Order("Customer B", List.of(new OrderLine("456", 2, BigDecimal.ONE)));
-        List<Order> orders = Arrays.asList(order1, order2);
-        when(orderRepository.findAll()).thenReturn(orders);
-
-        // When
-        List<OrderResponse> orderResponses = orderService.findAllOrders();
-
-        // Then
-        assertNotNull(orderResponses, "The list of order responses should not be null.");
-        assertEquals(2, orderResponses.size(), "The size of the list should be 2.");
-        verify(orderRepository, times(1)).findAll();
-        verify(orderMapper, times(2)).mapOrderToResponse(any(Order.class));
+    void constructor_shouldThrowValidationExceptionWhenChunkSizeIsNotPositive() {
+        // When & Then
+        assertThrows(ValidationException.class, () -> new OrderServiceImpl(bookService, inventoryService, orderRepository, applicationEventPublisher, orderMapper, entityManager, transactionOperations, 0),
+                "Should throw ValidationException when the confirm batch chunk size is not positive.");
     }
-
 }
@@ -0,0 +1,57 @@
+package io.bmeurant.bookordermanager.unit.bootstrap;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks that the event handler executor does not take the place of the executor of asynchronous MVC requests.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class AsyncConfigurationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    private ThreadPoolTaskExecutor applicationTaskExecutor;
+
+    @Test
+    void shouldStreamBooksOnApplicationTaskExecutor() throws Exception {
+        shouldStreamOnApplicationTaskExecutor("/api/books/stream");
+    }
+
+    @Test
+    void shouldStreamOrdersOnApplicationTaskExecutor() throws Exception {
+        shouldStreamOnApplicationTaskExecutor("/api/orders/stream");
+    }
+
+    private void shouldStreamOnApplicationTaskExecutor(String path) throws Exception {
+        // Given
+        long submittedTasks = applicationTaskExecutor.getThreadPoolExecutor().getTaskCount();
+
+        // When
+        MvcResult result = mockMvc.perform(get(path))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+
+        // Then
+        assertEquals(submittedTasks + 1, applicationTaskExecutor.getThreadPoolExecutor().getTaskCount(),
+                "Stream should be written by the application task executor.");
+    }
+}
@@ -0,0 +1,109 @@
+package io.bmeurant.bookordermanager.unit.bootstrap;
+
+import io.bmeurant.bookordermanager.bootstrap.BoundedEventExecutor;
+import io.bmeurant.bookordermanager.bootstrap.BoundedEventExecutor.Mode;
+import io.bmeurant.bookordermanager.domain.exception.ValidationException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedEventExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private BoundedEventExecutor executor;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (executor != null) {
+            executor.destroy();
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(Mode.class)
+    void execute_shouldRunHandlerOnDedicatedThread(Mode mode) throws InterruptedException {
+        // Given
+        executor = new BoundedEventExecutor(mode, 2, 10, meterRegistry);
+        AtomicReference<Thread> handlerThread = new AtomicReference<>();
+        CountDownLatch done = new CountDownLatch(1);
+
+        // When
+        executor.execute(() -> {
+            handlerThread.set(Thread.currentThread());
+            done.countDown();
+        });
+
+        // Then
+        assertTrue(done.await(5, TimeUnit.SECONDS), "Handler should have run.");
+        assertTrue(handlerThread.get().getName().startsWith("event-handler-"), "Handler should run on an event handler thread.");
+        assertEquals(mode == Mode.VIRTUAL, handlerThread.get().isVirtual(), "Thread kind should match the mode.");
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() ->
+                assertEquals(1, meterRegistry.get("events.executor.duration").timer().count(), "Handler latency should be recorded."));
+    }
+
+    @ParameterizedTest
+    @EnumSource(Mode.class)
+    void execute_shouldQueueHandlersBeyondMaxConcurrency(Mode mode) throws InterruptedException {
+        // Given
+        executor = new BoundedEventExecutor(mode, 1, 10, meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(3);
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            executor.execute(() -> {
+                awaitQuietly(release);
+                done.countDown();
+            });
+        }
+
+        // Then
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
+            assertEquals(1, executor.getActiveCount(), "Only one handler should run at once.");
+            assertEquals(2, executor.getQueuedCount(), "Other handlers should wait.");
+        });
+        assertEquals(2.0, meterRegistry.get("events.executor.queued").gauge().value(), "Queue depth should be exposed.");
+        release.countDown();
+        assertTrue(done.await(5, TimeUnit.SECONDS), "All handlers should eventually run.");
+    }
+
+    @Test
+    void execute_shouldRunHandlerInPublishingThreadWhenFull() throws InterruptedException {
+        // Given
+        executor = new BoundedEventExecutor(Mode.PLATFORM, 1, 1, meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> awaitQuietly(release));
+        executor.execute(() -> awaitQuietly(release));
+        AtomicReference<Thread> handlerThread = new AtomicReference<>();
+
+        // When
+        executor.execute(() -> handlerThread.set(Thread.currentThread()));
+
+        // Then
+        assertSame(Thread.currentThread(), handlerThread.get(), "Rejected handler should run in the publishing thread.");
+        assertEquals(1.0, meterRegistry.get("events.executor.rejected").counter().count(), "Rejection should be counted.");
+        release.countDown();
+    }
+
+    @Test
+    void shouldThrowExceptionWhenMaxConcurrencyIsNotPositive() {
+        assertThrows(ValidationException.class, () -> new BoundedEventExecutor(Mode.PLATFORM, 0, 10, meterRegistry), "Should throw ValidationException when max concurrency is zero.");
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package io.bmeurant.bookordermanager.unit.bootstrap;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.bmeurant.bookordermanager.bootstrap.ConnectionPoolSizer;
+import io.bmeurant.bookordermanager.domain.exception.ValidationException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConnectionPoolSizerTest {
+
+    @Test
+    void poolSize_shouldHoldTwoConnectionsPerDatabaseCorePlusOne() {
+        assertEquals(9, ConnectionPoolSizer.poolSize(4, 97), "Pool should hold two connections per database core plus one.");
+    }
+
+    @Test
+    void poolSize_shouldNotExceedConnectionsAcceptedByDatabase() {
+        assertEquals(50, ConnectionPoolSizer.poolSize(64, 50), "Pool should not hold more connections than the database accepts.");
+    }
+
+    @Test
+    void poolSize_shouldThrowExceptionWhenDatabaseSettingsAreNotPositive() {
+        assertThrows(ValidationException.class, () -> ConnectionPoolSizer.poolSize(0, 97), "Should throw ValidationException when database cores are zero.");
+        assertThrows(ValidationException.class, () -> ConnectionPoolSizer.poolSize(4, 0), "Should throw ValidationException when max connections are zero.");
+    }
+
+    @Test
+    void postProcessAfterInitialization_shouldSizeHikariDataSource() {
+        // Given
+        ConnectionPoolSizer sizer = new ConnectionPoolSizer(12);
+        try (HikariDataSource dataSource = new HikariDataSource()) {
+
+            // When
+            Object processed = sizer.postProcessAfterInitialization(dataSource, "dataSource");
+
+            // Then
+            assertSame(dataSource, processed, "Data source should be returned as is.");
+            assertEquals(12, dataSource.getMaximumPoolSize(), "Pool should be sized.");
+        }
+    }
+
+    @Test
+    void shouldThrowExceptionWhenPoolSizeIsNotPositive() {
+        assertThrows(ValidationException.class, () -> new ConnectionPoolSizer(0), "Should throw ValidationException when pool size is zero.");
+    }
+}
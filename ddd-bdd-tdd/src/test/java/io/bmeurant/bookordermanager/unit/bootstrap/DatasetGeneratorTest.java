@@ -0,0 +1,115 @@
+package io.bmeurant.bookordermanager.unit.bootstrap;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.bmeurant.bookordermanager.application.mapper.OrderMapper;
+import io.bmeurant.bookordermanager.application.mapper.OrderViewMapper;
+import io.bmeurant.bookordermanager.bootstrap.DatasetGenerator;
+import io.bmeurant.bookordermanager.catalog.domain.repository.BookRepository;
+import io.bmeurant.bookordermanager.inventory.domain.repository.InventoryItemRepository;
+import io.bmeurant.bookordermanager.order.domain.model.Order;
+import io.bmeurant.bookordermanager.order.domain.model.OrderView;
+import io.bmeurant.bookordermanager.order.domain.repository.OrderRepository;
+import io.bmeurant.bookordermanager.order.domain.repository.OrderViewRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+class DatasetGeneratorTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private InventoryItemRepository inventoryItemRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderViewRepository orderViewRepository;
+
+    private final OrderViewMapper orderViewMapper = new OrderViewMapper(new OrderMapper(), new ObjectMapper());
+
+    @Test
+    void run_shouldInsertBooksInventoryItemsAndOrders() {
+        // Given
+        DatasetGenerator generator = new DatasetGenerator(jdbcTemplate, orderViewMapper, 250, 1000, 50, 3, 100, 1.0, 100, 42);
+
+        // When
+        generator.run();
+
+        // Then
+        assertEquals(250, bookRepository.count(), "All books should be inserted.");
+        assertEquals(250, inventoryItemRepository.count(), "Each book should have an inventory item.");
+        assertEquals(100, inventoryItemRepository.findById(DatasetGenerator.isbn(249)).orElseThrow().getStock(), "Stock should be the configured one.");
+        List<Order> orders = orderRepository.findAll();
+        assertEquals(1000, orders.size(), "All orders should be inserted.");
+        assertTrue(orders.stream().allMatch(order -> order.getStatus() != Order.OrderStatus.PENDING), "Generated orders should not hold reservations.");
+        assertTrue(orders.stream().allMatch(order -> !order.getOrderLines().isEmpty() && order.getOrderLines().size() <= 3), "Orders should have between 1 and 3 lines.");
+        assertTrue(orders.stream().allMatch(order -> UUID.fromString(order.getOrderId()).version() == 7), "Order IDs should be time-ordered UUIDs.");
+        assertTrue(orders.stream()
+                        .filter(confirmed -> confirmed.getStatus() == Order.OrderStatus.CONFIRMED)
+                        .allMatch(confirmed -> UUID.fromString(confirmed.getOrderId()).getMostSignificantBits() >>> 16 == confirmed.getConfirmedAt().toEpochMilli()),
+                "Order IDs should hold the time of the orders.");
+        assertTrue(countOrderLines(DatasetGenerator.isbn(0)) > 10 * countOrderLines(DatasetGenerator.isbn(99)), "Most popular book should be ordered far more often.");
+        Order order = orders.getFirst();
+        OrderView orderView = orderViewRepository.findById(order.getOrderId()).orElseThrow();
+        assertEquals(order.getStatus(), orderView.getStatus(), "Each order should have its view.");
+        assertEquals(order.getOrderLines().size(), orderViewMapper.mapViewToResponse(orderView).orderLines().size(), "View should hold the lines of the order.");
+        assertEquals(0, order.getTotalPrice().compareTo(orderView.getTotalPrice()), "View should hold the total price of the order.");
+        BigDecimal confirmedRevenue = orders.stream()
+                .filter(confirmed -> confirmed.getStatus() == Order.OrderStatus.CONFIRMED)
+                .map(Order::getTotalPrice)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        assertEquals(0, confirmedRevenue.compareTo(jdbcTemplate.queryForObject("select sum(revenue) from daily_revenue", BigDecimal.class)), "Daily revenues should add up to the confirmed orders.");
+    }
+
+    @Test
+    void run_shouldGenerateSameDatasetWithSameSeed() {
+        // Given
+        DatasetGenerator generator = new DatasetGenerator(jdbcTemplate, orderViewMapper, 10, 20, 5, 2, 10, 1.0, 7, 42);
+        generator.run();
+        List<String> orderIds = jdbcTemplate.queryForList("select order_id from orders order by order_id", String.class);
+        jdbcTemplate.update("delete from daily_revenue");
+        jdbcTemplate.update("delete from order_views");
+        jdbcTemplate.update("delete from order_lines");
+        jdbcTemplate.update("delete from orders");
+        jdbcTemplate.update("delete from inventory_item");
+        jdbcTemplate.update("delete from book");
+
+        // When
+        generator.run();
+
+        // Then
+        assertEquals(orderIds, jdbcTemplate.queryForList("select order_id from orders order by order_id", String.class), "Same seed should generate the same orders.");
+    }
+
+    @Test
+    void run_shouldSkipGenerationWhenDatabaseContainsData() {
+        // Given
+        DatasetGenerator generator = new DatasetGenerator(jdbcTemplate, orderViewMapper, 10, 20, 5, 2, 10, 1.0, 7, 42);
+        generator.run();
+
+        // When
+        generator.run();
+
+        // Then
+        assertEquals(10, bookRepository.count(), "Books should not be inserted twice.");
+        assertEquals(20, orderRepository.count(), "Orders should not be inserted twice.");
+    }
+
+    private long countOrderLines(String isbn) {
+        return jdbcTemplate.queryForObject("select count(*) from order_lines where isbn = ?", Long.class, isbn);
+    }
+}
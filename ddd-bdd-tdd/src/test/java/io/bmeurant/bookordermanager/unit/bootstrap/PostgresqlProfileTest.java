@@ -0,0 +1,56 @@
+package io.bmeurant.bookordermanager.unit.bootstrap;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.bmeurant.bookordermanager.bootstrap.ConnectionPoolSizer;
+import io.bmeurant.bookordermanager.catalog.domain.repository.BookRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Starts the application with the {@code postgresql} profile, on an in-memory H2 database in PostgreSQL compatibility
+ * mode standing in for PostgreSQL: the schema is created by the schema script of the profile, and validated against the
+ * entities on startup.
+ */
+@SpringBootTest(properties = {"spring.datasource.url=jdbc:h2:mem:postgresql-profile;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+        "datasource.pool.database-cores=3"})
+@ActiveProfiles("postgresql")
+class PostgresqlProfileTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ConnectionPoolSizer connectionPoolSizer;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void shouldRunOnPooledDataSourceSizedFromDatabaseCores() {
+        HikariDataSource hikariDataSource = assertInstanceOf(HikariDataSource.class, dataSource, "Data source should be pooled by HikariCP.");
+
+        assertEquals(7, connectionPoolSizer.getPoolSize(), "Pool should be sized from the cores of the database server.");
+        assertEquals(connectionPoolSizer.getPoolSize(), hikariDataSource.getMaximumPoolSize(), "Pool should be sized by the sizer.");
+        assertEquals("5", hikariDataSource.getDataSourceProperties().getProperty("prepareThreshold"), "Prepared statements should be cached by the driver.");
+        assertFalse(bookRepository.findAll().isEmpty(), "Schema should be created by the schema script, validated, and the sample dataset loaded.");
+    }
+
+    @Test
+    void shouldExposeConnectionPoolMetrics() {
+        bookRepository.count();
+
+        assertTrue(meterRegistry.get("hikaricp.connections.acquire").timer().count() > 0, "Time waited for connections should be measured.");
+        assertTrue(meterRegistry.get("hikaricp.connections.usage").timer().count() > 0, "Time connections are held should be measured.");
+        assertNotNull(meterRegistry.get("hikaricp.connections.pending").gauge(), "Number of threads waiting for a connection should be exposed.");
+    }
+}
@@ -0,0 +1,34 @@
+package io.bmeurant.bookordermanager.unit.bootstrap;
+
+import io.bmeurant.bookordermanager.bootstrap.VirtualThreadConfiguration;
+import io.bmeurant.bookordermanager.bootstrap.VirtualThreadPinningMonitor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VirtualThreadConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withInitializer(context -> context.getBeanFactory().setConversionService(ApplicationConversionService.getSharedInstance()))
+            .withUserConfiguration(VirtualThreadConfiguration.class)
+            .withBean(MeterRegistry.class, SimpleMeterRegistry::new);
+
+    @Test
+    void shouldStartPinningMonitorWhenVirtualThreadsAreEnabled() {
+        contextRunner.withPropertyValues("spring.threads.virtual.enabled=true", "virtual-threads.pinning-threshold=PT0.05S")
+                .run(context -> {
+                    assertNull(context.getStartupFailure(), "Context should start in virtual thread mode.");
+                    assertEquals(1, context.getBeansOfType(VirtualThreadPinningMonitor.class).size(), "Pinning monitor should be started in virtual thread mode.");
+                });
+    }
+
+    @Test
+    void shouldNotStartPinningMonitorByDefault() {
+        contextRunner.run(context ->
+                assertTrue(context.getBeansOfType(VirtualThreadPinningMonitor.class).isEmpty(), "Pinning monitor should not be started in platform thread mode."));
+    }
+}
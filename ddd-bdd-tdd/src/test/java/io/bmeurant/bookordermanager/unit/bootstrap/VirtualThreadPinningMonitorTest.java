@@ -0,0 +1,53 @@
+package io.bmeurant.bookordermanager.unit.bootstrap;
+
+import io.bmeurant.bookordermanager.bootstrap.VirtualThreadPinningMonitor;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.*;
+
+class VirtualThreadPinningMonitorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Object lock = new Object();
+    private VirtualThreadPinningMonitor monitor;
+
+    @AfterEach
+    void tearDown() {
+        if (monitor != null) {
+            monitor.destroy();
+        }
+    }
+
+    @Test
+    void shouldRecordPinningWithItsSource() throws InterruptedException {
+        // Given
+        monitor = new VirtualThreadPinningMonitor(Duration.ofMillis(10), meterRegistry);
+
+        // When
+        Thread.ofVirtual().start(this::sleepWhileHoldingLock).join();
+
+        // Then
+        await().atMost(15, TimeUnit.SECONDS).untilAsserted(() -> {
+            Timer pinned = meterRegistry.find("jvm.threads.virtual.pinned").tag("source", VirtualThreadPinningMonitorTest.class.getName()).timer();
+            assertNotNull(pinned, "Pinning should be recorded with the class holding the monitor as source.");
+            assertTrue(pinned.totalTime(TimeUnit.MILLISECONDS) >= 10, "Pinned duration should be recorded.");
+        });
+    }
+
+    private void sleepWhileHoldingLock() {
+        synchronized (lock) {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
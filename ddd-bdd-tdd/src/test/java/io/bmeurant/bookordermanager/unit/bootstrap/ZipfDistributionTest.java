@@ -0,0 +1,57 @@
+package io.bmeurant.bookordermanager.unit.bootstrap;
+
+import io.bmeurant.bookordermanager.bootstrap.ZipfDistribution;
+import io.bmeurant.bookordermanager.domain.exception.ValidationException;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ZipfDistributionTest {
+
+    @Test
+    void sample_shouldDrawFirstRanksMoreOften() {
+        // Given
+        ZipfDistribution distribution = new ZipfDistribution(100, 1.0);
+        SplittableRandom random = new SplittableRandom(42);
+        int[] counts = new int[100];
+
+        // When
+        for (int i = 0; i < 100_000; i++) {
+            counts[distribution.sample(random)]++;
+        }
+
+        // Then
+        assertTrue(counts[0] > counts[1] && counts[1] > counts[9] && counts[9] > counts[99], "Draws should decrease with the rank.");
+        assertEquals(0.19, counts[0] / 100_000.0, 0.01, "Rank 0 should be drawn with probability 1 / H(100).");
+    }
+
+    @Test
+    void sample_shouldDrawAllRanksEquallyWithZeroExponent() {
+        // Given
+        ZipfDistribution distribution = new ZipfDistribution(4, 0);
+        SplittableRandom random = new SplittableRandom(42);
+        int[] counts = new int[4];
+
+        // When
+        for (int i = 0; i < 100_000; i++) {
+            counts[distribution.sample(random)]++;
+        }
+
+        // Then
+        for (int count : counts) {
+            assertEquals(0.25, count / 100_000.0, 0.01, "Each rank should be drawn with the same probability.");
+        }
+    }
+
+    @Test
+    void shouldThrowExceptionWhenNumberOfRanksIsNotPositive() {
+        assertThrows(ValidationException.class, () -> new ZipfDistribution(0, 1.0), "Should throw ValidationException when there is no rank.");
+    }
+
+    @Test
+    void shouldThrowExceptionWhenExponentIsNegative() {
+        assertThrows(ValidationException.class, () -> new ZipfDistribution(10, -1.0), "Should throw ValidationException when exponent is negative.");
+    }
+}
@@ -1,9 +1,16 @@
 package io.bmeurant.bookordermanager.unit.domain.exception;
 
+import io.bmeurant.bookordermanager.catalog.domain.exception.BookNotFoundException;
 import io.bmeurant.bookordermanager.domain.exception.DomainException;
 import io.bmeurant.bookordermanager.domain.exception.ValidationException;
+import io.bmeurant.bookordermanager.inventory.domain.exception.InsufficientStockException;
+import io.bmeurant.bookordermanager.inventory.domain.exception.InventoryItemNotFoundException;
+import io.bmeurant.bookordermanager.order.domain.exception.IdempotencyKeyReuseException;
+import io.bmeurant.bookordermanager.order.domain.exception.OrderNotFoundException;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class DomainExceptionTest {
@@ -24,6 +31,36 @@ class DomainExceptionTest {
         assertEquals(cause, exception.getCause(), "DomainException cause should match.");
     }
 
+    @Test
+    void domainException_shouldBeCreatedWithStackTraceByDefault() {
+        DomainException exception = new TestDomainException("Test Domain Exception");
+        assertTrue(exception.getStackTrace().length > 0, "DomainException should have a stack trace by default.");
+    }
+
+    @Test
+    void domainException_shouldBeCreatedWithoutStackTraceWhenNotWritable() {
+        DomainException exception = new TestDomainException("Test Domain Exception", false);
+        exception.addSuppressed(new RuntimeException("Suppressed"));
+        assertEquals(0, exception.getStackTrace().length, "DomainException should have no stack trace.");
+        assertEquals(0, exception.getSuppressed().length, "DomainException should not record suppressed exceptions.");
+    }
+
+    @Test
+    void requestOutcomeExceptions_shouldBeCreatedWithoutStackTrace() {
+        List<DomainException> exceptions = List.of(new BookNotFoundException("978-0321765723"),
+                new InventoryItemNotFoundException("978-0321765723"),
+                new InsufficientStockException("978-0321765723", 2, 1),
+                new OrderNotFoundException("0190a000-0000-7000-8000-000000000000"),
+                new IdempotencyKeyReuseException("key-1"));
+        exceptions.forEach(exception -> assertEquals(0, exception.getStackTrace().length, exception.getClass().getSimpleName() + " should have no stack trace."));
+    }
+
+    @Test
+    void validationException_shouldKeepStackTrace() {
+        ValidationException exception = new ValidationException("Test Validation Exception", String.class);
+        assertTrue(exception.getStackTrace().length > 0, "ValidationException should keep its stack trace.");
+    }
+
     @Test
     void validationException_shouldBeCreatedWithMessageAndDomainClass() {
         String message = "Test Validation Exception";
@@ -68,5 +105,9 @@ class DomainExceptionTest {
         public TestDomainException(String message, Throwable cause) {
             super(message, cause);
         }
+
+        public TestDomainException(String message, boolean writableStackTrace) {
+            super(message, writableStackTrace);
+        }
     }
 }
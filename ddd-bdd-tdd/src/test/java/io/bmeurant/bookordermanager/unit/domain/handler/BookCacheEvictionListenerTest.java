@@ -0,0 +1,69 @@
+package io.bmeurant.bookordermanager.unit.domain.handler;
+
+import io.bmeurant.bookordermanager.application.dto.BookResponse;
+import io.bmeurant.bookordermanager.catalog.domain.handler.BookCacheEvictionListener;
+import io.bmeurant.bookordermanager.catalog.domain.model.Book;
+import io.bmeurant.bookordermanager.catalog.domain.service.BookService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BookCacheEvictionListenerTest {
+
+    private static final String ISBN = "978-0321765723";
+
+    private Cache booksCache;
+    private BookCacheEvictionListener listener;
+    private Book book;
+
+    @BeforeEach
+    void setUp() {
+        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(BookService.BOOKS_CACHE);
+        booksCache = cacheManager.getCache(BookService.BOOKS_CACHE);
+        booksCache.put(ISBN, new BookResponse(ISBN, "The Lord of the Rings", "J.R.R. Tolkien", new BigDecimal("25.00")));
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("cacheManager", cacheManager);
+        listener = new BookCacheEvictionListener(beanFactory.getBeanProvider(CacheManager.class));
+        book = new Book(ISBN, "The Lord of the Rings", "J.R.R. Tolkien", new BigDecimal("25.00"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void evictBook_shouldEvictBookImmediatelyOutsideTransaction() {
+        // When
+        listener.evictBook(book);
+
+        // Then
+        assertNull(booksCache.get(ISBN), "Book should be evicted from the cache.");
+    }
+
+    @Test
+    void evictBook_shouldEvictBookAfterCommitWithinTransaction() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        listener.evictBook(book);
+
+        // Then
+        assertNotNull(booksCache.get(ISBN), "Book should stay cached until the transaction commits.");
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertNull(booksCache.get(ISBN), "Book should be evicted from the cache after commit.");
+    }
+}
@@ -1,21 +1,17 @@
 package io.bmeurant.bookordermanager.unit.domain.handler;
 
-import io.bmeurant.bookordermanager.order.domain.event.OrderCreatedEvent;
 import io.bmeurant.bookordermanager.order.domain.handler.OrderEventHandler;
-import io.bmeurant.bookordermanager.order.domain.model.Order;
-import io.bmeurant.bookordermanager.order.domain.model.OrderLine;
+import io.bmeurant.bookordermanager.order.domain.model.OutboxEvent;
+import io.bmeurant.bookordermanager.order.domain.model.OutboxEvent.EventType;
 import io.bmeurant.bookordermanager.order.domain.repository.OrderRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.transaction.PlatformTransactionManager;
 
-import java.math.BigDecimal;
-import java.util.List;
-
-import static org.mockito.Mockito.*;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 class OrderEventHandlerTest {
@@ -23,23 +19,27 @@ class OrderEventHandlerTest {
     @Mock
     private OrderRepository orderRepository;
 
-    @Mock
-    private PlatformTransactionManager transactionManager;
-
     @InjectMocks
     private OrderEventHandler orderEventHandler;
 
     @Test
-    void handleOrderCreatedEvent_shouldConfirmOrder() {
+    void handle_shouldNotConfirmOrderOnOrderCreatedEvent() {
         // Given
-        OrderLine orderLine = new OrderLine("978-0321765723", 1, BigDecimal.valueOf(25.00));
-        Order order = new Order("customer", List.of(orderLine));
-        OrderCreatedEvent event = new OrderCreatedEvent(order);
+        OutboxEvent event = new OutboxEvent("order-1", EventType.ORDER_CREATED, "{\"orderId\":\"order-1\"}");
 
         // When
-        orderEventHandler.handleOrderCreatedEvent(event);
+        orderEventHandler.handle(event);
 
         // Then
-        verify(orderRepository, never()).save(any(Order.class));
+        verifyNoInteractions(orderRepository);
+    }
+
+    @Test
+    void handle_shouldHandleOrderCancelledEvent() {
+        // Given
+        OutboxEvent event = new OutboxEvent("order-1", EventType.ORDER_CANCELLED, "{\"orderId\":\"order-1\"}");
+
+        // When & Then
+        assertDoesNotThrow(() -> orderEventHandler.handle(event), "Order cancelled event should be handled.");
     }
 }
@@ -0,0 +1,72 @@
+package io.bmeurant.bookordermanager.unit.domain.handler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.bmeurant.bookordermanager.application.mapper.OrderMapper;
+import io.bmeurant.bookordermanager.order.domain.event.OrderCancelledEvent;
+import io.bmeurant.bookordermanager.order.domain.event.OrderCreatedEvent;
+import io.bmeurant.bookordermanager.order.domain.handler.OrderOutboxWriter;
+import io.bmeurant.bookordermanager.order.domain.model.Order;
+import io.bmeurant.bookordermanager.order.domain.model.OrderLine;
+import io.bmeurant.bookordermanager.order.domain.model.OutboxEvent;
+import io.bmeurant.bookordermanager.order.domain.model.OutboxEvent.EventType;
+import io.bmeurant.bookordermanager.order.domain.repository.OutboxEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class OrderOutboxWriterTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    private OrderOutboxWriter orderOutboxWriter;
+    private Order order;
+
+    @BeforeEach
+    void setUp() {
+        orderOutboxWriter = new OrderOutboxWriter(outboxEventRepository, new OrderMapper(), new ObjectMapper());
+        order = new Order("Alice Wonderland", List.of(new OrderLine("978-0321765723", 2, new BigDecimal("25.00"))));
+    }
+
+    @Test
+    void onOrderCreated_shouldRecordOrderCreatedEventWithOrderPayload() {
+        // When
+        orderOutboxWriter.onOrderCreated(new OrderCreatedEvent(order));
+
+        // Then
+        OutboxEvent event = recordedEvent();
+        assertEquals(order.getOrderId(), event.getAggregateId(), "Event should relate to the order.");
+        assertEquals(EventType.ORDER_CREATED, event.getEventType(), "Event type should be ORDER_CREATED.");
+        assertTrue(event.getPayload().contains("\"customerName\":\"Alice Wonderland\""), "Payload should hold the order. Actual: " + event.getPayload());
+    }
+
+    @Test
+    void onOrderCancelled_shouldRecordOrderCancelledEvent() {
+        // Given
+        order.cancel();
+
+        // When
+        orderOutboxWriter.onOrderCancelled(new OrderCancelledEvent(order));
+
+        // Then
+        OutboxEvent event = recordedEvent();
+        assertEquals(EventType.ORDER_CANCELLED, event.getEventType(), "Event type should be ORDER_CANCELLED.");
+        assertTrue(event.getPayload().contains("\"status\":\"CANCELLED\""), "Payload should hold the cancelled order. Actual: " + event.getPayload());
+    }
+
+    private OutboxEvent recordedEvent() {
+        ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
+        verify(outboxEventRepository).save(captor.capture());
+        return captor.getValue();
+    }
+}
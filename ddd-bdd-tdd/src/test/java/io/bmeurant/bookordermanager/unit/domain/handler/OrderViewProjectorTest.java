@@ -0,0 +1,87 @@
+package io.bmeurant.bookordermanager.unit.domain.handler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.bmeurant.bookordermanager.application.mapper.OrderMapper;
+import io.bmeurant.bookordermanager.application.mapper.OrderViewMapper;
+import io.bmeurant.bookordermanager.order.domain.event.OrderCancelledEvent;
+import io.bmeurant.bookordermanager.order.domain.event.OrderConfirmedEvent;
+import io.bmeurant.bookordermanager.order.domain.event.OrderCreatedEvent;
+import io.bmeurant.bookordermanager.order.domain.handler.OrderViewProjector;
+import io.bmeurant.bookordermanager.order.domain.model.Order;
+import io.bmeurant.bookordermanager.order.domain.model.OrderLine;
+import io.bmeurant.bookordermanager.order.domain.model.OrderView;
+import io.bmeurant.bookordermanager.order.domain.repository.OrderViewRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderViewProjectorTest {
+
+    @Mock
+    private OrderViewRepository orderViewRepository;
+
+    private final OrderViewMapper orderViewMapper = new OrderViewMapper(new OrderMapper(), new ObjectMapper());
+    private OrderViewProjector orderViewProjector;
+    private Order order;
+
+    @BeforeEach
+    void setUp() {
+        orderViewProjector = new OrderViewProjector(orderViewRepository, orderViewMapper);
+        order = new Order("Alice Wonderland", List.of(new OrderLine("978-0321765723", 2, new BigDecimal("25.00"))));
+    }
+
+    @Test
+    void onOrderCreated_shouldSaveViewOfOrder() {
+        // When
+        orderViewProjector.onOrderCreated(new OrderCreatedEvent(order));
+
+        // Then
+        ArgumentCaptor<OrderView> captor = ArgumentCaptor.forClass(OrderView.class);
+        verify(orderViewRepository).save(captor.capture());
+        assertEquals(order.getOrderId(), captor.getValue().getOrderId(), "View should relate to the order.");
+        assertEquals(Order.OrderStatus.PENDING, captor.getValue().getStatus(), "View should hold the status of the order.");
+        verify(orderViewRepository, never()).findById(any());
+    }
+
+    @Test
+    void onOrderConfirmed_shouldUpdateStatusOfExistingView() {
+        // Given
+        OrderView orderView = orderViewMapper.mapOrderToView(order);
+        when(orderViewRepository.findById(order.getOrderId())).thenReturn(Optional.of(orderView));
+        order.confirm();
+
+        // When
+        orderViewProjector.onOrderConfirmed(new OrderConfirmedEvent(order));
+
+        // Then
+        assertEquals(Order.OrderStatus.CONFIRMED, orderView.getStatus(), "View status should be updated.");
+        verify(orderViewRepository, never()).save(any(OrderView.class));
+    }
+
+    @Test
+    void onOrderCancelled_shouldCreateViewWhenOrderHasNone() {
+        // Given
+        when(orderViewRepository.findById(order.getOrderId())).thenReturn(Optional.empty());
+        order.cancel();
+
+        // When
+        orderViewProjector.onOrderCancelled(new OrderCancelledEvent(order));
+
+        // Then
+        ArgumentCaptor<OrderView> captor = ArgumentCaptor.forClass(OrderView.class);
+        verify(orderViewRepository).save(captor.capture());
+        assertEquals(Order.OrderStatus.CANCELLED, captor.getValue().getStatus(), "Created view should hold the status of the order.");
+    }
+}
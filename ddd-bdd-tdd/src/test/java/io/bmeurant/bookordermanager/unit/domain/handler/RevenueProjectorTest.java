@@ -0,0 +1,118 @@
+package io.bmeurant.bookordermanager.unit.domain.handler;
+
+import io.bmeurant.bookordermanager.order.domain.event.OrderCancelledEvent;
+import io.bmeurant.bookordermanager.order.domain.event.OrderConfirmedEvent;
+import io.bmeurant.bookordermanager.order.domain.handler.RevenueProjector;
+import io.bmeurant.bookordermanager.order.domain.model.DailyRevenue;
+import io.bmeurant.bookordermanager.order.domain.model.Order;
+import io.bmeurant.bookordermanager.order.domain.model.OrderLine;
+import io.bmeurant.bookordermanager.order.domain.repository.DailyRevenueRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mockingDetails;
+
+@DataJpaTest
+@Import(RevenueProjector.class)
+class RevenueProjectorTest {
+
+    private static final String ISBN1 = "978-0321765723";
+    private static final String ISBN2 = "978-0132350884";
+
+    @Autowired
+    private RevenueProjector revenueProjector;
+
+    @MockitoSpyBean
+    private DailyRevenueRepository dailyRevenueRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void onOrderConfirmed_shouldAddRevenueOfEachBookOnDayOfConfirmation() {
+        // Given
+        Order order = confirmedOrder(new OrderLine(ISBN1, 2, new BigDecimal("25.00")), new OrderLine(ISBN2, 1, new BigDecimal("35.00")), new OrderLine(ISBN1, 1, new BigDecimal("25.00")));
+        Order otherOrder = confirmedOrder(new OrderLine(ISBN1, 1, new BigDecimal("25.00")));
+
+        // When
+        revenueProjector.onOrderConfirmed(new OrderConfirmedEvent(order));
+        revenueProjector.onOrderConfirmed(new OrderConfirmedEvent(otherOrder));
+
+        // Then
+        LocalDate day = DailyRevenue.dayOf(order.getConfirmedAt());
+        assertRevenue(day, ISBN1, 4, "100.00");
+        assertRevenue(day, ISBN2, 1, "35.00");
+    }
+
+    @Test
+    void onOrderCancelled_shouldSubtractRevenueOfConfirmedOrder() {
+        // Given
+        Order order = confirmedOrder(new OrderLine(ISBN1, 2, new BigDecimal("25.00")));
+        Order otherOrder = confirmedOrder(new OrderLine(ISBN1, 1, new BigDecimal("25.00")));
+        revenueProjector.onOrderConfirmed(new OrderConfirmedEvent(order));
+        revenueProjector.onOrderConfirmed(new OrderConfirmedEvent(otherOrder));
+        order.cancel();
+
+        // When
+        revenueProjector.onOrderCancelled(new OrderCancelledEvent(order));
+
+        // Then
+        assertRevenue(DailyRevenue.dayOf(order.getConfirmedAt()), ISBN1, 1, "25.00");
+    }
+
+    @Test
+    void onOrderCancelled_shouldIgnoreOrderWhichWasNotConfirmed() {
+        // Given
+        Order order = new Order("Alice Wonderland", List.of(new OrderLine(ISBN1, 2, new BigDecimal("25.00"))));
+        order.cancel();
+
+        // When
+        revenueProjector.onOrderCancelled(new OrderCancelledEvent(order));
+
+        // Then
+        assertTrue(dailyRevenueRepository.findAll().isEmpty(), "Order which was not confirmed should have no revenue.");
+    }
+
+    @Test
+    void onOrderConfirmed_shouldAddToRevenueInsertedConcurrently() {
+        // Given
+        Order order = confirmedOrder(new OrderLine(ISBN1, 2, new BigDecimal("25.00")));
+        LocalDate day = DailyRevenue.dayOf(order.getConfirmedAt());
+        entityManager.persistAndFlush(new DailyRevenue(day, ISBN1, 1, new BigDecimal("25.00")));
+        // The revenue is not seen by the first update, as if it had been inserted by a concurrent transaction since
+        Answer<?> repository = mockingDetails(dailyRevenueRepository).getMockCreationSettings().getDefaultAnswer();
+        doReturn(0).doAnswer(repository).when(dailyRevenueRepository).addRevenue(any(), anyString(), anyLong(), any());
+
+        // When
+        revenueProjector.onOrderConfirmed(new OrderConfirmedEvent(order));
+
+        // Then
+        assertRevenue(day, ISBN1, 3, "75.00");
+    }
+
+    private static Order confirmedOrder(OrderLine... orderLines) {
+        Order order = new Order("Alice Wonderland", List.of(orderLines));
+        order.confirm();
+        return order;
+    }
+
+    private void assertRevenue(LocalDate day, String isbn, long quantity, String revenue) {
+        entityManager.clear();
+        DailyRevenue dailyRevenue = dailyRevenueRepository.findById(new DailyRevenue.Key(day, isbn)).orElseThrow();
+        assertEquals(quantity, dailyRevenue.getQuantity(), "Quantity of " + isbn + " should match.");
+        assertEquals(0, new BigDecimal(revenue).compareTo(dailyRevenue.getRevenue()), "Revenue of " + isbn + " should match.");
+    }
+}
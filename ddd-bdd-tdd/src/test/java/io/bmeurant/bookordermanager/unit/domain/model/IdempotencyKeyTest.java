@@ -0,0 +1,39 @@
+package io.bmeurant.bookordermanager.unit.domain.model;
+
+import io.bmeurant.bookordermanager.domain.exception.ValidationException;
+import io.bmeurant.bookordermanager.order.domain.model.IdempotencyKey;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdempotencyKeyTest {
+
+    @Test
+    void shouldCreateKeyRecordingResponse() {
+        IdempotencyKey key = new IdempotencyKey("key-1", "hash", "order-1", "{\"orderId\":\"order-1\"}");
+
+        assertEquals("key-1", key.getIdempotencyKey(), "Key should match.");
+        assertEquals("order-1", key.getOrderId(), "Order ID should match.");
+        assertEquals("{\"orderId\":\"order-1\"}", key.getResponse(), "Response should match.");
+        assertNotNull(key.getCreatedAt(), "Creation instant should be set.");
+    }
+
+    @Test
+    void shouldThrowExceptionWhenKeyIsBlank() {
+        ValidationException exception = assertThrows(ValidationException.class, () -> new IdempotencyKey(" ", "hash", "order-1", "{}"), "Should throw ValidationException when key is blank.");
+        assertTrue(exception.getMessage().contains("Idempotency key"), "Exception message should mention the idempotency key.");
+    }
+
+    @Test
+    void shouldThrowExceptionWhenKeyIsTooLong() {
+        String key = "k".repeat(IdempotencyKey.MAX_LENGTH + 1);
+
+        assertThrows(ValidationException.class, () -> new IdempotencyKey(key, "hash", "order-1", "{}"), "Should throw ValidationException when key is too long.");
+    }
+
+    @Test
+    void shouldThrowExceptionWhenResponseIsBlank() {
+        ValidationException exception = assertThrows(ValidationException.class, () -> new IdempotencyKey("key-1", "hash", "order-1", ""), "Should throw ValidationException when response is blank.");
+        assertTrue(exception.getMessage().contains("Response"), "Exception message should mention the response.");
+    }
+}
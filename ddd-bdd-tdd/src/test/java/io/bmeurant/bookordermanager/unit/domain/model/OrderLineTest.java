@@ -24,6 +24,13 @@ class OrderLineTest {
         assertEquals(price, orderLine.getPrice(), "Price should match the provided value.");
     }
 
+    @Test
+    void getTotalPrice_shouldMultiplyPriceByQuantity() {
+        OrderLine orderLine = new OrderLine("978-0321765723", 3, new BigDecimal("25.50"));
+
+        assertEquals(new BigDecimal("76.50"), orderLine.getTotalPrice(), "Total price should be the price times the quantity.");
+    }
+
     @Test
     void shouldThrowExceptionWhenProductIdIsNull() {
         ValidationException exception = assertThrows(ValidationException.class, () -> new OrderLine(null, 1, new BigDecimal("10.00")), "Should throw ValidationException when ISBN is null.");
@@ -6,6 +6,7 @@ import io.bmeurant.bookordermanager.order.domain.model.OrderLine;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -30,6 +31,8 @@ class OrderTest {
         assertEquals(Order.OrderStatus.PENDING, order.getStatus(), "Initial order status should be PENDING.");
         assertEquals(orderLines.size(), order.getOrderLines().size(), "Number of order lines should match.");
         assertTrue(order.getOrderLines().containsAll(orderLines), "Order should contain all provided order lines.");
+        assertEquals(new BigDecimal("85.00"), order.getTotalPrice(), "Total price should be the sum of the total prices of the lines.");
+        assertNull(order.getConfirmedAt(), "Pending order should not have a confirmation time.");
         // Since OrderLine is now an @Embeddable, its equality is based on its content, not identity.
         // No need to check OrderLine IDs here.
     }
@@ -107,8 +110,10 @@ class OrderTest {
                 new OrderLine("978-0321765723", 1, new BigDecimal("10.00"))
         );
         Order order = new Order("Alice", orderLines);
+        Instant before = Instant.now();
         order.confirm();
         assertEquals(Order.OrderStatus.CONFIRMED, order.getStatus(), "Order status should be CONFIRMED after confirmation.");
+        assertFalse(order.getConfirmedAt().isBefore(before), "Confirmation time should be recorded.");
     }
 
     @Test
@@ -0,0 +1,42 @@
+package io.bmeurant.bookordermanager.unit.domain.model;
+
+import io.bmeurant.bookordermanager.domain.exception.ValidationException;
+import io.bmeurant.bookordermanager.order.domain.model.Order.OrderStatus;
+import io.bmeurant.bookordermanager.order.domain.model.OrderView;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderViewTest {
+
+    @Test
+    void shouldCreateValidOrderView() {
+        OrderView orderView = new OrderView("order-1", "Alice Wonderland", OrderStatus.PENDING, BigDecimal.ZERO, "[]");
+
+        assertEquals("order-1", orderView.getOrderId(), "Order ID should match.");
+        assertEquals("Alice Wonderland", orderView.getCustomerName(), "Customer name should match.");
+        assertEquals(OrderStatus.PENDING, orderView.getStatus(), "Status should match.");
+        assertEquals("[]", orderView.getOrderLines(), "Order lines should match.");
+    }
+
+    @Test
+    void shouldThrowExceptionWhenFieldsAreMissing() {
+        assertThrows(ValidationException.class, () -> new OrderView(" ", "Alice Wonderland", OrderStatus.PENDING, BigDecimal.ZERO, "[]"), "Should throw ValidationException when order ID is blank.");
+        assertThrows(ValidationException.class, () -> new OrderView("order-1", null, OrderStatus.PENDING, BigDecimal.ZERO, "[]"), "Should throw ValidationException when customer name is null.");
+        assertThrows(ValidationException.class, () -> new OrderView("order-1", "Alice Wonderland", null, BigDecimal.ZERO, "[]"), "Should throw ValidationException when status is null.");
+        assertThrows(ValidationException.class, () -> new OrderView("order-1", "Alice Wonderland", OrderStatus.PENDING, BigDecimal.ZERO, ""), "Should throw ValidationException when order lines are blank.");
+        assertThrows(ValidationException.class, () -> new OrderView("order-1", "Alice Wonderland", OrderStatus.PENDING, null, "[]"), "Should throw ValidationException when total price is null.");
+    }
+
+    @Test
+    void updateStatus_shouldChangeStatus() {
+        OrderView orderView = new OrderView("order-1", "Alice Wonderland", OrderStatus.PENDING, BigDecimal.ZERO, "[]");
+
+        orderView.updateStatus(OrderStatus.CANCELLED);
+
+        assertEquals(OrderStatus.CANCELLED, orderView.getStatus(), "Status should be updated.");
+        assertThrows(ValidationException.class, () -> orderView.updateStatus(null), "Should throw ValidationException when status is null.");
+    }
+}
@@ -0,0 +1,39 @@
+package io.bmeurant.bookordermanager.unit.domain.model;
+
+import io.bmeurant.bookordermanager.domain.exception.ValidationException;
+import io.bmeurant.bookordermanager.order.domain.model.OutboxEvent;
+import io.bmeurant.bookordermanager.order.domain.model.OutboxEvent.EventType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OutboxEventTest {
+
+    @Test
+    void shouldCreateEventNotYetAttempted() {
+        OutboxEvent event = new OutboxEvent("order-1", EventType.ORDER_CREATED, "{\"orderId\":\"order-1\"}");
+
+        assertEquals("order-1", event.getAggregateId(), "Aggregate ID should match.");
+        assertEquals(EventType.ORDER_CREATED, event.getEventType(), "Event type should match.");
+        assertEquals(0, event.getAttempts(), "New event should not have been attempted yet.");
+        assertNotNull(event.getCreatedAt(), "Creation instant should be set.");
+    }
+
+    @Test
+    void shouldThrowExceptionWhenAggregateIdIsBlank() {
+        ValidationException exception = assertThrows(ValidationException.class, () -> new OutboxEvent(" ", EventType.ORDER_CREATED, "{}"), "Should throw ValidationException when aggregate ID is blank.");
+        assertTrue(exception.getMessage().contains("Aggregate ID"), "Exception message should mention the aggregate ID.");
+    }
+
+    @Test
+    void shouldThrowExceptionWhenEventTypeIsNull() {
+        ValidationException exception = assertThrows(ValidationException.class, () -> new OutboxEvent("order-1", null, "{}"), "Should throw ValidationException when event type is null.");
+        assertTrue(exception.getMessage().contains("Event type"), "Exception message should mention the event type.");
+    }
+
+    @Test
+    void shouldThrowExceptionWhenPayloadIsBlank() {
+        ValidationException exception = assertThrows(ValidationException.class, () -> new OutboxEvent("order-1", EventType.ORDER_CREATED, ""), "Should throw ValidationException when payload is blank.");
+        assertTrue(exception.getMessage().contains("Payload"), "Exception message should mention the payload.");
+    }
+}
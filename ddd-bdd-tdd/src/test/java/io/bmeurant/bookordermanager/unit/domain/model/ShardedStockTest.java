@@ -0,0 +1,102 @@
+package io.bmeurant.bookordermanager.unit.domain.model;
+
+import io.bmeurant.bookordermanager.domain.exception.ValidationException;
+import io.bmeurant.bookordermanager.inventory.domain.model.ShardedStock;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShardedStockTest {
+
+    @Test
+    void shouldSpreadInitialStockOverShards() {
+        ShardedStock stock = new ShardedStock(10, 4);
+
+        assertEquals(10, stock.getStock(), "Total stock should match the initial stock.");
+        assertEquals(0, stock.drainPendingDeduction(), "No deduction should be pending initially.");
+    }
+
+    @Test
+    void shouldThrowExceptionWhenStockIsNegative() {
+        assertThrows(ValidationException.class, () -> new ShardedStock(-1, 4), "Should throw ValidationException when stock is negative.");
+    }
+
+    @Test
+    void shouldThrowExceptionWhenShardCountIsNotPositive() {
+        assertThrows(ValidationException.class, () -> new ShardedStock(10, 0), "Should throw ValidationException when shard count is zero.");
+    }
+
+    @Test
+    void shouldDeductQuantitySpanningSeveralShards() {
+        ShardedStock stock = new ShardedStock(10, 4); // No single shard holds more than 3 units
+
+        assertTrue(stock.tryDeduct(9), "Deduction covered by the total stock should succeed.");
+        assertEquals(1, stock.getStock(), "Stock should be reduced by the deducted quantity.");
+        assertEquals(9, stock.drainPendingDeduction(), "Deducted quantity should be pending.");
+    }
+
+    @Test
+    void shouldNotDeductWhenStockIsInsufficient() {
+        ShardedStock stock = new ShardedStock(5, 4);
+
+        assertFalse(stock.tryDeduct(6), "Deduction exceeding the total stock should fail.");
+        assertEquals(5, stock.getStock(), "Stock should remain unchanged.");
+        assertEquals(0, stock.drainPendingDeduction(), "No deduction should be pending.");
+    }
+
+    @Test
+    void shouldNetReleasesAgainstPendingDeductions() {
+        ShardedStock stock = new ShardedStock(10, 2);
+        stock.tryDeduct(4);
+        stock.release(1);
+
+        assertEquals(7, stock.getStock(), "Stock should reflect both the deduction and the release.");
+        assertEquals(3, stock.drainPendingDeduction(), "Pending deduction should be the net deducted quantity.");
+        assertEquals(0, stock.drainPendingDeduction(), "Drained quantity should not be drained twice.");
+
+        stock.restorePendingDeduction(3);
+        assertEquals(3, stock.drainPendingDeduction(), "Restored quantity should be drained again.");
+    }
+
+    @Test
+    void shouldNeverOversellUnderConcurrentDeductions() throws Exception {
+        int initialStock = 1_000;
+        int threads = 16;
+        int attemptsPerThread = 200;
+        ShardedStock stock = new ShardedStock(initialStock, 8);
+        AtomicInteger deducted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < attemptsPerThread; i++) {
+                        int quantity = 1 + i % 3;
+                        if (stock.tryDeduct(quantity)) {
+                            deducted.addAndGet(quantity);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        assertEquals(initialStock - deducted.get(), stock.getStock(), "Stock should be reduced by exactly the deducted quantities.");
+        assertTrue(stock.getStock() < 3, "Stock should be exhausted since far more units were requested than available.");
+        assertEquals(deducted.get(), stock.drainPendingDeduction(), "All deductions should be pending for flush.");
+    }
+}
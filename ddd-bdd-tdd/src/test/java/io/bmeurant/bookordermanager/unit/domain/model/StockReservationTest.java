@@ -0,0 +1,89 @@
+package io.bmeurant.bookordermanager.unit.domain.model;
+
+import io.bmeurant.bookordermanager.domain.exception.ValidationException;
+import io.bmeurant.bookordermanager.inventory.domain.model.StockReservation;
+import io.bmeurant.bookordermanager.inventory.domain.model.StockReservation.ReservationStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StockReservationTest {
+
+    private static final Instant EXPIRES_AT = Instant.parse("2025-01-01T10:15:00Z");
+
+    @Test
+    void shouldCreateActiveStockReservationWithValidParameters() {
+        StockReservation reservation = new StockReservation("order-1", "978-0321765723", 2, EXPIRES_AT);
+
+        assertEquals("order-1", reservation.getOrderId(), "Order ID should match the provided value.");
+        assertEquals("978-0321765723", reservation.getIsbn(), "ISBN should match the provided value.");
+        assertEquals(2, reservation.getQuantity(), "Quantity should match the provided value.");
+        assertEquals(EXPIRES_AT, reservation.getExpiresAt(), "Expiration should match the provided value.");
+        assertEquals(ReservationStatus.ACTIVE, reservation.getStatus(), "New reservation should be ACTIVE.");
+    }
+
+    @Test
+    void shouldThrowExceptionWhenOrderIdIsBlank() {
+        ValidationException exception = assertThrows(ValidationException.class, () -> new StockReservation(" ", "978-0321765723", 2, EXPIRES_AT), "Should throw ValidationException when order ID is blank.");
+        assertTrue(exception.getMessage().contains("Order ID cannot be null or blank"), "Exception message should indicate blank order ID.");
+        assertEquals(StockReservation.class.getSimpleName(), exception.getDomainClassName(), "Domain class name should be StockReservation.");
+    }
+
+    @Test
+    void shouldThrowExceptionWhenQuantityIsNotPositive() {
+        ValidationException exception = assertThrows(ValidationException.class, () -> new StockReservation("order-1", "978-0321765723", 0, EXPIRES_AT), "Should throw ValidationException when quantity is zero.");
+        assertTrue(exception.getMessage().contains("Quantity must be positive"), "Exception message should indicate non-positive quantity.");
+    }
+
+    @Test
+    void shouldThrowExceptionWhenExpirationIsNull() {
+        assertThrows(ValidationException.class, () -> new StockReservation("order-1", "978-0321765723", 2, null), "Should throw ValidationException when expiration is null.");
+    }
+
+    @Test
+    void shouldCommitActiveReservation() {
+        StockReservation reservation = new StockReservation("order-1", "978-0321765723", 2, EXPIRES_AT);
+
+        reservation.commit();
+
+        assertEquals(ReservationStatus.COMMITTED, reservation.getStatus(), "Reservation should be COMMITTED.");
+    }
+
+    @Test
+    void shouldReleaseActiveReservation() {
+        StockReservation reservation = new StockReservation("order-1", "978-0321765723", 2, EXPIRES_AT);
+
+        reservation.release();
+
+        assertEquals(ReservationStatus.RELEASED, reservation.getStatus(), "Reservation should be RELEASED.");
+    }
+
+    @Test
+    void shouldExpireActiveReservationOnceExpirationIsReached() {
+        StockReservation reservation = new StockReservation("order-1", "978-0321765723", 2, EXPIRES_AT);
+
+        reservation.expire(EXPIRES_AT);
+
+        assertEquals(ReservationStatus.EXPIRED, reservation.getStatus(), "Reservation should be EXPIRED.");
+    }
+
+    @Test
+    void shouldThrowExceptionWhenExpiringBeforeExpiration() {
+        StockReservation reservation = new StockReservation("order-1", "978-0321765723", 2, EXPIRES_AT);
+
+        assertThrows(ValidationException.class, () -> reservation.expire(EXPIRES_AT.minusSeconds(1)), "Should throw ValidationException when reservation has not expired yet.");
+        assertEquals(ReservationStatus.ACTIVE, reservation.getStatus(), "Reservation should remain ACTIVE.");
+    }
+
+    @Test
+    void shouldThrowExceptionWhenReleasingCommittedReservation() {
+        StockReservation reservation = new StockReservation("order-1", "978-0321765723", 2, EXPIRES_AT);
+        reservation.commit();
+
+        ValidationException exception = assertThrows(ValidationException.class, reservation::release, "Should throw ValidationException when releasing a committed reservation.");
+        assertTrue(exception.getMessage().contains("Reservation can only be released if its status is ACTIVE."), "Exception message should indicate invalid status.");
+        assertEquals(ReservationStatus.COMMITTED, reservation.getStatus(), "Reservation should remain COMMITTED.");
+    }
+}
@@ -2,13 +2,17 @@ package io.bmeurant.bookordermanager.unit.domain.repository;
 
 import io.bmeurant.bookordermanager.catalog.domain.model.Book;
 import io.bmeurant.bookordermanager.catalog.domain.repository.BookRepository;
+import org.hibernate.Session;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -58,4 +62,43 @@ class BookRepositoryTest {
 
         assertEquals(1L, verifiedBook.getVersion(), "Version should be incremented to 1 after update.");
     }
+
+    @Test
+    void shouldReadVersionWithoutLoadingBook() {
+        Book book = bookRepository.save(new Book("978-0321765723", "The Lord of the Rings", "J.R.R. Tolkien", new BigDecimal("25.00")));
+        book.updateTitle("The Lord of the Rings - Updated");
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(Optional.of(1L), bookRepository.findVersionByIsbn(book.getIsbn()), "Current version of the book should be read.");
+        assertTrue(bookRepository.findVersionByIsbn("nonExistentIsbn").isEmpty(), "No version should be found for an unknown ISBN.");
+        assertEquals(0, entityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount(), "No book should be managed.");
+    }
+
+    @Test
+    void shouldReadBooksPageByPageInIsbnOrder() {
+        entityManager.persist(new Book("isbn3", "Title 3", "Author 3", new BigDecimal("30.00")));
+        entityManager.persist(new Book("isbn1", "Title 1", "Author 1", new BigDecimal("10.00")));
+        entityManager.persist(new Book("isbn2", "Title 2", "Author 2", new BigDecimal("20.00")));
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Book> firstPage = bookRepository.findAllByOrderByIsbn(Limit.of(2));
+        List<Book> nextPage = bookRepository.findByIsbnGreaterThanOrderByIsbn("isbn2", Limit.of(2));
+
+        assertEquals(List.of("isbn1", "isbn2"), firstPage.stream().map(Book::getIsbn).toList(), "First page should hold the first books by ISBN.");
+        assertEquals(List.of("isbn3"), nextPage.stream().map(Book::getIsbn).toList(), "Next page should start after the given ISBN.");
+    }
+
+    @Test
+    void shouldStreamAllBooksInIsbnOrder() {
+        entityManager.persist(new Book("isbn2", "Title 2", "Author 2", new BigDecimal("20.00")));
+        entityManager.persist(new Book("isbn1", "Title 1", "Author 1", new BigDecimal("10.00")));
+        entityManager.flush();
+        entityManager.clear();
+
+        try (Stream<Book> books = bookRepository.streamAllByOrderByIsbn()) {
+            assertEquals(List.of("isbn1", "isbn2"), books.map(Book::getIsbn).toList(), "All books should be streamed in ISBN order.");
+        }
+    }
 }
@@ -0,0 +1,81 @@
+package io.bmeurant.bookordermanager.unit.domain.repository;
+
+import io.bmeurant.bookordermanager.order.domain.model.DailyRevenue;
+import io.bmeurant.bookordermanager.order.domain.repository.DailyRevenueRepository;
+import io.bmeurant.bookordermanager.order.domain.repository.DailyRevenueRepository.DailyTotal;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+class DailyRevenueRepositoryTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 10, 1);
+
+    @Autowired
+    private DailyRevenueRepository dailyRevenueRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void addRevenue_shouldAddToExistingRevenueOnly() {
+        entityManager.persistAndFlush(new DailyRevenue(DAY, "978-0321765723", 2, new BigDecimal("50.00")));
+
+        int added = dailyRevenueRepository.addRevenue(DAY, "978-0321765723", -1, new BigDecimal("-25.00"));
+        int missing = dailyRevenueRepository.addRevenue(DAY.plusDays(1), "978-0321765723", 1, new BigDecimal("25.00"));
+        entityManager.clear();
+
+        assertEquals(1, added, "Existing revenue should be updated.");
+        assertEquals(0, missing, "Missing revenue should not be created.");
+        DailyRevenue revenue = dailyRevenueRepository.findById(new DailyRevenue.Key(DAY, "978-0321765723")).orElseThrow();
+        assertEquals(1, revenue.getQuantity(), "Quantity should be added.");
+        assertEquals(0, new BigDecimal("25.00").compareTo(revenue.getRevenue()), "Revenue should be added.");
+    }
+
+    @Test
+    void sumByDayBetween_shouldSumRevenuesOfAllBooksByDay() {
+        entityManager.persist(new DailyRevenue(DAY, "978-0321765723", 2, new BigDecimal("50.00")));
+        entityManager.persist(new DailyRevenue(DAY, "978-0132350884", 1, new BigDecimal("35.00")));
+        entityManager.persist(new DailyRevenue(DAY.plusDays(1), "978-0321765723", 1, new BigDecimal("25.00")));
+        entityManager.persist(new DailyRevenue(DAY.plusDays(2), "978-0321765723", 4, new BigDecimal("100.00")));
+        entityManager.flush();
+
+        List<DailyTotal> totals = dailyRevenueRepository.sumByDayBetween(DAY, DAY.plusDays(1));
+
+        assertEquals(List.of(DAY, DAY.plusDays(1)), totals.stream().map(DailyTotal::getDay).toList(), "Only the days of the range should be summed, in order.");
+        assertEquals(3, totals.getFirst().getQuantity(), "Quantities of all books should be summed.");
+        assertEquals(0, new BigDecimal("85.00").compareTo(totals.getFirst().getRevenue()), "Revenues of all books should be summed.");
+    }
+
+    @Test
+    void findByIsbnAndDayBetweenOrderByDay_shouldReturnRevenuesOfBookByDay() {
+        entityManager.persist(new DailyRevenue(DAY.plusDays(1), "978-0321765723", 1, new BigDecimal("25.00")));
+        entityManager.persist(new DailyRevenue(DAY, "978-0321765723", 2, new BigDecimal("50.00")));
+        entityManager.persist(new DailyRevenue(DAY, "978-0132350884", 1, new BigDecimal("35.00")));
+        entityManager.flush();
+
+        List<DailyRevenue> revenues = dailyRevenueRepository.findByIsbnAndDayBetweenOrderByDay("978-0321765723", DAY, DAY.plusDays(1));
+
+        assertEquals(List.of(DAY, DAY.plusDays(1)), revenues.stream().map(DailyRevenue::getDay).toList(), "Revenues of the book should be returned by day.");
+        assertTrue(revenues.stream().allMatch(revenue -> revenue.getIsbn().equals("978-0321765723")), "Only the revenues of the book should be returned.");
+    }
+
+    @Test
+    void shouldReadRevenuesOfBookThroughIsbnIndex() {
+        String plan = jdbcTemplate.queryForObject("explain select quantity from daily_revenue where isbn = '978-0321765723' and revenue_day between date '2026-10-01' and date '2026-10-31'", String.class);
+
+        assertTrue(plan.toLowerCase().contains("idx_daily_revenue_isbn"), "Revenues of a book should be read through the ISBN index. Plan: " + plan);
+    }
+}
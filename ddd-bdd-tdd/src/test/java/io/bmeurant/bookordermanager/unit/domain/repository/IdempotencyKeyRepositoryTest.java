@@ -0,0 +1,44 @@
+package io.bmeurant.bookordermanager.unit.domain.repository;
+
+import io.bmeurant.bookordermanager.order.domain.model.IdempotencyKey;
+import io.bmeurant.bookordermanager.order.domain.repository.IdempotencyKeyRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+class IdempotencyKeyRepositoryTest {
+
+    @Autowired
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void shouldRejectSecondKeyWithSameValue() {
+        entityManager.persistAndFlush(new IdempotencyKey("key-1", "hash", "0190a000-0000-7000-8000-000000000001", "{}"));
+        entityManager.clear();
+
+        assertThrows(DataIntegrityViolationException.class,
+                () -> idempotencyKeyRepository.saveAndFlush(new IdempotencyKey("key-1", "hash", "0190a000-0000-7000-8000-000000000002", "{}")),
+                "A key should not be recorded twice.");
+    }
+
+    @Test
+    void shouldDeleteKeysCreatedBeforeThreshold() {
+        entityManager.persistAndFlush(new IdempotencyKey("key-1", "hash", "0190a000-0000-7000-8000-000000000001", "{}"));
+        entityManager.clear();
+
+        assertEquals(0, idempotencyKeyRepository.deleteCreatedBefore(Instant.now().minus(1, ChronoUnit.HOURS)), "Recent key should be kept.");
+        assertEquals(1, idempotencyKeyRepository.deleteCreatedBefore(Instant.now().plusSeconds(1)), "Old key should be deleted.");
+        assertTrue(idempotencyKeyRepository.findById("key-1").isEmpty(), "Deleted key should no longer be found.");
+    }
+}
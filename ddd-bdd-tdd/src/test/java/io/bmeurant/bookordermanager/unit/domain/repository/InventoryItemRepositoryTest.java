@@ -2,12 +2,19 @@ package io.bmeurant.bookordermanager.unit.domain.repository;
 
 import io.bmeurant.bookordermanager.inventory.domain.model.InventoryItem;
 import io.bmeurant.bookordermanager.inventory.domain.repository.InventoryItemRepository;
+import io.bmeurant.bookordermanager.inventory.domain.repository.InventoryItemRepository.IsbnStock;
+import org.hibernate.Session;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -20,6 +27,9 @@ class InventoryItemRepositoryTest {
     @Autowired
     private TestEntityManager entityManager;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Test
     void shouldSaveAndFindInventoryItem() {
         InventoryItem item = new InventoryItem("978-0321765723", 10);
@@ -57,4 +67,85 @@ class InventoryItemRepositoryTest {
 
         assertEquals(1L, verifiedItem.getVersion(), "Version should be incremented to 1 after update.");
     }
+
+    @Test
+    void shouldDeductStockAtomicallyWhenAvailable() {
+        InventoryItem item = inventoryItemRepository.save(new InventoryItem("978-0321765723", 10));
+        entityManager.flush();
+        entityManager.clear();
+
+        int updatedRows = inventoryItemRepository.deductStockIfAvailable(item.getIsbn(), 4);
+
+        assertEquals(1, updatedRows, "One row should be updated when stock is sufficient.");
+        assertEquals(Optional.of(6), inventoryItemRepository.findStockByIsbn(item.getIsbn()), "Stock should be deducted in the database.");
+        entityManager.clear();
+        assertEquals(1L, inventoryItemRepository.findById(item.getIsbn()).orElseThrow().getVersion(), "Version should be incremented by the atomic update.");
+    }
+
+    @Test
+    void shouldNotDeductStockAtomicallyWhenInsufficient() {
+        InventoryItem item = inventoryItemRepository.save(new InventoryItem("978-0321765723", 3));
+        entityManager.flush();
+        entityManager.clear();
+
+        int updatedRows = inventoryItemRepository.deductStockIfAvailable(item.getIsbn(), 4);
+
+        assertEquals(0, updatedRows, "No row should be updated when stock is insufficient.");
+        assertEquals(Optional.of(3), inventoryItemRepository.findStockByIsbn(item.getIsbn()), "Stock should be left untouched.");
+    }
+
+    @Test
+    void shouldNotDeductStockAtomicallyWhenItemDoesNotExist() {
+        assertEquals(0, inventoryItemRepository.deductStockIfAvailable("nonExistentISBN", 1), "No row should be updated for an unknown ISBN.");
+        assertTrue(inventoryItemRepository.findStockByIsbn("nonExistentISBN").isEmpty(), "No stock should be found for an unknown ISBN.");
+    }
+
+    @Test
+    void shouldReadVersionWithoutLoadingInventoryItem() {
+        inventoryItemRepository.save(new InventoryItem("978-0321765723", 10));
+        entityManager.flush();
+        inventoryItemRepository.deductStockIfAvailable("978-0321765723", 4);
+        entityManager.clear();
+
+        assertEquals(Optional.of(1L), inventoryItemRepository.findVersionByIsbn("978-0321765723"), "Current version of the item should be read.");
+        assertTrue(inventoryItemRepository.findVersionByIsbn("nonExistentISBN").isEmpty(), "No version should be found for an unknown ISBN.");
+        assertEquals(0, entityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount(), "No inventory item should be managed.");
+    }
+
+    @Test
+    void shouldReadStocksWithoutManagingInventoryItems() {
+        inventoryItemRepository.save(new InventoryItem("978-0321765723", 10));
+        inventoryItemRepository.save(new InventoryItem("978-0132350884", 3));
+        entityManager.flush();
+        entityManager.clear();
+
+        Map<String, Integer> stocksByIsbn = inventoryItemRepository.findStocksByIsbnIn(List.of("978-0321765723", "978-0132350884", "nonExistentISBN")).stream()
+                .collect(Collectors.toMap(IsbnStock::getIsbn, IsbnStock::getStock));
+
+        assertEquals(Map.of("978-0321765723", 10, "978-0132350884", 3), stocksByIsbn, "Stocks of the existing items should be read.");
+        assertEquals(0, entityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount(), "No inventory item should be managed.");
+    }
+
+    @Test
+    void shouldReadLowStocksPageByPageLowestStockFirst() {
+        entityManager.persist(new InventoryItem("isbn-1", 4));
+        entityManager.persist(new InventoryItem("isbn-2", 0));
+        entityManager.persist(new InventoryItem("isbn-3", 4));
+        entityManager.persist(new InventoryItem("isbn-4", 50));
+        entityManager.flush();
+
+        List<InventoryItem> firstPage = inventoryItemRepository.findLowStocks(5, Limit.of(2));
+        InventoryItem lastItem = firstPage.getLast();
+        List<InventoryItem> nextPage = inventoryItemRepository.findLowStocksAfter(5, lastItem.getStock(), lastItem.getIsbn(), Limit.of(2));
+
+        assertEquals(List.of("isbn-2", "isbn-1"), firstPage.stream().map(InventoryItem::getIsbn).toList(), "First page should hold the lowest stocks.");
+        assertEquals(List.of("isbn-3"), nextPage.stream().map(InventoryItem::getIsbn).toList(), "Next page should hold the remaining low stocks only.");
+    }
+
+    @Test
+    void shouldReadLowStocksThroughStockIndex() {
+        String plan = jdbcTemplate.queryForObject("explain select isbn from inventory_item where stock <= 5 order by stock, isbn", String.class);
+
+        assertTrue(plan.toLowerCase().contains("idx_inventory_item_stock"), "Low stocks should be read through the stock index. Plan: " + plan);
+    }
 }
@@ -0,0 +1,82 @@
+package io.bmeurant.bookordermanager.unit.domain.repository;
+
+import io.bmeurant.bookordermanager.order.domain.model.Order;
+import io.bmeurant.bookordermanager.order.domain.model.OrderLine;
+import io.bmeurant.bookordermanager.order.domain.repository.OrderRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that with the {@code jdbc-batching} profile, writing orders issues a number of statements which grows with
+ * the number of batches rather than with the number of rows.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("jdbc-batching")
+class OrderRepositoryBatchingTest {
+
+    private static final int BATCH_SIZE = 50;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManager().getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void save_shouldInsertOrderLinesByBatches() {
+        // Given
+        Order order = new Order("Alice Wonderland", IntStream.range(0, 100)
+                .mapToObj(i -> new OrderLine("978-%010d".formatted(i), 1, new BigDecimal("25.00")))
+                .toList());
+
+        // When
+        orderRepository.saveAndFlush(order);
+
+        // Then
+        assertEquals(1, statistics.getEntityInsertCount(), "A single order should be inserted.");
+        assertTrue(statistics.getPrepareStatementCount() <= 1 + 100 / BATCH_SIZE,
+                "Inserting an order of 100 lines should use one statement for the order and one per batch of lines, but used " + statistics.getPrepareStatementCount() + ".");
+        entityManager.clear();
+        assertEquals(100, orderRepository.findById(order.getOrderId()).orElseThrow().getOrderLines().size(), "All order lines should be inserted.");
+    }
+
+    @Test
+    void flush_shouldUpdateOrdersByBatches() {
+        // Given
+        List<Order> orders = IntStream.range(0, 100)
+                .mapToObj(i -> entityManager.persist(new Order("Customer " + i, List.of(new OrderLine("978-0321765723", 1, new BigDecimal("25.00"))))))
+                .toList();
+        entityManager.flush();
+        statistics.clear();
+
+        // When
+        orders.forEach(Order::confirm);
+        entityManager.flush();
+
+        // Then
+        assertEquals(100, statistics.getEntityUpdateCount(), "All orders should be updated.");
+        assertTrue(statistics.getPrepareStatementCount() <= 100 / BATCH_SIZE,
+                "Updating 100 orders should use one statement per batch, but used " + statistics.getPrepareStatementCount() + ".");
+    }
+}
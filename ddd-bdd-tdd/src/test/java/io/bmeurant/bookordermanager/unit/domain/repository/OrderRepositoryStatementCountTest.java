@@ -0,0 +1,93 @@
+package io.bmeurant.bookordermanager.unit.domain.repository;
+
+import io.bmeurant.bookordermanager.order.domain.model.Order;
+import io.bmeurant.bookordermanager.order.domain.model.OrderLine;
+import io.bmeurant.bookordermanager.order.domain.repository.OrderRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks that reading orders along with their order lines issues a number of statements which does not depend on
+ * the number of orders.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class OrderRepositoryStatementCountTest {
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManager().getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void findAll_shouldUseSingleStatementWhateverTheNumberOfOrders() {
+        assertEquals(1, countStatementsReadingOrders(3, orderIds -> orderRepository.findAll()), "Reading 3 orders should use a single statement.");
+        assertEquals(1, countStatementsReadingOrders(20, orderIds -> orderRepository.findAll()), "Reading 20 orders should use a single statement.");
+    }
+
+    @Test
+    void findById_shouldReadOrderLinesInSameStatement() {
+        String orderId = persistOrders(1).getFirst();
+        entityManager.clear();
+        statistics.clear();
+
+        orderRepository.findById(orderId).orElseThrow().getOrderLines().size();
+
+        assertEquals(1, statistics.getPrepareStatementCount(), "Reading an order with its lines should use a single statement.");
+    }
+
+    @Test
+    void findByOrderIdInOrderByOrderId_shouldUseSingleStatementWhateverTheNumberOfOrders() {
+        Function<List<String>, List<Order>> readOrders = orderIds -> orderRepository.findByOrderIdInOrderByOrderId(orderIds);
+
+        assertEquals(1, countStatementsReadingOrders(3, readOrders), "Reading 3 given orders should use a single statement.");
+        assertEquals(1, countStatementsReadingOrders(20, readOrders), "Reading 20 given orders should use a single statement.");
+    }
+
+    /**
+     * Persists the given number of orders, then counts the statements issued to read them and access all their lines.
+     */
+    private long countStatementsReadingOrders(int numberOfOrders, Function<List<String>, List<Order>> reader) {
+        entityManager.getEntityManager().createQuery("delete from Order").executeUpdate();
+        List<String> orderIds = persistOrders(numberOfOrders);
+        entityManager.clear();
+        statistics.clear();
+
+        List<Order> orders = reader.apply(orderIds);
+        int numberOfLines = orders.stream().mapToInt(order -> order.getOrderLines().size()).sum();
+
+        assertEquals(numberOfOrders, orders.size(), "All orders should be read.");
+        assertEquals(2 * numberOfOrders, numberOfLines, "All order lines should be read.");
+        return statistics.getPrepareStatementCount();
+    }
+
+    private List<String> persistOrders(int numberOfOrders) {
+        List<String> orderIds = new ArrayList<>();
+        for (int i = 0; i < numberOfOrders; i++) {
+            orderIds.add(entityManager.persist(new Order("Customer " + i, List.of(
+                    new OrderLine("978-0321765723", 1, new BigDecimal("25.00")),
+                    new OrderLine("978-0132350884", 2, new BigDecimal("35.00"))))).getOrderId());
+        }
+        entityManager.flush();
+        return orderIds;
+    }
+}
@@ -7,6 +7,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.math.BigDecimal;
 import java.util.Arrays;
@@ -24,6 +25,9 @@ class OrderRepositoryTest {
     @Autowired
     private TestEntityManager entityManager;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Test
     void shouldSaveAndFindOrder() {
         OrderLine line1 = new OrderLine("978-0321765723", 2, new BigDecimal("25.00"));
@@ -70,4 +74,11 @@ class OrderRepositoryTest {
 
         assertEquals(1L, verifiedOrder.getVersion(), "Version should be incremented to 1 after update.");
     }
+
+    @Test
+    void shouldReadOrderLinesThroughOrderIdIndex() {
+        String plan = jdbcTemplate.queryForObject("explain select isbn from order_lines where order_id = '0190a000-0000-7000-8000-000000000000'", String.class);
+
+        assertTrue(plan.toLowerCase().contains("idx_order_lines_order_id"), "Lines of an order should be read through the order ID index. Plan: " + plan);
+    }
 }
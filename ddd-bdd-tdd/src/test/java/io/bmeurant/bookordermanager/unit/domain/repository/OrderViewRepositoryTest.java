@@ -0,0 +1,90 @@
+package io.bmeurant.bookordermanager.unit.domain.repository;
+
+import io.bmeurant.bookordermanager.order.domain.model.Order.OrderStatus;
+import io.bmeurant.bookordermanager.order.domain.model.OrderView;
+import io.bmeurant.bookordermanager.order.domain.repository.OrderViewRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+class OrderViewRepositoryTest {
+
+    @Autowired
+    private OrderViewRepository orderViewRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void shouldSaveAndUpdateOrderView() {
+        OrderView orderView = orderViewRepository.saveAndFlush(new OrderView("0190a000-0000-7000-8000-000000000001", "Alice Wonderland", OrderStatus.PENDING, BigDecimal.ZERO, "[]"));
+        assertEquals(0L, orderView.getVersion(), "Initial version should be 0.");
+
+        orderView.updateStatus(OrderStatus.CONFIRMED);
+        entityManager.flush();
+        entityManager.clear();
+
+        OrderView foundOrderView = orderViewRepository.findById("0190a000-0000-7000-8000-000000000001").orElseThrow();
+        assertEquals(OrderStatus.CONFIRMED, foundOrderView.getStatus(), "Updated status should be persisted.");
+        assertEquals(1L, foundOrderView.getVersion(), "Version should be incremented to 1 after update.");
+    }
+
+    @Test
+    void shouldReadOrderViewsPageByPageInOrderIdOrder() {
+        Stream.of("0190a000-0000-7000-8000-000000000003", "0190a000-0000-7000-8000-000000000001", "0190a000-0000-7000-8000-000000000002").forEach(orderId ->
+                entityManager.persist(new OrderView(orderId, "Alice Wonderland", OrderStatus.PENDING, BigDecimal.ZERO, "[]")));
+        entityManager.flush();
+
+        List<OrderView> firstPage = orderViewRepository.findAllByOrderByOrderId(Limit.of(2));
+        List<OrderView> nextPage = orderViewRepository.findByOrderIdGreaterThanOrderByOrderId(firstPage.getLast().getOrderId(), Limit.of(2));
+
+        assertEquals(List.of("0190a000-0000-7000-8000-000000000001", "0190a000-0000-7000-8000-000000000002"), firstPage.stream().map(OrderView::getOrderId).toList(), "First page should hold the first order views.");
+        assertEquals(List.of("0190a000-0000-7000-8000-000000000003"), nextPage.stream().map(OrderView::getOrderId).toList(), "Next page should hold the remaining order views.");
+    }
+
+    @Test
+    void shouldReadOrderViewsOfCustomerPageByPage() {
+        Stream.of("0190a000-0000-7000-8000-000000000003", "0190a000-0000-7000-8000-000000000001", "0190a000-0000-7000-8000-000000000002").forEach(orderId ->
+                entityManager.persist(new OrderView(orderId, "Alice Wonderland", OrderStatus.PENDING, BigDecimal.ZERO, "[]")));
+        entityManager.persist(new OrderView("0190a000-0000-7000-8000-000000000000", "Bob Builder", OrderStatus.PENDING, BigDecimal.ZERO, "[]"));
+        entityManager.flush();
+
+        List<OrderView> firstPage = orderViewRepository.findByCustomerNameOrderByOrderId("Alice Wonderland", Limit.of(2));
+        List<OrderView> nextPage = orderViewRepository.findByCustomerNameAndOrderIdGreaterThanOrderByOrderId("Alice Wonderland", firstPage.getLast().getOrderId(), Limit.of(2));
+
+        assertEquals(List.of("0190a000-0000-7000-8000-000000000001", "0190a000-0000-7000-8000-000000000002"), firstPage.stream().map(OrderView::getOrderId).toList(), "First page should hold the first order views of the customer.");
+        assertEquals(List.of("0190a000-0000-7000-8000-000000000003"), nextPage.stream().map(OrderView::getOrderId).toList(), "Next page should hold the remaining order views of the customer.");
+    }
+
+    @Test
+    void shouldReadOrderViewsOfCustomerThroughCustomerIndex() {
+        String plan = jdbcTemplate.queryForObject("explain select order_id from order_views where customer_name = 'Alice Wonderland' and order_id > '0190a000-0000-7000-8000-000000000001' order by order_id", String.class);
+
+        assertTrue(plan.toLowerCase().contains("idx_order_views_customer_name"), "Orders of a customer should be read through the customer index. Plan: " + plan);
+    }
+
+    @Test
+    void shouldStreamAllOrderViewsInOrderIdOrder() {
+        Stream.of("0190a000-0000-7000-8000-000000000002", "0190a000-0000-7000-8000-000000000001").forEach(orderId ->
+                entityManager.persist(new OrderView(orderId, "Alice Wonderland", OrderStatus.PENDING, BigDecimal.ZERO, "[]")));
+        entityManager.flush();
+        entityManager.clear();
+
+        try (Stream<OrderView> orderViews = orderViewRepository.streamAllByOrderByOrderId()) {
+            assertEquals(List.of("0190a000-0000-7000-8000-000000000001", "0190a000-0000-7000-8000-000000000002"), orderViews.map(OrderView::getOrderId).toList(), "All order views should be streamed in order.");
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package io.bmeurant.bookordermanager.unit.domain.repository;
+
+import io.bmeurant.bookordermanager.order.domain.model.OutboxEvent;
+import io.bmeurant.bookordermanager.order.domain.model.OutboxEvent.EventType;
+import io.bmeurant.bookordermanager.order.domain.repository.OutboxEventRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+class OutboxEventRepositoryTest {
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void shouldFindOldestEventsUpToLimit() {
+        OutboxEvent first = entityManager.persist(new OutboxEvent("order-1", EventType.ORDER_CREATED, "{}"));
+        OutboxEvent second = entityManager.persist(new OutboxEvent("order-2", EventType.ORDER_CREATED, "{}"));
+        entityManager.persist(new OutboxEvent("order-1", EventType.ORDER_CANCELLED, "{}"));
+        entityManager.flush();
+        entityManager.clear();
+
+        List<OutboxEvent> events = outboxEventRepository.findByAttemptsLessThanOrderById(10, Limit.of(2));
+
+        assertEquals(List.of(first, second), events, "The oldest events should be found first.");
+    }
+
+    @Test
+    void shouldSkipEventsHavingReachedMaxAttempts() {
+        OutboxEvent event = entityManager.persist(new OutboxEvent("order-1", EventType.ORDER_CREATED, "{}"));
+        entityManager.flush();
+
+        outboxEventRepository.incrementAttempts(List.of(event.getId()));
+        outboxEventRepository.incrementAttempts(List.of(event.getId()));
+        entityManager.clear();
+
+        assertEquals(2, outboxEventRepository.findById(event.getId()).orElseThrow().getAttempts(), "Failed attempts should be counted.");
+        assertTrue(outboxEventRepository.findByAttemptsLessThanOrderById(2, Limit.of(10)).isEmpty(), "Event having reached the max attempts should be skipped.");
+        assertEquals(1, outboxEventRepository.findByAttemptsLessThanOrderById(3, Limit.of(10)).size(), "Event below the max attempts should be found.");
+    }
+
+    @Test
+    void shouldReadEventsToDispatchThroughAttemptsIndex() {
+        String plan = jdbcTemplate.queryForObject("explain select id from outbox_events where attempts < 10 order by id fetch first 100 rows only", String.class);
+
+        assertTrue(plan.toLowerCase().contains("idx_outbox_events_attempts_id"), "Events to dispatch should be read through the attempts index. Plan: " + plan);
+    }
+}
@@ -0,0 +1,58 @@
+package io.bmeurant.bookordermanager.unit.domain.repository;
+
+import io.bmeurant.bookordermanager.inventory.domain.model.StockReservation;
+import io.bmeurant.bookordermanager.inventory.domain.model.StockReservation.ReservationStatus;
+import io.bmeurant.bookordermanager.inventory.domain.repository.StockReservationRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+class StockReservationRepositoryTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T10:00:00Z");
+
+    @Autowired
+    private StockReservationRepository stockReservationRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void shouldFindActiveReservationsOfOrder() {
+        StockReservation active = entityManager.persist(new StockReservation("0190a000-0000-7000-8000-000000000001", "978-0321765723", 2, NOW));
+        StockReservation committed = new StockReservation("0190a000-0000-7000-8000-000000000001", "978-0132350884", 1, NOW);
+        committed.commit();
+        entityManager.persist(committed);
+        entityManager.persist(new StockReservation("0190a000-0000-7000-8000-000000000002", "978-0321765723", 3, NOW));
+        entityManager.flush();
+        entityManager.clear();
+
+        List<StockReservation> reservations = stockReservationRepository.findByOrderIdAndStatus("0190a000-0000-7000-8000-000000000001", ReservationStatus.ACTIVE);
+
+        assertEquals(List.of(active), reservations, "Only the active reservation of the order should be found.");
+    }
+
+    @Test
+    void shouldFindOldestExpiredActiveReservationsUpToLimit() {
+        entityManager.persist(new StockReservation("0190a000-0000-7000-8000-000000000001", "978-0321765723", 1, NOW.minusSeconds(10)));
+        entityManager.persist(new StockReservation("0190a000-0000-7000-8000-000000000002", "978-0321765723", 1, NOW.minusSeconds(30)));
+        entityManager.persist(new StockReservation("0190a000-0000-7000-8000-000000000003", "978-0321765723", 1, NOW.minusSeconds(20)));
+        entityManager.persist(new StockReservation("0190a000-0000-7000-8000-000000000004", "978-0321765723", 1, NOW.plusSeconds(10)));
+        entityManager.flush();
+        entityManager.clear();
+
+        List<StockReservation> reservations = stockReservationRepository.findByStatusAndExpiresAtBeforeOrderByExpiresAt(
+                ReservationStatus.ACTIVE, NOW, Limit.of(2));
+
+        assertEquals(List.of("0190a000-0000-7000-8000-000000000002", "0190a000-0000-7000-8000-000000000003"), reservations.stream().map(StockReservation::getOrderId).toList(),
+                "The oldest expired reservations should be returned first, within the limit.");
+    }
+}
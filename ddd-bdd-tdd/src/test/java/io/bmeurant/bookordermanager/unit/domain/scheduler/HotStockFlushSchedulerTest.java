@@ -0,0 +1,39 @@
+package io.bmeurant.bookordermanager.unit.domain.scheduler;
+
+import io.bmeurant.bookordermanager.inventory.domain.scheduler.HotStockFlushScheduler;
+import io.bmeurant.bookordermanager.inventory.domain.service.HotStockCounter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class HotStockFlushSchedulerTest {
+
+    @Mock
+    private HotStockCounter hotStockCounter;
+
+    @InjectMocks
+    private HotStockFlushScheduler hotStockFlushScheduler;
+
+    @Test
+    void flushHotStocks_shouldFlushCounter() {
+        // When
+        hotStockFlushScheduler.flushHotStocks();
+
+        // Then
+        verify(hotStockCounter, times(1)).flush();
+    }
+
+    @Test
+    void flushOnShutdown_shouldFlushPendingChanges() {
+        // When
+        hotStockFlushScheduler.flushOnShutdown();
+
+        // Then
+        verify(hotStockCounter, times(1)).flush();
+    }
+}
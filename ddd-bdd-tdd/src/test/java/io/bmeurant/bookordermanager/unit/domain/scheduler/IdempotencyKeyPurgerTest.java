@@ -0,0 +1,50 @@
+package io.bmeurant.bookordermanager.unit.domain.scheduler;
+
+import io.bmeurant.bookordermanager.order.domain.repository.IdempotencyKeyRepository;
+import io.bmeurant.bookordermanager.order.domain.scheduler.IdempotencyKeyPurger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyKeyPurgerTest {
+
+    @Mock
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Test
+    void purgeExpiredKeys_shouldDeleteKeysOlderThanTtl() {
+        // Given
+        IdempotencyKeyPurger purger = new IdempotencyKeyPurger(idempotencyKeyRepository, Duration.ofHours(24));
+        ArgumentCaptor<Instant> threshold = ArgumentCaptor.forClass(Instant.class);
+
+        // When
+        purger.purgeExpiredKeys();
+
+        // Then
+        verify(idempotencyKeyRepository).deleteCreatedBefore(threshold.capture());
+        Instant expected = Instant.now().minus(Duration.ofHours(24));
+        assertTrue(Duration.between(threshold.getValue(), expected).abs().toSeconds() < 5, "Keys older than the ttl should be deleted.");
+    }
+
+    @Test
+    void purgeExpiredKeys_shouldNotPropagateFailure() {
+        // Given
+        IdempotencyKeyPurger purger = new IdempotencyKeyPurger(idempotencyKeyRepository, Duration.ofHours(24));
+        when(idempotencyKeyRepository.deleteCreatedBefore(any(Instant.class))).thenThrow(new QueryTimeoutException("timeout"));
+
+        // When & Then
+        assertDoesNotThrow(purger::purgeExpiredKeys, "A failed purge should not propagate out of the scheduled task.");
+    }
+}
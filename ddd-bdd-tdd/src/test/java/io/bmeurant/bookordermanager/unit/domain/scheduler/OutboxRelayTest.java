@@ -0,0 +1,165 @@
+package io.bmeurant.bookordermanager.unit.domain.scheduler;
+
+import io.bmeurant.bookordermanager.order.domain.handler.OrderEventHandler;
+import io.bmeurant.bookordermanager.order.domain.model.OutboxEvent;
+import io.bmeurant.bookordermanager.order.domain.model.OutboxEvent.EventType;
+import io.bmeurant.bookordermanager.order.domain.repository.OutboxEventRepository;
+import io.bmeurant.bookordermanager.order.domain.scheduler.OutboxRelay;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private OrderEventHandler orderEventHandler;
+
+    private ExecutorService executor;
+    private SimpleMeterRegistry meterRegistry;
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(2);
+        meterRegistry = new SimpleMeterRegistry();
+        outboxRelay = new OutboxRelay(outboxEventRepository, orderEventHandler, executor, 3, 2, 10, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void relayEvents_shouldDispatchBatchesUntilOutboxIsDrained() {
+        // Given
+        OutboxEvent event1 = outboxEvent(1L, "order-1", EventType.ORDER_CREATED);
+        OutboxEvent event2 = outboxEvent(2L, "order-2", EventType.ORDER_CREATED);
+        OutboxEvent event3 = outboxEvent(3L, "order-1", EventType.ORDER_CANCELLED);
+        OutboxEvent event4 = outboxEvent(4L, "order-3", EventType.ORDER_CREATED);
+        when(outboxEventRepository.findByAttemptsLessThanOrderById(10, Limit.of(3)))
+                .thenReturn(List.of(event1, event2, event3)).thenReturn(List.of(event4));
+
+        // When
+        outboxRelay.relayEvents();
+
+        // Then
+        verify(orderEventHandler, times(4)).handle(any(OutboxEvent.class));
+        verify(outboxEventRepository, times(2)).findByAttemptsLessThanOrderById(10, Limit.of(3));
+        assertEquals(List.of(1L, 2L, 3L, 4L), deletedIds(2), "All dispatched events should be removed from the outbox.");
+        verify(outboxEventRepository, never()).incrementAttempts(any());
+    }
+
+    @Test
+    void relayEvents_shouldDispatchEventsOfSameOrderInOrder() {
+        // Given
+        List<OutboxEvent> events = new ArrayList<>();
+        for (long id = 1; id <= 3; id++) {
+            events.add(outboxEvent(id, "order-1", id == 3 ? EventType.ORDER_CANCELLED : EventType.ORDER_CREATED));
+        }
+        when(outboxEventRepository.findByAttemptsLessThanOrderById(10, Limit.of(3))).thenReturn(events).thenReturn(List.of());
+        List<Long> handledIds = new ArrayList<>();
+        doAnswer(invocation -> handledIds.add(invocation.<OutboxEvent>getArgument(0).getId())).when(orderEventHandler).handle(any(OutboxEvent.class));
+
+        // When
+        outboxRelay.relayEvents();
+
+        // Then
+        assertEquals(List.of(1L, 2L, 3L), handledIds, "Events of the same order should be dispatched in creation order.");
+    }
+
+    @Test
+    void relayEvents_shouldKeepFailedEventsAndFollowingEventsOfSameOrder() {
+        // Given
+        OutboxEvent failing = outboxEvent(1L, "order-1", EventType.ORDER_CREATED);
+        OutboxEvent followingOfSameOrder = outboxEvent(2L, "order-1", EventType.ORDER_CANCELLED);
+        when(outboxEventRepository.findByAttemptsLessThanOrderById(10, Limit.of(3))).thenReturn(List.of(failing, followingOfSameOrder));
+        doThrow(new IllegalStateException("Handler failure")).when(orderEventHandler).handle(failing);
+
+        // When
+        outboxRelay.relayEvents();
+
+        // Then
+        verify(orderEventHandler, never()).handle(followingOfSameOrder);
+        verify(outboxEventRepository, times(1)).incrementAttempts(argThat(ids -> List.copyOf(ids).equals(List.of(1L))));
+        verify(outboxEventRepository, never()).deleteAllByIdInBatch(any());
+    }
+
+    @Test
+    void relayEvents_shouldNotReadFailedEventsAgainInSameRun() {
+        // Given
+        OutboxEvent failing = outboxEvent(1L, "order-1", EventType.ORDER_CREATED);
+        OutboxEvent event2 = outboxEvent(2L, "order-2", EventType.ORDER_CREATED);
+        OutboxEvent event3 = outboxEvent(3L, "order-3", EventType.ORDER_CREATED);
+        when(outboxEventRepository.findByAttemptsLessThanOrderById(10, Limit.of(3))).thenReturn(List.of(failing, event2, event3));
+        doThrow(new IllegalStateException("Handler failure")).when(orderEventHandler).handle(failing);
+
+        // When
+        outboxRelay.relayEvents();
+
+        // Then
+        verify(outboxEventRepository, times(1)).findByAttemptsLessThanOrderById(10, Limit.of(3));
+        verify(orderEventHandler, times(1)).handle(failing);
+        assertEquals(List.of(2L, 3L), deletedIds(1), "Other events of the batch should be dispatched.");
+    }
+
+    @Test
+    void relayEvents_shouldCountEventsReachingMaxAttemptsAsDead() {
+        // Given
+        OutboxEvent lastAttempt = outboxEvent(1L, "order-1", EventType.ORDER_CREATED);
+        ReflectionTestUtils.setField(lastAttempt, "attempts", 9);
+        OutboxEvent retried = outboxEvent(2L, "order-2", EventType.ORDER_CREATED);
+        when(outboxEventRepository.findByAttemptsLessThanOrderById(10, Limit.of(3))).thenReturn(List.of(lastAttempt, retried));
+        doThrow(new IllegalStateException("Handler failure")).when(orderEventHandler).handle(any(OutboxEvent.class));
+
+        // When
+        outboxRelay.relayEvents();
+
+        // Then
+        assertEquals(1, meterRegistry.get("outbox.events.dead").counter().count(), "Only the event reaching the maximum number of attempts should be dead.");
+    }
+
+    @Test
+    void relayEvents_shouldNotThrowWhenOutboxCannotBeRead() {
+        // Given
+        when(outboxEventRepository.findByAttemptsLessThanOrderById(10, Limit.of(3))).thenThrow(new DataAccessResourceFailureException("Database unavailable"));
+
+        // When & Then
+        assertDoesNotThrow(() -> outboxRelay.relayEvents(), "A failed run should be retried on the next run instead of failing.");
+        verifyNoInteractions(orderEventHandler);
+    }
+
+    private static OutboxEvent outboxEvent(Long id, String orderId, EventType eventType) {
+        OutboxEvent event = new OutboxEvent(orderId, eventType, "{\"orderId\":\"" + orderId + "\"}");
+        ReflectionTestUtils.setField(event, "id", id);
+        return event;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Long> deletedIds(int batches) {
+        ArgumentCaptor<Collection<Long>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(outboxEventRepository, times(batches)).deleteAllByIdInBatch(captor.capture());
+        return captor.getAllValues().stream().flatMap(Collection::stream).sorted().toList();
+    }
+}
@@ -0,0 +1,48 @@
+package io.bmeurant.bookordermanager.unit.domain.scheduler;
+
+import io.bmeurant.bookordermanager.inventory.domain.scheduler.StockReservationSweeper;
+import io.bmeurant.bookordermanager.inventory.domain.service.InventoryService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StockReservationSweeperTest {
+
+    @Mock
+    private InventoryService inventoryService;
+
+    @InjectMocks
+    private StockReservationSweeper stockReservationSweeper;
+
+    @Test
+    void expireStaleReservations_shouldExpireBatchesUntilNoneIsLeft() {
+        // Given
+        when(inventoryService.expireReservations(any(Instant.class))).thenReturn(500, 12, 0);
+
+        // When
+        stockReservationSweeper.expireStaleReservations();
+
+        // Then
+        verify(inventoryService, times(3)).expireReservations(any(Instant.class));
+    }
+
+    @Test
+    void expireStaleReservations_shouldStopOnFailedBatch() {
+        // Given
+        when(inventoryService.expireReservations(any(Instant.class)))
+                .thenThrow(new ObjectOptimisticLockingFailureException("StockReservation", 1L));
+
+        // When & Then
+        assertDoesNotThrow(() -> stockReservationSweeper.expireStaleReservations(), "A failed batch should not propagate out of the scheduled task.");
+        verify(inventoryService, times(1)).expireReservations(any(Instant.class));
+    }
+}
@@ -1,22 +1,34 @@
 package io.bmeurant.bookordermanager.unit.domain.service.impl;
 
 import io.bmeurant.bookordermanager.application.dto.BookResponse;
+import io.bmeurant.bookordermanager.application.dto.PageResponse;
 import io.bmeurant.bookordermanager.application.mapper.BookMapper;
 import io.bmeurant.bookordermanager.catalog.domain.exception.BookNotFoundException;
 import io.bmeurant.bookordermanager.catalog.domain.model.Book;
 import io.bmeurant.bookordermanager.catalog.domain.repository.BookRepository;
+import io.bmeurant.bookordermanager.catalog.domain.service.BookService;
 import io.bmeurant.bookordermanager.catalog.domain.service.impl.BookServiceImpl;
+import io.bmeurant.bookordermanager.domain.util.KeysetPagination;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.domain.Limit;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -28,6 +40,10 @@ class BookServiceTest {
     private BookRepository bookRepository;
     @Mock
     private BookMapper bookMapper;
+    @Spy
+    private CacheManager cacheManager = new ConcurrentMapCacheManager(BookService.BOOKS_CACHE);
+    @Mock
+    private EntityManager entityManager;
 
     @InjectMocks
     private BookServiceImpl bookService;
@@ -69,6 +85,144 @@ class BookServiceTest {
         verify(bookMapper, never()).mapBookToResponse(any(Book.class));
     }
 
+    @Test
+    @DisplayName("Should find several books by ISBN in a single lookup")
+    void getBooksByIsbns_shouldReturnBooksIndexedByIsbn() {
+        // Given
+        Book book1 = new Book("isbn1", "Title 1", "Author 1", new BigDecimal("10.00"));
+        Book book2 = new Book("isbn2", "Title 2", "Author 2", new BigDecimal("20.00"));
+        BookResponse bookResponse1 = new BookResponse("isbn1", "Title 1", "Author 1", new BigDecimal("10.00"));
+        BookResponse bookResponse2 = new BookResponse("isbn2", "Title 2", "Author 2", new BigDecimal("20.00"));
+
+        when(bookRepository.findAllById(anyIterable())).thenReturn(List.of(book2, book1));
+        when(bookMapper.mapBookToResponse(book1)).thenReturn(bookResponse1);
+        when(bookMapper.mapBookToResponse(book2)).thenReturn(bookResponse2);
+
+        // When
+        Map<String, BookResponse> booksByIsbn = bookService.getBooksByIsbns(List.of("isbn1", "isbn2", "isbn1"));
+
+        // Then
+        assertEquals(List.of("isbn1", "isbn2"), List.copyOf(booksByIsbn.keySet()), "Books should be indexed by ISBN in request order, without duplicates.");
+        assertEquals(bookResponse1, booksByIsbn.get("isbn1"), "First book response should match.");
+        assertEquals(bookResponse2, booksByIsbn.get("isbn2"), "Second book response should match.");
+        verify(bookRepository, times(1)).findAllById(anyIterable());
+        verify(bookRepository, never()).findById(anyString());
+    }
+
+    @Test
+    @DisplayName("Should throw BookNotFoundException when one of several books is not found")
+    void getBooksByIsbns_shouldThrowExceptionWhenOneIsNotFound() {
+        // Given
+        Book book1 = new Book("isbn1", "Title 1", "Author 1", new BigDecimal("10.00"));
+        when(bookRepository.findAllById(anyIterable())).thenReturn(List.of(book1));
+        when(bookMapper.mapBookToResponse(book1)).thenReturn(new BookResponse("isbn1", "Title 1", "Author 1", new BigDecimal("10.00")));
+        List<String> isbns = List.of("isbn1", "missingIsbn");
+
+        // When & Then
+        Exception exception = assertThrows(BookNotFoundException.class, () -> bookService.getBooksByIsbns(isbns),
+                "Should throw BookNotFoundException when one book is not found.");
+        assertTrue(exception.getMessage().contains("Book with ISBN missingIsbn not found in catalog."),
+                "Exception message should indicate which book was not found.");
+    }
+
+    @Test
+    @DisplayName("Should serve a cached book without querying the catalog again")
+    void getBookByIsbn_shouldReturnCachedBookResponse() {
+        // Given
+        String isbn = "978-0321765723";
+        Book book = new Book(isbn, "Effective Java", "Joshua Bloch", new BigDecimal("45.00"));
+        BookResponse expectedBookResponse = new BookResponse(isbn, "Effective Java", "Joshua Bloch", new BigDecimal("45.00"));
+        when(bookRepository.findById(isbn)).thenReturn(Optional.of(book));
+        when(bookMapper.mapBookToResponse(book)).thenReturn(expectedBookResponse);
+        bookService.getBookByIsbn(isbn);
+
+        // When
+        BookResponse actualBookResponse = bookService.getBookByIsbn(isbn);
+
+        // Then
+        assertEquals(expectedBookResponse, actualBookResponse, "The cached book response should be returned.");
+        verify(bookRepository, times(1)).findById(isbn);
+        assertEquals(expectedBookResponse, cacheManager.getCache(BookService.BOOKS_CACHE).get(isbn, BookResponse.class), "The book response should be cached by ISBN.");
+    }
+
+    @Test
+    @DisplayName("Should not cache a book which is not found")
+    void getBookByIsbn_shouldNotCacheMissingBook() {
+        // Given
+        String isbn = "978-0321765723";
+        when(bookRepository.findById(isbn)).thenReturn(Optional.empty());
+
+        // When
+        assertThrows(BookNotFoundException.class, () -> bookService.getBookByIsbn(isbn), "Should throw BookNotFoundException when book is not found.");
+        assertThrows(BookNotFoundException.class, () -> bookService.getBookByIsbn(isbn), "Should throw BookNotFoundException again when book is still not found.");
+
+        // Then
+        verify(bookRepository, times(2)).findById(isbn);
+    }
+
+    @Test
+    @DisplayName("Should read the version of a cached book from the cache")
+    void getBookVersion_shouldReadVersionFromCache() {
+        // Given
+        String isbn = "978-0321765723";
+        cacheManager.getCache(BookService.BOOKS_CACHE).put(isbn, new BookResponse(isbn, "Effective Java", "Joshua Bloch", new BigDecimal("45.00"), 3L));
+
+        // When
+        Long version = bookService.getBookVersion(isbn);
+
+        // Then
+        assertEquals(3L, version, "The version of the cached book should be returned.");
+        verifyNoInteractions(bookRepository);
+    }
+
+    @Test
+    @DisplayName("Should read the version of a book missing from the cache without loading it")
+    void getBookVersion_shouldQueryVersionOnCacheMiss() {
+        // Given
+        String isbn = "978-0321765723";
+        when(bookRepository.findVersionByIsbn(isbn)).thenReturn(Optional.of(4L));
+
+        // When
+        Long version = bookService.getBookVersion(isbn);
+
+        // Then
+        assertEquals(4L, version, "The version of the book should be queried.");
+        verify(bookRepository, never()).findById(anyString());
+        assertNull(cacheManager.getCache(BookService.BOOKS_CACHE).get(isbn), "The book should not be cached from its version alone.");
+    }
+
+    @Test
+    @DisplayName("Should throw BookNotFoundException when reading the version of an unknown book")
+    void getBookVersion_shouldThrowExceptionWhenNotFound() {
+        // Given
+        String isbn = "nonExistentIsbn";
+        when(bookRepository.findVersionByIsbn(isbn)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(BookNotFoundException.class, () -> bookService.getBookVersion(isbn), "Should throw BookNotFoundException when book is not found.");
+    }
+
+    @Test
+    @DisplayName("Should only load the books missing from the cache")
+    void getBooksByIsbns_shouldOnlyLoadBooksMissingFromCache() {
+        // Given
+        Book book2 = new Book("isbn2", "Title 2", "Author 2", new BigDecimal("20.00"));
+        BookResponse bookResponse1 = new BookResponse("isbn1", "Title 1", "Author 1", new BigDecimal("10.00"));
+        BookResponse bookResponse2 = new BookResponse("isbn2", "Title 2", "Author 2", new BigDecimal("20.00"));
+        cacheManager.getCache(BookService.BOOKS_CACHE).put("isbn1", bookResponse1);
+
+        when(bookRepository.findAllById(Set.of("isbn2"))).thenReturn(List.of(book2));
+        when(bookMapper.mapBookToResponse(book2)).thenReturn(bookResponse2);
+
+        // When
+        Map<String, BookResponse> booksByIsbn = bookService.getBooksByIsbns(List.of("isbn1", "isbn2"));
+
+        // Then
+        assertEquals(Map.of("isbn1", bookResponse1, "isbn2", bookResponse2), booksByIsbn, "Cached and loaded books should both be returned.");
+        verify(bookRepository, times(1)).findAllById(Set.of("isbn2"));
+        assertEquals(bookResponse2, cacheManager.getCache(BookService.BOOKS_CACHE).get("isbn2", BookResponse.class), "The loaded book response should be cached.");
+    }
+
     @Test
     @DisplayName("Should return all books when findAllBooks is called")
     void findAllBooks_shouldReturnAllBooks() {
@@ -97,4 +251,41 @@ class BookServiceTest {
         verify(bookMapper, times(1)).mapBookToResponse(book1);
         verify(bookMapper, times(1)).mapBookToResponse(book2);
     }
+
+    @Test
+    @DisplayName("Should return a page of books with the cursor of the next page")
+    void findBooks_shouldReturnPageWithNextCursor() {
+        // Given
+        Book book1 = new Book("isbn1", "Title 1", "Author 1", new BigDecimal("10.00"));
+        Book book2 = new Book("isbn2", "Title 2", "Author 2", new BigDecimal("20.00"));
+        BookResponse bookResponse1 = new BookResponse("isbn1", "Title 1", "Author 1", new BigDecimal("10.00"));
+        when(bookRepository.findByIsbnGreaterThanOrderByIsbn("isbn0", Limit.of(2))).thenReturn(List.of(book1, book2));
+        when(bookMapper.mapBookToResponse(book1)).thenReturn(bookResponse1);
+
+        // When
+        PageResponse<BookResponse> page = bookService.findBooks(KeysetPagination.encodeCursor("isbn0"), 1);
+
+        // Then
+        assertEquals(List.of(bookResponse1), page.items(), "Page should hold the requested number of books.");
+        assertEquals("isbn1", KeysetPagination.decodeCursor(page.nextCursor()), "Next cursor should point after the last book of the page.");
+        verify(bookMapper, never()).mapBookToResponse(book2);
+    }
+
+    @Test
+    @DisplayName("Should stream all books and detach each of them once mapped")
+    void streamAllBooks_shouldPassEachBookAndDetachIt() {
+        // Given
+        Book book1 = new Book("isbn1", "Title 1", "Author 1", new BigDecimal("10.00"));
+        BookResponse bookResponse1 = new BookResponse("isbn1", "Title 1", "Author 1", new BigDecimal("10.00"));
+        when(bookRepository.streamAllByOrderByIsbn()).thenReturn(Stream.of(book1));
+        when(bookMapper.mapBookToResponse(book1)).thenReturn(bookResponse1);
+        List<BookResponse> streamedBooks = new ArrayList<>();
+
+        // When
+        bookService.streamAllBooks(streamedBooks::add);
+
+        // Then
+        assertEquals(List.of(bookResponse1), streamedBooks, "All books should be streamed.");
+        verify(entityManager, times(1)).detach(book1);
+    }
 }
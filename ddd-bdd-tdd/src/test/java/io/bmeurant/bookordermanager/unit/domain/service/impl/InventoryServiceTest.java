@@ -1,20 +1,36 @@
 package io.bmeurant.bookordermanager.unit.domain.service.impl;
 
+import io.bmeurant.bookordermanager.application.dto.InventoryResponse;
+import io.bmeurant.bookordermanager.application.dto.PageResponse;
 import io.bmeurant.bookordermanager.domain.exception.ValidationException;
+import io.bmeurant.bookordermanager.domain.util.KeysetPagination;
 import io.bmeurant.bookordermanager.inventory.domain.event.ProductStockLowEvent;
 import io.bmeurant.bookordermanager.inventory.domain.exception.InsufficientStockException;
 import io.bmeurant.bookordermanager.inventory.domain.exception.InventoryItemNotFoundException;
 import io.bmeurant.bookordermanager.inventory.domain.model.InventoryItem;
+import io.bmeurant.bookordermanager.inventory.domain.model.StockReservation;
+import io.bmeurant.bookordermanager.inventory.domain.model.StockReservation.ReservationStatus;
 import io.bmeurant.bookordermanager.inventory.domain.repository.InventoryItemRepository;
+import io.bmeurant.bookordermanager.inventory.domain.repository.InventoryItemRepository.IsbnStock;
+import io.bmeurant.bookordermanager.inventory.domain.repository.StockReservationRepository;
+import io.bmeurant.bookordermanager.inventory.domain.service.HotStockCounter;
 import io.bmeurant.bookordermanager.inventory.domain.service.impl.InventoryServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -25,6 +41,10 @@ class InventoryServiceTest {
     @Mock
     private InventoryItemRepository inventoryItemRepository;
     @Mock
+    private StockReservationRepository stockReservationRepository;
+    @Mock
+    private HotStockCounter hotStockCounter;
+    @Mock
     private ApplicationEventPublisher applicationEventPublisher;
 
     @InjectMocks
@@ -35,49 +55,27 @@ class InventoryServiceTest {
         MockitoAnnotations.openMocks(this);
         // Manually set the lowStockThreshold for the test
         ReflectionTestUtils.setField(inventoryService, "lowStockThreshold", 5);
+        ReflectionTestUtils.setField(inventoryService, "reservationTtl", Duration.ofMinutes(15));
+        ReflectionTestUtils.setField(inventoryService, "expiryBatchSize", 500);
     }
 
     @Test
-    void deductStock_shouldDeductStockSuccessfully() {
+    void deductStock_shouldDeductStockAtomicallySuccessfully() {
         // Given
         String isbn = "978-0321765723";
-        int initialStock = 10;
         int quantityToDeduct = 3;
-        InventoryItem inventoryItem = new InventoryItem(isbn, initialStock);
 
-        when(inventoryItemRepository.findById(isbn)).thenReturn(Optional.of(inventoryItem));
-        when(inventoryItemRepository.save(any(InventoryItem.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(inventoryItemRepository.deductStockIfAvailable(isbn, quantityToDeduct)).thenReturn(1);
+        when(inventoryItemRepository.findStockByIsbn(isbn)).thenReturn(Optional.of(7));
 
         // When
-        InventoryItem updatedItem = inventoryService.deductStock(isbn, quantityToDeduct);
+        int remainingStock = inventoryService.deductStock(isbn, quantityToDeduct);
 
         // Then
-        assertNotNull(updatedItem, "Updated item should not be null.");
-        assertEquals(initialStock - quantityToDeduct, updatedItem.getStock(), "Stock should be deducted correctly.");
-        verify(inventoryItemRepository, times(1)).findById(isbn);
-        verify(inventoryItemRepository, times(1)).save(inventoryItem);
-        verify(applicationEventPublisher, never()).publishEvent(any()); // No low stock event expected
-    }
-
-    @Test
-    void deductStock_shouldNotPublishProductStockLowEventWhenStockIsAboveThreshold() {
-        // Given
-        String isbn = "978-0132350884";
-        int initialStock = 10;
-        int quantityToDeduct = 2;
-        InventoryItem inventoryItem = new InventoryItem(isbn, initialStock);
-
-        when(inventoryItemRepository.findById(isbn)).thenReturn(Optional.of(inventoryItem));
-        when(inventoryItemRepository.save(any(InventoryItem.class))).thenAnswer(invocation -> invocation.getArgument(0));
-
-        // When
-        InventoryItem updatedItem = inventoryService.deductStock(isbn, quantityToDeduct);
-
-        // Then
-        assertNotNull(updatedItem, "Updated item should not be null.");
-        assertEquals(initialStock - quantityToDeduct, updatedItem.getStock(), "Stock should be deducted correctly.");
-        verify(inventoryItemRepository, times(1)).findById(isbn);
-        verify(inventoryItemRepository, times(1)).save(inventoryItem);
+        assertEquals(7, remainingStock, "Remaining stock should be returned.");
+        verify(inventoryItemRepository, times(1)).deductStockIfAvailable(isbn, quantityToDeduct);
+        verify(inventoryItemRepository, never()).findById(anyString());
+        verify(inventoryItemRepository, never()).save(any(InventoryItem.class));
         verify(applicationEventPublisher, never()).publishEvent(any()); // No low stock event expected
     }
 
@@ -85,43 +83,36 @@ class InventoryServiceTest {
     void deductStock_shouldPublishProductStockLowEventWhenStockReachesThreshold() {
         // Given
         String isbn = "978-0132350884";
-        int initialStock = 7; // Threshold is 5, so 7 - 2 = 5 (reaches threshold)
-        int quantityToDeduct = 2;
-        InventoryItem inventoryItem = new InventoryItem(isbn, initialStock);
+        int quantityToDeduct = 2; // Threshold is 5, so 7 - 2 = 5 (reaches threshold)
 
-        when(inventoryItemRepository.findById(isbn)).thenReturn(Optional.of(inventoryItem));
-        when(inventoryItemRepository.save(any(InventoryItem.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(inventoryItemRepository.deductStockIfAvailable(isbn, quantityToDeduct)).thenReturn(1);
+        when(inventoryItemRepository.findStockByIsbn(isbn)).thenReturn(Optional.of(5));
 
         // When
-        InventoryItem updatedItem = inventoryService.deductStock(isbn, quantityToDeduct);
+        int remainingStock = inventoryService.deductStock(isbn, quantityToDeduct);
 
         // Then
-        assertNotNull(updatedItem, "Updated item should not be null.");
-        assertEquals(initialStock - quantityToDeduct, updatedItem.getStock(), "Stock should be deducted correctly.");
-        verify(inventoryItemRepository, times(1)).findById(isbn);
-        verify(inventoryItemRepository, times(1)).save(inventoryItem);
-        verify(applicationEventPublisher, times(1)).publishEvent(any(ProductStockLowEvent.class));
+        assertEquals(5, remainingStock, "Remaining stock should be returned.");
+        ArgumentCaptor<ProductStockLowEvent> eventCaptor = ArgumentCaptor.forClass(ProductStockLowEvent.class);
+        verify(applicationEventPublisher, times(1)).publishEvent(eventCaptor.capture());
+        assertEquals(isbn, eventCaptor.getValue().getIsbn(), "Event should be published for the deducted ISBN.");
+        assertEquals(5, eventCaptor.getValue().getCurrentStock(), "Event should carry the remaining stock.");
     }
 
     @Test
     void deductStock_shouldPublishProductStockLowEventWhenStockFallsBelowThreshold() {
         // Given
         String isbn = "978-0132350884";
-        int initialStock = 6; // Threshold is 5, so 6 - 2 = 4 (below threshold)
-        int quantityToDeduct = 2;
-        InventoryItem inventoryItem = new InventoryItem(isbn, initialStock);
+        int quantityToDeduct = 2; // Threshold is 5, so 6 - 2 = 4 (below threshold)
 
-        when(inventoryItemRepository.findById(isbn)).thenReturn(Optional.of(inventoryItem));
-        when(inventoryItemRepository.save(any(InventoryItem.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(inventoryItemRepository.deductStockIfAvailable(isbn, quantityToDeduct)).thenReturn(1);
+        when(inventoryItemRepository.findStockByIsbn(isbn)).thenReturn(Optional.of(4));
 
         // When
-        InventoryItem updatedItem = inventoryService.deductStock(isbn, quantityToDeduct);
+        int remainingStock = inventoryService.deductStock(isbn, quantityToDeduct);
 
         // Then
-        assertNotNull(updatedItem, "Updated item should not be null.");
-        assertEquals(initialStock - quantityToDeduct, updatedItem.getStock(), "Stock should be deducted correctly.");
-        verify(inventoryItemRepository, times(1)).findById(isbn);
-        verify(inventoryItemRepository, times(1)).save(inventoryItem);
+        assertEquals(4, remainingStock, "Remaining stock should be returned.");
         verify(applicationEventPublisher, times(1)).publishEvent(any(ProductStockLowEvent.class));
     }
 
@@ -131,13 +122,12 @@ class InventoryServiceTest {
         String isbn = "978-0321765723";
         int quantityToDeduct = 3;
 
-        when(inventoryItemRepository.findById(isbn)).thenReturn(Optional.empty());
+        when(inventoryItemRepository.deductStockIfAvailable(isbn, quantityToDeduct)).thenReturn(0);
+        when(inventoryItemRepository.findStockByIsbn(isbn)).thenReturn(Optional.empty());
 
         // When & Then
         Exception exception = assertThrows(InventoryItemNotFoundException.class, () -> inventoryService.deductStock(isbn, quantityToDeduct), "Should throw InventoryItemNotFoundException when inventory item is not found.");
         assertTrue(exception.getMessage().contains("Inventory item with ISBN " + isbn + " not found."), "Exception message should indicate item not found.");
-        verify(inventoryItemRepository, times(1)).findById(isbn);
-        verify(inventoryItemRepository, never()).save(any(InventoryItem.class));
         verify(applicationEventPublisher, never()).publishEvent(any());
     }
 
@@ -145,32 +135,39 @@ class InventoryServiceTest {
     void deductStock_shouldThrowExceptionWhenInsufficientStock() {
         // Given
         String isbn = "978-0321765723";
-        int initialStock = 5;
         int quantityToDeduct = 10;
-        InventoryItem inventoryItem = new InventoryItem(isbn, initialStock);
 
-        when(inventoryItemRepository.findById(isbn)).thenReturn(Optional.of(inventoryItem));
+        when(inventoryItemRepository.deductStockIfAvailable(isbn, quantityToDeduct)).thenReturn(0);
+        when(inventoryItemRepository.findStockByIsbn(isbn)).thenReturn(Optional.of(5));
 
         // When & Then
-        assertThrows(InsufficientStockException.class, () -> inventoryService.deductStock(isbn, quantityToDeduct), "Should throw InsufficientStockException when stock is insufficient.");
-        verify(inventoryItemRepository, times(1)).findById(isbn);
-        verify(inventoryItemRepository, never()).save(any(InventoryItem.class));
+        Exception exception = assertThrows(InsufficientStockException.class, () -> inventoryService.deductStock(isbn, quantityToDeduct), "Should throw InsufficientStockException when stock is insufficient.");
+        assertTrue(exception.getMessage().contains("Requested: 10, Available: 5."), "Exception message should report the current stock.");
         verify(applicationEventPublisher, never()).publishEvent(any());
     }
 
+    @Test
+    void deductStock_shouldThrowValidationExceptionWhenQuantityIsNotPositive() {
+        // Given
+        String isbn = "978-0321765723";
+
+        // When & Then
+        assertThrows(ValidationException.class, () -> inventoryService.deductStock(isbn, 0), "Should throw ValidationException when quantity is zero.");
+        verify(inventoryItemRepository, never()).deductStockIfAvailable(anyString(), anyInt());
+    }
+
     @Test
     void checkStock_shouldNotThrowExceptionWhenStockIsSufficient() {
         // Given
         String isbn = "978-0321765723";
         int initialStock = 10;
         int quantityToCheck = 5;
-        InventoryItem inventoryItem = new InventoryItem(isbn, initialStock);
 
-        when(inventoryItemRepository.findById(isbn)).thenReturn(Optional.of(inventoryItem));
+        when(inventoryItemRepository.findStockByIsbn(isbn)).thenReturn(Optional.of(initialStock));
 
         // When & Then
         assertDoesNotThrow(() -> inventoryService.checkStock(isbn, quantityToCheck), "Should not throw exception when stock is sufficient.");
-        verify(inventoryItemRepository, times(1)).findById(isbn);
+        verify(inventoryItemRepository, times(1)).findStockByIsbn(isbn);
     }
 
     @Test
@@ -179,11 +176,11 @@ class InventoryServiceTest {
         String isbn = "978-0321765723";
         int quantityToCheck = 5;
 
-        when(inventoryItemRepository.findById(isbn)).thenReturn(Optional.empty());
+        when(inventoryItemRepository.findStockByIsbn(isbn)).thenReturn(Optional.empty());
 
         // When & Then
         assertThrows(InventoryItemNotFoundException.class, () -> inventoryService.checkStock(isbn, quantityToCheck), "Should throw InventoryItemNotFoundException when inventory item is not found.");
-        verify(inventoryItemRepository, times(1)).findById(isbn);
+        verify(inventoryItemRepository, times(1)).findStockByIsbn(isbn);
     }
 
     @Test
@@ -192,9 +189,8 @@ class InventoryServiceTest {
         String isbn = "978-0321765723";
         int initialStock = 10;
         int quantityToCheck = 0;
-        InventoryItem inventoryItem = new InventoryItem(isbn, initialStock);
 
-        when(inventoryItemRepository.findById(isbn)).thenReturn(Optional.of(inventoryItem));
+        when(inventoryItemRepository.findStockByIsbn(isbn)).thenReturn(Optional.of(initialStock));
 
         // When & Then
         assertThrows(ValidationException.class, () -> inventoryService.checkStock(isbn, quantityToCheck), "Should throw ValidationException when quantity is zero.");
@@ -206,9 +202,8 @@ class InventoryServiceTest {
         String isbn = "978-0321765723";
         int initialStock = 10;
         int quantityToCheck = -1;
-        InventoryItem inventoryItem = new InventoryItem(isbn, initialStock);
 
-        when(inventoryItemRepository.findById(isbn)).thenReturn(Optional.of(inventoryItem));
+        when(inventoryItemRepository.findStockByIsbn(isbn)).thenReturn(Optional.of(initialStock));
 
         // When & Then
         assertThrows(ValidationException.class, () -> inventoryService.checkStock(isbn, quantityToCheck), "Should throw ValidationException when quantity is negative.");
@@ -220,33 +215,73 @@ class InventoryServiceTest {
         String isbn = "978-0321765723";
         int initialStock = 5;
         int quantityToCheck = 10;
-        InventoryItem inventoryItem = new InventoryItem(isbn, initialStock);
 
-        when(inventoryItemRepository.findById(isbn)).thenReturn(Optional.of(inventoryItem));
+        when(inventoryItemRepository.findStockByIsbn(isbn)).thenReturn(Optional.of(initialStock));
 
         // When & Then
         assertThrows(InsufficientStockException.class, () -> inventoryService.checkStock(isbn, quantityToCheck), "Should throw InsufficientStockException when stock is insufficient.");
-        verify(inventoryItemRepository, times(1)).findById(isbn);
+        verify(inventoryItemRepository, times(1)).findStockByIsbn(isbn);
+    }
+
+    @Test
+    void checkStocks_shouldReadAllStocksAtOnceWhenStockIsSufficient() {
+        // Given
+        IsbnStock item1 = isbnStock("978-0321765723", 10);
+        IsbnStock item2 = isbnStock("978-0132350884", 3);
+        when(inventoryItemRepository.findStocksByIsbnIn(anyCollection())).thenReturn(List.of(item1, item2));
+
+        // When & Then
+        assertDoesNotThrow(() -> inventoryService.checkStocks(Map.of("978-0321765723", 10, "978-0132350884", 3)),
+                "Should not throw exception when stock is sufficient for all items.");
+        verify(inventoryItemRepository, times(1)).findStocksByIsbnIn(anyCollection());
+        verify(inventoryItemRepository, never()).findById(anyString());
+    }
+
+    @Test
+    void checkStocks_shouldThrowExceptionWhenOneItemIsNotFound() {
+        // Given
+        IsbnStock item1 = isbnStock("978-0321765723", 10);
+        when(inventoryItemRepository.findStocksByIsbnIn(anyCollection())).thenReturn(List.of(item1));
+        Map<String, Integer> quantitiesByIsbn = new LinkedHashMap<>();
+        quantitiesByIsbn.put("978-0321765723", 1);
+        quantitiesByIsbn.put("nonExistentISBN", 1);
+
+        // When & Then
+        Exception exception = assertThrows(InventoryItemNotFoundException.class, () -> inventoryService.checkStocks(quantitiesByIsbn),
+                "Should throw InventoryItemNotFoundException when one inventory item is not found.");
+        assertTrue(exception.getMessage().contains("nonExistentISBN"), "Exception message should indicate the missing ISBN.");
+    }
+
+    @Test
+    void checkStocks_shouldThrowExceptionWhenOneItemHasInsufficientStock() {
+        // Given
+        IsbnStock item1 = isbnStock("978-0321765723", 10);
+        IsbnStock item2 = isbnStock("978-0132350884", 2);
+        when(inventoryItemRepository.findStocksByIsbnIn(anyCollection())).thenReturn(List.of(item1, item2));
+        Map<String, Integer> quantitiesByIsbn = Map.of("978-0321765723", 1, "978-0132350884", 3);
+
+        // When & Then
+        Exception exception = assertThrows(InsufficientStockException.class, () -> inventoryService.checkStocks(quantitiesByIsbn),
+                "Should throw InsufficientStockException when stock is insufficient for one item.");
+        assertTrue(exception.getMessage().contains("Not enough stock for ISBN 978-0132350884. Requested: 3, Available: 2."),
+                "Exception message should indicate the item with insufficient stock.");
     }
 
     @Test
-    void releaseStock_shouldReleaseStockSuccessfully() {
+    void releaseStock_shouldReleaseStockAtomicallySuccessfully() {
         // Given
         String isbn = "978-0321765723";
-        int initialStock = 10;
         int quantityToRelease = 5;
-        InventoryItem inventoryItem = new InventoryItem(isbn, initialStock);
 
-        when(inventoryItemRepository.findById(isbn)).thenReturn(Optional.of(inventoryItem));
-        when(inventoryItemRepository.save(any(InventoryItem.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(inventoryItemRepository.increaseStock(isbn, quantityToRelease)).thenReturn(1);
 
         // When
         inventoryService.releaseStock(isbn, quantityToRelease);
 
         // Then
-        assertEquals(initialStock + quantityToRelease, inventoryItem.getStock(), "Stock should be correctly released.");
-        verify(inventoryItemRepository, times(1)).findById(isbn);
-        verify(inventoryItemRepository, times(1)).save(inventoryItem);
+        verify(inventoryItemRepository, times(1)).increaseStock(isbn, quantityToRelease);
+        verify(inventoryItemRepository, never()).findById(anyString());
+        verify(inventoryItemRepository, never()).save(any(InventoryItem.class));
         verify(applicationEventPublisher, never()).publishEvent(any());
     }
 
@@ -256,44 +291,33 @@ class InventoryServiceTest {
         String isbn = "978-0321765723";
         int quantityToRelease = 5;
 
-        when(inventoryItemRepository.findById(isbn)).thenReturn(Optional.empty());
+        when(inventoryItemRepository.increaseStock(isbn, quantityToRelease)).thenReturn(0);
 
         // When & Then
         assertThrows(InventoryItemNotFoundException.class, () -> inventoryService.releaseStock(isbn, quantityToRelease), "Should throw InventoryItemNotFoundException when inventory item is not found.");
-        verify(inventoryItemRepository, times(1)).findById(isbn);
-        verify(inventoryItemRepository, never()).save(any(InventoryItem.class));
+        verify(inventoryItemRepository, times(1)).increaseStock(isbn, quantityToRelease);
     }
 
     @Test
     void releaseStock_shouldThrowValidationExceptionWhenQuantityIsZero() {
         // Given
         String isbn = "978-0321765723";
-        int initialStock = 10;
         int quantityToRelease = 0;
-        InventoryItem inventoryItem = new InventoryItem(isbn, initialStock);
-
-        when(inventoryItemRepository.findById(isbn)).thenReturn(Optional.of(inventoryItem));
 
         // When & Then
         assertThrows(ValidationException.class, () -> inventoryService.releaseStock(isbn, quantityToRelease), "Should throw ValidationException when quantity is zero.");
-        verify(inventoryItemRepository, times(1)).findById(isbn);
-        verify(inventoryItemRepository, never()).save(any(InventoryItem.class));
+        verify(inventoryItemRepository, never()).increaseStock(anyString(), anyInt());
     }
 
     @Test
     void releaseStock_shouldThrowValidationExceptionWhenQuantityIsNegative() {
         // Given
         String isbn = "978-0321765723";
-        int initialStock = 10;
         int quantityToRelease = -1;
-        InventoryItem inventoryItem = new InventoryItem(isbn, initialStock);
-
-        when(inventoryItemRepository.findById(isbn)).thenReturn(Optional.of(inventoryItem));
 
         // When & Then
         assertThrows(ValidationException.class, () -> inventoryService.releaseStock(isbn, quantityToRelease), "Should throw ValidationException when quantity is negative.");
-        verify(inventoryItemRepository, times(1)).findById(isbn);
-        verify(inventoryItemRepository, never()).save(any(InventoryItem.class));
+        verify(inventoryItemRepository, never()).increaseStock(anyString(), anyInt());
     }
 
     @Test
@@ -324,4 +348,352 @@ class InventoryServiceTest {
         assertThrows(InventoryItemNotFoundException.class, () -> inventoryService.getStockByIsbn(isbn));
         verify(inventoryItemRepository, times(1)).findById(isbn);
     }
+
+    @Test
+    void reserveStock_shouldDeductStockAndRecordActiveReservations() {
+        // Given
+        String orderId = "order-1";
+        String isbn1 = "978-0321765723";
+        String isbn2 = "978-0132350884";
+        when(inventoryItemRepository.findStocksByIsbnIn(any())).thenReturn(List.of(isbnStock(isbn1, 10), isbnStock(isbn2, 10)));
+        when(inventoryItemRepository.deductStockIfAvailable(anyString(), anyInt())).thenReturn(1);
+        when(inventoryItemRepository.findStockByIsbn(anyString())).thenReturn(Optional.of(8));
+        Instant before = Instant.now();
+
+        // When
+        inventoryService.reserveStock(orderId, Map.of(isbn1, 2, isbn2, 1));
+
+        // Then
+        verify(inventoryItemRepository, times(1)).deductStockIfAvailable(isbn1, 2);
+        verify(inventoryItemRepository, times(1)).deductStockIfAvailable(isbn2, 1);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<StockReservation>> reservationsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(stockReservationRepository, times(1)).saveAll(reservationsCaptor.capture());
+        List<StockReservation> reservations = reservationsCaptor.getValue();
+        assertEquals(2, reservations.size(), "A reservation should be recorded per ISBN.");
+        reservations.forEach(reservation -> {
+            assertEquals(orderId, reservation.getOrderId(), "Reservation should belong to the order.");
+            assertEquals(ReservationStatus.ACTIVE, reservation.getStatus(), "Reservation should be ACTIVE.");
+            assertFalse(reservation.getExpiresAt().isBefore(before.plus(Duration.ofMinutes(15))), "Reservation should expire after the configured TTL.");
+        });
+    }
+
+    @Test
+    void reserveStock_shouldDeductStockInIsbnOrder() {
+        // Given
+        String isbn1 = "978-0321765723";
+        String isbn2 = "978-0132350884";
+        when(inventoryItemRepository.findStocksByIsbnIn(any())).thenReturn(List.of(isbnStock(isbn1, 10), isbnStock(isbn2, 10)));
+        when(inventoryItemRepository.deductStockIfAvailable(anyString(), anyInt())).thenReturn(1);
+        when(inventoryItemRepository.findStockByIsbn(anyString())).thenReturn(Optional.of(8));
+        Map<String, Integer> quantitiesByIsbn = new LinkedHashMap<>();
+        quantitiesByIsbn.put(isbn1, 2);
+        quantitiesByIsbn.put(isbn2, 1);
+
+        // When
+        inventoryService.reserveStock("order-1", quantitiesByIsbn);
+
+        // Then
+        InOrder inOrder = inOrder(inventoryItemRepository);
+        inOrder.verify(inventoryItemRepository).deductStockIfAvailable(isbn2, 1);
+        inOrder.verify(inventoryItemRepository).deductStockIfAvailable(isbn1, 2);
+    }
+
+    @Test
+    void reserveStock_shouldNotReserveAnythingWhenStockIsInsufficient() {
+        // Given
+        String isbn1 = "978-0321765723";
+        String isbn2 = "978-0132350884";
+        when(inventoryItemRepository.findStocksByIsbnIn(any())).thenReturn(List.of(isbnStock(isbn1, 10), isbnStock(isbn2, 1)));
+        Map<String, Integer> quantitiesByIsbn = new LinkedHashMap<>();
+        quantitiesByIsbn.put(isbn1, 2);
+        quantitiesByIsbn.put(isbn2, 3);
+
+        // When & Then
+        assertThrows(InsufficientStockException.class, () -> inventoryService.reserveStock("order-1", quantitiesByIsbn), "Should throw InsufficientStockException when an item is short of stock.");
+        verify(inventoryItemRepository, never()).deductStockIfAvailable(anyString(), anyInt());
+        verify(stockReservationRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void commitReservation_shouldCommitActiveReservationsWithoutDeductingAgain() {
+        // Given
+        String orderId = "order-1";
+        String isbn = "978-0321765723";
+        StockReservation reservation = new StockReservation(orderId, isbn, 2, Instant.now().plusSeconds(60));
+        when(stockReservationRepository.findByOrderIdAndStatus(orderId, ReservationStatus.ACTIVE)).thenReturn(List.of(reservation));
+
+        // When
+        inventoryService.commitReservation(orderId, Map.of(isbn, 2));
+
+        // Then
+        assertEquals(ReservationStatus.COMMITTED, reservation.getStatus(), "Reservation should be COMMITTED.");
+        verify(inventoryItemRepository, never()).deductStockIfAvailable(anyString(), anyInt());
+    }
+
+    @Test
+    void commitReservation_shouldDeductStockOfItemsWithoutActiveReservation() {
+        // Given
+        String orderId = "order-1";
+        String isbn = "978-0321765723";
+        when(stockReservationRepository.findByOrderIdAndStatus(orderId, ReservationStatus.ACTIVE)).thenReturn(List.of());
+        when(inventoryItemRepository.deductStockIfAvailable(isbn, 2)).thenReturn(1);
+        when(inventoryItemRepository.findStockByIsbn(isbn)).thenReturn(Optional.of(8));
+
+        // When
+        inventoryService.commitReservation(orderId, Map.of(isbn, 2));
+
+        // Then
+        verify(inventoryItemRepository, times(1)).deductStockIfAvailable(isbn, 2);
+    }
+
+    @Test
+    void commitReservations_shouldCommitReservationsOfAllOrdersAndDeductRemainingQuantitiesOncePerIsbn() {
+        // Given
+        String isbn1 = "978-0321765723";
+        String isbn2 = "978-0132350884";
+        StockReservation reservation = new StockReservation("order-1", isbn1, 2, Instant.now().plusSeconds(60));
+        Map<String, Map<String, Integer>> quantitiesByIsbnByOrderId = Map.of(
+                "order-1", Map.of(isbn1, 2, isbn2, 1),
+                "order-2", Map.of(isbn2, 3));
+        when(stockReservationRepository.findByOrderIdInAndStatus(quantitiesByIsbnByOrderId.keySet(), ReservationStatus.ACTIVE)).thenReturn(List.of(reservation));
+        when(inventoryItemRepository.deductStockIfAvailable(isbn2, 4)).thenReturn(1);
+        when(inventoryItemRepository.findStockByIsbn(isbn2)).thenReturn(Optional.of(6));
+
+        // When
+        inventoryService.commitReservations(quantitiesByIsbnByOrderId);
+
+        // Then
+        assertEquals(ReservationStatus.COMMITTED, reservation.getStatus(), "Reservation should be COMMITTED.");
+        verify(inventoryItemRepository, times(1)).deductStockIfAvailable(isbn2, 4);
+        verify(inventoryItemRepository, never()).deductStockIfAvailable(eq(isbn1), anyInt());
+        verify(stockReservationRepository, never()).findByOrderIdAndStatus(anyString(), any());
+    }
+
+    @Test
+    void commitReservations_shouldDeductRemainingQuantitiesInIsbnOrder() {
+        // Given
+        String isbn1 = "978-0321765723";
+        String isbn2 = "978-0132350884";
+        Map<String, Map<String, Integer>> quantitiesByIsbnByOrderId = new LinkedHashMap<>();
+        quantitiesByIsbnByOrderId.put("order-1", Map.of(isbn1, 2));
+        quantitiesByIsbnByOrderId.put("order-2", Map.of(isbn2, 3));
+        when(stockReservationRepository.findByOrderIdInAndStatus(quantitiesByIsbnByOrderId.keySet(), ReservationStatus.ACTIVE)).thenReturn(List.of());
+        when(inventoryItemRepository.deductStockIfAvailable(anyString(), anyInt())).thenReturn(1);
+        when(inventoryItemRepository.findStockByIsbn(anyString())).thenReturn(Optional.of(6));
+
+        // When
+        inventoryService.commitReservations(quantitiesByIsbnByOrderId);
+
+        // Then
+        InOrder inOrder = inOrder(inventoryItemRepository);
+        inOrder.verify(inventoryItemRepository).deductStockIfAvailable(isbn2, 3);
+        inOrder.verify(inventoryItemRepository).deductStockIfAvailable(isbn1, 2);
+    }
+
+    @Test
+    void releaseReservation_shouldGiveReservedStockBack() {
+        // Given
+        String orderId = "order-1";
+        String isbn = "978-0321765723";
+        StockReservation reservation = new StockReservation(orderId, isbn, 2, Instant.now().plusSeconds(60));
+        when(stockReservationRepository.findByOrderIdAndStatus(orderId, ReservationStatus.ACTIVE)).thenReturn(List.of(reservation));
+        when(inventoryItemRepository.increaseStock(isbn, 2)).thenReturn(1);
+
+        // When
+        inventoryService.releaseReservation(orderId);
+
+        // Then
+        assertEquals(ReservationStatus.RELEASED, reservation.getStatus(), "Reservation should be RELEASED.");
+        verify(inventoryItemRepository, times(1)).increaseStock(isbn, 2);
+    }
+
+    @Test
+    void expireReservations_shouldExpireReservationsAndGiveStockBack() {
+        // Given
+        Instant now = Instant.now();
+        String isbn = "978-0321765723";
+        StockReservation reservation = new StockReservation("order-1", isbn, 3, now.minusSeconds(1));
+        when(stockReservationRepository.findByStatusAndExpiresAtBeforeOrderByExpiresAt(ReservationStatus.ACTIVE, now, Limit.of(500)))
+                .thenReturn(List.of(reservation));
+        when(inventoryItemRepository.increaseStock(isbn, 3)).thenReturn(1);
+
+        // When
+        int expired = inventoryService.expireReservations(now);
+
+        // Then
+        assertEquals(1, expired, "One reservation should be expired.");
+        assertEquals(ReservationStatus.EXPIRED, reservation.getStatus(), "Reservation should be EXPIRED.");
+        verify(inventoryItemRepository, times(1)).increaseStock(isbn, 3);
+    }
+
+    @Test
+    void deductStock_shouldDeductHotStockInMemory() {
+        // Given
+        String isbn = "978-0321765723";
+        when(hotStockCounter.isHot(isbn)).thenReturn(true);
+        when(hotStockCounter.deductStock(isbn, 3)).thenReturn(4);
+
+        // When
+        int remainingStock = inventoryService.deductStock(isbn, 3);
+
+        // Then
+        assertEquals(4, remainingStock, "Remaining hot stock should be returned.");
+        verify(inventoryItemRepository, never()).deductStockIfAvailable(anyString(), anyInt());
+        ArgumentCaptor<ProductStockLowEvent> eventCaptor = ArgumentCaptor.forClass(ProductStockLowEvent.class);
+        verify(applicationEventPublisher, times(1)).publishEvent(eventCaptor.capture());
+        assertEquals(4, eventCaptor.getValue().getCurrentStock(), "Low stock event should carry the remaining hot stock.");
+    }
+
+    @Test
+    void checkStocks_shouldCheckHotStockWithoutLoadingIt() {
+        // Given
+        String hotIsbn = "978-0321765723";
+        String coldIsbn = "978-0132350884";
+        when(hotStockCounter.isHot(hotIsbn)).thenReturn(true);
+        when(hotStockCounter.getStock(hotIsbn)).thenReturn(1);
+        when(inventoryItemRepository.findStocksByIsbnIn(List.of(coldIsbn))).thenReturn(List.of(isbnStock(coldIsbn, 10)));
+        Map<String, Integer> quantitiesByIsbn = new LinkedHashMap<>();
+        quantitiesByIsbn.put(coldIsbn, 2);
+        quantitiesByIsbn.put(hotIsbn, 2);
+
+        // When & Then
+        InsufficientStockException exception = assertThrows(InsufficientStockException.class, () -> inventoryService.checkStocks(quantitiesByIsbn), "Should throw InsufficientStockException when hot stock is insufficient.");
+        assertEquals("Not enough stock for ISBN 978-0321765723. Requested: 2, Available: 1.", exception.getMessage(), "Exception message should report the hot stock.");
+        verify(inventoryItemRepository, times(1)).findStocksByIsbnIn(List.of(coldIsbn));
+    }
+
+    @Test
+    void releaseStock_shouldReleaseHotStockInMemory() {
+        // Given
+        String isbn = "978-0321765723";
+        when(hotStockCounter.isHot(isbn)).thenReturn(true);
+
+        // When
+        inventoryService.releaseStock(isbn, 2);
+
+        // Then
+        verify(hotStockCounter, times(1)).releaseStock(isbn, 2);
+        verify(inventoryItemRepository, never()).findById(anyString());
+    }
+
+    @Test
+    void getStockByIsbn_shouldReturnHotStock() {
+        // Given
+        String isbn = "978-0321765723";
+        when(hotStockCounter.isHot(isbn)).thenReturn(true);
+        when(hotStockCounter.getStock(isbn)).thenReturn(42);
+
+        // When & Then
+        assertEquals(42, inventoryService.getStockByIsbn(isbn).stock(), "Hot stock should be returned.");
+        verify(inventoryItemRepository, never()).findById(anyString());
+    }
+
+    @Test
+    void getStockVersion_shouldReadVersionWithoutLoadingItem() {
+        // Given
+        String isbn = "978-0321765723";
+        when(inventoryItemRepository.findVersionByIsbn(isbn)).thenReturn(Optional.of(7L));
+
+        // When & Then
+        assertEquals(7L, inventoryService.getStockVersion(isbn), "Version of the item should be returned.");
+        verify(inventoryItemRepository, never()).findById(anyString());
+    }
+
+    @Test
+    void getStockVersion_shouldReturnNullForHotItem() {
+        // Given
+        String isbn = "978-0321765723";
+        when(hotStockCounter.isHot(isbn)).thenReturn(true);
+
+        // When & Then
+        assertNull(inventoryService.getStockVersion(isbn), "Hot item should have no version identifying its stock.");
+        verifyNoInteractions(inventoryItemRepository);
+    }
+
+    @Test
+    void getStockVersion_shouldThrowInventoryItemNotFoundExceptionWhenItemNotFound() {
+        // Given
+        String isbn = "nonExistentISBN";
+        when(inventoryItemRepository.findVersionByIsbn(isbn)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(InventoryItemNotFoundException.class, () -> inventoryService.getStockVersion(isbn), "Unknown item should not be found.");
+    }
+
+    @Test
+    void getStocksByIsbns_shouldReturnHotAndStoredStocksInRequestOrder() {
+        // Given
+        String hotIsbn = "978-0321765723";
+        String coldIsbn = "978-0132350884";
+        String unknownIsbn = "978-0201633610";
+        when(hotStockCounter.isHot(hotIsbn)).thenReturn(true);
+        when(hotStockCounter.getStock(hotIsbn)).thenReturn(42);
+        when(inventoryItemRepository.findAllById(List.of(coldIsbn, unknownIsbn))).thenReturn(List.of(new InventoryItem(coldIsbn, 7)));
+
+        // When
+        List<InventoryResponse> responses = inventoryService.getStocksByIsbns(List.of(coldIsbn, unknownIsbn, hotIsbn, coldIsbn));
+
+        // Then
+        assertEquals(List.of(new InventoryResponse(coldIsbn, 7), new InventoryResponse(hotIsbn, 42)), responses,
+                "Stocks should be returned once each, in request order, without the unknown ISBN.");
+        verify(inventoryItemRepository, times(1)).findAllById(anyCollection());
+        verify(inventoryItemRepository, never()).findById(anyString());
+    }
+
+    @Test
+    void findLowStocks_shouldReturnFirstPageWithNextCursor() {
+        // Given
+        when(inventoryItemRepository.findLowStocks(5, Limit.of(3)))
+                .thenReturn(List.of(new InventoryItem("isbn-1", 0), new InventoryItem("isbn-2", 3), new InventoryItem("isbn-3", 3)));
+
+        // When
+        PageResponse<InventoryResponse> page = inventoryService.findLowStocks(null, null, 2);
+
+        // Then
+        assertEquals(List.of(new InventoryResponse("isbn-1", 0), new InventoryResponse("isbn-2", 3)), page.items(), "Page should hold the requested number of items.");
+        assertEquals(KeysetPagination.encodeCursor("3:isbn-2"), page.nextCursor(), "Next cursor should point after the last item of the page.");
+    }
+
+    @Test
+    void findLowStocks_shouldReturnPageFollowingCursor() {
+        // Given
+        when(inventoryItemRepository.findLowStocksAfter(10, 3, "isbn-2", Limit.of(3))).thenReturn(List.of(new InventoryItem("isbn-3", 3)));
+
+        // When
+        PageResponse<InventoryResponse> page = inventoryService.findLowStocks(10, KeysetPagination.encodeCursor("3:isbn-2"), 2);
+
+        // Then
+        assertEquals(List.of(new InventoryResponse("isbn-3", 3)), page.items(), "Page should hold the items following the cursor.");
+        assertNull(page.nextCursor(), "Last page should have no next cursor.");
+    }
+
+    @Test
+    void findLowStocks_shouldThrowValidationExceptionWhenCursorIsMalformed() {
+        // Given
+        String cursor = KeysetPagination.encodeCursor("isbn-2");
+
+        // When & Then
+        assertThrows(ValidationException.class, () -> inventoryService.findLowStocks(null, cursor, 2), "Should throw ValidationException when the cursor holds no stock.");
+        verifyNoInteractions(inventoryItemRepository);
+    }
+
+    @Test
+    void findLowStocks_shouldThrowValidationExceptionWhenThresholdIsNegative() {
+        assertThrows(ValidationException.class, () -> inventoryService.findLowStocks(-1, null, 2), "Should throw ValidationException when the threshold is negative.");
+    }
+
+    private static IsbnStock isbnStock(String isbn, int stock) {
+        return new IsbnStock() {
+            @Override
+            public String getIsbn() {
+                return isbn;
+            }
+
+            @Override
+            public int getStock() {
+                return stock;
+            }
+        };
+    }
 }
@@ -0,0 +1,118 @@
+package io.bmeurant.bookordermanager.unit.domain.service.impl;
+
+import io.bmeurant.bookordermanager.inventory.domain.exception.InsufficientStockException;
+import io.bmeurant.bookordermanager.inventory.domain.model.InventoryItem;
+import io.bmeurant.bookordermanager.inventory.domain.repository.InventoryItemRepository;
+import io.bmeurant.bookordermanager.inventory.domain.service.impl.ShardedHotStockCounter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ShardedHotStockCounterTest {
+
+    private static final String HOT_ISBN = "978-0321765723";
+    private static final String MISSING_ISBN = "978-0132350884";
+
+    @Mock
+    private InventoryItemRepository inventoryItemRepository;
+
+    private ShardedHotStockCounter hotStockCounter;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        hotStockCounter = new ShardedHotStockCounter(inventoryItemRepository, TransactionOperations.withoutTransaction());
+        ReflectionTestUtils.setField(hotStockCounter, "hotIsbns", Set.of(HOT_ISBN, MISSING_ISBN));
+        ReflectionTestUtils.setField(hotStockCounter, "shardCount", 4);
+        when(inventoryItemRepository.findAllById(any())).thenReturn(List.of(new InventoryItem(HOT_ISBN, 10)));
+        hotStockCounter.loadHotStocks();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void loadHotStocks_shouldOnlyHoldExistingConfiguredItems() {
+        assertTrue(hotStockCounter.isHot(HOT_ISBN), "Existing configured item should be hot.");
+        assertFalse(hotStockCounter.isHot(MISSING_ISBN), "Missing configured item should not be hot.");
+        assertEquals(10, hotStockCounter.getStock(HOT_ISBN), "Hot stock should be loaded from the database.");
+    }
+
+    @Test
+    void deductStock_shouldDeductInMemoryOnly() {
+        // When
+        int remainingStock = hotStockCounter.deductStock(HOT_ISBN, 3);
+
+        // Then
+        assertEquals(7, remainingStock, "Remaining stock should be returned.");
+        verify(inventoryItemRepository, never()).deductStockIfAvailable(anyString(), anyInt());
+        verify(inventoryItemRepository, never()).increaseStock(anyString(), anyInt());
+    }
+
+    @Test
+    void deductStock_shouldThrowInsufficientStockExceptionWhenStockIsInsufficient() {
+        InsufficientStockException exception = assertThrows(InsufficientStockException.class, () -> hotStockCounter.deductStock(HOT_ISBN, 11), "Should throw InsufficientStockException when stock is insufficient.");
+        assertEquals("Not enough stock for ISBN 978-0321765723. Requested: 11, Available: 10.", exception.getMessage(), "Exception message should report the available hot stock.");
+    }
+
+    @Test
+    void deductStock_shouldGiveQuantityBackWhenTransactionRollsBack() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        hotStockCounter.deductStock(HOT_ISBN, 3);
+
+        // When
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // Then
+        assertEquals(10, hotStockCounter.getStock(HOT_ISBN), "Rolled back deduction should be given back.");
+        hotStockCounter.flush();
+        verify(inventoryItemRepository, never()).increaseStock(anyString(), anyInt());
+    }
+
+    @Test
+    void flush_shouldWriteNetDeductionBackToDatabase() {
+        // Given
+        hotStockCounter.deductStock(HOT_ISBN, 3);
+        hotStockCounter.releaseStock(HOT_ISBN, 1);
+
+        // When
+        hotStockCounter.flush();
+        hotStockCounter.flush();
+
+        // Then
+        verify(inventoryItemRepository, times(1)).increaseStock(HOT_ISBN, -2);
+    }
+
+    @Test
+    void flush_shouldKeepDeductionForNextFlushWhenWriteFails() {
+        // Given
+        hotStockCounter.deductStock(HOT_ISBN, 3);
+        when(inventoryItemRepository.increaseStock(HOT_ISBN, -3)).thenThrow(new IllegalStateException("Database unavailable")).thenReturn(1);
+
+        // When
+        hotStockCounter.flush();
+        hotStockCounter.flush();
+
+        // Then
+        verify(inventoryItemRepository, times(2)).increaseStock(HOT_ISBN, -3);
+        assertEquals(7, hotStockCounter.getStock(HOT_ISBN), "In-memory stock should not be affected by a failed flush.");
+    }
+}
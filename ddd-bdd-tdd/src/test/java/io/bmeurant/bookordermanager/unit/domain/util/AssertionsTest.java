@@ -60,6 +60,21 @@ class AssertionsTest {
         assertEquals(TEST_CLASS.getSimpleName(), exception.getDomainClassName());
     }
 
+    @Test
+    @DisplayName("assertIsNonNegative should not throw exception for non-negative int")
+    void assertIsNonNegative_nonNegativeInt_noException() {
+        assertDoesNotThrow(() -> Assertions.assertIsNonNegative(0, "Stock", TEST_CLASS));
+        assertDoesNotThrow(() -> Assertions.assertIsNonNegative(10, "Stock", TEST_CLASS));
+    }
+
+    @Test
+    @DisplayName("assertIsNonNegative should throw ValidationException for negative int")
+    void assertIsNonNegative_negativeInt_throwsException() {
+        ValidationException exception = assertThrows(ValidationException.class, () -> Assertions.assertIsNonNegative(-1, "Stock", TEST_CLASS));
+        assertTrue(exception.getMessage().contains("Stock cannot be negative"));
+        assertEquals(TEST_CLASS.getSimpleName(), exception.getDomainClassName());
+    }
+
     @Test
     @DisplayName("assertIsPositive should not throw exception for positive int")
     void assertIsPositive_positive_noException() {
@@ -0,0 +1,70 @@
+package io.bmeurant.bookordermanager.unit.domain.util;
+
+import io.bmeurant.bookordermanager.application.dto.PageResponse;
+import io.bmeurant.bookordermanager.domain.exception.ValidationException;
+import io.bmeurant.bookordermanager.domain.util.KeysetPagination;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeysetPaginationTest {
+
+    @Test
+    @DisplayName("encodeCursor and decodeCursor should round-trip a key")
+    void encodeCursor_decodeCursor_roundTrip() {
+        String cursor = KeysetPagination.encodeCursor("978-0321765723");
+
+        assertNotEquals("978-0321765723", cursor, "Cursor should not expose the key as is.");
+        assertEquals("978-0321765723", KeysetPagination.decodeCursor(cursor), "Decoded cursor should give the key back.");
+    }
+
+    @Test
+    @DisplayName("decodeCursor should return null for a missing cursor")
+    void decodeCursor_missingCursor_returnsNull() {
+        assertNull(KeysetPagination.decodeCursor(null), "Null cursor should read the first page.");
+        assertNull(KeysetPagination.decodeCursor(" "), "Blank cursor should read the first page.");
+    }
+
+    @Test
+    @DisplayName("decodeCursor should throw ValidationException for a malformed cursor")
+    void decodeCursor_malformedCursor_throwsException() {
+        ValidationException exception = assertThrows(ValidationException.class, () -> KeysetPagination.decodeCursor("not a cursor!"));
+        assertTrue(exception.getMessage().contains("Cursor is malformed"));
+    }
+
+    @Test
+    @DisplayName("assertPageSizeIsValid should only accept sizes between 1 and the maximum")
+    void assertPageSizeIsValid_bounds() {
+        assertDoesNotThrow(() -> KeysetPagination.assertPageSizeIsValid(1));
+        assertDoesNotThrow(() -> KeysetPagination.assertPageSizeIsValid(KeysetPagination.MAX_PAGE_SIZE));
+        assertThrows(ValidationException.class, () -> KeysetPagination.assertPageSizeIsValid(0));
+        assertThrows(ValidationException.class, () -> KeysetPagination.assertPageSizeIsValid(KeysetPagination.MAX_PAGE_SIZE + 1));
+    }
+
+    @Test
+    @DisplayName("pageLimit should read one more row than the page size")
+    void pageLimit_readsOneMoreRow() {
+        assertEquals(21, KeysetPagination.pageLimit(20).max(), "One more row than the page should be read.");
+    }
+
+    @Test
+    @DisplayName("toPage should leave out the extra row and point the next cursor at the last row of the page")
+    void toPage_withExtraRow_returnsNextCursor() {
+        PageResponse<String> page = KeysetPagination.toPage(List.of("a", "b", "c"), 2, String::toUpperCase, row -> "item-" + row);
+
+        assertEquals(List.of("item-a", "item-b"), page.items(), "Page should hold the mapped rows up to the page size.");
+        assertEquals("B", KeysetPagination.decodeCursor(page.nextCursor()), "Next cursor should hold the key of the last row of the page.");
+    }
+
+    @Test
+    @DisplayName("toPage should return no next cursor for the last page")
+    void toPage_withoutExtraRow_returnsNoNextCursor() {
+        PageResponse<String> page = KeysetPagination.toPage(List.of("a", "b"), 2, String::toUpperCase, row -> "item-" + row);
+
+        assertEquals(List.of("item-a", "item-b"), page.items(), "Page should hold all the mapped rows.");
+        assertNull(page.nextCursor(), "Last page should have no next cursor.");
+    }
+}
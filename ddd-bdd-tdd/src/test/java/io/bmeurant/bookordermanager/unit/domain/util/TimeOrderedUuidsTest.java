@@ -0,0 +1,68 @@
+package io.bmeurant.bookordermanager.unit.domain.util;
+
+import io.bmeurant.bookordermanager.domain.util.TimeOrderedUuids;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimeOrderedUuidsTest {
+
+    @Test
+    @DisplayName("next should generate version 7 UUIDs holding the creation time")
+    void next_generatesVersion7Uuids() {
+        long before = System.currentTimeMillis();
+
+        UUID uuid = UUID.fromString(TimeOrderedUuids.next());
+
+        assertEquals(7, uuid.version(), "Identifier should be a version 7 UUID.");
+        assertEquals(2, uuid.variant(), "Identifier should have the RFC 9562 variant.");
+        long timestamp = uuid.getMostSignificantBits() >>> 16;
+        assertTrue(timestamp >= before && timestamp <= System.currentTimeMillis() + 1, "Identifier should hold the creation time.");
+    }
+
+    @Test
+    @DisplayName("next should generate strictly increasing identifiers, also within the same millisecond")
+    void next_generatesIncreasingIdentifiers() {
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(TimeOrderedUuids.next());
+        }
+
+        for (int i = 1; i < ids.size(); i++) {
+            assertTrue(ids.get(i).compareTo(ids.get(i - 1)) > 0, "Identifiers should increase as strings.");
+            assertTrue(UUID.fromString(ids.get(i)).getMostSignificantBits() > UUID.fromString(ids.get(i - 1)).getMostSignificantBits(),
+                    "Identifiers should increase as UUIDs.");
+        }
+    }
+
+    @Test
+    @DisplayName("of should build version 7 UUIDs of the given time, reproducible with the same seed")
+    void of_buildsVersion7UuidsOfGivenTime() {
+        long epochMillis = 1_767_225_600_000L;
+
+        UUID uuid = TimeOrderedUuids.of(epochMillis, new SplittableRandom(42));
+
+        assertEquals(7, uuid.version(), "Identifier should be a version 7 UUID.");
+        assertEquals(2, uuid.variant(), "Identifier should have the RFC 9562 variant.");
+        assertEquals(epochMillis, uuid.getMostSignificantBits() >>> 16, "Identifier should hold the given time.");
+        assertEquals(uuid, TimeOrderedUuids.of(epochMillis, new SplittableRandom(42)), "Same seed should build the same identifier.");
+        assertTrue(TimeOrderedUuids.of(epochMillis + 1, new SplittableRandom(7)).toString().compareTo(uuid.toString()) > 0,
+                "Identifier of a later millisecond should be greater.");
+    }
+
+    @Test
+    @DisplayName("isWellFormed should only accept canonical UUIDs")
+    void isWellFormed_acceptsCanonicalUuidsOnly() {
+        assertTrue(TimeOrderedUuids.isWellFormed(TimeOrderedUuids.next()), "Time-ordered identifier should be well formed.");
+        assertTrue(TimeOrderedUuids.isWellFormed(UUID.randomUUID().toString()), "Random UUID should be well formed.");
+        assertFalse(TimeOrderedUuids.isWellFormed("unknown-order"), "Arbitrary string should not be well formed.");
+        assertFalse(TimeOrderedUuids.isWellFormed(""), "Empty string should not be well formed.");
+        assertFalse(TimeOrderedUuids.isWellFormed(null), "Null should not be well formed.");
+    }
+}
@@ -2,26 +2,35 @@ package io.bmeurant.bookordermanager.unit.rest;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.bmeurant.bookordermanager.application.dto.BookResponse;
+import io.bmeurant.bookordermanager.application.dto.PageResponse;
 import io.bmeurant.bookordermanager.catalog.domain.exception.BookNotFoundException;
 import io.bmeurant.bookordermanager.catalog.domain.service.BookService;
 import io.bmeurant.bookordermanager.interfaces.rest.BookController;
+import io.bmeurant.bookordermanager.interfaces.rest.NdjsonWriter;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(BookController.class)
+@Import(NdjsonWriter.class)
 class BookControllerTest {
 
     @Autowired
@@ -50,6 +59,49 @@ class BookControllerTest {
                 .andExpect(jsonPath("$.price").value(25.00));
     }
 
+    @Test
+    void getBookByIsbn_shouldTagResponseWithBookVersion() throws Exception {
+        // Given
+        String isbn = "978-0321765723";
+        when(bookService.getBookByIsbn(isbn)).thenReturn(new BookResponse(isbn, "The Lord of the Rings", "J.R.R. Tolkien", new BigDecimal("25.00"), 3L));
+
+        // When & Then
+        mockMvc.perform(get("/api/books/{isbn}", isbn))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=300, public"))
+                .andExpect(jsonPath("$.version").doesNotExist());
+    }
+
+    @Test
+    void getBookByIsbn_whenETagMatches_shouldReturn304NotModifiedWithoutReadingBook() throws Exception {
+        // Given
+        String isbn = "978-0321765723";
+        when(bookService.getBookVersion(isbn)).thenReturn(3L);
+
+        // When & Then
+        mockMvc.perform(get("/api/books/{isbn}", isbn).header(HttpHeaders.IF_NONE_MATCH, "\"3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=300, public"))
+                .andExpect(content().string(""));
+        verify(bookService, never()).getBookByIsbn(isbn);
+    }
+
+    @Test
+    void getBookByIsbn_whenETagIsStale_shouldReturn200Ok() throws Exception {
+        // Given
+        String isbn = "978-0321765723";
+        when(bookService.getBookVersion(isbn)).thenReturn(4L);
+        when(bookService.getBookByIsbn(isbn)).thenReturn(new BookResponse(isbn, "The Lord of the Rings", "J.R.R. Tolkien", new BigDecimal("25.00"), 4L));
+
+        // When & Then
+        mockMvc.perform(get("/api/books/{isbn}", isbn).header(HttpHeaders.IF_NONE_MATCH, "\"3\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4\""))
+                .andExpect(jsonPath("$.isbn").value(isbn));
+    }
+
     @Test
     void getBookByIsbn_whenBookDoesNotExist_shouldReturn404NotFound() throws Exception {
         // Given
@@ -88,4 +140,43 @@ class BookControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.length()").value(0));
     }
-}
\ No newline at end of file
+
+    @Test
+    void getBooksPage_shouldReturn200OkWithLastPage() throws Exception {
+        // Given
+        BookResponse book1 = new BookResponse("978-0321765723", "The Lord of the Rings", "J.R.R. Tolkien", new BigDecimal("25.00"));
+        when(bookService.findBooks(null, 10)).thenReturn(new PageResponse<>(List.of(book1), null));
+
+        // When & Then
+        mockMvc.perform(get("/api/books").param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].isbn").value("978-0321765723"))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void streamAllBooks_shouldReturn200OkWithOneBookPerLine() throws Exception {
+        // Given
+        BookResponse book1 = new BookResponse("978-0132350884", "Clean Code", "Robert C. Martin", new BigDecimal("35.00"));
+        BookResponse book2 = new BookResponse("978-0321765723", "The Lord of the Rings", "J.R.R. Tolkien", new BigDecimal("25.00"));
+        doAnswer(invocation -> {
+            Consumer<BookResponse> consumer = invocation.getArgument(0);
+            consumer.accept(book1);
+            consumer.accept(book2);
+            return null;
+        }).when(bookService).streamAllBooks(any(Consumer.class));
+
+        // When
+        MvcResult mvcResult = mockMvc.perform(get("/api/books/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(objectMapper.writeValueAsString(book1) + "\n" + objectMapper.writeValueAsString(book2) + "\n"));
+    }
+}
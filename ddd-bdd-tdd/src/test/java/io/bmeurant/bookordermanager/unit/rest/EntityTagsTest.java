@@ -0,0 +1,35 @@
+package io.bmeurant.bookordermanager.unit.rest;
+
+import io.bmeurant.bookordermanager.interfaces.rest.EntityTags;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EntityTagsTest {
+
+    @Test
+    void of_shouldQuoteValidator() {
+        assertEquals("\"3\"", EntityTags.of(3L), "ETag should be the quoted validator.");
+    }
+
+    @Test
+    void isNotModified_shouldMatchAnyOfTheGivenETags() {
+        assertTrue(EntityTags.isNotModified("\"2\", \"3\"", "\"3\""), "Current ETag among the given ones should match.");
+        assertTrue(EntityTags.isNotModified("W/\"3\"", "\"3\""), "Weak ETag should match its strong counterpart.");
+        assertTrue(EntityTags.isNotModified("*", "\"3\""), "Wildcard should match any ETag.");
+    }
+
+    @Test
+    void isNotModified_shouldNotMatchStaleOrMissingETags() {
+        assertFalse(EntityTags.isNotModified("\"2\"", "\"3\""), "Stale ETag should not match.");
+        assertFalse(EntityTags.isNotModified(null, "\"3\""), "Missing header should not match.");
+    }
+
+    @Test
+    void cacheControl_shouldRequireRevalidationWhenMaxAgeIsZero() {
+        assertEquals("no-cache, public", EntityTags.cacheControl(Duration.ZERO).getHeaderValue(), "Zero max age should require revalidation.");
+        assertEquals("max-age=300, public", EntityTags.cacheControl(Duration.ofMinutes(5)).getHeaderValue(), "Max age should be given in seconds.");
+    }
+}
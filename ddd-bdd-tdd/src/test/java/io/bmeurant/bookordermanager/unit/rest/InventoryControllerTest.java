@@ -1,17 +1,28 @@
 package io.bmeurant.bookordermanager.unit.rest;
 
 import io.bmeurant.bookordermanager.application.dto.InventoryResponse;
+import io.bmeurant.bookordermanager.application.dto.PageResponse;
 import io.bmeurant.bookordermanager.interfaces.rest.InventoryController;
 import io.bmeurant.bookordermanager.inventory.domain.exception.InventoryItemNotFoundException;
 import io.bmeurant.bookordermanager.inventory.domain.service.InventoryService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.List;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -40,6 +51,59 @@ class InventoryControllerTest {
                 .andExpect(jsonPath("$.stock").value(stock));
     }
 
+    @Test
+    void getStockByIsbn_shouldTagResponseWithItemVersionAndRequireRevalidation() throws Exception {
+        // Given
+        String isbn = "978-0321765723";
+        when(inventoryService.getStockByIsbn(isbn)).thenReturn(new InventoryResponse(isbn, 100, 7L));
+
+        // When & Then
+        mockMvc.perform(get("/api/inventory/{isbn}", isbn))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"7\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, public"))
+                .andExpect(jsonPath("$.version").doesNotExist());
+    }
+
+    @Test
+    void getStockByIsbn_whenETagMatches_shouldReturn304NotModifiedWithoutReadingStock() throws Exception {
+        // Given
+        String isbn = "978-0321765723";
+        when(inventoryService.getStockVersion(isbn)).thenReturn(7L);
+
+        // When & Then
+        mockMvc.perform(get("/api/inventory/{isbn}", isbn).header(HttpHeaders.IF_NONE_MATCH, "\"6\", W/\"7\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"7\""))
+                .andExpect(content().string(""));
+        verify(inventoryService, never()).getStockByIsbn(isbn);
+    }
+
+    @Test
+    void getStockByIsbn_whenHotItemETagMatches_shouldReturn304NotModified() throws Exception {
+        // Given
+        String isbn = "978-0321765723";
+        when(inventoryService.getStockVersion(isbn)).thenReturn(null);
+        when(inventoryService.getStockByIsbn(isbn)).thenReturn(new InventoryResponse(isbn, 42));
+
+        // When & Then
+        mockMvc.perform(get("/api/inventory/{isbn}", isbn).header(HttpHeaders.IF_NONE_MATCH, "\"stock-42\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void getStockByIsbn_whenItemIsHot_shouldTagResponseWithStock() throws Exception {
+        // Given
+        String isbn = "978-0321765723";
+        when(inventoryService.getStockByIsbn(isbn)).thenReturn(new InventoryResponse(isbn, 42));
+
+        // When & Then
+        mockMvc.perform(get("/api/inventory/{isbn}", isbn))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"stock-42\""));
+    }
+
     @Test
     void getStockByIsbn_whenItemDoesNotExist_shouldReturn404NotFound() throws Exception {
         // Given
@@ -51,4 +115,44 @@ class InventoryControllerTest {
         mockMvc.perform(get("/api/inventory/{isbn}", isbn))
                 .andExpect(status().isNotFound());
     }
+
+    @Test
+    void getStocksByIsbns_shouldReturn200OkAndStocks() throws Exception {
+        // Given
+        when(inventoryService.getStocksByIsbns(List.of("978-0321765723", "978-0132350884")))
+                .thenReturn(List.of(new InventoryResponse("978-0321765723", 100), new InventoryResponse("978-0132350884", 3)));
+
+        // When & Then
+        mockMvc.perform(post("/api/inventory/stock:batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"isbns\": [\"978-0321765723\", \"978-0132350884\"]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].isbn").value("978-0321765723"))
+                .andExpect(jsonPath("$[1].stock").value(3));
+    }
+
+    @Test
+    void getStocksByIsbns_whenIsbnsAreEmpty_shouldReturn400BadRequest() throws Exception {
+        // When & Then
+        mockMvc.perform(post("/api/inventory/stock:batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"isbns\": []}"))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(inventoryService);
+    }
+
+    @Test
+    void getLowStocksPage_shouldReturn200OkAndPage() throws Exception {
+        // Given
+        when(inventoryService.findLowStocks(null, null, 20))
+                .thenReturn(new PageResponse<>(List.of(new InventoryResponse("978-0321765723", 2)), "next"));
+
+        // When & Then
+        mockMvc.perform(get("/api/inventory/low-stock"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].isbn").value("978-0321765723"))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+        verify(inventoryService).findLowStocks(null, null, 20);
+    }
 }
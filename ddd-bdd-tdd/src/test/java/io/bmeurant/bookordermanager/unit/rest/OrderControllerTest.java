@@ -1,33 +1,54 @@
 package io.bmeurant.bookordermanager.unit.rest;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.bmeurant.bookordermanager.application.dto.ConfirmOrdersRequest;
 import io.bmeurant.bookordermanager.application.dto.CreateOrderRequest;
+import io.bmeurant.bookordermanager.application.dto.DailyRevenueResponse;
+import io.bmeurant.bookordermanager.application.dto.OrderConfirmationResult;
 import io.bmeurant.bookordermanager.application.dto.OrderItemRequest;
 import io.bmeurant.bookordermanager.application.dto.OrderResponse;
+import io.bmeurant.bookordermanager.application.dto.PageResponse;
+import io.bmeurant.bookordermanager.application.service.IdempotencyService;
+import io.bmeurant.bookordermanager.application.service.OrderQueryService;
 import io.bmeurant.bookordermanager.application.service.OrderService;
 import io.bmeurant.bookordermanager.catalog.domain.exception.BookNotFoundException;
 import io.bmeurant.bookordermanager.domain.exception.ValidationException;
+import io.bmeurant.bookordermanager.interfaces.rest.NdjsonWriter;
 import io.bmeurant.bookordermanager.interfaces.rest.OrderController;
 import io.bmeurant.bookordermanager.inventory.domain.exception.InsufficientStockException;
+import io.bmeurant.bookordermanager.order.domain.exception.IdempotencyKeyReuseException;
 import io.bmeurant.bookordermanager.order.domain.exception.OrderNotFoundException;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(OrderController.class)
+@Import(NdjsonWriter.class)
 class OrderControllerTest {
 
     @Autowired
@@ -39,6 +60,12 @@ class OrderControllerTest {
     @MockitoBean
     private OrderService orderService;
 
+    @MockitoBean
+    private OrderQueryService orderQueryService;
+
+    @MockitoBean
+    private IdempotencyService idempotencyService;
+
     @Test
     void createOrder_whenValidRequest_shouldReturn201Created() throws Exception {
         // Given
@@ -60,6 +87,38 @@ class OrderControllerTest {
                 .andExpect(jsonPath("$.status").value("PENDING"));
     }
 
+    @Test
+    void createOrder_withIdempotencyKey_shouldCreateOrderThroughIdempotencyService() throws Exception {
+        // Given
+        CreateOrderRequest createOrderRequest = new CreateOrderRequest("Customer Name", List.of(new OrderItemRequest("1234567890", 1)));
+        OrderResponse orderResponse = new OrderResponse(UUID.randomUUID().toString(), "Customer Name", "PENDING", Collections.emptyList());
+        when(idempotencyService.createOrder(eq("key-1"), any(CreateOrderRequest.class))).thenReturn(orderResponse);
+
+        // When & Then
+        mockMvc.perform(post("/api/orders")
+                        .header("Idempotency-Key", "key-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createOrderRequest)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.orderId").value(orderResponse.orderId()));
+        verifyNoInteractions(orderService);
+    }
+
+    @Test
+    void createOrder_whenIdempotencyKeyReusedForDifferentRequest_shouldReturn422UnprocessableEntity() throws Exception {
+        // Given
+        CreateOrderRequest createOrderRequest = new CreateOrderRequest("Customer Name", List.of(new OrderItemRequest("1234567890", 1)));
+        when(idempotencyService.createOrder(eq("key-1"), any(CreateOrderRequest.class))).thenThrow(new IdempotencyKeyReuseException("key-1"));
+
+        // When & Then
+        mockMvc.perform(post("/api/orders")
+                        .header("Idempotency-Key", "key-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createOrderRequest)))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.message").value("Idempotency key key-1 was already used for a different order request."));
+    }
+
     @Test
     void createOrder_whenInvalidRequest_shouldReturn400BadRequest() throws Exception {
         // Given
@@ -114,7 +173,7 @@ class OrderControllerTest {
         String orderId = UUID.randomUUID().toString();
         OrderResponse orderResponse = new OrderResponse(orderId, "Test Customer", "PENDING", Collections.emptyList());
 
-        when(orderService.getOrderById(orderId)).thenReturn(orderResponse);
+        when(orderQueryService.getOrderById(orderId)).thenReturn(orderResponse);
 
         // When & Then
         mockMvc.perform(get("/api/orders/{orderId}", orderId))
@@ -127,7 +186,7 @@ class OrderControllerTest {
     void getOrderById_whenOrderDoesNotExist_shouldReturn404NotFound() throws Exception {
         // Given
         String orderId = UUID.randomUUID().toString();
-        when(orderService.getOrderById(orderId)).thenThrow(new OrderNotFoundException(orderId));
+        when(orderQueryService.getOrderById(orderId)).thenThrow(new OrderNotFoundException(orderId));
 
         // When & Then
         mockMvc.perform(get("/api/orders/{orderId}", orderId))
@@ -149,6 +208,38 @@ class OrderControllerTest {
                 .andExpect(jsonPath("$.status").value("CONFIRMED"));
     }
 
+    @Test
+    void confirmOrders_whenValidRequest_shouldReturn200OkWithResultOfEachOrder() throws Exception {
+        // Given
+        ConfirmOrdersRequest confirmOrdersRequest = new ConfirmOrdersRequest(List.of("order-1", "order-2"));
+        when(orderService.confirmOrders(List.of("order-1", "order-2"))).thenReturn(List.of(
+                OrderConfirmationResult.confirmed("order-1"),
+                OrderConfirmationResult.failed("order-2", "Order with ID order-2 not found.")));
+
+        // When & Then
+        mockMvc.perform(post("/api/orders/confirm-batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(confirmOrdersRequest)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].orderId").value("order-1"))
+                .andExpect(jsonPath("$[0].confirmed").value(true))
+                .andExpect(jsonPath("$[1].orderId").value("order-2"))
+                .andExpect(jsonPath("$[1].confirmed").value(false))
+                .andExpect(jsonPath("$[1].error").value("Order with ID order-2 not found."));
+    }
+
+    @Test
+    void confirmOrders_whenNoOrderId_shouldReturn400BadRequest() throws Exception {
+        // Given
+        ConfirmOrdersRequest confirmOrdersRequest = new ConfirmOrdersRequest(List.of());
+
+        // When & Then
+        mockMvc.perform(post("/api/orders/confirm-batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(confirmOrdersRequest)))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void cancelOrder_whenValidRequest_shouldReturn200Ok() throws Exception {
         // Given
@@ -171,7 +262,7 @@ class OrderControllerTest {
         OrderResponse order2 = new OrderResponse(UUID.randomUUID().toString(), "Customer B", "CONFIRMED", Collections.emptyList());
         List<OrderResponse> orders = List.of(order1, order2);
 
-        when(orderService.findAllOrders()).thenReturn(orders);
+        when(orderQueryService.findAllOrders()).thenReturn(orders);
 
         // When & Then
         mockMvc.perform(get("/api/orders"))
@@ -180,4 +271,104 @@ class OrderControllerTest {
                 .andExpect(jsonPath("$[0].customerName").value("Customer A"))
                 .andExpect(jsonPath("$[1].customerName").value("Customer B"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void getOrdersPage_shouldReturn200OkWithPageAndNextCursor() throws Exception {
+        // Given
+        OrderResponse order1 = new OrderResponse(UUID.randomUUID().toString(), "Customer A", "PENDING", Collections.emptyList());
+        when(orderQueryService.findOrders("cursor1", 1)).thenReturn(new PageResponse<>(List.of(order1), "cursor2"));
+
+        // When & Then
+        mockMvc.perform(get("/api/orders").param("size", "1").param("cursor", "cursor1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.size()").value(1))
+                .andExpect(jsonPath("$.items[0].customerName").value("Customer A"))
+                .andExpect(jsonPath("$.nextCursor").value("cursor2"));
+    }
+
+    @Test
+    void getOrdersPage_whenSizeIsOutOfBounds_shouldReturn400BadRequest() throws Exception {
+        // Given
+        when(orderQueryService.findOrders(null, 1000)).thenThrow(new ValidationException("Page size must be between 1 and 100", PageResponse.class));
+
+        // When & Then
+        mockMvc.perform(get("/api/orders").param("size", "1000"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getCustomerOrdersPage_shouldReturn200OkWithFirstPageOfDefaultSize() throws Exception {
+        // Given
+        OrderResponse order1 = new OrderResponse(UUID.randomUUID().toString(), "Customer A", "PENDING", Collections.emptyList());
+        when(orderQueryService.findOrdersByCustomer("Customer A", null, 20)).thenReturn(new PageResponse<>(List.of(order1), "cursor2"));
+
+        // When & Then
+        mockMvc.perform(get("/api/orders").param("customer", "Customer A"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.size()").value(1))
+                .andExpect(jsonPath("$.items[0].customerName").value("Customer A"))
+                .andExpect(jsonPath("$.nextCursor").value("cursor2"));
+    }
+
+    @Test
+    void getCustomerOrdersPage_whenSizeAndCursorAreGiven_shouldReturn200OkWithNextPage() throws Exception {
+        // Given
+        when(orderQueryService.findOrdersByCustomer("Customer A", "cursor2", 5)).thenReturn(new PageResponse<>(List.of(), null));
+
+        // When & Then
+        mockMvc.perform(get("/api/orders").param("customer", "Customer A").param("size", "5").param("cursor", "cursor2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.size()").value(0))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+        verify(orderQueryService, never()).findOrders(any(), anyInt());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void streamAllOrders_shouldReturn200OkWithOneOrderPerLine() throws Exception {
+        // Given
+        OrderResponse order1 = new OrderResponse("order1", "Customer A", "PENDING", Collections.emptyList());
+        OrderResponse order2 = new OrderResponse("order2", "Customer B", "CONFIRMED", Collections.emptyList());
+        doAnswer(invocation -> {
+            Consumer<OrderResponse> consumer = invocation.getArgument(0);
+            consumer.accept(order1);
+            consumer.accept(order2);
+            return null;
+        }).when(orderQueryService).streamAllOrders(any(Consumer.class));
+
+        // When
+        MvcResult mvcResult = mockMvc.perform(get("/api/orders/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(objectMapper.writeValueAsString(order1) + "\n" + objectMapper.writeValueAsString(order2) + "\n"));
+    }
+
+    @Test
+    void getDailyRevenues_shouldReturn200OkWithRevenueOfEachDay() throws Exception {
+        // Given
+        LocalDate day = LocalDate.of(2026, 10, 1);
+        when(orderQueryService.getDailyRevenues(day, day.plusDays(1), "978-0321765723"))
+                .thenReturn(List.of(new DailyRevenueResponse(day, "978-0321765723", 2, new BigDecimal("50.00"))));
+
+        // When & Then
+        mockMvc.perform(get("/api/orders/revenue").param("from", "2026-10-01").param("to", "2026-10-02").param("isbn", "978-0321765723"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size()").value(1))
+                .andExpect(jsonPath("$[0].day").value("2026-10-01"))
+                .andExpect(jsonPath("$[0].quantity").value(2))
+                .andExpect(jsonPath("$[0].revenue").value(50.00));
+    }
+
+    @Test
+    void getDailyRevenues_whenDayIsMalformed_shouldReturn400BadRequest() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/orders/revenue").param("from", "01/10/2026").param("to", "2026-10-02"))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(orderQueryService);
+    }
+}
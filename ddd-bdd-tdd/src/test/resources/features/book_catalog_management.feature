@@ -12,6 +12,15 @@ Feature: Book Catalog Management
     When I retrieve the book with ISBN "nonExistentISBN"
     Then the book retrieval should fail with status 404 and message "Book with ISBN nonExistentISBN not found in catalog."
 
+  Scenario: Revalidate a retrieved book with its ETag
+    Given a book with ISBN "978-2000000001", title "Dune", author "Frank Herbert", price 20.00
+    When I retrieve the book with ISBN "978-2000000001"
+    And I retrieve the book with ISBN "978-2000000001" again with its ETag
+    Then the book should not have been modified
+    When the title of the book with ISBN "978-2000000001" is changed to "Dune Messiah"
+    And I retrieve the book with ISBN "978-2000000001" again with its ETag
+    Then the retrieved book should have ISBN "978-2000000001", title "Dune Messiah", author "Frank Herbert", and price 20.00
+
   Scenario: Successfully retrieve all books from the catalog
     Given a book with ISBN "978-0321765723", title "The Lord of the Rings", author "J.R.R. Tolkien", price 25.00
     And a book with ISBN "978-0132350884", title "Clean Code", author "Robert C. Martin", price 35.00
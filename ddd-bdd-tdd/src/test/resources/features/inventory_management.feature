@@ -10,4 +10,19 @@ Feature: Inventory Management
 
   Scenario: Attempt to retrieve stock for a non-existent inventory item
     When I request the stock for ISBN "nonExistentISBN"
-    Then the stock retrieval should fail with status 404 and message "Inventory item with ISBN nonExistentISBN not found."
\ No newline at end of file
+    Then the stock retrieval should fail with status 404 and message "Inventory item with ISBN nonExistentISBN not found."
+
+  Scenario: Retrieve the stock of several inventory items at once
+    Given an inventory item "978-1000000001" with initial stock of 12
+    And an inventory item "978-1000000002" with initial stock of 3
+    When I request the stock for ISBNs "978-1000000002, unknownISBN, 978-1000000001"
+    Then the retrieved stocks should be "978-1000000002=3, 978-1000000001=12"
+
+  Scenario: List the inventory items running low page by page
+    Given an inventory item "978-1000000011" with initial stock of 2
+    And an inventory item "978-1000000012" with initial stock of 0
+    And an inventory item "978-1000000013" with initial stock of 40
+    When I request the low stock report with threshold 2 by pages of 1
+    Then the low stock report should list "978-1000000012" before "978-1000000011"
+    And the low stock report should not list "978-1000000013"
+    And all stocks of the low stock report should be at most 2
@@ -14,6 +14,18 @@ Feature: Order Management
       | 978-0132350884 | 1        |
     Then the order should be created successfully with status "PENDING"
     And an "OrderCreatedEvent" event should have been published for the order of "Alice Wonderland"
+    And the stock for product "978-0321765723" should be 8
+    And the stock for product "978-0132350884" should be 4
+
+  Scenario: Cancelling a pending order releases its stock reservation
+    Given a book with ISBN "978-0321765723", title "The Lord of the Rings", author "J.R.R. Tolkien", price 25.00
+    And an inventory item "978-0321765723" with initial stock of 10
+    And I try to create an order for "Alice Wonderland" with the following items:
+      | productId      | quantity |
+      | 978-0321765723 | 2        |
+    And the stock for product "978-0321765723" should be 8
+    When I cancel the last created order
+    Then the stock for product "978-0321765723" should be 10
 
   Scenario: Confirming an order after successful stock reservation
     Given an existing order for "Alice Wonderland" with status "PENDING" and items:
@@ -28,6 +40,30 @@ Feature: Order Management
     And the stock for product "978-0132350884" should be 3
     And a "ProductStockLowEvent" event should have been published for product "978-0132350884" with stock 3
 
+  Scenario: Confirming a batch of orders reports the outcome of each order
+    Given an existing order for "Grace" with status "PENDING" and items:
+      | productId      | quantity |
+      | 978-1617294549 | 2        |
+    And an existing order for "Heidi" with status "PENDING" and items:
+      | productId      | quantity |
+      | 978-1617294549 | 3        |
+    And the stock for product "978-1617294549" is 4
+    When I confirm the existing orders in a single batch along with order "unknownOrderId"
+    Then the batch confirmation should report the order of "Grace" as confirmed
+    And the batch confirmation should report the order of "Heidi" as failed
+    And the batch confirmation should report order "unknownOrderId" as failed
+    And the stock for product "978-1617294549" should be 2
+
+  Scenario: Retrying an order creation with the same idempotency key does not create another order
+    Given a book with ISBN "978-0596007126", title "Head First Design Patterns", author "Eric Freeman", price 45.00
+    And an inventory item "978-0596007126" with initial stock of 10
+    When I create an order for "Ivan" with idempotency key "ivan-order-1" and the following items:
+      | productId      | quantity |
+      | 978-0596007126 | 2        |
+    And I retry the order creation with the same idempotency key
+    Then both creations should return the same order
+    And the stock for product "978-0596007126" should be 8
+
   Scenario: Order creation fails due to insufficient stock
     Given a book with ISBN "978-0134786275", title "Effective Java", author "Joshua Bloch", price 40.00
     And an inventory item "978-0134786275" with initial stock of 2
@@ -95,3 +131,19 @@ Feature: Order Management
     Then the response should contain 2 orders
     And one order should be for "Customer A"
     And one order should be for "Customer B"
+
+  Scenario: Listing the orders of a customer page by page
+    Given a book with ISBN "978-0321765723", title "The Lord of the Rings", author "J.R.R. Tolkien", price 25.00
+    And an inventory item "978-0321765723" with initial stock of 10
+    And an order exists for "History Customer" with items:
+      | productId      | quantity |
+      | 978-0321765723 | 1        |
+    And an order exists for "Other Customer" with items:
+      | productId      | quantity |
+      | 978-0321765723 | 1        |
+    And an order exists for "History Customer" with items:
+      | productId      | quantity |
+      | 978-0321765723 | 2        |
+    When I request the orders of "History Customer" by pages of 1
+    Then the response should contain 2 orders
+    And all orders should be for "History Customer"